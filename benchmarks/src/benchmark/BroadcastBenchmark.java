@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import network.ClientInfo;
+import network.GameServerGroup;
+import network.OutboundQueue;
+import network.protocol.PlayerMovedMessage;
+import network.protocol.WireBuffer;
+import network.protocol.WireFormat;
+
+/**
+ * GameServerGroup.broadcastToRoom with N clients spread over M rooms.
+ * Every client has a real OutboundQueue; after each broadcast the room's
+ * queues are drained into one in-memory WireBuffer, so the measured cost
+ * is fan-out plus encoding, without sockets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastBenchmark {
+
+    @Param({"100", "1000"})
+    public int clients;
+
+    @Param({"1", "10", "100"})
+    public int rooms;
+
+    @Param({"TEXT", "BINARY"})
+    public WireFormat format;
+
+    private GameServerGroup group;
+    private List<List<OutboundQueue>> queuesByRoom;
+    private PlayerMovedMessage move;
+    private WireBuffer sink;
+    private int nextRoom;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        group = new GameServerGroup();
+        queuesByRoom = new ArrayList<>();
+        for (int room = 0; room < rooms; room++) {
+            queuesByRoom.add(new ArrayList<>());
+        }
+
+        PrintWriter out = new PrintWriter(Writer.nullWriter());
+        for (int i = 0; i < clients; i++) {
+            int room = i % rooms;
+            OutboundQueue queue = new OutboundQueue(1 << 12, () -> { }, () -> { });
+            if (format == WireFormat.BINARY) {
+                queue.switchFormat(WireFormat.BINARY);
+            }
+            group.addClient(new ClientInfo(out, queue, "10.0.0." + (i % 250), 40000 + i,
+                                           "player" + i, "MALE", i % 9, i % 5, "ISO_X_RIGHT", roomId(room)));
+            queuesByRoom.get(room).add(queue);
+        }
+
+        move = new PlayerMovedMessage(1, "player0", 4, 2, "ISO_X_RIGHT", true);
+        sink = new WireBuffer(1 << 16);
+    }
+
+    @Benchmark
+    public int broadcastAndDrain() {
+        int room = nextRoom++ % rooms;
+        group.broadcastToRoom(roomId(room), null, -1, move);
+
+        sink.reset();
+        int drained = 0;
+        for (OutboundQueue queue : queuesByRoom.get(room)) {
+            drained += queue.drainInto(sink);
+        }
+        return drained + sink.size();
+    }
+
+    private static String roomId(int room) {
+        return "room" + room;
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.friend.Friend;
+import model.friend.FriendRequest;
+
+/**
+ * Friend list lines and Kafka friend request JSON, both directions
+ * (FriendRequest needs Gson from lib/ like the game itself).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FriendSerializationBenchmark {
+
+    private Friend friend;
+    private String friendLine;
+    private FriendRequest request;
+    private String requestJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        friend = new Friend("alice", "FEMALE", 1700000000000L);
+        friendLine = friend.serialize();
+        request = new FriendRequest("alice", "bob", "FEMALE", FriendRequest.RequestType.SEND_REQUEST);
+        requestJson = request.toJson();
+    }
+
+    @Benchmark
+    public String friendSerialize() {
+        return friend.serialize();
+    }
+
+    @Benchmark
+    public Friend friendDeserialize() {
+        return Friend.deserialize(friendLine);
+    }
+
+    @Benchmark
+    public String friendRequestToJson() {
+        return request.toJson();
+    }
+
+    @Benchmark
+    public FriendRequest friendRequestFromJson() {
+        return FriendRequest.fromJson(requestJson);
+    }
+}
@@ -0,0 +1,117 @@
+package benchmark;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import network.GameServerGroup;
+import network.OutboundQueue;
+import network.clientHandler.ClientContext;
+import network.clientHandler.CommandRegistry;
+import network.protocol.WireBuffer;
+import network.protocol.WireProtocol;
+import network.protocol.WireReader;
+
+/**
+ * Server-side message parsing: text lines through CommandRegistry (the
+ * StringTokenizer parsers of JoinCommand/MoveCommand/ChatCommand) versus
+ * the binary OP_MOVE frame, on one joined client alone in its room so
+ * fan-out costs nothing. The room ticker is not started, so every move
+ * is applied right away.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineParsingBenchmark {
+
+    private static final String[] MOVE_LINES = {
+        "move 3 2 ISO_X_RIGHT true",
+        "move 4 2 ISO_X_RIGHT true",
+        "move 5 3 DIAGONALE_DOWN true",
+        "move 5 3 DIAGONALE_DOWN false"
+    };
+
+    private CommandRegistry registry;
+    private ClientContext context;
+    private OutboundQueue outbound;
+    private WireReader frameReader;
+    private byte[][] moveFrames;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameServerGroup group = new GameServerGroup();
+        outbound = new OutboundQueue(1 << 16, () -> { }, () -> { });
+        PrintWriter out = new PrintWriter(Writer.nullWriter(), true);
+        context = new ClientContext(out, outbound, group, "10.0.0.1", 40000, null);
+        registry = new CommandRegistry();
+        registry.execute("join bench MALE 0 0 ISO_X_RIGHT lobby", context);
+
+        frameReader = new WireReader();
+        moveFrames = new byte[MOVE_LINES.length][];
+        for (int i = 0; i < MOVE_LINES.length; i++) {
+            String[] parts = MOVE_LINES[i].split(" ");
+            WireBuffer frame = new WireBuffer(16);
+            frame.writeVarint(WireProtocol.OP_MOVE);
+            frame.writeSignedVarint(Integer.parseInt(parts[1]));
+            frame.writeSignedVarint(Integer.parseInt(parts[2]));
+            frame.writeByte(WireProtocol.motion(WireProtocol.directionCode(parts[3]),
+                                                Boolean.parseBoolean(parts[4])));
+            moveFrames[i] = frame.toByteArray();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearQueue() {
+        WireBuffer sink = new WireBuffer();
+        outbound.drainInto(sink);
+    }
+
+    @Benchmark
+    public void textMove() {
+        registry.execute(MOVE_LINES[next++ & 3], context);
+    }
+
+    @Benchmark
+    public void binaryMove() {
+        byte[] frame = moveFrames[next++ & 3];
+        registry.executeFrame(frameReader.reset(frame, 0, frame.length), context);
+    }
+
+    @Benchmark
+    public void textChat() {
+        registry.execute("chat hello everyone in the lobby", context);
+    }
+
+    /**
+     * Tokenizing alone, the way JoinCommand and ServerMessageWatcher read a line
+     */
+    @Benchmark
+    public void tokenizeJoinLine(Blackhole blackhole) {
+        java.util.StringTokenizer st = new java.util.StringTokenizer(
+                "join bench FEMALE 4 2 DIAGONALE_DOWN room_1700000000000_42");
+        st.nextToken();
+        blackhole.consume(st.nextToken());
+        blackhole.consume(st.nextToken());
+        blackhole.consume(Integer.parseInt(st.nextToken()));
+        blackhole.consume(Integer.parseInt(st.nextToken()));
+        blackhole.consume(st.nextToken());
+        blackhole.consume(st.nextToken());
+    }
+}
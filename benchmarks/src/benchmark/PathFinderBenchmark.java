@@ -0,0 +1,262 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pathfinding.PathFinder;
+
+/**
+ * PathFinder.findPath on square grids of several sizes and layouts, for
+ * both strategies. Grids and queries come from a fixed seed, so every run
+ * searches exactly the same paths.
+ *
+ * Layouts: open floor, random obstacles (10% / 30% of tiles), and the
+ * event-hall shapes JPS is meant for - furniture clusters, pillar halls,
+ * rooms split by walls with doorways. A JUMP_POINT trial first checks that
+ * every query costs the same as with A*, and fails if not.
+ *
+ * Besides the time per search, each result carries the nodes expanded
+ * (taken off the open list) and the searches made in the iteration;
+ * expansions / searches is the work per search of the strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFinderBenchmark {
+
+    private static final int QUERIES = 1024;   // Power of two - cycled with a mask
+
+    @Param({"9", "32", "64", "128"})
+    public int size;
+
+    @Param({"OPEN", "RANDOM_10", "RANDOM_30", "FURNISHED", "PILLARS", "PARTITIONED"})
+    public Layout layout;
+
+    @Param({"A_STAR", "JUMP_POINT"})
+    public PathFinder.Strategy strategy;
+
+    @Param("20251017")
+    public long seed;
+
+    private PathFinder pathFinder;
+    private int[] queries;
+    private int[] path;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        boolean[][] solid = layout.generate(size, random);
+        pathFinder = build(solid, strategy);
+
+        // Start and goal on open tiles (unreachable goals are still measured - they cost the most)
+        queries = new int[QUERIES * 2];
+        for (int i = 0; i < queries.length; i++) {
+            int tile;
+            do {
+                tile = random.nextInt(size * size);
+            } while (solid[tile % size][tile / size]);
+            queries[i] = tile;
+        }
+        path = new int[pathFinder.getNodeCount()];
+
+        if (strategy != PathFinder.Strategy.A_STAR) {
+            checkCosts(build(solid, PathFinder.Strategy.A_STAR));
+        }
+    }
+
+    private static PathFinder build(boolean[][] solid, PathFinder.Strategy strategy) {
+        PathFinder finder = new PathFinder(solid.length, solid[0].length);
+        finder.setStrategy(strategy);
+        for (int col = 0; col < solid.length; col++) {
+            for (int row = 0; row < solid[0].length; row++) {
+                if (solid[col][row]) {
+                    finder.setSolid(col, row, true);
+                }
+            }
+        }
+        return finder;
+    }
+
+    /**
+     * Every query must cost the same as the A* path - a faster wrong
+     * answer is no result
+     */
+    private void checkCosts(PathFinder reference) {
+        int[] referencePath = new int[reference.getNodeCount()];
+        for (int q = 0; q < queries.length; q += 2) {
+            int startCol = queries[q] % size;
+            int startRow = queries[q] / size;
+            int goalCol = queries[q + 1] % size;
+            int goalRow = queries[q + 1] / size;
+            int expected = pathCost(reference, startCol, startRow, referencePath,
+                                    reference.findPath(startCol, startRow, goalCol, goalRow, referencePath));
+            int actual = pathCost(pathFinder, startCol, startRow, path,
+                                  pathFinder.findPath(startCol, startRow, goalCol, goalRow, path));
+            if (actual != expected) {
+                throw new IllegalStateException(strategy + " path from (" + startCol + "," + startRow + ") to (" +
+                                                goalCol + "," + goalRow + ") costs " + actual + ", A* " + expected);
+            }
+        }
+    }
+
+    // Same weights as PathFinder: 10 per straight step, 14 per diagonal
+    private static int pathCost(PathFinder finder, int col, int row, int[] path, int length) {
+        if (length < 0) {
+            return -1;
+        }
+        int cost = 0;
+        for (int i = 0; i < length; i++) {
+            int nextCol = finder.getCol(path[i]);
+            int nextRow = finder.getRow(path[i]);
+            cost += (nextCol != col && nextRow != row) ? 14 : 10;
+            col = nextCol;
+            row = nextRow;
+        }
+        return cost;
+    }
+
+    /**
+     * Search work next to the time: JMH reports these per iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Expansions {
+        public long expansions;
+        public long searches;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            expansions = 0;
+            searches = 0;
+        }
+
+        void record(PathFinder finder) {
+            expansions += finder.getLastExpansions();
+            searches++;
+        }
+    }
+
+    @Benchmark
+    public int findPath(Expansions counters) {
+        int q = (next++ & (QUERIES - 1)) * 2;
+        int start = queries[q];
+        int goal = queries[q + 1];
+        int length = pathFinder.findPath(start % size, start / size, goal % size, goal / size, path);
+        counters.record(pathFinder);
+        return length;
+    }
+
+    @Benchmark
+    public Object findPathList(Expansions counters) {
+        int q = (next++ & (QUERIES - 1)) * 2;
+        int start = queries[q];
+        int goal = queries[q + 1];
+        Object path = pathFinder.findPath(start % size, start / size, goal % size, goal / size);
+        counters.record(pathFinder);
+        return path;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // LAYOUTS
+    // ═══════════════════════════════════════════════════════════
+
+    public enum Layout {
+        OPEN {
+            boolean[][] generate(int size, Random random) {
+                return new boolean[size][size];
+            }
+        },
+        RANDOM_10 {
+            boolean[][] generate(int size, Random random) {
+                return scatter(size, 0.1, random);
+            }
+        },
+        RANDOM_30 {
+            boolean[][] generate(int size, Random random) {
+                return scatter(size, 0.3, random);
+            }
+        },
+        // Open floor with scattered furniture groups (sofas, tables, bars)
+        FURNISHED {
+            boolean[][] generate(int size, Random random) {
+                boolean[][] solid = new boolean[size][size];
+                int pieces = size * size / 40;
+                for (int i = 0; i < pieces; i++) {
+                    fill(solid, random.nextInt(size), random.nextInt(size),
+                         1 + random.nextInt(3), 1 + random.nextInt(2), true);
+                }
+                return solid;
+            }
+        },
+        // Event hall: regular 2x2 pillars
+        PILLARS {
+            boolean[][] generate(int size, Random random) {
+                boolean[][] solid = new boolean[size][size];
+                for (int col = 4; col < size - 2; col += 8) {
+                    for (int row = 4; row < size - 2; row += 8) {
+                        fill(solid, col, row, 2, 2, true);
+                    }
+                }
+                return solid;
+            }
+        },
+        // Hall split into rooms by walls with doorways
+        PARTITIONED {
+            boolean[][] generate(int size, Random random) {
+                boolean[][] solid = new boolean[size][size];
+                int cell = 16;
+                for (int col = cell; col < size; col += cell) {
+                    fill(solid, col, 0, 1, size, true);
+                    for (int row = 0; row < size; row += cell) {
+                        fill(solid, col, row + 2 + random.nextInt(cell - 4), 1, 2, false);
+                    }
+                }
+                for (int row = cell; row < size; row += cell) {
+                    fill(solid, 0, row, size, 1, true);
+                    for (int col = 0; col < size; col += cell) {
+                        fill(solid, col + 2 + random.nextInt(cell - 4), row, 2, 1, false);
+                    }
+                }
+                return solid;
+            }
+        };
+
+        abstract boolean[][] generate(int size, Random random);
+
+        static boolean[][] scatter(int size, double density, Random random) {
+            boolean[][] solid = new boolean[size][size];
+            for (int col = 0; col < size; col++) {
+                for (int row = 0; row < size; row++) {
+                    solid[col][row] = random.nextDouble() < density;
+                }
+            }
+            return solid;
+        }
+
+        static void fill(boolean[][] solid, int col, int row, int width, int height, boolean value) {
+            for (int c = col; c < Math.min(solid.length, col + width); c++) {
+                for (int r = row; r < Math.min(solid[0].length, row + height); r++) {
+                    solid[c][r] = value;
+                }
+            }
+        }
+    }
+}
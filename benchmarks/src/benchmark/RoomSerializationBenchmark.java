@@ -0,0 +1,66 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.room.Room;
+
+/**
+ * Room.serialize / Room.deserialize with tile maps from the default 9x5
+ * room up to large event halls. Tile values come from a fixed seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomSerializationBenchmark {
+
+    @Param({"9", "64", "256"})
+    public int size;
+
+    @Param("20251017")
+    public long seed;
+
+    private Room room;
+    private String serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        room = new Room("Bench Hall", "owner", size, size);
+        int[][] tileMap = new int[size][size];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                tileMap[x][y] = random.nextInt(8) == 0 ? -1 : random.nextInt(4);
+            }
+        }
+        room.setTileMap(tileMap);
+        room.setDescription("Generated for benchmarking");
+        serialized = room.serialize();
+    }
+
+    @Benchmark
+    public String serialize() {
+        return room.serialize();
+    }
+
+    @Benchmark
+    public Room deserialize() {
+        return Room.deserialize(serialized);
+    }
+}
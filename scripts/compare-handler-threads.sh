@@ -0,0 +1,109 @@
+#!/bin/sh
+# Compare connection handling modes of the game server under the same load:
+# legacy I/O on platform threads, legacy I/O on virtual threads, and NIO.
+# Needs Java 21+ for the virtual row (older JVMs fall back to platform threads).
+#
+#   scripts/compare-handler-threads.sh [bots] [modes...]
+#   scripts/compare-handler-threads.sh 2000 platform virtual nio
+#
+# Environment: JAVA (default java), CP (skip the build and use this classpath),
+# ROOMS, MOVE_RATE, RAMP, DURATION, HEAP (server -Xmx), LOAD_HEAP (load generator -Xmx).
+#
+# Prints one Markdown table row per mode. Memory is sampled halfway through
+# the measured window after a full GC, against the idle server:
+# RSS from /proc, thread stacks from native memory tracking, live heap
+# from /metrics (virtual thread stacks live on the heap).
+set -e
+cd "$(dirname "$0")/.."
+
+BOTS=${1:-2000}
+[ $# -gt 0 ] && shift
+MODES=${*:-platform virtual nio}
+
+JAVA=${JAVA:-java}
+JCMD=${JCMD:-$(dirname "$(command -v "$JAVA")")/jcmd}
+ROOMS=${ROOMS:-20}
+MOVE_RATE=${MOVE_RATE:-0.2}
+RAMP=${RAMP:-30}
+DURATION=${DURATION:-30}
+HEAP=${HEAP:-1g}
+LOAD_HEAP=${LOAD_HEAP:-2g}
+METRICS_PORT=9100
+OUT=${OUT:-/tmp/futura-compare}
+
+if [ -z "$CP" ]; then
+    mkdir -p bin
+    find src -name '*.java' > bin/sources.txt
+    javac -encoding UTF-8 -nowarn -d bin -cp "bin:lib/*" @bin/sources.txt
+    CP="bin:lib/*"
+fi
+mkdir -p "$OUT"
+
+metric() {
+    curl -s "http://127.0.0.1:$METRICS_PORT/metrics" | awk -v name="$1" '$1 == name { printf "%d", $2 }'
+}
+
+rss_kb() {
+    awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"
+}
+
+os_threads() {
+    awk '/^Threads:/ { print $2 }' "/proc/$1/status"
+}
+
+stacks_kb() {
+    "$JCMD" "$1" VM.native_memory summary scale=KB |
+        awk '/^-[ ]+Thread \(/ { thread = 1 }
+             thread && /stack:/ { sub(/.*committed=/, ""); sub(/KB.*/, ""); print; exit }'
+}
+
+full_gc() {
+    "$JCMD" "$1" GC.run > /dev/null
+    sleep 1
+}
+
+echo "| Mode | Connected | OS threads | JVM threads | Thread stacks | Live heap / conn | RSS / conn | Move latency p50 / p99 |"
+echo "|------|-----------|------------|-------------|---------------|------------------|------------|------------------------|"
+
+for MODE in $MODES; do
+    case "$MODE" in
+        nio) IO=--nio; HANDLERS=platform ;;
+        *)   IO=--legacy; HANDLERS=$MODE ;;
+    esac
+
+    "$JAVA" -Xmx"$HEAP" -XX:NativeMemoryTracking=summary -Djava.awt.headless=true \
+            -Dfutura.handler.threads="$HANDLERS" -Dfutura.log.level=WARN \
+            -cp "$CP" network.GameServer "$IO" > "$OUT/server-$MODE.log" 2>&1 &
+    SERVER=$!
+    until curl -s "http://127.0.0.1:$METRICS_PORT/metrics" > /dev/null; do
+        sleep 1
+    done
+
+    full_gc $SERVER
+    IDLE_RSS=$(rss_kb $SERVER)
+    IDLE_HEAP=$(metric futura_jvm_heap_used_bytes)
+
+    "$JAVA" -Xmx"$LOAD_HEAP" -cp "$CP" loadtest.LoadGenerator --bots "$BOTS" --rooms "$ROOMS" \
+            --move-rate "$MOVE_RATE" --ramp "$RAMP" --warmup 5 --duration "$DURATION" \
+            > "$OUT/load-$MODE.log" 2>&1 &
+    LOAD=$!
+    sleep $((RAMP + 5 + DURATION / 2))
+
+    CONNECTED=$(metric futura_clients_connected)
+    JVM_THREADS=$(metric futura_jvm_threads)
+    THREADS=$(os_threads $SERVER)
+    STACKS=$(stacks_kb $SERVER)
+    full_gc $SERVER
+    HEAP_USED=$(metric futura_jvm_heap_used_bytes)
+    RSS=$(rss_kb $SERVER)
+
+    wait $LOAD || true
+    kill $SERVER
+    wait $SERVER 2> /dev/null || true
+
+    LATENCY=$(awk '/Move latency:/ { for (i = 1; i <= NF; i++) { if ($i == "p50") p50 = $(i + 1); if ($i == "p99") p99 = $(i + 1) } }
+                   END { gsub(",", "", p50); gsub(",", "", p99); print p50 " / " p99 }' "$OUT/load-$MODE.log")
+    PER=$((CONNECTED > 0 ? CONNECTED : 1))
+    echo "| $MODE | $CONNECTED / $BOTS | $THREADS | $JVM_THREADS | $((STACKS / 1024)) MB |" \
+         "$(( (HEAP_USED - IDLE_HEAP) / 1024 / PER )) KB | $(( (RSS - IDLE_RSS) / PER )) KB | $LATENCY |"
+done
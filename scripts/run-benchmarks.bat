@@ -0,0 +1,24 @@
+@echo off
+REM Build the game and the JMH benchmarks, then run them headless.
+REM Needs in lib\: jmh-core, jmh-generator-annprocess, jopt-simple, commons-math3 (and gson, like the game)
+REM
+REM   scripts\run-benchmarks.bat [label] [JMH options...]
+REM   scripts\run-benchmarks.bat 1.1 PathFinder -p size=64
+REM
+REM Results go to benchmarks\results\<label>.csv - compare them release to release.
+
+cd /d "%~dp0.."
+
+set LABEL=%1
+if "%LABEL%"=="" set LABEL=latest
+shift
+
+if not exist bin mkdir bin
+if not exist benchmarks\bin mkdir benchmarks\bin
+if not exist benchmarks\results mkdir benchmarks\results
+
+dir /s /b src\*.java > bin\sources.txt
+javac -encoding UTF-8 -nowarn -d bin -cp "bin;lib/*" @bin\sources.txt || exit /b 1
+javac -encoding UTF-8 -nowarn -d benchmarks\bin -cp "bin;lib/*" benchmarks\src\benchmark\*.java || exit /b 1
+
+java -Djava.awt.headless=true -cp "benchmarks\bin;bin;lib/*" org.openjdk.jmh.Main -rf csv -rff "benchmarks\results\%LABEL%.csv" %1 %2 %3 %4 %5 %6 %7 %8 %9
@@ -0,0 +1,21 @@
+#!/bin/sh
+# Build the game and the JMH benchmarks, then run them headless.
+# Needs in lib/: jmh-core, jmh-generator-annprocess, jopt-simple, commons-math3 (and gson, like the game)
+#
+#   scripts/run-benchmarks.sh [label] [JMH options...]
+#   scripts/run-benchmarks.sh 1.1 PathFinder -p size=64
+#
+# Results go to benchmarks/results/<label>.csv - compare them release to release.
+set -e
+cd "$(dirname "$0")/.."
+
+LABEL=${1:-$(date +%Y%m%d-%H%M%S)}
+[ $# -gt 0 ] && shift
+
+mkdir -p bin benchmarks/bin benchmarks/results
+find src -name '*.java' > bin/sources.txt
+javac -encoding UTF-8 -nowarn -d bin -cp "bin:lib/*" @bin/sources.txt
+javac -encoding UTF-8 -nowarn -d benchmarks/bin -cp "bin:lib/*" benchmarks/src/benchmark/*.java
+
+java -Djava.awt.headless=true -cp "benchmarks/bin:bin:lib/*" org.openjdk.jmh.Main \
+     -rf csv -rff "benchmarks/results/$LABEL.csv" "$@"
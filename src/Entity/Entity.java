@@ -1,7 +1,6 @@
 package Entity;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 public class Entity {
 
@@ -12,7 +11,6 @@ public class Entity {
     public int speed;
     public boolean diagonaleUpTrue;
 
-    public BufferedImage playerImageDiagonaleUp1, playerImageDiagonaleUp2, playerImageDiagonaleUp, playerImageDiagonaleDown1, playerImageDiagonaleDown2,playerImageDiagonaleDown,playerImageLeft1, playerImageLeft2, playerImageLeft, playerImageRight1, playerImageRight2, playerImageRight, playerImageIsoXLeft, playerImageIsoXRight, playerImageIsoYUp, playerImageIsoYDown,  playerImageIsoXLeft1, playerImageIsoXLeft2, playerImageIsoYUp1, playerImageIsoYUp2, playerImageIsoXRight1, playerImageIsoXRight2, playerImageIsoYDown1, playerImageIsoYDown2;
     public Direction direction;
 
     public enum Direction {
@@ -1,5 +1,7 @@
 package Entity;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import network.NetworkManager;
 import java.awt.Graphics2D;
@@ -12,6 +14,8 @@ import java.util.List;
  */
 public class Player extends Entity {
 
+    private static final Logger LOG = Log.get(Player.class);
+
     // ═══════════════════════════════════════════════════════════
     // CORE COMPONENTS
     // ═══════════════════════════════════════════════════════════
@@ -38,6 +42,9 @@ public class Player extends Entity {
     private long lastTypingTime = 0;
     private static final long TYPING_TIMEOUT = 3000;
     
+    // Position the server sent back (positionCorrected), applied by the next update
+    private volatile Correction pendingCorrection;
+    
  
     
     // ═══════════════════════════════════════════════════════════
@@ -53,7 +60,7 @@ public class Player extends Entity {
         // Initialize components
         this.movement = new PlayerMovement(gp);
         this.networkSync = new PlayerNetworkSync();
-        this.renderer = new PlayerRenderer(gp);
+        this.renderer = new PlayerRenderer(gp, gender);
         
         // Set initial state
         this.direction = Direction.DIAGONALE_DOWN;
@@ -74,13 +81,34 @@ public class Player extends Entity {
     }
     
     public void moveTo(int targetCol, int targetRow) {
+        // Walk right away (prediction); with server movement the server paths it too
         movement.moveTo(targetCol, targetRow);
+        networkSync.sendWalk(targetCol, targetRow);
+    }
+    
+    /**
+     * The server rejected our position: snap to its tile on the next update.
+     * Safe to call from the network thread.
+     */
+    public void correctPosition(int mapX, int mapY, Direction direction) {
+        pendingCorrection = new Correction(mapX, mapY, direction);
     }
     
     /**
      * Update - EXACT same logic as working Player.java
      */
     public void update() {
+        Correction correction = pendingCorrection;
+        if (correction != null) {
+            pendingCorrection = null;
+            movement.stopMoving();
+            movement.setPosition(correction.mapX, correction.mapY);
+            if (correction.direction != null) {
+                this.direction = correction.direction;
+            }
+            networkSync.acceptCorrection(correction.mapX, correction.mapY, this.direction);
+        }
+        
         // Update movement and get direction if we moved
         Direction newDirection = movement.updateMovement();
         
@@ -239,6 +267,18 @@ public class Player extends Entity {
         // Update sprite screen position
         updateSpritePosition();
         
-        System.out.println("[PLAYER] Position set to tile: " + tileX + ", " + tileY);
+        LOG.info("[PLAYER] Position set to tile: " + tileX + ", " + tileY);
     }
-}
\ No newline at end of file
+
+    private static class Correction {
+        final int mapX;
+        final int mapY;
+        final Direction direction;
+        
+        Correction(int mapX, int mapY, Direction direction) {
+            this.mapX = mapX;
+            this.mapY = mapY;
+            this.direction = direction;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package Entity;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import pathfinding.PathFinder;
 import pathfinding.PathFinder.Node;
@@ -10,6 +12,8 @@ import java.util.List;
  * EXACT same logic as working Player.java
  */
 public class PlayerMovement {
+
+    private static final Logger LOG = Log.get(PlayerMovement.class);
     
     private final GamePanel gp;
     private final PathFinder pathFinder;
@@ -51,9 +55,9 @@ public class PlayerMovement {
             pathIndex = 0;
             in_movement = true;
             lastStepTime = System.nanoTime();
-            System.out.println("Path found with " + currentPath.size() + " steps");
+            LOG.info("Path found with " + currentPath.size() + " steps");
         } else {
-            System.out.println("No path found!");
+            LOG.info("No path found!");
             in_movement = false;
         }
     }
@@ -8,6 +8,7 @@ import network.NetworkManager;
  * 
  * Responsibilities:
  * - Send position updates to server
+ * - Send walk intents when the server moves the player (server movement)
  * - Track previous state to avoid redundant updates
  * - Manage network connection
  * 
@@ -38,6 +39,15 @@ public class PlayerNetworkSync {
             return;
         }
         
+        // With server movement the server steps us - only turning in place is ours to send
+        if (networkManager.isServerMovement() && (isMoving || prevInMovement || direction == prevDirection)) {
+            prevMapX = currentX;
+            prevMapY = currentY;
+            prevDirection = direction;
+            prevInMovement = isMoving;
+            return;
+        }
+        
         // Only send if something actually changed
         if (hasStateChanged(currentX, currentY, direction, isMoving)) {
             networkManager.sendMoveMessage(currentX, currentY, direction.toString(), isMoving);
@@ -50,6 +60,28 @@ public class PlayerNetworkSync {
         }
     }
     
+    /**
+     * Send a walk intent if the server moves the player
+     * @return true if it was sent
+     */
+    public boolean sendWalk(int targetX, int targetY) {
+        if (networkManager == null || !networkManager.isConnected() || !networkManager.isServerMovement()) {
+            return false;
+        }
+        networkManager.sendWalkMessage(targetX, targetY);
+        return true;
+    }
+    
+    /**
+     * Take a server-corrected position as already sent
+     */
+    public void acceptCorrection(int x, int y, Direction direction) {
+        prevMapX = x;
+        prevMapY = y;
+        prevDirection = direction;
+        prevInMovement = false;
+    }
+    
     /**
      * Check if state has changed since last update
      */
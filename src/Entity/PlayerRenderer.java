@@ -1,17 +1,16 @@
 package Entity;
 
 import main.GamePanel;
-import javax.imageio.ImageIO;
+import sprite.ImageCache;
+import sprite.SpriteAtlas;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
 /**
  * PlayerRenderer - Handles all rendering logic
  * 
  * Responsibilities:
- * - Load sprite images
- * - Select correct sprite based on state
+ * - Select correct sprite based on state (from the shared SpriteAtlas)
  * - Draw player sprite
  * - Draw typing indicator
  * - Coordinate conversion (map → screen)
@@ -21,63 +20,14 @@ import java.io.IOException;
  */
 public class PlayerRenderer extends Entity {
     
+    private static final String STANDING_BACK_SPRITE = "/res/player/sprite_front_dancing_2.png";
+    
     private final GamePanel gp;
+    private final Gender gender;
     
-    public PlayerRenderer(GamePanel gp) {
+    public PlayerRenderer(GamePanel gp, Gender gender) {
         this.gp = gp;
-        loadSprites();
-    }
-    
-    // ═══════════════════════════════════════════════════════════
-    // SPRITE LOADING
-    // ═══════════════════════════════════════════════════════════
-    
-    private void loadSprites() {
-        try {
-            // Diagonal up/down
-            playerImageDiagonaleUp1 = loadImage("/res/player/sprite-back-mov-1.png");
-            playerImageDiagonaleUp2 = loadImage("/res/player/sprite-back-mov-2.png");
-            playerImageDiagonaleUp = loadImage("/res/player/sprite_front_dancing_2.png");
-            
-            playerImageDiagonaleDown1 = loadImage("/res/player/sprite-front-mov-1.png");
-            playerImageDiagonaleDown2 = loadImage("/res/player/sprite-front-mov-2.png");
-            playerImageDiagonaleDown = loadImage("/res/player/sprite-front.png");
-            
-            // Left/Right
-            playerImageLeft1 = loadImage("/res/player/sprite-left-mov-1.png");
-            playerImageLeft2 = loadImage("/res/player/sprite-left-mov-2.png");
-            playerImageLeft = loadImage("/res/player/sprite-left.png");
-            
-            playerImageRight1 = loadImage("/res/player/sprite-right-mov-1.png");
-            playerImageRight2 = loadImage("/res/player/sprite-right-mov-2.png");
-            playerImageRight = loadImage("/res/player/sprite-right.png");
-            
-            // Isometric X
-            playerImageIsoXLeft1 = loadImage("/res/player/sprite-isoxleft-mov-2.png");
-            playerImageIsoXLeft2 = loadImage("/res/player/sprite-isoxleft-mov-1.png");
-            playerImageIsoXLeft = loadImage("/res/player/sprite-isoxleft.png");
-            
-            playerImageIsoXRight1 = loadImage("/res/player/sprite-isoxright-mov-2.png");
-            playerImageIsoXRight2 = loadImage("/res/player/sprite-isoxright-mov-1.png");
-            playerImageIsoXRight = loadImage("/res/player/sprite-isoxright.png");
-            
-            // Isometric Y
-            playerImageIsoYUp1 = loadImage("/res/player/sprite-isoyup-mov-2.png");
-            playerImageIsoYUp2 = loadImage("/res/player/sprite-isoyup-mov-1.png");
-            playerImageIsoYUp = loadImage("/res/player/sprite-isoyup.png");
-            
-            playerImageIsoYDown1 = loadImage("/res/player/sprite-isoydown-mov-1.png");
-            playerImageIsoYDown2 = loadImage("/res/player/sprite-isoydown-mov-2.png");
-            playerImageIsoYDown = loadImage("/res/player/sprite-isoydown.png");
-            
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.err.println("Error loading player sprites!");
-        }
-    }
-    
-    private BufferedImage loadImage(String path) throws IOException {
-        return ImageIO.read(getClass().getResourceAsStream(path));
+        this.gender = gender;
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -85,57 +35,11 @@ public class PlayerRenderer extends Entity {
     // ═══════════════════════════════════════════════════════════
     
     private BufferedImage selectSprite(Direction direction, boolean isMoving, int frame) {
-        if (isMoving) {
-            return selectMovingSprite(direction, frame);
-        } else {
-            return selectStandingSprite(direction);
-        }
-    }
-    
-    private BufferedImage selectMovingSprite(Direction direction, int frame) {
-        switch (direction) {
-            case DIAGONALE_UP:
-                return (frame == 1) ? playerImageDiagonaleUp1 : playerImageDiagonaleUp2;
-            case ISO_Y_UP:
-                return (frame == 1) ? playerImageIsoYUp1 : playerImageIsoYUp2;
-            case ISO_Y_DOWN:
-                return (frame == 1) ? playerImageIsoYDown1 : playerImageIsoYDown2;
-            case ISO_X_RIGHT:
-                return (frame == 1) ? playerImageIsoXRight1 : playerImageIsoXRight2;
-            case DIAGONALE_DOWN:
-                return (frame == 1) ? playerImageDiagonaleDown1 : playerImageDiagonaleDown2;
-            case ISO_X_LEFT:
-                return (frame == 1) ? playerImageIsoXLeft1 : playerImageIsoXLeft2;
-            case LEFT:
-                return (frame == 1) ? playerImageLeft1 : playerImageLeft2;
-            case RIGHT:
-                return (frame == 1) ? playerImageRight1 : playerImageRight2;
-            default:
-                return playerImageDiagonaleDown1;
-        }
-    }
-    
-    private BufferedImage selectStandingSprite(Direction direction) {
-        switch (direction) {
-            case DIAGONALE_UP:
-                return playerImageDiagonaleUp;
-            case DIAGONALE_DOWN:
-                return playerImageDiagonaleDown;
-            case ISO_Y_UP:
-                return playerImageIsoYUp;
-            case ISO_Y_DOWN:
-                return playerImageIsoYDown;
-            case ISO_X_LEFT:
-                return playerImageIsoXLeft;
-            case ISO_X_RIGHT:
-                return playerImageIsoXRight;
-            case RIGHT:
-                return playerImageRight;
-            case LEFT:
-                return playerImageLeft;
-            default:
-                return playerImageDiagonaleDown;
+        // The local player dances while standing with its back turned
+        if (!isMoving && direction == Direction.DIAGONALE_UP) {
+            return ImageCache.get(STANDING_BACK_SPRITE);
         }
+        return SpriteAtlas.player(gender, direction, isMoving, frame);
     }
     
     // ═══════════════════════════════════════════════════════════
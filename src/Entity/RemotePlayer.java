@@ -1,10 +1,9 @@
 package Entity;
 
 import main.GamePanel;
-import javax.imageio.ImageIO;
+import sprite.SpriteAtlas;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
 public class RemotePlayer extends Entity {
     
@@ -49,51 +48,10 @@ public class RemotePlayer extends Entity {
             this.direction = Direction.DIAGONALE_DOWN;
         }
         
-        loadPlayerImage();
         updateSpritePosition();
         updateCurrentSprite();
     }
     
-    private void loadPlayerImage() {
-        try {
-            // Load all sprite images (same as local player)
-            playerImageDiagonaleUp1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-back-mov-1.png"));
-            playerImageDiagonaleUp2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-back-mov-2.png"));
-            playerImageDiagonaleUp = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-back.png"));
-            
-            playerImageDiagonaleDown1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-front-mov-1.png"));
-            playerImageDiagonaleDown2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-front-mov-2.png"));
-            playerImageDiagonaleDown = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-front.png"));
-            
-            playerImageLeft1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-left-mov-1.png"));
-            playerImageLeft2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-left-mov-2.png"));
-            playerImageLeft = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-left.png"));
-            
-            playerImageRight1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-right-mov-1.png"));
-            playerImageRight2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-right-mov-2.png"));
-            playerImageRight = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-right.png"));
-            
-            playerImageIsoXLeft1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxleft-mov-2.png"));
-            playerImageIsoXLeft2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxleft-mov-1.png"));
-            playerImageIsoXLeft = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxleft.png"));
-            
-            playerImageIsoXRight1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxright-mov-2.png"));
-            playerImageIsoXRight2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxright-mov-1.png"));
-            playerImageIsoXRight = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoxright.png"));
-            
-            playerImageIsoYUp1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoyup-mov-2.png"));
-            playerImageIsoYUp2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoyup-mov-1.png"));
-            playerImageIsoYUp = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoyup.png"));
-            
-            playerImageIsoYDown1 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoydown-mov-1.png"));
-            playerImageIsoYDown2 = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoydown-mov-2.png"));
-            playerImageIsoYDown = ImageIO.read(getClass().getResourceAsStream("/res/player/sprite-isoydown.png"));
-            
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-    
     public void updatePosition(int mapX, int mapY, String directionStr, boolean inMovement) {
         this.xCurrent = mapX;
         this.yCurrent = mapY;
@@ -140,61 +98,8 @@ public class RemotePlayer extends Entity {
     }
     
     private void updateCurrentSprite() {
-        if (in_movement) {
-            switch (direction) {
-                case DIAGONALE_UP:
-                    currentSprite = (SpriteNum == 1) ? playerImageDiagonaleUp1 : playerImageDiagonaleUp2;
-                    break;
-                case ISO_Y_UP:
-                    currentSprite = (SpriteNum == 1) ? playerImageIsoYUp1 : playerImageIsoYUp2;
-                    break;
-                case ISO_Y_DOWN:
-                    currentSprite = (SpriteNum == 1) ? playerImageIsoYDown1 : playerImageIsoYDown2;
-                    break;
-                case ISO_X_RIGHT:
-                    currentSprite = (SpriteNum == 1) ? playerImageIsoXRight1 : playerImageIsoXRight2;
-                    break;
-                case DIAGONALE_DOWN:
-                    currentSprite = (SpriteNum == 1) ? playerImageDiagonaleDown1 : playerImageDiagonaleDown2;
-                    break;
-                case ISO_X_LEFT:
-                    currentSprite = (SpriteNum == 1) ? playerImageIsoXLeft1 : playerImageIsoXLeft2;
-                    break;
-                case LEFT:
-                    currentSprite = (SpriteNum == 1) ? playerImageLeft1 : playerImageLeft2;
-                    break;
-                case RIGHT:
-                    currentSprite = (SpriteNum == 1) ? playerImageRight1 : playerImageRight2;
-                    break;
-            }
-        } else {
-            switch (direction) {
-                case DIAGONALE_UP:
-                    currentSprite = playerImageDiagonaleUp;
-                    break;
-                case DIAGONALE_DOWN:
-                    currentSprite = playerImageDiagonaleDown;
-                    break;
-                case ISO_Y_UP:
-                    currentSprite = playerImageIsoYUp;
-                    break;
-                case ISO_Y_DOWN:
-                    currentSprite = playerImageIsoYDown;
-                    break;
-                case ISO_X_LEFT:
-                    currentSprite = playerImageIsoXLeft;
-                    break;
-                case ISO_X_RIGHT:
-                    currentSprite = playerImageIsoXRight;
-                    break;
-                case RIGHT:
-                    currentSprite = playerImageRight;
-                    break;
-                case LEFT:
-                    currentSprite = playerImageLeft;
-                    break;
-            }
-        }
+        // Shared atlas - no per-player copies of the sprite sheet
+        currentSprite = SpriteAtlas.player(gender, direction, in_movement, SpriteNum);
     }
 
     public boolean contains(int mouseX, int mouseY) {
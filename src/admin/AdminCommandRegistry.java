@@ -21,11 +21,20 @@ public class AdminCommandRegistry {
         register("KICK", new KickPlayerCommand());
         register("BROADCAST", new BroadcastCommand());
         register("ROOM_INFO", new RoomInfoCommand());
+        register("QUEUE_STATS", new QueueStatsCommand());
+        register("TICK_STATS", new TickStatsCommand());
+        register("PATH_CACHE_STATS", new PathCacheStatsCommand());
+        register("METRICS", new MetricsCommand());
+        register("AOI", new InterestCommand());
+        register("CLUSTER", new ClusterCommand());
+        register("WATCH", new WatchCommand());
+        register("HISTORY", new HistoryCommand());
         register("PING", (msg, ctx) -> ctx.send("PONG"));
         register("HELP", (msg, ctx) -> {
         ctx.send("COMMANDS: LIST_PLAYERS, LIST_ROOMS, ROOM_INFO <roomId>, " +
                 "CLEAR_ROOM <roomId>, MOVE_PLAYER <user> <room>, " +
-                "KICK <user>, BROADCAST <msg>, PING, HELP");
+                "KICK <user>, BROADCAST <msg>, QUEUE_STATS, TICK_STATS, PATH_CACHE_STATS, METRICS [prefix], " +
+                "AOI [roomId [off|default|<radius> <farEvery> [minPlayers]]], CLUSTER [roomId], WATCH [OFF], HISTORY [1s|1m] [points] [series...], PING, HELP");
     });
     }
     
@@ -0,0 +1,375 @@
+package admin;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import logging.Log;
+import logging.Logger;
+import network.GameServerGroup;
+import network.ServerConfig;
+
+/**
+ * AdminConnection - One admin console on the AdminServer's event loop
+ *
+ * The loop thread reads bytes and splits lines; commands run on a worker
+ * thread, one at a time and in order per console. Their output is
+ * collected into chunks of CHUNK_BYTES and queued for the loop to write,
+ * so a 50k-line listing is a few dozen socket writes rather than 50k
+ * flushes.
+ *
+ * At most ServerConfig.ADMIN_MAX_OUTPUT bytes are queued per console: a
+ * command that produces more waits for the console to read, and a
+ * console that stops reading for STALL_TIMEOUT_MS is disconnected.
+ *
+ * Other threads (the WATCH feed) hand output over with push(); the worker
+ * writes it between commands, in the same chunks and under the same cap.
+ */
+class AdminConnection {
+
+    private static final Logger LOG = Log.get(AdminConnection.class);
+
+    private static final int CHUNK_BYTES = 16 * 1024;
+    private static final int MAX_LINE_BYTES = 8 * 1024;
+    private static final long STALL_TIMEOUT_MS = 10000;
+
+    private final SocketChannel channel;
+    private final AdminServer server;
+    private final AdminCommandRegistry registry;
+    private final String secretKey;
+    private final AdminContext context;
+    private SelectionKey key;
+
+    // Loop thread: the line being read
+    private final byte[] lineBytes = new byte[MAX_LINE_BYTES];
+    private int lineLength = 0;
+
+    // Lines waiting for the worker; one drain() runs at a time
+    private final Queue<String> inbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private boolean greeted = false;
+
+    // Blocks of lines from other threads, written by the worker
+    private final Queue<String> pushed = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pushedBytes = new AtomicLong();
+
+    // Worker thread: output being collected
+    private final StringBuilder chunk = new StringBuilder(CHUNK_BYTES);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    // Handed to the loop thread
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final ReentrantLock outputLock = new ReentrantLock();
+    private final Condition drained = outputLock.newCondition();
+
+    private volatile boolean closed = false;
+
+    AdminConnection(SocketChannel channel, AdminServer server, GameServerGroup clientGroup, String secretKey) {
+        this.channel = channel;
+        this.server = server;
+        this.registry = server.getRegistry();
+        this.secretKey = secretKey;
+        this.context = new AdminContext(this, clientGroup, remoteAddress(channel));
+    }
+
+    void attach(SelectionKey key) {
+        this.key = key;
+        draining.set(true);
+        server.execute(this::drain);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // INPUT (loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    void onReadable(ByteBuffer buffer) {
+        buffer.clear();
+        int read;
+        try {
+            read = channel.read(buffer);
+        } catch (IOException e) {
+            read = -1;
+        }
+        if (read < 0) {
+            LOG.info("[ADMIN] Client disconnected");
+            close();
+            return;
+        }
+
+        buffer.flip();
+        boolean received = false;
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                int length = lineLength > 0 && lineBytes[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+                inbound.add(new String(lineBytes, 0, length, StandardCharsets.UTF_8));
+                lineLength = 0;
+                received = true;
+            } else if (lineLength == MAX_LINE_BYTES) {
+                LOG.warn("[ADMIN] Line too long from " + context.clientIP + " - disconnecting");
+                close();
+                return;
+            } else {
+                lineBytes[lineLength++] = b;
+            }
+        }
+        if (received && draining.compareAndSet(false, true)) {
+            server.execute(this::drain);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // COMMANDS (worker thread)
+    // ═══════════════════════════════════════════════════════════
+
+    private void drain() {
+        try {
+            if (!greeted) {
+                greeted = true;
+                send("ADMIN_SERVER_READY");
+                send("AUTH_REQUIRED");
+                flush();
+            }
+            while (!closed) {
+                String block = pushed.poll();
+                if (block != null) {
+                    sendBlock(block);
+                    flush();
+                    continue;
+                }
+                String message = inbound.poll();
+                if (message == null) {
+                    break;
+                }
+                process(message);
+                flush();
+            }
+        } catch (RuntimeException e) {
+            LOG.error("[ADMIN] Command failed: " + e.getMessage(), e);
+            send("ERROR " + e.getMessage());
+            flush();
+        } finally {
+            draining.set(false);
+        }
+        // A line that arrived after the last poll() but before the flag was cleared
+        if (!closed && (!inbound.isEmpty() || !pushed.isEmpty()) && draining.compareAndSet(false, true)) {
+            server.execute(this::drain);
+        }
+    }
+
+    private void process(String message) {
+        LOG.info("[ADMIN] Received: " + (message.startsWith("AUTH ") ? "AUTH ***" : message));
+
+        // Handle authentication first
+        if (!context.authenticated) {
+            if (message.startsWith("AUTH ")) {
+                String providedKey = message.substring(5);
+                if (providedKey.equals(secretKey)) {
+                    context.authenticated = true;
+                    send("AUTH_SUCCESS");
+                    LOG.info("[ADMIN] Client authenticated");
+                } else {
+                    send("AUTH_FAILED");
+                    LOG.info("[ADMIN] Authentication failed");
+                }
+            } else {
+                send("ERROR Not authenticated");
+            }
+            return;
+        }
+
+        // Process admin commands
+        int spaceIndex = message.indexOf(' ');
+        String commandName = (spaceIndex == -1) ? message : message.substring(0, spaceIndex);
+        registry.getCommand(commandName).execute(message, context);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OUTPUT (worker thread → loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Add a line to the current chunk (AdminContext.send)
+     */
+    void send(String line) {
+        if (closed) {
+            return;
+        }
+        chunk.append(line).append('\n');
+        if (chunk.length() >= CHUNK_BYTES) {
+            flush();
+        }
+    }
+
+    /**
+     * Add pushed lines in CHUNK_BYTES pieces cut at line ends, so a large
+     * WATCH snapshot waits for the console like any other output
+     */
+    private void sendBlock(String block) {
+        int start = 0;
+        while (start < block.length() && !closed) {
+            int end = Math.min(block.length(), start + Math.max(1, CHUNK_BYTES - chunk.length()));
+            if (end < block.length()) {
+                int lineEnd = block.lastIndexOf('\n', end - 1);
+                end = lineEnd >= start ? lineEnd + 1 : block.indexOf('\n', end) + 1;
+                if (end == 0) {
+                    end = block.length();   // Unterminated last line
+                }
+            }
+            chunk.append(block, start, end);
+            pushedBytes.addAndGet(start - end);
+            start = end;
+            if (chunk.length() >= CHUNK_BYTES) {
+                flush();
+            }
+        }
+        if (start < block.length()) {
+            pushedBytes.addAndGet(start - block.length());   // Closed half-way
+        }
+    }
+
+    /**
+     * Hand over complete lines from another thread (AdminContext.push)
+     */
+    void push(String lines) {
+        if (closed) {
+            return;
+        }
+        pushedBytes.addAndGet(lines.length());
+        pushed.add(lines);
+        if (draining.compareAndSet(false, true)) {
+            server.execute(this::drain);
+        }
+    }
+
+    /**
+     * Output not yet written to the socket - pushed, chunked and queued
+     */
+    long getBacklogBytes() {
+        return pushedBytes.get() + queuedBytes.get();
+    }
+
+    /**
+     * Queue the current chunk for writing, waiting while the console is
+     * ADMIN_MAX_OUTPUT behind
+     */
+    void flush() {
+        if (chunk.length() == 0 || closed) {
+            chunk.setLength(0);
+            return;
+        }
+        ByteBuffer bytes;
+        try {
+            bytes = encoder.encode(CharBuffer.wrap(chunk));
+        } catch (IOException e) {
+            bytes = ByteBuffer.wrap(chunk.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        chunk.setLength(0);
+
+        awaitRoom();
+        if (closed) {
+            return;
+        }
+        queuedBytes.addAndGet(bytes.remaining());
+        outbound.add(bytes);
+        server.scheduleWrite(this);
+    }
+
+    private void awaitRoom() {
+        outputLock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(STALL_TIMEOUT_MS);
+            while (!closed && queuedBytes.get() >= ServerConfig.ADMIN_MAX_OUTPUT) {
+                if (nanos <= 0) {
+                    LOG.warn("[ADMIN] " + context.clientIP + " stopped reading (" + queuedBytes.get() +
+                             " bytes queued) - disconnecting");
+                    server.scheduleClose(this);
+                    closed = true;
+                    return;
+                }
+                nanos = drained.awaitNanos(nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // WRITING (loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    void onWritable() {
+        if (!key.isValid()) {
+            return;
+        }
+        try {
+            ByteBuffer head;
+            long written = 0;
+            while ((head = outbound.peek()) != null) {
+                written += channel.write(head);
+                if (head.hasRemaining()) {
+                    break;
+                }
+                outbound.poll();
+            }
+            if (written > 0 && queuedBytes.addAndGet(-written) < ServerConfig.ADMIN_MAX_OUTPUT) {
+                signalDrained();
+            }
+            key.interestOps(outbound.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    private void signalDrained() {
+        outputLock.lock();
+        try {
+            drained.signalAll();
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    void close() {
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Closing admin socket failed", e);
+        }
+        outbound.clear();
+        pushed.clear();
+        signalDrained();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private static String remoteAddress(SocketChannel channel) {
+        try {
+            return ((InetSocketAddress) channel.getRemoteAddress()).getAddress().getHostAddress();
+        } catch (IOException | ClassCastException e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,27 +1,45 @@
 package admin;
 
-import java.io.PrintWriter;
-import java.net.Socket;
-
 import network.GameServerGroup;
 
 public class AdminContext {
     
-    public final PrintWriter out;
+    private final AdminConnection connection;
     public final GameServerGroup clientGroup;
-    public final Socket socket;
     public final String clientIP;
     public boolean authenticated;
     
-    public AdminContext(PrintWriter out, GameServerGroup clientGroup, Socket socket) {
-        this.out = out;
+    AdminContext(AdminConnection connection, GameServerGroup clientGroup, String clientIP) {
+        this.connection = connection;
         this.clientGroup = clientGroup;
-        this.socket = socket;
-        this.clientIP = socket.getInetAddress().getHostAddress();
+        this.clientIP = clientIP;
         this.authenticated = false;
     }
     
+    /**
+     * Queue one response line - buffered, sent in chunks when the command
+     * is done (or a chunk fills up)
+     */
     public void send(String message) {
-        out.println(message);
+        connection.send(message);
+    }
+
+    /**
+     * Queue complete lines ("...\n") from outside the command - safe from
+     * any thread, written between commands
+     */
+    public void push(String lines) {
+        connection.push(lines);
+    }
+
+    /**
+     * Bytes of output this console has yet to read
+     */
+    public long getBacklogBytes() {
+        return connection.getBacklogBytes();
+    }
+
+    public boolean isOpen() {
+        return !connection.isClosed();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package admin;
 
+import logging.Log;
+import logging.Logger;
 import admin.ui.AdminFrame;
 import javax.swing.*;
 
@@ -8,13 +10,15 @@ import javax.swing.*;
  * Run this separately from the game
  */
 public class AdminMain {
+
+    private static final Logger LOG = Log.get(AdminMain.class);
     
     public static void main(String[] args) {
         // Set look and feel
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.warn("System look and feel unavailable", e);
         }
         
         // Launch on EDT
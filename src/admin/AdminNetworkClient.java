@@ -4,10 +4,15 @@ import java.io.*;
 import java.net.*;
 import java.util.function.Consumer;
 
+import logging.Log;
+import logging.Logger;
+
 /**
  * Handles network communication with AdminServer
  */
 public class AdminNetworkClient {
+
+    private static final Logger LOG = Log.get(AdminNetworkClient.class);
     
     private String host;
     private int port;
@@ -19,6 +24,7 @@ public class AdminNetworkClient {
     
     private Thread listenerThread;
     private Consumer<String> messageHandler;
+    private Consumer<String> watchHandler;
     
     public AdminNetworkClient(String host, int port) {
         this.host = host;
@@ -40,14 +46,14 @@ public class AdminNetworkClient {
             String ready = in.readLine();  // ADMIN_SERVER_READY
             String authReq = in.readLine(); // AUTH_REQUIRED
             
-            System.out.println("[ADMIN CLIENT] Connected to server");
-            System.out.println("[ADMIN CLIENT] " + ready);
-            System.out.println("[ADMIN CLIENT] " + authReq);
+            LOG.info("[ADMIN CLIENT] Connected to server");
+            LOG.info("[ADMIN CLIENT] " + ready);
+            LOG.info("[ADMIN CLIENT] " + authReq);
             
             return true;
             
         } catch (IOException e) {
-            System.err.println("[ADMIN CLIENT] Connection failed: " + e.getMessage());
+            LOG.warn("[ADMIN CLIENT] Connection failed: " + e.getMessage());
             connected = false;
             return false;
         }
@@ -62,16 +68,16 @@ public class AdminNetworkClient {
             
             if ("AUTH_SUCCESS".equals(response)) {
                 authenticated = true;
-                System.out.println("[ADMIN CLIENT] Authentication successful");
+                LOG.info("[ADMIN CLIENT] Authentication successful");
                 startListener();
                 return true;
             } else {
-                System.out.println("[ADMIN CLIENT] Authentication failed");
+                LOG.info("[ADMIN CLIENT] Authentication failed");
                 return false;
             }
             
         } catch (IOException e) {
-            System.err.println("[ADMIN CLIENT] Auth error: " + e.getMessage());
+            LOG.warn("[ADMIN CLIENT] Auth error: " + e.getMessage());
             return false;
         }
     }
@@ -89,10 +95,10 @@ public class AdminNetworkClient {
                 socket.close();
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.warn("Closing admin connection failed", e);
         }
         
-        System.out.println("[ADMIN CLIENT] Disconnected");
+        LOG.info("[ADMIN CLIENT] Disconnected");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -103,12 +109,25 @@ public class AdminNetworkClient {
         this.messageHandler = handler;
     }
     
+    /**
+     * Handler for WATCH_ feed lines - called on the listener thread, not
+     * the EDT, so a 20k-player snapshot is parsed without blocking the UI
+     */
+    public void setWatchHandler(Consumer<String> handler) {
+        this.watchHandler = handler;
+    }
+    
     private void startListener() {
         listenerThread = new Thread(() -> {
             try {
                 String line;
                 while (connected && (line = in.readLine()) != null) {
-                    System.out.println("[ADMIN CLIENT] Received: " + line);
+                    Consumer<String> watch = watchHandler;
+                    if (watch != null && line.startsWith("WATCH_")) {
+                        watch.accept(line);
+                        continue;
+                    }
+                    LOG.info("[ADMIN CLIENT] Received: " + line);
                     if (messageHandler != null) {
                         final String msg = line;
                         javax.swing.SwingUtilities.invokeLater(() -> messageHandler.accept(msg));
@@ -116,7 +135,7 @@ public class AdminNetworkClient {
                 }
             } catch (IOException e) {
                 if (connected) {
-                    System.err.println("[ADMIN CLIENT] Connection lost");
+                    LOG.warn("[ADMIN CLIENT] Connection lost");
                 }
             }
         });
@@ -131,7 +150,7 @@ public class AdminNetworkClient {
     public void sendCommand(String command) {
         if (connected && authenticated && out != null) {
             out.println(command);
-            System.out.println("[ADMIN CLIENT] Sent: " + command);
+            LOG.info("[ADMIN CLIENT] Sent: " + command);
         }
     }
     
@@ -139,6 +158,14 @@ public class AdminNetworkClient {
         sendCommand("LIST_PLAYERS");
     }
     
+    public void watch() {
+        sendCommand("WATCH");
+    }
+    
+    public void unwatch() {
+        sendCommand("WATCH OFF");
+    }
+    
     public void listRooms() {
         sendCommand("LIST_ROOMS");
     }
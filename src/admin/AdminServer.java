@@ -0,0 +1,173 @@
+package admin;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+import logging.Log;
+import logging.Logger;
+import network.GameServerGroup;
+import network.ServerConfig;
+import network.ServerExecutors;
+
+/**
+ * AdminServer - Admin console server, runs alongside the GameServer
+ *
+ * One selector thread accepts, reads and writes every admin connection
+ * (AdminConnection); commands run on worker threads so a slow one (a
+ * cluster-wide LIST_PLAYERS) never stalls the loop or other consoles.
+ *
+ * Protocol: text lines. The server greets with ADMIN_SERVER_READY and
+ * AUTH_REQUIRED; "AUTH <secret>" (futura.admin.secret) unlocks the
+ * commands of the AdminCommandRegistry.
+ */
+public class AdminServer extends Thread {
+
+    private static final Logger LOG = Log.get(AdminServer.class);
+
+    private static final int READ_BUFFER_SIZE = 4 * 1024;
+
+    private final GameServerGroup clientGroup;
+    private final AdminCommandRegistry registry = new AdminCommandRegistry();
+    private final ExecutorService workers = ServerExecutors.newPerTaskExecutor("AdminCommand");
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    // Handed over from worker threads, picked up after the next wakeup()
+    private final Queue<AdminConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Queue<AdminConnection> pendingCloses = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private volatile boolean running = true;
+
+    public AdminServer(GameServerGroup clientGroup) {
+        this.clientGroup = clientGroup;
+        this.setName("AdminServer");
+        this.setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        try (Selector sel = Selector.open();
+             ServerSocketChannel server = ServerSocketChannel.open()) {
+            selector = sel;
+            server.bind(new InetSocketAddress(ServerConfig.ADMIN_HOST, ServerConfig.ADMIN_PORT));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            LOG.info("[ADMIN] Admin server listening on port " + ServerConfig.ADMIN_PORT);
+
+            while (running) {
+                selector.select();
+
+                processPending();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) {
+                        accept(server);
+                    } else {
+                        handleKey(key);
+                    }
+                }
+            }
+
+            closeAll();
+        } catch (IOException e) {
+            LOG.error("[ADMIN] Admin server error: " + e.getMessage(), e);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private void accept(ServerSocketChannel server) {
+        try {
+            SocketChannel channel = server.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            AdminConnection connection = new AdminConnection(channel, this, clientGroup, ServerConfig.ADMIN_SECRET);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connection.attach(key);
+            LOG.info("[ADMIN] Admin client connected");
+        } catch (IOException e) {
+            LOG.warn("[ADMIN] Accept failed: " + e.getMessage());
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        AdminConnection connection = (AdminConnection) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                connection.onReadable(readBuffer);
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (CancelledKeyException e) {
+            connection.close();
+        }
+    }
+
+    private void processPending() {
+        AdminConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            connection.onWritable();
+        }
+        while ((connection = pendingCloses.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // HAND-OFF FROM WORKER THREADS
+    // ═══════════════════════════════════════════════════════════
+
+    void execute(Runnable task) {
+        workers.execute(task);
+    }
+
+    void scheduleWrite(AdminConnection connection) {
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    void scheduleClose(AdminConnection connection) {
+        pendingCloses.add(connection);
+        selector.wakeup();
+    }
+
+    AdminCommandRegistry getRegistry() {
+        return registry;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CONTROL
+    // ═══════════════════════════════════════════════════════════
+
+    public void shutdown() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof AdminConnection) {
+                ((AdminConnection) attachment).close();
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package admin.commands;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminCommand;
 import admin.AdminContext;
 
 public class BroadcastCommand implements AdminCommand {
+
+    private static final Logger LOG = Log.get(BroadcastCommand.class);
     
     @Override
     public void execute(String message, AdminContext context) {
@@ -20,6 +24,6 @@ public class BroadcastCommand implements AdminCommand {
         context.clientGroup.broadcastToAll("adminMessage " + broadcastText);
         
         context.send("SUCCESS Broadcast sent");
-        System.out.println("[ADMIN] Broadcast: " + broadcastText);
+        LOG.info("[ADMIN] Broadcast: " + broadcastText);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package admin.commands;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminCommand;
 import admin.AdminContext;
 import network.ClientInfo;
@@ -7,6 +9,8 @@ import network.ClientInfo;
 import java.util.List;
 
 public class ClearRoomCommand implements AdminCommand {
+
+    private static final Logger LOG = Log.get(ClearRoomCommand.class);
     
     @Override
     public void execute(String message, AdminContext context) {
@@ -42,12 +46,12 @@ public class ClearRoomCommand implements AdminCommand {
             player.sendMessage("adminMessage Room cleared by admin");
             
             // Update their room on server side
-            player.currentRoomId = "lobby";
+            context.clientGroup.changeRoom(player, "lobby");
             
             kickedCount++;
         }
         
         context.send("SUCCESS Cleared " + kickedCount + " players from room: " + roomId);
-        System.out.println("[ADMIN] Cleared room " + roomId + " (" + kickedCount + " players moved to lobby)");
+        LOG.info("[ADMIN] Cleared room " + roomId + " (" + kickedCount + " players moved to lobby)");
     }
 }
\ No newline at end of file
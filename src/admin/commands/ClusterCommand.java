@@ -0,0 +1,35 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import network.cluster.Cluster;
+import network.cluster.ClusterNode;
+
+/**
+ * CLUSTER [roomId]
+ * Cluster nodes, and which node owns a room
+ */
+public class ClusterCommand implements AdminCommand {
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        String[] parts = message.trim().split("\\s+");
+        Cluster cluster = context.clientGroup.getCluster();
+        
+        if (cluster == null) {
+            context.send("ERROR Not clustered (start with -Dfutura.cluster.node=<id>)");
+            return;
+        }
+        
+        context.send("CLUSTER_START");
+        context.send("SELF " + cluster.getSelf().id);
+        // Format: NODE <id> <host> <gamePort> <peerPort>
+        for (ClusterNode node : cluster.getNodes()) {
+            context.send("NODE " + node.id + " " + node.host + " " + node.gamePort + " " + node.peerPort);
+        }
+        if (parts.length > 1) {
+            context.send("OWNER " + parts[1] + " " + cluster.ownerOf(parts[1]).id);
+        }
+        context.send("CLUSTER_END");
+    }
+}
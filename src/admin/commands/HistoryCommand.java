@@ -0,0 +1,61 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import metrics.TimeSeries.Resolution;
+import network.LoadRecorder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HISTORY [1s|1m] [points] [series...]
+ * Load over time from the LoadRecorder - 1 s steps for the last hour or
+ * 1 min steps for the last day; all series unless some are named
+ * (clients, rooms, messages_in, messages_out, room:<id>)
+ */
+public class HistoryCommand implements AdminCommand {
+    
+    private static final int DEFAULT_POINTS = 300;
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        String[] parts = message.trim().split("\\s+");
+        
+        Resolution resolution = Resolution.SECOND;
+        int points = DEFAULT_POINTS;
+        int next = 1;
+        if (parts.length > next && (parts[next].equals("1s") || parts[next].equals("1m"))) {
+            resolution = parts[next].equals("1m") ? Resolution.MINUTE : Resolution.SECOND;
+            next++;
+        }
+        if (parts.length > next && parts[next].matches("\\d+")) {
+            // More digits than an int holds is more than any series keeps
+            points = parts[next].length() > 9 ? resolution.slots
+                   : Math.min(Integer.parseInt(parts[next]), resolution.slots);
+            next++;
+        }
+        List<String> names = new ArrayList<>(Arrays.asList(parts).subList(Math.min(next, parts.length), parts.length));
+        
+        LoadRecorder.History history = context.clientGroup.getLoadRecorder().query(resolution, points, names);
+        
+        // Format: HISTORY_START <stepSeconds> <epoch second of the newest point> <series count>
+        context.send("HISTORY_START " + resolution.stepSeconds + " " + history.endSecond + " " +
+                     history.series.size());
+        for (Map.Entry<String, int[]> entry : history.series.entrySet()) {
+            // Format: SERIES <name> <v1,v2,...> (oldest first; newest point last)
+            StringBuilder line = new StringBuilder("SERIES ").append(entry.getKey()).append(' ');
+            int[] values = entry.getValue();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(values[i]);
+            }
+            context.send(line.toString());
+        }
+        context.send("HISTORY_END");
+    }
+}
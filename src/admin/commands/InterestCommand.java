@@ -0,0 +1,71 @@
+package admin.commands;
+
+import java.util.Map;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import network.InterestGrid;
+import network.InterestPolicy;
+
+/**
+ * AOI [roomId [off | default | <radius> <farEveryTicks> [minPlayers]]]
+ * Area-of-interest settings per room, and how many updates they save
+ */
+public class InterestCommand implements AdminCommand {
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        String[] parts = message.trim().split("\\s+");
+        
+        if (parts.length > 2) {
+            String roomId = parts[1];
+            InterestPolicy policy;
+            try {
+                policy = parsePolicy(parts);
+            } catch (NumberFormatException e) {
+                context.send("ERROR Usage: AOI <roomId> off | default | <radius> <farEveryTicks> [minPlayers]");
+                return;
+            }
+            context.clientGroup.setInterestPolicy(roomId, policy);
+            context.send("SUCCESS AOI " + roomId + ": " + context.clientGroup.getInterestPolicy(roomId));
+            return;
+        }
+        
+        InterestGrid grid = context.clientGroup.getRoomTicker().getInterest();
+        long broadcast = grid.getBroadcastUpdates();
+        long sent = grid.getNearUpdates() + grid.getFarUpdates();
+        
+        context.send("AOI_START");
+        context.send("DEFAULT " + InterestPolicy.DEFAULT);
+        if (parts.length == 2) {
+            context.send("ROOM " + parts[1] + " " + context.clientGroup.getInterestPolicy(parts[1]));
+        } else {
+            for (Map.Entry<String, InterestPolicy> entry : context.clientGroup.getInterestPolicies().entrySet()) {
+                context.send("ROOM " + entry.getKey() + " " + entry.getValue());
+            }
+        }
+        context.send("ACTIVE_ROOMS " + grid.getActiveRooms());
+        // Format: UPDATES <near> <far> <room-wide equivalent> <saved%>
+        context.send("UPDATES " + grid.getNearUpdates() + " " + grid.getFarUpdates() + " " + broadcast + " " +
+                    String.format("%.1f", broadcast > 0 ? 100.0 * (broadcast - sent) / broadcast : 0.0));
+        context.send("CELL_SNAPSHOTS " + grid.getCellSnapshots());
+        context.send("AOI_END");
+    }
+    
+    private InterestPolicy parsePolicy(String[] parts) {
+        switch (parts[2].toLowerCase()) {
+            case "off":
+                return InterestPolicy.OFF;
+            case "default":
+                return null;
+            default:
+                int radius = Integer.parseInt(parts[2]);
+                if (parts.length < 4 || radius <= 0) {
+                    throw new NumberFormatException();
+                }
+                int farEvery = Integer.parseInt(parts[3]);
+                int minPlayers = parts.length > 4 ? Integer.parseInt(parts[4]) : 0;
+                return new InterestPolicy(radius, farEvery, minPlayers);
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package admin.commands;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminCommand;
 import admin.AdminContext;
-import admin.shared.AdminActionFile;
+import admin.shared.AdminAction;
 import network.ClientInfo;
+import network.cluster.Cluster;
+import network.cluster.ClusterNode;
+import network.cluster.PeerServer;
+
+import java.util.List;
+import java.util.Map;
 
 /**
- * KICK command - Now uses shared file approach (Approach A)
- * Writes to admin_actions.dat instead of direct execution
+ * KICK command - Publishes a KICK action on the admin bus
+ * (executed by the game server's AdminActionWatcher)
  */
 public class KickPlayerCommand implements AdminCommand {
+
+    private static final Logger LOG = Log.get(KickPlayerCommand.class);
     
     @Override
     public void execute(String message, AdminContext context) {
@@ -28,15 +38,39 @@ public class KickPlayerCommand implements AdminCommand {
         ClientInfo target = context.clientGroup.getClientByName(targetUsername);
         
         if (target == null) {
-            context.send("ERROR Player not found: " + targetUsername);
+            kickOnPeer(targetUsername, reason, context);
             return;
         }
         
-        // Write action to shared file (Approach A)
-        String actionId = AdminActionFile.writeKickAction(targetUsername, reason);
+        AdminAction action = AdminAction.createKick(targetUsername, reason);
+        context.clientGroup.getAdminBus().publish(action);
+        String actionId = action.getActionId();
         
         context.send("SUCCESS KICK action queued [" + actionId + "] for player: " + targetUsername);
-        System.out.println("[ADMIN] KICK queued via file - ID: " + actionId + 
-                          ", Target: " + targetUsername + ", Reason: " + reason);
+        LOG.info("[ADMIN] KICK published - ID: " + actionId + 
+                ", Target: " + targetUsername + ", Reason: " + reason);
+    }
+    
+    /**
+     * Cluster: the player may be on another node - that node queues the kick
+     */
+    private void kickOnPeer(String targetUsername, String reason, AdminContext context) {
+        Cluster cluster = context.clientGroup.getCluster();
+        if (cluster != null) {
+            String request = "KICK " + targetUsername + " " + reason;
+            for (Map.Entry<ClusterNode, List<String>> answer : cluster.askPeers(request).entrySet()) {
+                for (String line : answer.getValue()) {
+                    if (line.startsWith(PeerServer.OK + " ")) {
+                        String actionId = line.substring(PeerServer.OK.length() + 1);
+                        context.send("SUCCESS KICK action queued [" + actionId + "] on node " +
+                                    answer.getKey().id + " for player: " + targetUsername);
+                        LOG.info("[ADMIN] KICK queued on node " + answer.getKey().id + " - ID: " + actionId +
+                                ", Target: " + targetUsername + ", Reason: " + reason);
+                        return;
+                    }
+                }
+            }
+        }
+        context.send("ERROR Player not found: " + targetUsername);
     }
 }
\ No newline at end of file
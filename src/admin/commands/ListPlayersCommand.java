@@ -3,9 +3,17 @@ package admin.commands;
 import admin.AdminCommand;
 import admin.AdminContext;
 import network.ClientInfo;
+import network.cluster.Cluster;
+import network.cluster.ClusterNode;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * LIST_PLAYERS - Every player, on all cluster nodes when clustered
+ * (nodes that don't answer are left out)
+ */
 public class ListPlayersCommand implements AdminCommand {
     
     @Override
@@ -13,14 +21,25 @@ public class ListPlayersCommand implements AdminCommand {
         // Get all clients from the shared GameServerGroup
         List<ClientInfo> allClients = context.clientGroup.getAllClients();
         
+        List<String> remotePlayers = new ArrayList<>();
+        Cluster cluster = context.clientGroup.getCluster();
+        if (cluster != null) {
+            for (Map.Entry<ClusterNode, List<String>> answer : cluster.askPeers("PLAYERS").entrySet()) {
+                remotePlayers.addAll(answer.getValue());
+            }
+        }
+        
         context.send("PLAYERS_START");
-        context.send("COUNT " + allClients.size());
+        context.send("COUNT " + (allClients.size() + remotePlayers.size()));
         
         for (ClientInfo client : allClients) {
             context.send("PLAYER " + client.playerName + " " + 
                         client.currentRoomId + " " + 
                         client.mapX + " " + client.mapY);
         }
+        for (String player : remotePlayers) {
+            context.send(player);
+        }
         
         context.send("PLAYERS_END");
     }
@@ -2,24 +2,15 @@ package admin.commands;
 
 import admin.AdminCommand;
 import admin.AdminContext;
-import network.ClientInfo;
 
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class ListRoomsCommand implements AdminCommand {
     
     @Override
     public void execute(String message, AdminContext context) {
-        List<ClientInfo> allClients = context.clientGroup.getAllClients();
-        
-        // Count players per room
-        Map<String, Integer> roomCounts = new HashMap<>();
-        for (ClientInfo client : allClients) {
-            String roomId = client.currentRoomId;
-            roomCounts.put(roomId, roomCounts.getOrDefault(roomId, 0) + 1);
-        }
+        // Count players per room (read straight from the room index)
+        Map<String, Integer> roomCounts = context.clientGroup.getRoomOccupancy();
         
         context.send("ROOMS_START");
         context.send("COUNT " + roomCounts.size());
@@ -0,0 +1,53 @@
+package admin.commands;
+
+import java.util.Map;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
+import network.ServerMetrics;
+
+/**
+ * METRICS [prefix] - Server counters, gauges and histograms
+ * (the same registry the HTTP /metrics endpoint serves)
+ */
+public class MetricsCommand implements AdminCommand {
+
+    @Override
+    public void execute(String message, AdminContext context) {
+        String[] parts = message.trim().split("\\s+");
+        String prefix = parts.length > 1 ? parts[1] : "";
+        MetricsRegistry registry = ServerMetrics.REGISTRY;
+        double uptimeSeconds = Math.max(1, registry.getUptimeMillis()) / 1000.0;
+
+        context.send("METRICS_START");
+        context.send("UPTIME_S " + (long) uptimeSeconds);
+
+        for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                context.send("COUNTER " + entry.getKey() + " " + entry.getValue().get());
+            }
+        }
+        for (Map.Entry<String, Long> entry : registry.readGauges().entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                context.send("GAUGE " + entry.getKey() + " " + entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                Histogram histogram = entry.getValue();
+
+                // Format: HISTOGRAM <series> <count> <per second> <mean> <p50> <p99> <p999> <max>
+                context.send("HISTOGRAM " + entry.getKey() + " " + histogram.getCount() + " " +
+                            String.format("%.1f", histogram.getCount() / uptimeSeconds) + " " +
+                            histogram.getMean() + " " + histogram.getPercentile(50) + " " +
+                            histogram.getPercentile(99) + " " + histogram.getPercentile(99.9) + " " +
+                            histogram.getMax());
+            }
+        }
+
+        context.send("METRICS_END");
+    }
+}
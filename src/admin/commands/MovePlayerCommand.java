@@ -1,15 +1,25 @@
 package admin.commands;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminCommand;
 import admin.AdminContext;
-import admin.shared.AdminActionFile;
+import admin.shared.AdminAction;
 import network.ClientInfo;
+import network.cluster.Cluster;
+import network.cluster.ClusterNode;
+import network.cluster.PeerServer;
+
+import java.util.List;
+import java.util.Map;
 
 /**
- * MOVE_PLAYER command - Now uses shared file approach (Approach A)
- * Writes to admin_actions.dat instead of direct execution
+ * MOVE_PLAYER command - Publishes a MOVE_PLAYER action on the admin bus
+ * (executed by the game server's AdminActionWatcher)
  */
 public class MovePlayerCommand implements AdminCommand {
+
+    private static final Logger LOG = Log.get(MovePlayerCommand.class);
     
     @Override
     public void execute(String message, AdminContext context) {
@@ -28,7 +38,7 @@ public class MovePlayerCommand implements AdminCommand {
         ClientInfo target = context.clientGroup.getClientByName(targetUsername);
         
         if (target == null) {
-            context.send("ERROR Player not found: " + targetUsername);
+            moveOnPeer(targetUsername, targetRoomId, context);
             return;
         }
         
@@ -38,12 +48,37 @@ public class MovePlayerCommand implements AdminCommand {
             return;
         }
         
-        // Write action to shared file (Approach A)
-        String actionId = AdminActionFile.writeMoveAction(targetUsername, targetRoomId);
+        AdminAction action = AdminAction.createMove(targetUsername, targetRoomId);
+        context.clientGroup.getAdminBus().publish(action);
+        String actionId = action.getActionId();
         
         context.send("SUCCESS MOVE action queued [" + actionId + "] for player: " + 
                     targetUsername + " → " + targetRoomId);
-        System.out.println("[ADMIN] MOVE queued via file - ID: " + actionId + 
-                          ", Target: " + targetUsername + ", Room: " + targetRoomId);
+        LOG.info("[ADMIN] MOVE published - ID: " + actionId + 
+                ", Target: " + targetUsername + ", Room: " + targetRoomId);
+    }
+    
+    /**
+     * Cluster: the player may be on another node - that node queues the move
+     * (and redirects the player if yet another node owns the room)
+     */
+    private void moveOnPeer(String targetUsername, String targetRoomId, AdminContext context) {
+        Cluster cluster = context.clientGroup.getCluster();
+        if (cluster != null) {
+            String request = "MOVE " + targetUsername + " " + targetRoomId;
+            for (Map.Entry<ClusterNode, List<String>> answer : cluster.askPeers(request).entrySet()) {
+                for (String line : answer.getValue()) {
+                    if (line.startsWith(PeerServer.OK + " ")) {
+                        String actionId = line.substring(PeerServer.OK.length() + 1);
+                        context.send("SUCCESS MOVE action queued [" + actionId + "] on node " +
+                                    answer.getKey().id + " for player: " + targetUsername + " → " + targetRoomId);
+                        LOG.info("[ADMIN] MOVE queued on node " + answer.getKey().id + " - ID: " + actionId +
+                                ", Target: " + targetUsername + ", Room: " + targetRoomId);
+                        return;
+                    }
+                }
+            }
+        }
+        context.send("ERROR Player not found: " + targetUsername);
     }
 }
\ No newline at end of file
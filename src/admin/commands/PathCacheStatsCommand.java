@@ -0,0 +1,46 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import network.RoomLayout;
+import pathfinding.FlowFieldCache;
+
+import java.util.Map;
+
+/**
+ * PATH_CACHE_STATS - Flow field cache per room: hit rate and rebuild cost
+ * (occupied rooms whose layout has loaded - see RoomLayoutLoader)
+ */
+public class PathCacheStatsCommand implements AdminCommand {
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        Map<String, RoomLayout> layouts = context.clientGroup.getRoomLayouts();
+        
+        context.send("PATH_CACHE_START");
+        context.send("COUNT " + layouts.size());
+        for (Map.Entry<String, RoomLayout> entry : layouts.entrySet()) {
+            sendRoom(context, entry.getKey(), entry.getValue());
+        }
+        context.send("PATH_CACHE_END");
+    }
+    
+    private void sendRoom(AdminContext context, String roomId, RoomLayout layout) {
+        FlowFieldCache cache = layout.getFlowFields();
+        if (cache == null) {
+            // No search yet (or flow fields off)
+            context.send("ROOM " + roomId + " " + layout.getWidth() + "x" + layout.getHeight() + " " +
+                        layout.getStrategy() + " IDLE");
+            return;
+        }
+        
+        // Format: ROOM <id> <w>x<h> <strategy> <fields>/<capacity> <lookups> <hitRate%> <builds> <avgBuildUs> <maxBuildUs> <invalidations>
+        context.send("ROOM " + roomId + " " + layout.getWidth() + "x" + layout.getHeight() + " " +
+                    layout.getStrategy() + " " + cache.getFieldCount() + "/" + cache.getCapacity() + " " +
+                    cache.getLookups() + " " +
+                    String.format("%.1f", cache.getHitRate() * 100) + " " +
+                    cache.getBuilds() + " " +
+                    cache.getAverageBuildMicros() + " " + cache.getMaxBuildMicros() + " " +
+                    cache.getInvalidations());
+    }
+}
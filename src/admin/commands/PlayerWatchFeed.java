@@ -0,0 +1,207 @@
+package admin.commands;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import admin.AdminContext;
+import logging.Log;
+import logging.Logger;
+import network.ClientInfo;
+import network.GameServerGroup;
+import network.ServerConfig;
+
+/**
+ * PlayerWatchFeed - Player changes pushed to WATCH subscribers
+ *
+ * Every ADMIN_WATCH_INTERVAL_MS one scan of the GameServerGroup compares
+ * each player with what was last sent and builds a single block of deltas,
+ * pushed as-is to every subscriber. The cost is one pass over the players
+ * per interval however many dashboards watch, and nothing when none do;
+ * a player who moves ten times between scans is one WATCH_MOVE.
+ *
+ * Lines (player name, room, tile):
+ *   WATCH_START <count>, WATCH_JOIN ... x count, WATCH_LIVE   snapshot for a new subscriber
+ *   WATCH_JOIN <name> <room> <x> <y>
+ *   WATCH_ROOM <name> <room> <x> <y>
+ *   WATCH_MOVE <name> <x> <y>
+ *   WATCH_LEAVE <name>
+ *   WATCH_STOPPED <reason>
+ *
+ * A subscriber more than ADMIN_MAX_OUTPUT behind is dropped with
+ * WATCH_STOPPED lagging - it can WATCH again for a fresh snapshot. Its
+ * snapshot doesn't count towards that until it has been written, so a
+ * server with more players than fit in ADMIN_MAX_OUTPUT can be watched.
+ * Players on other cluster nodes are not included.
+ */
+class PlayerWatchFeed {
+
+    private static final Logger LOG = Log.get(PlayerWatchFeed.class);
+
+    private final GameServerGroup clientGroup;
+    // Subscriber → snapshot bytes still allowed on top of ADMIN_MAX_OUTPUT
+    private final Map<AdminContext, Integer> subscribers = new ConcurrentHashMap<>();
+    private final Queue<AdminContext> joining = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService scheduler;
+
+    // Feed thread only: what subscribers were last told, by player name
+    private final Map<String, WatchedPlayer> players = new HashMap<>();
+    private int scan = 0;
+
+    private static class WatchedPlayer {
+        String roomId;
+        int mapX;
+        int mapY;
+        int seen;
+    }
+
+    PlayerWatchFeed(GameServerGroup clientGroup) {
+        this.clientGroup = clientGroup;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "AdminWatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(50, ServerConfig.ADMIN_WATCH_INTERVAL_MS);
+        scheduler.scheduleWithFixedDelay(this::update, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SUBSCRIPTIONS (command workers)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Send a snapshot, then deltas; watching again restarts with a snapshot
+     */
+    void subscribe(AdminContext context) {
+        subscribers.remove(context);
+        joining.add(context);
+        scheduler.execute(this::update);
+    }
+
+    boolean unsubscribe(AdminContext context) {
+        boolean removed = subscribers.remove(context) != null;
+        return joining.remove(context) || removed;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size() + joining.size();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SCAN (feed thread)
+    // ═══════════════════════════════════════════════════════════
+
+    private void update() {
+        try {
+            if (subscribers.isEmpty() && joining.isEmpty()) {
+                players.clear();
+                return;
+            }
+            String deltas = scanPlayers();
+            if (!deltas.isEmpty()) {
+                for (Map.Entry<AdminContext, Integer> subscriber : subscribers.entrySet()) {
+                    deliver(subscriber.getKey(), subscriber.getValue(), deltas);
+                }
+            }
+
+            String snapshot = null;
+            AdminContext context;
+            while ((context = joining.poll()) != null) {
+                if (context.isOpen()) {
+                    if (snapshot == null) {
+                        snapshot = snapshot();
+                    }
+                    context.push(snapshot);
+                    subscribers.put(context, snapshot.length());
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("[ADMIN] Watch update failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void deliver(AdminContext context, int snapshotAllowance, String deltas) {
+        long backlog = context.getBacklogBytes();
+        if (snapshotAllowance > 0 && backlog <= ServerConfig.ADMIN_MAX_OUTPUT) {
+            // Snapshot written: the plain limit from now on
+            subscribers.replace(context, snapshotAllowance, 0);
+            snapshotAllowance = 0;
+        }
+
+        if (!context.isOpen()) {
+            subscribers.remove(context);
+        } else if (backlog > ServerConfig.ADMIN_MAX_OUTPUT + (long) snapshotAllowance) {
+            subscribers.remove(context);
+            context.push("WATCH_STOPPED lagging\n");
+            LOG.warn("[ADMIN] " + context.clientIP + " fell behind the watch feed - unsubscribed");
+        } else {
+            context.push(deltas);
+        }
+    }
+
+    /**
+     * Bring the player table up to date, returning the changes as lines
+     */
+    private String scanPlayers() {
+        int current = ++scan;
+        StringBuilder deltas = new StringBuilder();
+
+        for (ClientInfo client : clientGroup.getAllClients()) {
+            String name = client.playerName;
+            if (name == null) {
+                continue;   // Connected, not joined yet
+            }
+            String roomId = client.currentRoomId;
+            int mapX = client.mapX;
+            int mapY = client.mapY;
+
+            WatchedPlayer player = players.get(name);
+            if (player == null) {
+                player = new WatchedPlayer();
+                players.put(name, player);
+                deltas.append("WATCH_JOIN ").append(name).append(' ').append(roomId)
+                      .append(' ').append(mapX).append(' ').append(mapY).append('\n');
+            } else if (!Objects.equals(roomId, player.roomId)) {
+                deltas.append("WATCH_ROOM ").append(name).append(' ').append(roomId)
+                      .append(' ').append(mapX).append(' ').append(mapY).append('\n');
+            } else if (mapX != player.mapX || mapY != player.mapY) {
+                deltas.append("WATCH_MOVE ").append(name).append(' ').append(mapX)
+                      .append(' ').append(mapY).append('\n');
+            }
+            player.roomId = roomId;
+            player.mapX = mapX;
+            player.mapY = mapY;
+            player.seen = current;
+        }
+
+        Iterator<Map.Entry<String, WatchedPlayer>> it = players.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, WatchedPlayer> entry = it.next();
+            if (entry.getValue().seen != current) {
+                deltas.append("WATCH_LEAVE ").append(entry.getKey()).append('\n');
+                it.remove();
+            }
+        }
+        return deltas.toString();
+    }
+
+    private String snapshot() {
+        StringBuilder lines = new StringBuilder(64 + players.size() * 40);
+        lines.append("WATCH_START ").append(players.size()).append('\n');
+        for (Map.Entry<String, WatchedPlayer> entry : players.entrySet()) {
+            WatchedPlayer player = entry.getValue();
+            lines.append("WATCH_JOIN ").append(entry.getKey()).append(' ').append(player.roomId)
+                 .append(' ').append(player.mapX).append(' ').append(player.mapY).append('\n');
+        }
+        lines.append("WATCH_LIVE\n");
+        return lines.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import network.ClientInfo;
+
+import java.util.List;
+
+/**
+ * QUEUE_STATS - Outbound queue depth per connected client
+ * Deepest queues first, so slow consumers show up at the top
+ */
+public class QueueStatsCommand implements AdminCommand {
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        List<ClientInfo> allClients = context.clientGroup.getAllClients();
+        allClients.sort((a, b) -> Integer.compare(b.getQueueDepth(), a.getQueueDepth()));
+        
+        context.send("QUEUES_START");
+        context.send("COUNT " + allClients.size());
+        
+        for (ClientInfo client : allClients) {
+            long droppedMoves = client.outbound != null ? client.outbound.getDroppedMoves() : 0;
+            long droppedLines = client.outbound != null ? client.outbound.getDroppedLines() : 0;
+            
+            // Format: QUEUE <name> <depth> <droppedMoves> <droppedLines>
+            context.send("QUEUE " + client.playerName + " " + 
+                        client.getQueueDepth() + " " + 
+                        droppedMoves + " " + droppedLines);
+        }
+        
+        context.send("QUEUES_END");
+    }
+}
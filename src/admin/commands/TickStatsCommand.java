@@ -0,0 +1,51 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+import network.MovementSimulator;
+import network.RoomTicker;
+
+/**
+ * TICK_STATS - Room simulation tick timing, movement batching and
+ * server-side walking counters
+ */
+public class TickStatsCommand implements AdminCommand {
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        RoomTicker ticker = context.clientGroup.getRoomTicker();
+        
+        context.send("TICK_STATS_START");
+        context.send("STATUS " + (ticker.isRunning() ? "RUNNING" : "OFF"));
+        context.send("RATE_HZ " + ticker.getTickRateHz());
+        context.send("BATCH_SIZE " + ticker.getBatchSize());
+        context.send("TICKS " + ticker.getTicks());
+        
+        // Format: TICK_TIME_US <last> <avg> <max> - an overrun is a tick longer than its period
+        context.send("TICK_TIME_US " + ticker.getLastTickMicros() + " " + 
+                    ticker.getAverageTickMicros() + " " + ticker.getMaxTickMicros());
+        context.send("OVERRUNS " + ticker.getOverruns());
+        
+        context.send("MOVES_RECEIVED " + ticker.getMovesReceived());
+        context.send("MOVES_MERGED " + ticker.getMovesMerged());
+        context.send("UNCHANGED_SKIPPED " + ticker.getUnchangedSkipped());
+        context.send("SNAPSHOTS_SENT " + ticker.getSnapshotsSent());
+        context.send("PLAYERS_SENT " + ticker.getPlayersSent());
+        context.send("LAST_TICK_PLAYERS " + ticker.getLastTickPlayers());
+        
+        MovementSimulator movement = ticker.getMovement();
+        context.send("WALK_INTENTS " + movement.getWalkIntents());
+        context.send("WALK_INTENTS_MERGED " + movement.getWalkIntentsMerged());
+        context.send("WALKERS " + movement.getWalkerCount());
+        
+        // Format: PATHS <planned> <failed> <budget> <ticks over budget>
+        context.send("PATHS " + movement.getPathsPlanned() + " " + movement.getPathsFailed() + " " +
+                    movement.getPathBudget() + " " + movement.getBudgetExhausted());
+        // Format: PATH_TIME_US <avg> <max>
+        context.send("PATH_TIME_US " + movement.getAveragePathMicros() + " " + movement.getMaxPathMicros());
+        context.send("STEPS " + movement.getSteps() + " " + movement.getStepsBlocked());
+        context.send("MOVES_REJECTED " + movement.getMovesRejected());
+        context.send("ROOM_LAYOUTS " + context.clientGroup.getRoomLayoutCount());
+        context.send("TICK_STATS_END");
+    }
+}
@@ -0,0 +1,45 @@
+package admin.commands;
+
+import admin.AdminCommand;
+import admin.AdminContext;
+
+/**
+ * WATCH [OFF]
+ * Subscribe to live player changes: a snapshot, then join / leave / move /
+ * room-change deltas (PlayerWatchFeed). WATCH again resyncs with a new
+ * snapshot; WATCH OFF stops.
+ */
+public class WatchCommand implements AdminCommand {
+    
+    private volatile PlayerWatchFeed feed;
+    
+    @Override
+    public void execute(String message, AdminContext context) {
+        String[] parts = message.trim().split("\\s+");
+        
+        if (parts.length > 1 && parts[1].equalsIgnoreCase("OFF")) {
+            if (feed != null && feed.unsubscribe(context)) {
+                context.send("WATCH_STOPPED unsubscribed");
+            } else {
+                context.send("ERROR Not watching");
+            }
+            return;
+        }
+        
+        // Snapshot and deltas arrive from the feed thread
+        feed(context).subscribe(context);
+    }
+    
+    private PlayerWatchFeed feed(AdminContext context) {
+        PlayerWatchFeed current = feed;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (feed == null) {
+                feed = new PlayerWatchFeed(context.clientGroup);
+            }
+            return feed;
+        }
+    }
+}
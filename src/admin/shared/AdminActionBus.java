@@ -0,0 +1,57 @@
+package admin.shared;
+
+import java.io.IOException;
+
+/**
+ * AdminActionBus - Carries KICK / MOVE_PLAYER actions from the admin side
+ * to the game server's AdminActionWatcher
+ *
+ * Admin commands publish(); the watcher is the single consumer: poll(),
+ * execute, acknowledge(). Transports (-Dfutura.admin.bus):
+ * - memory   lock-free in-process queue (default - admin server and game
+ *            server share a JVM)
+ * - socket   memory, plus a local (Unix domain) socket that admin tools in
+ *            other processes publish through (SocketActionClient)
+ * - journal  the memory-mapped AdminActionFile journal - survives restarts
+ *            with actions still pending
+ *
+ * Latency (publish to poll) and backlog: futura_admin_bus_* in ServerMetrics.
+ */
+public interface AdminActionBus extends AdminActionPublisher {
+
+    /**
+     * Next action, waiting at most timeoutMillis (consumer side only)
+     * @return null on timeout
+     */
+    AdminAction poll(long timeoutMillis) throws InterruptedException;
+
+    /**
+     * The action from poll() has been executed
+     */
+    default void acknowledge(AdminAction action) {
+    }
+
+    /**
+     * Actions published but not yet polled
+     */
+    int getBacklog();
+
+    default void close() {
+    }
+
+    /**
+     * The bus for a transport name (see class comment)
+     */
+    static AdminActionBus create(String transport, String socketPath) throws IOException {
+        switch (transport.trim().toLowerCase()) {
+            case "socket":
+                return new SocketActionBus(socketPath);
+            case "journal":
+                return new JournalActionBus();
+            case "memory":
+                return new InProcessActionBus();
+            default:
+                throw new IOException("Unknown admin bus transport: " + transport);
+        }
+    }
+}
@@ -1,186 +1,186 @@
 package admin.shared;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import logging.Log;
+import logging.Logger;
 
 /**
- * Utility class for reading/writing admin actions to shared file
- * This is the bridge between Admin Server and Game Server
+ * Durable storage for admin actions - the "journal" AdminActionBus
+ * transport (JournalActionBus)
+ *
+ * Backed by an append-only, memory-mapped journal (AdminActionJournal):
+ * data/admin_actions.journal holds the actions, data/admin_actions.cursor
+ * how far they have been executed. Actions left in the old text file
+ * (admin_actions.dat) are carried over once.
  */
 public class AdminActionFile {
-    
+
+    private static final Logger LOG = Log.get(AdminActionFile.class);
+
     private static final String DATA_DIR = "data/";
-    private static final String FILE_PATH = DATA_DIR + "admin_actions.dat";
-    private static final Object FILE_LOCK = new Object();
-    
+    private static final String JOURNAL_PATH = DATA_DIR + "admin_actions.journal";
+    private static final String CURSOR_PATH = DATA_DIR + "admin_actions.cursor";
+    private static final String LEGACY_PATH = DATA_DIR + "admin_actions.dat";
+
+    // Journal preallocation; it doubles when pending actions outgrow it
+    private static final int JOURNAL_BYTES = Integer.getInteger("futura.admin.journalBytes", 256 * 1024);
+
+    private static final ReentrantLock OPEN_LOCK = new ReentrantLock();
+    private static volatile AdminActionJournal journal;
+
+    /**
+     * The journal, opened on first use
+     */
+    private static AdminActionJournal journal() throws IOException {
+        AdminActionJournal opened = journal;
+        if (opened != null) {
+            return opened;
+        }
+        OPEN_LOCK.lock();
+        try {
+            if (journal == null) {
+                AdminActionJournal created = new AdminActionJournal(
+                        Paths.get(JOURNAL_PATH), Paths.get(CURSOR_PATH), JOURNAL_BYTES);
+                importLegacyFile(created);
+                journal = created;
+            }
+            return journal;
+        } finally {
+            OPEN_LOCK.unlock();
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════
-    // WRITE OPERATIONS (Used by Admin Server)
+    // WRITE OPERATIONS (JournalActionBus.publish)
     // ═══════════════════════════════════════════════════════════
-    
+
     /**
-     * Add a new action to the file
+     * Append a new action to the journal
      */
     public static void addAction(AdminAction action) {
-        synchronized (FILE_LOCK) {
-            try (BufferedWriter writer = new BufferedWriter(
-                    new FileWriter(FILE_PATH, true))) {  // append mode
-                
-                writer.write(action.serialize());
-                writer.newLine();
-                
-                System.out.println("[ADMIN FILE] Added action: " + action);
-                
-            } catch (IOException e) {
-                System.err.println("[ADMIN FILE] Failed to write action: " + e.getMessage());
-            }
+        try {
+            journal().append(action);
+            LOG.info("[ADMIN FILE] Added action: " + action);
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Failed to write action: " + e.getMessage());
         }
     }
-    
-/**
- * Write a KICK action
- */
-public static String writeKickAction(String username, String reason) {
-    AdminAction action = AdminAction.createKick(username, reason);  // ← Changed
-    addAction(action);
-    return action.getActionId();
-}
 
-/**
- * Write a MOVE_PLAYER action
- */
-public static String writeMoveAction(String username, String targetRoomId) {
-    AdminAction action = AdminAction.createMove(username, targetRoomId);  // ← Changed
-    addAction(action);
-    return action.getActionId();
-}
-    
     // ═══════════════════════════════════════════════════════════
-    // READ OPERATIONS (Used by Game Server)
+    // READ OPERATIONS (JournalActionBus.poll, on the watcher thread)
     // ═══════════════════════════════════════════════════════════
-    
+
     /**
-     * Read all pending (unexecuted) actions from the file
+     * Read the pending (unexecuted) actions - only the journal's tail
      */
     public static List<AdminAction> readPendingActions() {
-        List<AdminAction> actions = new ArrayList<>();
-        
-        synchronized (FILE_LOCK) {
-            File file = new File(FILE_PATH);
-            if (!file.exists()) {
-                return actions;
-            }
-            
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty()) continue;
-                    
-                    try {
-                        AdminAction action = AdminAction.deserialize(line);
-                        if (!action.isExecuted()) {
-                            actions.add(action);
-                        }
-                    } catch (Exception e) {
-                        System.err.println("[ADMIN FILE] Failed to parse action: " + line);
-                    }
-                }
-            } catch (IOException e) {
-                System.err.println("[ADMIN FILE] Failed to read actions: " + e.getMessage());
-            }
+        try {
+            return journal().readPending();
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Failed to read actions: " + e.getMessage());
+            return new ArrayList<>();
         }
-        
-        return actions;
     }
-    
+
     /**
-     * Mark an action as executed and update the file
+     * Mark an action from readPendingActions() as executed (advances the
+     * durable cursor; actions are executed in order)
      */
     public static void markActionExecuted(String actionId) {
-        synchronized (FILE_LOCK) {
-            List<AdminAction> allActions = readAllActions();
-            
-            for (AdminAction action : allActions) {
-                if (action.getActionId().equals(actionId)) {
-                    action.markExecuted();
-                    break;
-                }
-            }
-            
-            // Rewrite file with updated actions
-            writeAllActions(allActions);
+        try {
+            journal().markExecuted(actionId);
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Failed to mark action: " + e.getMessage());
         }
     }
-    
+
     /**
-     * Remove executed actions older than specified age (cleanup)
+     * Block until an action is pending or the timeout passes
+     * @return true if there is something to read
      */
-    public static void cleanupOldActions(long maxAgeMillis) {
-        synchronized (FILE_LOCK) {
-            List<AdminAction> allActions = readAllActions();
-            long now = System.currentTimeMillis();
-            
-            allActions.removeIf(action -> 
-                action.isExecuted() && (now - action.getTimestamp()) > maxAgeMillis
-            );
-            
-            writeAllActions(allActions);
-            System.out.println("[ADMIN FILE] Cleanup complete. Remaining actions: " + allActions.size());
+    public static boolean awaitPendingActions(long timeoutMillis) throws InterruptedException {
+        try {
+            return journal().awaitPending(timeoutMillis);
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Journal unavailable: " + e.getMessage());
+            Thread.sleep(timeoutMillis);
+            return false;
+        }
+    }
+
+    public static int getPendingCount() {
+        try {
+            return journal().getPendingCount();
+        } catch (IOException e) {
+            return 0;
         }
     }
-    
+
     /**
-     * Clear all actions from file
+     * Drop executed actions once they take up more than minBytes
      */
-    public static void clearAllActions() {
-        synchronized (FILE_LOCK) {
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-                // Write empty file
-                System.out.println("[ADMIN FILE] Cleared all actions");
-            } catch (IOException e) {
-                System.err.println("[ADMIN FILE] Failed to clear actions: " + e.getMessage());
+    public static void compact(int minBytes) {
+        try {
+            AdminActionJournal j = journal();
+            if (j.getExecutedBytes() > minBytes) {
+                j.compact();
             }
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Compaction failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Clear all actions (pending ones are dropped unexecuted)
+     */
+    public static void clearAllActions() {
+        try {
+            journal().clear();
+            LOG.info("[ADMIN FILE] Cleared all actions");
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Failed to clear actions: " + e.getMessage());
         }
     }
-    
+
     // ═══════════════════════════════════════════════════════════
     // HELPER METHODS
     // ═══════════════════════════════════════════════════════════
-    
-    private static List<AdminAction> readAllActions() {
-        List<AdminAction> actions = new ArrayList<>();
-        
-        File file = new File(FILE_PATH);
-        if (!file.exists()) {
-            return actions;
+
+    /**
+     * Carry unexecuted actions over from the old text file, then remove it
+     */
+    private static void importLegacyFile(AdminActionJournal journal) throws IOException {
+        Path legacy = Paths.get(LEGACY_PATH);
+        if (!Files.exists(legacy)) {
+            return;
         }
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+
+        int imported = 0;
+        try (BufferedReader reader = Files.newBufferedReader(legacy, StandardCharsets.UTF_8)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (line.trim().isEmpty()) continue;
-                
+
                 try {
-                    actions.add(AdminAction.deserialize(line));
+                    AdminAction action = AdminAction.deserialize(line);
+                    if (!action.isExecuted()) {
+                        journal.append(action);
+                        imported++;
+                    }
                 } catch (Exception e) {
-                    // Skip invalid lines
+                    LOG.warn("[ADMIN FILE] Failed to parse action: " + line);
                 }
             }
-        } catch (IOException e) {
-            System.err.println("[ADMIN FILE] Read error: " + e.getMessage());
         }
-        
-        return actions;
+        Files.delete(legacy);
+        LOG.info("[ADMIN FILE] Imported " + imported + " pending actions from " + LEGACY_PATH);
     }
-    
-    private static void writeAllActions(List<AdminAction> actions) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (AdminAction action : actions) {
-                writer.write(action.serialize());
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            System.err.println("[ADMIN FILE] Write error: " + e.getMessage());
-        }
-    }
-}
\ No newline at end of file
+}
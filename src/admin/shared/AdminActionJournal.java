@@ -0,0 +1,393 @@
+package admin.shared;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * AdminActionJournal - Append-only, memory-mapped log of admin actions
+ *
+ * Journal file (preallocated, zero-filled past the last record):
+ *   header   int magic, int version, long generation
+ *   record   int length, int crc32 of the payload, payload (AdminAction.serialize(), UTF-8)
+ * A zero length is the end; the length is written last, so a record
+ * is only visible once complete.
+ *
+ * Cursor file: long generation, long offset - everything before offset is
+ * executed. Forced to disk on every advance, so a restart neither repeats
+ * nor loses actions.
+ *
+ * Compaction copies the records after the cursor into a new journal of
+ * the next generation and renames it over the old one; a cursor of an
+ * older generation then means "from the start". Appending, reading and
+ * marking cost O(record), never O(file).
+ *
+ * One process writes and executes (the game server with its admin
+ * server); compaction would pull the file from under another one.
+ */
+class AdminActionJournal {
+
+    private static final Logger LOG = Log.get(AdminActionJournal.class);
+
+    private static final int MAGIC = 0x46414a31;   // "FAJ1"
+    private static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_HEADER_BYTES = 8;
+    private static final int CURSOR_BYTES = 16;
+
+    private final Path journalPath;
+    private final Path cursorPath;
+    private final int initialCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    private FileChannel journalChannel;
+    private MappedByteBuffer journal;
+    private MappedByteBuffer cursor;
+    private long generation;
+    private int writePosition;
+    // Record ends of the actions last handed out by readPending()
+    private final Map<String, Integer> pendingEnds = new HashMap<>();
+
+    AdminActionJournal(Path journalPath, Path cursorPath, int initialCapacity) throws IOException {
+        this.journalPath = journalPath;
+        this.cursorPath = cursorPath;
+        this.initialCapacity = Math.max(HEADER_BYTES + 1024, initialCapacity);
+        open();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // WRITE
+    // ═══════════════════════════════════════════════════════════
+
+    void append(AdminAction action) throws IOException {
+        byte[] payload = action.serialize().getBytes(StandardCharsets.UTF_8);
+        int size = RECORD_HEADER_BYTES + payload.length;
+
+        lock.lock();
+        try {
+            if (writePosition + size > journal.capacity()) {
+                compact();
+            }
+            if (writePosition + size > journal.capacity()) {
+                remap(generation, Math.max(journal.capacity() * 2, writePosition + size));
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            journal.position(writePosition + RECORD_HEADER_BYTES);
+            journal.put(payload);
+            journal.putInt(writePosition + 4, (int) crc.getValue());
+            journal.putInt(writePosition, payload.length);
+            journal.force();
+            writePosition += size;
+
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // READ / EXECUTE
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Actions after the executed cursor, oldest first
+     */
+    List<AdminAction> readPending() {
+        List<AdminAction> actions = new ArrayList<>();
+        lock.lock();
+        try {
+            pendingEnds.clear();
+            int position = executedOffset();
+            int end;
+            while ((end = recordEnd(position)) > 0) {
+                String data = payload(position);
+                try {
+                    AdminAction action = AdminAction.deserialize(data);
+                    actions.add(action);
+                    pendingEnds.put(action.getActionId(), end);
+                } catch (RuntimeException e) {
+                    if (position != executedOffset()) {
+                        break;   // Stepped over once everything before it is executed
+                    }
+                    // Unreadable record: nothing else can be done with it
+                    LOG.warn("[ADMIN FILE] Failed to parse action: " + data);
+                    setExecutedOffset(end);
+                }
+                position = end;
+            }
+            // Records from another process we haven't appended ourselves
+            writePosition = Math.max(writePosition, position);
+        } finally {
+            lock.unlock();
+        }
+        return actions;
+    }
+
+    /**
+     * Move the executed cursor past an action from readPending()
+     */
+    void markExecuted(String actionId) {
+        lock.lock();
+        try {
+            Integer end = pendingEnds.remove(actionId);
+            if (end != null && end > executedOffset()) {
+                setExecutedOffset(end);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until an action is pending or the timeout passes
+     * (appends from this process wake the waiter right away)
+     */
+    boolean awaitPending(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (recordEnd(executedOffset()) < 0) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getPendingCount() {
+        lock.lock();
+        try {
+            int count = 0;
+            int position = executedOffset();
+            int end;
+            while ((end = recordEnd(position)) > 0) {
+                count++;
+                position = end;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bytes of executed records compaction would free
+     */
+    int getExecutedBytes() {
+        lock.lock();
+        try {
+            return executedOffset() - HEADER_BYTES;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getCapacity() {
+        lock.lock();
+        try {
+            return journal.capacity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // COMPACTION
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Drop executed records: the pending ones move into a new journal of
+     * the next generation. Cost is the pending records, not the history.
+     */
+    void compact() throws IOException {
+        lock.lock();
+        try {
+            int from = executedOffset();
+            if (from == HEADER_BYTES) {
+                return;
+            }
+            int live = writePosition - from;
+            int capacity = Math.max(initialCapacity, journal.capacity());
+            if (HEADER_BYTES + live > capacity) {
+                capacity = HEADER_BYTES + live * 2;
+            }
+
+            Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putInt(VERSION).putLong(generation + 1).flip();
+                channel.write(header, 0);
+                ByteBuffer records = journal.duplicate();
+                records.limit(writePosition).position(from);
+                channel.write(records, HEADER_BYTES);
+                // Zero tail: a sparse extension reads as "no more records"
+                channel.write(ByteBuffer.allocate(1), capacity - 1);
+                channel.force(true);
+            }
+            Files.move(temp, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            remap(generation + 1, capacity);
+            writePosition = HEADER_BYTES + live;
+            pendingEnds.clear();
+            setExecutedOffset(HEADER_BYTES);
+            LOG.info("[ADMIN FILE] Compacted journal: " + (from - HEADER_BYTES) + " bytes dropped, " +
+                     live + " pending");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Mark everything executed and compact
+     */
+    void clear() throws IOException {
+        lock.lock();
+        try {
+            readPending();
+            setExecutedOffset(writePosition);
+            compact();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            journalChannel.close();
+        } catch (IOException e) {
+            LOG.warn("[ADMIN FILE] Closing journal failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // FILES
+    // ═══════════════════════════════════════════════════════════
+
+    private void open() throws IOException {
+        Path dir = journalPath.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+
+        boolean fresh = !Files.exists(journalPath) || Files.size(journalPath) < HEADER_BYTES;
+        if (!fresh) {
+            long size = Files.size(journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                channel.read(header, 0);
+                header.flip();
+                if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    Path broken = journalPath.resolveSibling(journalPath.getFileName() + ".corrupt");
+                    Files.move(journalPath, broken, StandardCopyOption.REPLACE_EXISTING);
+                    LOG.warn("[ADMIN FILE] Unknown journal format, moved to " + broken);
+                    fresh = true;
+                } else {
+                    remap(header.getLong(), (int) Math.max(size, initialCapacity));
+                }
+            }
+        }
+        if (fresh) {
+            remap(1, initialCapacity);
+            journal.putInt(0, MAGIC);
+            journal.putInt(4, VERSION);
+            journal.putLong(8, 1);
+            journal.force();
+        }
+
+        try (FileChannel channel = FileChannel.open(cursorPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            cursor = channel.map(FileChannel.MapMode.READ_WRITE, 0, CURSOR_BYTES);
+        }
+        if (cursor.getLong(0) != generation || cursor.getLong(8) < HEADER_BYTES
+                || cursor.getLong(8) > journal.capacity()) {
+            // New, or written before the last compaction finished: start of this journal
+            setExecutedOffset(HEADER_BYTES);
+        }
+
+        // Tail: scan only the pending records
+        writePosition = executedOffset();
+        int end;
+        while ((end = recordEnd(writePosition)) > 0) {
+            writePosition = end;
+        }
+    }
+
+    /**
+     * Map the journal file at the given size (the mapping outlives the channel)
+     */
+    private void remap(long newGeneration, int capacity) throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+        }
+        journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal = journalChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        generation = newGeneration;
+    }
+
+    private int executedOffset() {
+        return (int) cursor.getLong(8);
+    }
+
+    private void setExecutedOffset(int offset) {
+        cursor.putLong(0, generation);
+        cursor.putLong(8, offset);
+        cursor.force();
+    }
+
+    /**
+     * End of the complete record at position, or -1 if there is none (yet)
+     */
+    private int recordEnd(int position) {
+        if (position + RECORD_HEADER_BYTES > journal.capacity()) {
+            return -1;
+        }
+        int length = journal.getInt(position);
+        int end = position + RECORD_HEADER_BYTES + length;
+        if (length <= 0 || end > journal.capacity()) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = journal.duplicate();
+        payload.limit(end).position(position + RECORD_HEADER_BYTES);
+        crc.update(payload);
+        return (int) crc.getValue() == journal.getInt(position + 4) ? end : -1;
+    }
+
+    private String payload(int position) {
+        byte[] bytes = new byte[journal.getInt(position)];
+        ByteBuffer payload = journal.duplicate();
+        payload.position(position + RECORD_HEADER_BYTES);
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,15 @@
+package admin.shared;
+
+/**
+ * AdminActionPublisher - The sending end of admin actions
+ *
+ * Every AdminActionBus is one; SocketActionClient is one for admin tools
+ * in another process, which publish but never consume.
+ */
+public interface AdminActionPublisher {
+
+    /**
+     * Queue an action; never waits for it to be executed
+     */
+    void publish(AdminAction action);
+}
@@ -1,64 +1,58 @@
 package admin.shared;
 
+import logging.Log;
+import logging.Logger;
 import network.ClientInfo;
 import network.GameServerGroup;
+import network.protocol.PlayerJoinedMessage;
+import network.protocol.PlayerLeftMessage;
 import main.GameConstants;
 
-
-import java.util.List;
-
 /**
- * Watches the admin_actions.dat file for pending commands
+ * Executes the admin actions published on the AdminActionBus
  * Runs as a background thread in the Game Server
+ *
+ * The single consumer of the bus: it wakes as soon as an action is
+ * published, whatever the transport.
  */
 public class AdminActionWatcher extends Thread {
+
+    private static final Logger LOG = Log.get(AdminActionWatcher.class);
     
-    private static final long POLL_INTERVAL_MS = 1000;  // Check every second
-    private static final long CLEANUP_INTERVAL_MS = 60000;  // Cleanup every minute
-    private static final long MAX_ACTION_AGE_MS = 300000;   // Remove executed actions after 5 minutes
+    // Longest wait per poll: the journal checks for other processes' writes this often
+    private static final long POLL_TIMEOUT_MS = 100;
     
     private final GameServerGroup clientGroup;
+    private final AdminActionBus bus;
     private volatile boolean running = true;
-    private long lastCleanup = System.currentTimeMillis();
     
     public AdminActionWatcher(GameServerGroup clientGroup) {
         this.clientGroup = clientGroup;
+        this.bus = clientGroup.getAdminBus();
         this.setName("AdminActionWatcher");
         this.setDaemon(true);
     }
     
     @Override
     public void run() {
-        System.out.println("[ACTION WATCHER] Started watching admin_actions.dat");
+        LOG.info("[ACTION WATCHER] Started consuming the admin action bus");
         
         while (running) {
             try {
-                // Check for pending actions
-                List<AdminAction> pendingActions = AdminActionFile.readPendingActions();
-                
-                for (AdminAction action : pendingActions) {
+                AdminAction action = bus.poll(POLL_TIMEOUT_MS);
+                if (action != null) {
                     executeAction(action);
                 }
                 
-                // Periodic cleanup
-                if (System.currentTimeMillis() - lastCleanup > CLEANUP_INTERVAL_MS) {
-                    AdminActionFile.cleanupOldActions(MAX_ACTION_AGE_MS);
-                    lastCleanup = System.currentTimeMillis();
-                }
-                
-                // Wait before next poll
-                Thread.sleep(POLL_INTERVAL_MS);
-                
             } catch (InterruptedException e) {
-                System.out.println("[ACTION WATCHER] Interrupted, stopping...");
+                LOG.info("[ACTION WATCHER] Interrupted, stopping...");
                 running = false;
             } catch (Exception e) {
-                System.err.println("[ACTION WATCHER] Error: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("[ACTION WATCHER] Error: " + e.getMessage(), e);
             }
         }
         
-        System.out.println("[ACTION WATCHER] Stopped");
+        LOG.info("[ACTION WATCHER] Stopped");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -66,7 +60,7 @@ public class AdminActionWatcher extends Thread {
     // ═══════════════════════════════════════════════════════════
     
     private void executeAction(AdminAction action) {
-        System.out.println("[ACTION WATCHER] Executing: " + action);
+        LOG.info("[ACTION WATCHER] Executing: " + action);
         
         switch (action.getType()) {
             case KICK:
@@ -78,7 +72,7 @@ public class AdminActionWatcher extends Thread {
         }
         
         // Mark as executed
-        AdminActionFile.markActionExecuted(action.getActionId());
+        bus.acknowledge(action);
     }
     
     private void executeKick(AdminAction action) {
@@ -88,7 +82,7 @@ public class AdminActionWatcher extends Thread {
         ClientInfo target = clientGroup.getClientByName(username);
         
         if (target == null) {
-            System.out.println("[ACTION WATCHER] KICK failed - player not found: " + username);
+            LOG.info("[ACTION WATCHER] KICK failed - player not found: " + username);
             return;
         }
         
@@ -97,16 +91,24 @@ public class AdminActionWatcher extends Thread {
         // Send kick message to player (client will move to lobby)
         target.sendMessage("KICKED " + reason);
         
+        // Cluster: another node owns the lobby - the client's changeRoom gets a
+        // redirect, and leaving this node tells the old room
+        if (clientGroup.remoteOwnerOf(GameConstants.LOBBY_ROOM_ID) != null) {
+            LOG.info("[ACTION WATCHER] KICKED player: " + username +
+                  " (Reason: " + reason + ") - Sent to the lobby's node");
+            return;
+        }
+        
         // Notify old room that player left
         clientGroup.broadcastToRoom(
             oldRoom,
             target.address,
             target.port,
-            "playerLeft " + username
+            new PlayerLeftMessage(target.playerId, username)
         );
         
         // ✨ UPDATE: Change player's room to lobby on server side (don't remove them)
-        target.currentRoomId = GameConstants.LOBBY_ROOM_ID;
+        clientGroup.changeRoom(target, GameConstants.LOBBY_ROOM_ID);
         
         // Reset position
         target.mapX = 4;
@@ -117,12 +119,12 @@ public class AdminActionWatcher extends Thread {
             GameConstants.LOBBY_ROOM_ID,
             target.address,
             target.port,
-            "playerJoined " + username + " " + target.gender + " " + 
-            target.mapX + " " + target.mapY + " " + target.direction
+            new PlayerJoinedMessage(target.playerId, username, target.gender,
+                                    target.mapX, target.mapY, target.direction)
         );
         
-        System.out.println("[ACTION WATCHER] KICKED player: " + username + 
-                        " (Reason: " + reason + ") - Moved to lobby");
+        LOG.info("[ACTION WATCHER] KICKED player: " + username + 
+              " (Reason: " + reason + ") - Moved to lobby");
     }
     
     private void executeMovePlayer(AdminAction action) {
@@ -132,22 +134,31 @@ public class AdminActionWatcher extends Thread {
         ClientInfo target = clientGroup.getClientByName(username);
         
         if (target == null) {
-            System.out.println("[ACTION WATCHER] MOVE failed - player not found: " + username);
+            LOG.info("[ACTION WATCHER] MOVE failed - player not found: " + username);
             return;
         }
         
         String oldRoom = target.currentRoomId;
         
+        // Cluster: the room is on another node - the client's own changeRoom is
+        // answered with a redirect, and leaving this node tells the old room
+        if (clientGroup.remoteOwnerOf(targetRoomId) != null) {
+            target.sendMessage("forceRoomChange " + targetRoomId);
+            LOG.info("[ACTION WATCHER] MOVED player: " + username + " (" + oldRoom + " → " +
+                  targetRoomId + ", another node)");
+            return;
+        }
+        
         // Notify old room that player left
         clientGroup.broadcastToRoom(
             oldRoom,
             target.address,
             target.port,
-            "playerLeft " + username
+            new PlayerLeftMessage(target.playerId, username)
         );
         
         // Update player's room
-        target.currentRoomId = targetRoomId;
+        clientGroup.changeRoom(target, targetRoomId);
         
         // Tell player to change rooms
         target.sendMessage("forceRoomChange " + targetRoomId);
@@ -157,11 +168,11 @@ public class AdminActionWatcher extends Thread {
             targetRoomId,
             target.address,
             target.port,
-            "playerJoined " + username + " " + target.gender + " " + 
-            target.mapX + " " + target.mapY + " " + target.direction
+            new PlayerJoinedMessage(target.playerId, username, target.gender,
+                                    target.mapX, target.mapY, target.direction)
         );
         
-        System.out.println("[ACTION WATCHER] MOVED player: " + username + " (" + oldRoom + " → " + targetRoomId + ")");
+        LOG.info("[ACTION WATCHER] MOVED player: " + username + " (" + oldRoom + " → " + targetRoomId + ")");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -0,0 +1,74 @@
+package admin.shared;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import network.ServerMetrics;
+
+/**
+ * InProcessActionBus - Lock-free admin action queue within one JVM
+ *
+ * Publishers add to a ConcurrentLinkedQueue and unpark the consumer if it
+ * is waiting; nobody takes a lock or touches a file, so an action is
+ * polled microseconds after it was published.
+ */
+public class InProcessActionBus implements AdminActionBus {
+
+    private static final class Envelope {
+        final AdminAction action;
+        final long publishedNanos;
+
+        Envelope(AdminAction action) {
+            this.action = action;
+            this.publishedNanos = System.nanoTime();
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Envelope> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private volatile Thread consumer;
+
+    @Override
+    public void publish(AdminAction action) {
+        queue.add(new Envelope(action));
+        backlog.incrementAndGet();
+        ServerMetrics.ADMIN_BUS_PUBLISHED.increment();
+
+        Thread waiting = consumer;
+        if (waiting != null) {
+            LockSupport.unpark(waiting);
+        }
+    }
+
+    @Override
+    public AdminAction poll(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        consumer = Thread.currentThread();
+        try {
+            Envelope next;
+            while ((next = queue.poll()) == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                // A publish between poll() and here unparks us in advance
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            backlog.decrementAndGet();
+            ServerMetrics.ADMIN_BUS_LATENCY.record(System.nanoTime() - next.publishedNanos);
+            return next.action;
+        } finally {
+            consumer = null;
+        }
+    }
+
+    @Override
+    public int getBacklog() {
+        return backlog.get();
+    }
+}
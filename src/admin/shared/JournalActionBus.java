@@ -0,0 +1,61 @@
+package admin.shared;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import network.ServerMetrics;
+
+/**
+ * JournalActionBus - AdminActionBus over the memory-mapped AdminActionFile
+ * journal
+ *
+ * Slower than memory (one forced write per action) but pending actions
+ * survive a restart: they stay in the journal until acknowledged.
+ * Executed records are compacted away in idle moments.
+ */
+public class JournalActionBus implements AdminActionBus {
+
+    private static final long COMPACT_INTERVAL_MS = 60000;  // Compact at most every minute...
+    private static final int COMPACT_MIN_BYTES = 64 * 1024; // ...once executed actions take this much
+
+    // Read from the journal, not yet handed out (consumer thread only)
+    private final Deque<AdminAction> batch = new ArrayDeque<>();
+    private long lastCompaction = System.currentTimeMillis();
+
+    @Override
+    public void publish(AdminAction action) {
+        AdminActionFile.addAction(action);
+        ServerMetrics.ADMIN_BUS_PUBLISHED.increment();
+    }
+
+    @Override
+    public AdminAction poll(long timeoutMillis) throws InterruptedException {
+        if (batch.isEmpty()) {
+            if (System.currentTimeMillis() - lastCompaction > COMPACT_INTERVAL_MS) {
+                AdminActionFile.compact(COMPACT_MIN_BYTES);
+                lastCompaction = System.currentTimeMillis();
+            }
+            if (AdminActionFile.awaitPendingActions(timeoutMillis)) {
+                batch.addAll(AdminActionFile.readPendingActions());
+            }
+        }
+        AdminAction next = batch.poll();
+        if (next != null) {
+            // Millisecond timestamps: the journal may hold actions from before a restart
+            long ageMillis = Math.max(0, System.currentTimeMillis() - next.getTimestamp());
+            ServerMetrics.ADMIN_BUS_LATENCY.record(TimeUnit.MILLISECONDS.toNanos(ageMillis));
+        }
+        return next;
+    }
+
+    @Override
+    public void acknowledge(AdminAction action) {
+        AdminActionFile.markActionExecuted(action.getActionId());
+    }
+
+    @Override
+    public int getBacklog() {
+        return AdminActionFile.getPendingCount();
+    }
+}
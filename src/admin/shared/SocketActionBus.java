@@ -0,0 +1,133 @@
+package admin.shared;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import logging.Log;
+import logging.Logger;
+import network.ServerExecutors;
+
+/**
+ * SocketActionBus - In-process bus that also takes actions from other
+ * processes over a local (Unix domain) socket
+ *
+ * Protocol, one line each way per action:
+ *   → AdminAction.serialize()
+ *   ← OK <actionId> | ERROR <reason>
+ * Published with SocketActionClient. An action id seen again is answered
+ * OK without queueing the action twice. Access is the socket file's
+ * permissions - it never listens on the network.
+ */
+public class SocketActionBus extends InProcessActionBus {
+
+    private static final Logger LOG = Log.get(SocketActionBus.class);
+
+    static final String OK = "OK";
+    static final String ERROR = "ERROR";
+
+    private static final int RECENT_IDS = 1024;
+
+    private final Path socketPath;
+    private final ServerSocketChannel server;
+    private final ExecutorService handlers = ServerExecutors.newPerTaskExecutor("AdminBusHandler");
+    private volatile boolean running = true;
+
+    // Ids of the last RECENT_IDS accepted actions
+    private final Set<String> recentIds = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_IDS;
+        }
+    });
+
+    public SocketActionBus(String socketPath) throws IOException {
+        this.socketPath = Paths.get(socketPath);
+        Path dir = this.socketPath.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        // Left behind by a server that didn't shut down cleanly
+        Files.deleteIfExists(this.socketPath);
+
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(this.socketPath));
+
+        Thread acceptor = new Thread(this::acceptLoop, "AdminBusAcceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("[ADMIN BUS] Accepting actions on " + this.socketPath);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                SocketChannel channel = server.accept();
+                handlers.execute(() -> handle(channel));
+            } catch (IOException e) {
+                if (running) {
+                    LOG.warn("[ADMIN BUS] Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(SocketChannel channel) {
+        try (SocketChannel c = channel) {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(c), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(c), StandardCharsets.UTF_8), true);
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                try {
+                    AdminAction action = AdminAction.deserialize(line);
+                    if (firstSeen(action.getActionId())) {
+                        publish(action);
+                    }
+                    out.println(OK + " " + action.getActionId());
+                } catch (RuntimeException e) {
+                    out.println(ERROR + " " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("[ADMIN BUS] Connection failed: " + e.getMessage());
+        }
+    }
+
+    private boolean firstSeen(String actionId) {
+        synchronized (recentIds) {
+            return recentIds.add(actionId);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            server.close();
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            LOG.warn("[ADMIN BUS] Closing socket failed: " + e.getMessage());
+        }
+        handlers.shutdown();
+    }
+}
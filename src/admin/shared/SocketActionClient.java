@@ -0,0 +1,125 @@
+package admin.shared;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import network.ServerConfig;
+
+/**
+ * SocketActionClient - Publishes admin actions to a game server's
+ * SocketActionBus from another process on the same machine
+ *
+ * One short connection per action: connect, send the action line, read
+ * "OK <actionId>". Only connecting is retried - once the line is written
+ * the action may be queued, so a failure after that is reported and never
+ * sent again.
+ *
+ * Command line:
+ *   java admin.shared.SocketActionClient [--socket path] KICK <username> [reason...]
+ *   java admin.shared.SocketActionClient [--socket path] MOVE <username> <roomId>
+ */
+public class SocketActionClient implements AdminActionPublisher {
+
+    private static final int CONNECT_ATTEMPTS = 3;
+    private static final long CONNECT_RETRY_MS = 50;
+
+    private final String socketPath;
+
+    public SocketActionClient(String socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Returns once the game server has queued the action
+     * @throws UncheckedIOException if the server can't be reached, or the
+     *         reply was lost (the action may still have been queued)
+     */
+    @Override
+    public void publish(AdminAction action) {
+        try (SocketChannel channel = connect()) {
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+
+            out.println(action.serialize());
+            String reply = out.checkError() ? null : in.readLine();
+            if (reply == null) {
+                throw new UncheckedIOException(new IOException(
+                        "Admin bus at " + socketPath + ": no reply - action " + action.getActionId() +
+                        " may or may not have been queued"));
+            }
+            if (!reply.equals(SocketActionBus.OK + " " + action.getActionId())) {
+                throw new IllegalStateException("Admin bus rejected " + action + ": " + reply);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Admin bus at " + socketPath + ": " + e.getMessage(), e);
+        }
+    }
+
+    private SocketChannel connect() throws IOException {
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(Paths.get(socketPath));
+        for (int attempt = 1; ; attempt++) {
+            SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.connect(address);
+                return channel;
+            } catch (IOException e) {
+                channel.close();
+                if (attempt >= CONNECT_ATTEMPTS) {
+                    throw new IOException("unavailable (" + e.getMessage() + ")", e);
+                }
+            }
+            try {
+                Thread.sleep(CONNECT_RETRY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while connecting");
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        String socketPath = ServerConfig.ADMIN_BUS_SOCKET;
+        int next = 0;
+        if (args.length > 1 && args[0].equals("--socket")) {
+            socketPath = args[1];
+            next = 2;
+        }
+        String[] command = Arrays.copyOfRange(args, next, args.length);
+
+        AdminAction action;
+        if (command.length >= 2 && command[0].equalsIgnoreCase("KICK")) {
+            String reason = command.length > 2
+                    ? String.join(" ", Arrays.copyOfRange(command, 2, command.length))
+                    : "Kicked by admin";
+            action = AdminAction.createKick(command[1], reason);
+        } else if (command.length == 3 && command[0].equalsIgnoreCase("MOVE")) {
+            action = AdminAction.createMove(command[1], command[2]);
+        } else {
+            System.err.println("Usage: SocketActionClient [--socket path] KICK <username> [reason...]");
+            System.err.println("       SocketActionClient [--socket path] MOVE <username> <roomId>");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            new SocketActionClient(socketPath).publish(action);
+            System.out.println("OK " + action.getActionId());
+        } catch (RuntimeException e) {
+            System.err.println("ERROR " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package admin.ui;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminNetworkClient;
 import javax.swing.*;
 import java.awt.*;
@@ -8,6 +10,8 @@ import java.awt.*;
  * Main dashboard with tabs for different admin functions
  */
 public class DashboardPanel extends JPanel {
+
+    private static final Logger LOG = Log.get(DashboardPanel.class);
     
     private AdminFrame parentFrame;
     private AdminNetworkClient client;
@@ -17,6 +21,7 @@ public class DashboardPanel extends JPanel {
     private RoomsPanel roomsPanel;
     private BroadcastPanel broadcastPanel;
     private ConsolePanel consolePanel;
+    private LoadPanel loadPanel;
     
     public DashboardPanel(AdminFrame parentFrame, AdminNetworkClient client) {
         this.parentFrame = parentFrame;
@@ -31,9 +36,11 @@ public class DashboardPanel extends JPanel {
         roomsPanel.setClient(client);
         broadcastPanel.setClient(client);
         consolePanel.setClient(client);
+        loadPanel.setClient(client);
         
-        // Set message handler
+        // Set message handlers
         client.setMessageHandler(this::handleServerMessage);
+        client.setWatchHandler(playersPanel.getModel()::offer);
     }
     
     private void initializeUI() {
@@ -48,11 +55,14 @@ public class DashboardPanel extends JPanel {
         
         playersPanel = new PlayersPanel(client);
         roomsPanel = new RoomsPanel(client);
+        playersPanel.getModel().setRoomCountListener(roomsPanel::updateRoomCounts);
         broadcastPanel = new BroadcastPanel(client);
         consolePanel = new ConsolePanel(client);
+        loadPanel = new LoadPanel(client);
         
         tabbedPane.addTab("👥 Players", playersPanel);
         tabbedPane.addTab("🏠 Rooms", roomsPanel);
+        tabbedPane.addTab("📈 Load", loadPanel);
         tabbedPane.addTab("📢 Broadcast", broadcastPanel);
         tabbedPane.addTab("💻 Console", consolePanel);
         
@@ -102,12 +112,18 @@ public class DashboardPanel extends JPanel {
     // ═══════════════════════════════════════════════════════════
     
     private void handleServerMessage(String message) {
+        // The Load tab's own fetches (every few seconds) are kept out of the console
+        if ((message.startsWith("HISTORY_") || message.startsWith("SERIES ")) && loadPanel.isFetching()) {
+            loadPanel.handleMessage(message);
+            return;
+        }
+        
         // Route messages to appropriate panels
         consolePanel.appendMessage(message);
         
-        if (message.startsWith("PLAYERS_") || message.startsWith("PLAYER ") || message.startsWith("COUNT ")) {
-            playersPanel.handleMessage(message);
-        } else if (message.startsWith("ROOMS_") || message.startsWith("ROOM ") || message.startsWith("ROOM_INFO")) {
+        // Player and room lists arrive on the WATCH feed (LivePlayerTableModel)
+        if (message.startsWith("ROOM_INFO") || message.startsWith("ROOM_ID ") || message.startsWith("STATUS ")
+                || message.startsWith("PLAYER_COUNT ") || message.startsWith("PLAYER_DETAIL ")) {
             roomsPanel.handleMessage(message);
         } else if (message.startsWith("SUCCESS") || message.startsWith("ERROR")) {
             // Show notification
@@ -120,7 +136,7 @@ public class DashboardPanel extends JPanel {
         Color bgColor = isError ? new Color(255, 200, 200) : new Color(200, 255, 200);
         
         // Could implement a proper toast notification here
-        System.out.println("[NOTIFICATION] " + message);
+        LOG.info("[NOTIFICATION] " + message);
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -131,20 +147,14 @@ public class DashboardPanel extends JPanel {
         // Called when dashboard becomes visible
         if (client != null && client.isAuthenticated()) {
             client.setMessageHandler(this::handleServerMessage);
-            refreshCurrentTab();
+            client.setWatchHandler(playersPanel.getModel()::offer);
+            // One subscription keeps both the Players and Rooms tabs current
+            client.watch();
         }
     }
     
     private void refreshCurrentTab() {
-        int selectedIndex = tabbedPane.getSelectedIndex();
-        
-        switch (selectedIndex) {
-            case 0:
-                playersPanel.refresh();
-                break;
-            case 1:
-                roomsPanel.refresh();
-                break;
-        }
+        // Resync both tabs from a fresh WATCH snapshot
+        playersPanel.refresh();
     }
 }
\ No newline at end of file
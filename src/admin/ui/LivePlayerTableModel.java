@@ -0,0 +1,321 @@
+package admin.ui;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * LivePlayerTableModel - Players table kept current by the WATCH feed
+ *
+ * The network listener thread parses feed lines and folds them into one
+ * pending change per player (offer); the EDT then applies the batch in
+ * place - a join appends a row, a move or room change updates one row,
+ * leaves are compacted out in a single pass. A 20k-player table is built
+ * once from the snapshot and never rebuilt after that.
+ *
+ * Room occupancy is counted from the same changes, for RoomsPanel.
+ */
+public class LivePlayerTableModel extends AbstractTableModel {
+
+    private static final String[] COLUMNS = {"Username", "Room", "Position", "Actions"};
+
+    private static class Row {
+        final String name;
+        String roomId;
+        int mapX;
+        int mapY;
+
+        Row(String name) {
+            this.name = name;
+        }
+    }
+
+    // One pending change per player; roomId null on a move = room unchanged
+    private static class Change {
+        String roomId;
+        int mapX;
+        int mapY;
+        boolean left;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // Listener thread → EDT
+    // ═══════════════════════════════════════════════════════════
+
+    private final Object pendingLock = new Object();
+    private Map<String, Change> pending = new LinkedHashMap<>();
+    private boolean pendingReset = false;
+    private String pendingStop = null;
+    private final AtomicBoolean applyScheduled = new AtomicBoolean(false);
+    private boolean inSnapshot = false;   // listener thread only
+
+    // ═══════════════════════════════════════════════════════════
+    // EDT only
+    // ═══════════════════════════════════════════════════════════
+
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<String, Integer> rowIndex = new HashMap<>();
+    private final Map<String, Integer> roomCounts = new HashMap<>();
+    private boolean live = false;
+
+    private Consumer<Map<String, Integer>> roomCountListener;
+    private Consumer<String> stopListener;
+
+    /**
+     * Called after each batch with the rooms whose player count changed
+     * (a count of 0 means the room emptied)
+     */
+    public void setRoomCountListener(Consumer<Map<String, Integer>> listener) {
+        this.roomCountListener = listener;
+    }
+
+    /**
+     * Called when the server ends the subscription (reason from WATCH_STOPPED)
+     */
+    public void setStopListener(Consumer<String> listener) {
+        this.stopListener = listener;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // FEED (listener thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Take one WATCH_ line (AdminNetworkClient.setWatchHandler)
+     */
+    public void offer(String line) {
+        String[] parts = line.split(" ");
+        synchronized (pendingLock) {
+            try {
+                switch (parts[0]) {
+                    case "WATCH_START":
+                        pending.clear();
+                        pendingReset = true;
+                        pendingStop = null;
+                        inSnapshot = true;
+                        return;
+                    case "WATCH_LIVE":
+                        inSnapshot = false;
+                        break;
+                    case "WATCH_JOIN":
+                    case "WATCH_ROOM":
+                        // <name> <room> <x> <y>
+                        if (parts.length >= 5) {
+                            Change change = new Change();
+                            change.roomId = parts[2];
+                            change.mapX = Integer.parseInt(parts[3]);
+                            change.mapY = Integer.parseInt(parts[4]);
+                            pending.put(parts[1], change);
+                        }
+                        break;
+                    case "WATCH_MOVE":
+                        // <name> <x> <y>
+                        if (parts.length >= 4) {
+                            Change change = pending.get(parts[1]);
+                            if (change == null) {
+                                change = new Change();
+                                pending.put(parts[1], change);
+                            }
+                            change.mapX = Integer.parseInt(parts[2]);
+                            change.mapY = Integer.parseInt(parts[3]);
+                        }
+                        break;
+                    case "WATCH_LEAVE":
+                        if (parts.length >= 2) {
+                            Change change = new Change();
+                            change.left = true;
+                            pending.put(parts[1], change);
+                        }
+                        break;
+                    case "WATCH_STOPPED":
+                        pendingStop = parts.length > 1 ? parts[1] : "stopped";
+                        break;
+                    default:
+                        return;
+                }
+            } catch (NumberFormatException e) {
+                return;
+            }
+        }
+
+        // Half a snapshot is never shown
+        if (!inSnapshot && applyScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::applyPending);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // APPLY (EDT)
+    // ═══════════════════════════════════════════════════════════
+
+    private void applyPending() {
+        Map<String, Change> batch;
+        boolean reset;
+        String stop;
+        synchronized (pendingLock) {
+            applyScheduled.set(false);
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            reset = pendingReset;
+            pendingReset = false;
+            stop = pendingStop;
+            pendingStop = null;
+        }
+
+        Map<String, Integer> changedRooms = new HashMap<>();
+        if (reset) {
+            // Rooms the snapshot fills again are overwritten below
+            for (String roomId : roomCounts.keySet()) {
+                changedRooms.put(roomId, 0);
+            }
+            rows.clear();
+            rowIndex.clear();
+            roomCounts.clear();
+            live = true;
+        }
+
+        List<Integer> removed = new ArrayList<>();
+        int firstInserted = rows.size();
+
+        for (Map.Entry<String, Change> entry : batch.entrySet()) {
+            String name = entry.getKey();
+            Change change = entry.getValue();
+            Integer index = rowIndex.get(name);
+
+            if (change.left) {
+                if (index != null) {
+                    Row row = rows.get(index);
+                    countRoom(row.roomId, -1, changedRooms);
+                    row.roomId = null;   // Marks the row for compaction
+                    rowIndex.remove(name);
+                    removed.add(index);
+                }
+            } else if (index != null) {
+                Row row = rows.get(index);
+                if (change.roomId != null && !change.roomId.equals(row.roomId)) {
+                    countRoom(row.roomId, -1, changedRooms);
+                    countRoom(change.roomId, 1, changedRooms);
+                    row.roomId = change.roomId;
+                }
+                row.mapX = change.mapX;
+                row.mapY = change.mapY;
+                if (!reset) {
+                    fireTableRowsUpdated(index, index);
+                }
+            } else if (change.roomId != null) {
+                Row row = new Row(name);
+                row.roomId = change.roomId;
+                row.mapX = change.mapX;
+                row.mapY = change.mapY;
+                rowIndex.put(name, rows.size());
+                rows.add(row);
+                countRoom(row.roomId, 1, changedRooms);
+            }
+        }
+
+        int inserted = rows.size() - firstInserted;
+        if (!removed.isEmpty()) {
+            compact();
+        }
+
+        if (reset) {
+            fireTableDataChanged();
+        } else {
+            // Deletions highest first, so each index is still valid when its event fires
+            removed.sort((a, b) -> Integer.compare(b, a));
+            for (int index : removed) {
+                fireTableRowsDeleted(index, index);
+            }
+            if (inserted > 0) {
+                fireTableRowsInserted(rows.size() - inserted, rows.size() - 1);
+            }
+        }
+
+        if (roomCountListener != null && !changedRooms.isEmpty()) {
+            roomCountListener.accept(changedRooms);
+        }
+        if (stop != null) {
+            live = false;
+            if (stopListener != null) {
+                stopListener.accept(stop);
+            }
+        }
+    }
+
+    /**
+     * Drop the rows of players who left in one pass, re-indexing the rest
+     */
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < rows.size(); read++) {
+            Row row = rows.get(read);
+            if (row.roomId == null) {
+                continue;
+            }
+            if (write != read) {
+                rows.set(write, row);
+                rowIndex.put(row.name, write);
+            }
+            write++;
+        }
+        rows.subList(write, rows.size()).clear();
+    }
+
+    private void countRoom(String roomId, int delta, Map<String, Integer> changedRooms) {
+        int count = roomCounts.getOrDefault(roomId, 0) + delta;
+        if (count > 0) {
+            roomCounts.put(roomId, count);
+        } else {
+            roomCounts.remove(roomId);
+        }
+        changedRooms.put(roomId, Math.max(0, count));
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // TABLE MODEL
+    // ═══════════════════════════════════════════════════════════
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        Row row = rows.get(rowIndex);
+        switch (columnIndex) {
+            case 0: return row.name;
+            case 1: return row.roomId;
+            case 2: return "(" + row.mapX + ", " + row.mapY + ")";
+            default: return "Actions";
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column == 3;  // Only actions column
+    }
+
+    /**
+     * True between a snapshot and WATCH_STOPPED
+     */
+    public boolean isLive() {
+        return live;
+    }
+}
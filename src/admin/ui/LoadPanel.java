@@ -0,0 +1,205 @@
+package admin.ui;
+
+import admin.AdminNetworkClient;
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Panel with the server's load over time (HISTORY command): clients,
+ * occupied rooms, message rates and the busiest rooms as sparklines.
+ * Fetched every few seconds, only while the tab is on screen.
+ */
+public class LoadPanel extends JPanel {
+
+    private static final int REFRESH_MS = 5000;
+    private static final int ROOMS_SHOWN = 8;
+
+    // Points requested per resolution: 10 minutes of seconds, a day of minutes
+    private static final String[] RANGES = {"Last 10 minutes (1 s)", "Last 24 hours (1 min)"};
+    private static final String[] REQUESTS = {"HISTORY 1s 600", "HISTORY 1m 1440"};
+    private static final int[] CAPACITIES = {600, 1440};
+
+    private AdminNetworkClient client;
+
+    private JComboBox<String> rangeBox;
+    private JLabel updatedLabel;
+    private JPanel chartsPanel;
+    private final Timer refreshTimer;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+
+    // Parsing state
+    private int pendingRequests = 0;
+    private boolean parsingHistory = false;
+    private long endSecond;
+    private final Map<String, int[]> pendingSeries = new LinkedHashMap<>();
+
+    public LoadPanel(AdminNetworkClient client) {
+        this.client = client;
+        initializeUI();
+
+        refreshTimer = new Timer(REFRESH_MS, e -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+        refreshTimer.start();
+    }
+
+    public void setClient(AdminNetworkClient client) {
+        this.client = client;
+        pendingRequests = 0;
+    }
+
+    private void initializeUI() {
+        setLayout(new BorderLayout(10, 10));
+        setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+
+        // Top toolbar
+        JPanel toolbar = new JPanel(new BorderLayout());
+
+        rangeBox = new JComboBox<>(RANGES);
+        rangeBox.addActionListener(e -> refresh());
+        toolbar.add(rangeBox, BorderLayout.WEST);
+
+        updatedLabel = new JLabel(" ");
+        updatedLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        toolbar.add(updatedLabel, BorderLayout.EAST);
+
+        add(toolbar, BorderLayout.NORTH);
+
+        // One row per series: name, sparkline, latest / max
+        chartsPanel = new JPanel(new GridBagLayout());
+        JPanel holder = new JPanel(new BorderLayout());
+        holder.add(chartsPanel, BorderLayout.NORTH);
+        add(new JScrollPane(holder), BorderLayout.CENTER);
+
+        // Fetch as soon as the tab is opened
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & java.awt.event.HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing()) {
+                refresh();
+            }
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // MESSAGE HANDLING
+    // ═══════════════════════════════════════════════════════════
+
+    public void handleMessage(String message) {
+        if (message.startsWith("HISTORY_START ")) {
+            // Format: HISTORY_START <stepSeconds> <endSecond> <seriesCount>
+            String[] parts = message.split(" ");
+            parsingHistory = true;
+            endSecond = parts.length > 2 ? Long.parseLong(parts[2]) : 0;
+            pendingSeries.clear();
+        } else if (message.equals("HISTORY_END")) {
+            parsingHistory = false;
+            pendingRequests = Math.max(0, pendingRequests - 1);
+            updateCharts();
+        } else if (message.startsWith("SERIES ") && parsingHistory) {
+            // Format: SERIES <name> <v1,v2,...>
+            String[] parts = message.split(" ");
+            if (parts.length >= 2) {
+                pendingSeries.put(parts[1], parseValues(parts.length > 2 ? parts[2] : ""));
+            }
+        }
+    }
+
+    /**
+     * True while a HISTORY sent by this panel is unanswered
+     */
+    public boolean isFetching() {
+        return pendingRequests > 0;
+    }
+
+    private static int[] parseValues(String csv) {
+        if (csv.isEmpty()) {
+            return new int[0];
+        }
+        String[] items = csv.split(",");
+        int[] values = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = Integer.parseInt(items[i]);
+        }
+        return values;
+    }
+
+    private void updateCharts() {
+        chartsPanel.removeAll();
+        int capacity = CAPACITIES[rangeBox.getSelectedIndex()];
+
+        GridBagConstraints c = new GridBagConstraints();
+        c.insets = new Insets(4, 4, 4, 8);
+        c.gridy = 0;
+        int rooms = 0;
+        for (Map.Entry<String, int[]> entry : pendingSeries.entrySet()) {
+            String name = entry.getKey();
+            // Room series come busiest first
+            if (name.startsWith("room:") && rooms++ >= ROOMS_SHOWN) {
+                continue;
+            }
+            addRow(c, name, entry.getValue(), capacity);
+            c.gridy++;
+        }
+
+        chartsPanel.revalidate();
+        chartsPanel.repaint();
+        updatedLabel.setText(endSecond > 0 ? "Updated " + timeFormat.format(new Date(endSecond * 1000)) : "No samples yet");
+    }
+
+    private void addRow(GridBagConstraints c, String name, int[] values, int capacity) {
+        int latest = values.length > 0 ? values[values.length - 1] : 0;
+        int max = 0;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+
+        JLabel nameLabel = new JLabel(label(name));
+        nameLabel.setFont(new Font("Arial", Font.BOLD, 13));
+        c.gridx = 0;
+        c.weightx = 0;
+        c.fill = GridBagConstraints.NONE;
+        c.anchor = GridBagConstraints.WEST;
+        chartsPanel.add(nameLabel, c);
+
+        Sparkline sparkline = new Sparkline();
+        sparkline.setValues(values, capacity);
+        c.gridx = 1;
+        c.weightx = 1;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        chartsPanel.add(sparkline, c);
+
+        JLabel valueLabel = new JLabel(latest + "  (max " + max + ")");
+        valueLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        c.gridx = 2;
+        c.weightx = 0;
+        c.fill = GridBagConstraints.NONE;
+        chartsPanel.add(valueLabel, c);
+    }
+
+    private static String label(String series) {
+        switch (series) {
+            case "clients": return "Clients";
+            case "rooms": return "Occupied rooms";
+            case "messages_in": return "Messages in /s";
+            case "messages_out": return "Messages out /s";
+            default:
+                return series.startsWith("room:") ? "Room " + series.substring(5) : series;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ACTIONS
+    // ═══════════════════════════════════════════════════════════
+
+    public void refresh() {
+        if (client != null && client.isAuthenticated()) {
+            pendingRequests++;
+            client.sendCommand(REQUESTS[rangeBox.getSelectedIndex()]);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package admin.ui;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminNetworkClient;
 import javax.swing.*;
 import java.awt.*;
@@ -8,6 +10,8 @@ import java.awt.*;
  * Login/Authentication panel
  */
 public class LoginPanel extends JPanel {
+
+    private static final Logger LOG = Log.get(LoginPanel.class);
     
     private AdminFrame parentFrame;
     private AdminNetworkClient client;
@@ -195,7 +199,7 @@ public class LoginPanel extends JPanel {
             dashboard.setClient(newClient);
             
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Opening the dashboard failed", e);
         }
     }
     
@@ -4,24 +4,20 @@ import admin.AdminNetworkClient;
 import javax.swing.*;
 import javax.swing.table.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Panel for managing players
+ * The table follows the server's WATCH feed (LivePlayerTableModel), so
+ * kicks, moves and joins show up without re-listing every player.
  */
 public class PlayersPanel extends JPanel {
     
     private AdminNetworkClient client;
     
-    private DefaultTableModel tableModel;
+    private LivePlayerTableModel tableModel;
     private JTable playerTable;
     private JLabel countLabel;
     
-    // Parsing state
-    private boolean parsingPlayers = false;
-    private List<String[]> pendingPlayers = new ArrayList<>();
-    
     public PlayersPanel(AdminNetworkClient client) {
         this.client = client;
         initializeUI();
@@ -49,13 +45,9 @@ public class PlayersPanel extends JPanel {
         add(toolbar, BorderLayout.NORTH);
         
         // Table
-        String[] columns = {"Username", "Room", "Position", "Actions"};
-        tableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 3;  // Only actions column
-            }
-        };
+        tableModel = new LivePlayerTableModel();
+        tableModel.addTableModelListener(e -> updateCount());
+        tableModel.setStopListener(this::watchStopped);
         
         playerTable = new JTable(tableModel);
         playerTable.setRowHeight(35);
@@ -88,34 +80,19 @@ public class PlayersPanel extends JPanel {
     // MESSAGE HANDLING
     // ═══════════════════════════════════════════════════════════
     
-    public void handleMessage(String message) {
-        if (message.equals("PLAYERS_START")) {
-            parsingPlayers = true;
-            pendingPlayers.clear();
-        } else if (message.equals("PLAYERS_END")) {
-            parsingPlayers = false;
-            updateTable();
-        } else if (message.startsWith("COUNT ")) {
-            int count = Integer.parseInt(message.substring(6));
-            countLabel.setText("Players: " + count);
-        } else if (message.startsWith("PLAYER ") && parsingPlayers) {
-            // Format: PLAYER <name> <roomId> <x> <y>
-            String[] parts = message.substring(7).split(" ");
-            if (parts.length >= 4) {
-                pendingPlayers.add(parts);
-            }
-        }
+    public LivePlayerTableModel getModel() {
+        return tableModel;
     }
     
-    private void updateTable() {
-        tableModel.setRowCount(0);
-        
-        for (String[] player : pendingPlayers) {
-            String name = player[0];
-            String room = player[1];
-            String position = "(" + player[2] + ", " + player[3] + ")";
-            
-            tableModel.addRow(new Object[]{name, room, position, "Actions"});
+    private void updateCount() {
+        countLabel.setText("Players: " + tableModel.getRowCount() + (tableModel.isLive() ? "" : " (not live)"));
+    }
+    
+    private void watchStopped(String reason) {
+        updateCount();
+        if ("lagging".equals(reason)) {
+            // Fell behind the feed - start over from a fresh snapshot
+            refresh();
         }
     }
     
@@ -123,9 +100,12 @@ public class PlayersPanel extends JPanel {
     // ACTIONS
     // ═══════════════════════════════════════════════════════════
     
+    /**
+     * (Re)subscribe to the WATCH feed - the server answers with a snapshot
+     */
     public void refresh() {
         if (client != null && client.isAuthenticated()) {
-            client.listPlayers();
+            client.watch();
         }
     }
     
@@ -147,11 +127,6 @@ public class PlayersPanel extends JPanel {
         
         if (confirm == JOptionPane.YES_OPTION) {
             client.kickPlayer(username);
-            
-            // Refresh after short delay
-            Timer timer = new Timer(500, e -> refresh());
-            timer.setRepeats(false);
-            timer.start();
         }
     }
     
@@ -173,10 +148,6 @@ public class PlayersPanel extends JPanel {
         
         if (roomId != null && !roomId.trim().isEmpty()) {
             client.movePlayer(username, roomId.trim());
-            
-            Timer timer = new Timer(500, e -> refresh());
-            timer.setRepeats(false);
-            timer.start();
         }
     }
     
@@ -225,9 +196,6 @@ public class PlayersPanel extends JPanel {
                 );
                 if (confirm == JOptionPane.YES_OPTION) {
                     client.kickPlayer(username);
-                    Timer timer = new Timer(500, ev -> refresh());
-                    timer.setRepeats(false);
-                    timer.start();
                 }
                 fireEditingStopped();
             });
@@ -237,9 +205,6 @@ public class PlayersPanel extends JPanel {
                 String roomId = JOptionPane.showInputDialog("Move " + username + " to room:");
                 if (roomId != null && !roomId.isEmpty()) {
                     client.movePlayer(username, roomId);
-                    Timer timer = new Timer(500, ev -> refresh());
-                    timer.setRepeats(false);
-                    timer.start();
                 }
                 fireEditingStopped();
             });
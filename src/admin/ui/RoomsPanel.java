@@ -4,11 +4,13 @@ import admin.AdminNetworkClient;
 import javax.swing.*;
 import javax.swing.table.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Panel for managing rooms
+ * Player counts come from the WATCH feed (LivePlayerTableModel) and are
+ * updated row by row; room details are fetched with ROOM_INFO.
  */
 public class RoomsPanel extends JPanel {
     
@@ -21,11 +23,13 @@ public class RoomsPanel extends JPanel {
     // Room details panel
     private JTextArea detailsArea;
     
+    // Row of each listed room
+    private final Map<String, Integer> roomRows = new HashMap<>();
+    
     // Parsing state
-    private boolean parsingRooms = false;
     private boolean parsingRoomInfo = false;
-    private List<String[]> pendingRooms = new ArrayList<>();
     private StringBuilder roomInfoBuilder = new StringBuilder();
+    private String detailsRoomId;
     
     public RoomsPanel(AdminNetworkClient client) {
         this.client = client;
@@ -112,24 +116,6 @@ public class RoomsPanel extends JPanel {
     // ═══════════════════════════════════════════════════════════
     
     public void handleMessage(String message) {
-        // Room list parsing
-        if (message.equals("ROOMS_START")) {
-            parsingRooms = true;
-            pendingRooms.clear();
-        } else if (message.equals("ROOMS_END")) {
-            parsingRooms = false;
-            updateTable();
-        } else if (message.startsWith("COUNT ") && parsingRooms) {
-            int count = Integer.parseInt(message.substring(6));
-            countLabel.setText("Rooms: " + count);
-        } else if (message.startsWith("ROOM ") && parsingRooms && !message.startsWith("ROOM_")) {
-            // Format: ROOM <roomId> <playerCount>
-            String[] parts = message.substring(5).split(" ");
-            if (parts.length >= 2) {
-                pendingRooms.add(parts);
-            }
-        }
-        
         // Room info parsing
         if (message.equals("ROOM_INFO_START")) {
             parsingRoomInfo = true;
@@ -159,14 +145,40 @@ public class RoomsPanel extends JPanel {
         return line;
     }
     
-    private void updateTable() {
-        tableModel.setRowCount(0);
-        
-        for (String[] room : pendingRooms) {
-            String roomId = room[0];
-            String playerCount = room[1] + " players";
+    /**
+     * Apply changed room counts from LivePlayerTableModel in place (EDT);
+     * empty rooms are dropped
+     */
+    public void updateRoomCounts(Map<String, Integer> counts) {
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String roomId = entry.getKey();
+            int count = entry.getValue();
+            Integer row = roomRows.get(roomId);
             
-            tableModel.addRow(new Object[]{roomId, playerCount, "Actions"});
+            if (count <= 0) {
+                if (row != null) {
+                    removeRoomRow(row);
+                }
+            } else if (row != null) {
+                tableModel.setValueAt(count + " players", row, 1);
+            } else {
+                roomRows.put(roomId, tableModel.getRowCount());
+                tableModel.addRow(new Object[]{roomId, count + " players", "Actions"});
+            }
+        }
+        countLabel.setText("Rooms: " + tableModel.getRowCount());
+        
+        // The room being shown changed - fetch its details again
+        if (detailsRoomId != null && counts.containsKey(detailsRoomId)) {
+            loadRoomDetails(detailsRoomId);
+        }
+    }
+    
+    private void removeRoomRow(int row) {
+        roomRows.remove((String) tableModel.getValueAt(row, 0));
+        tableModel.removeRow(row);
+        for (int i = row; i < tableModel.getRowCount(); i++) {
+            roomRows.put((String) tableModel.getValueAt(i, 0), i);
         }
     }
     
@@ -174,13 +186,17 @@ public class RoomsPanel extends JPanel {
     // ACTIONS
     // ═══════════════════════════════════════════════════════════
     
+    /**
+     * Resubscribe to the WATCH feed - counts are rebuilt from its snapshot
+     */
     public void refresh() {
         if (client != null && client.isAuthenticated()) {
-            client.listRooms();
+            client.watch();
         }
     }
     
     private void loadRoomDetails(String roomId) {
+        detailsRoomId = roomId;
         if (client != null && client.isAuthenticated()) {
             detailsArea.setText("Loading...");
             client.getRoomInfo(roomId);
@@ -197,13 +213,6 @@ public class RoomsPanel extends JPanel {
         
         if (confirm == JOptionPane.YES_OPTION) {
             client.clearRoom(roomId);
-            
-            Timer timer = new Timer(500, e -> {
-                refresh();
-                loadRoomDetails(roomId);
-            });
-            timer.setRepeats(false);
-            timer.start();
         }
     }
     
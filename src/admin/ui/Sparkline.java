@@ -0,0 +1,68 @@
+package admin.ui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Small line chart of one series, scaled from 0 to its maximum,
+ * newest value at the right edge
+ */
+public class Sparkline extends JComponent {
+    
+    private static final Color LINE = new Color(0, 102, 204);
+    private static final Color FILL = new Color(0, 102, 204, 40);
+    
+    private int[] values = new int[0];
+    private int capacity = 1;   // Points the full width stands for
+    
+    public Sparkline() {
+        setPreferredSize(new Dimension(400, 36));
+        setMinimumSize(new Dimension(100, 24));
+    }
+    
+    /**
+     * @param capacity points across the full width - a shorter series
+     *                 fills only the right part
+     */
+    public void setValues(int[] values, int capacity) {
+        this.values = values;
+        this.capacity = Math.max(capacity, Math.max(2, values.length));
+        repaint();
+    }
+    
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (values.length < 2) {
+            return;
+        }
+        int width = getWidth() - 1;
+        int height = getHeight() - 2;
+        
+        int max = 1;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        
+        // One x per point; several points per pixel are simply overdrawn
+        int n = values.length;
+        int[] xs = new int[n + 2];
+        int[] ys = new int[n + 2];
+        for (int i = 0; i < n; i++) {
+            xs[i] = width - (int) ((long) (n - 1 - i) * width / (capacity - 1));
+            ys[i] = 1 + height - (int) ((long) values[i] * height / max);
+        }
+        xs[n] = xs[n - 1];
+        ys[n] = height + 1;
+        xs[n + 1] = xs[0];
+        ys[n + 1] = height + 1;
+        
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(FILL);
+        g2.fillPolygon(xs, ys, n + 2);
+        g2.setColor(LINE);
+        g2.drawPolyline(xs, ys, n);
+        g2.dispose();
+    }
+}
@@ -1,5 +1,7 @@
 package controller.friend;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import model.friend.Friend;
 import model.friend.FriendRequest;
@@ -24,6 +26,8 @@ import java.util.function.Consumer;
  * - Notify listeners of changes
  */
 public class FriendController {
+
+    private static final Logger LOG = Log.get(FriendController.class);
     
     // ═══════════════════════════════════════════════════════════
     // DEPENDENCIES
@@ -77,7 +81,7 @@ public class FriendController {
         // Load saved friends
         loadFriends();
         
-        System.out.println("[FRIEND CTRL] Initialized for: " + playerUsername);
+        LOG.info("[FRIEND CTRL] Initialized for: " + playerUsername);
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -122,17 +126,17 @@ public class FriendController {
     public boolean sendFriendRequest(String targetUsername, String targetGender) {
         // Validation
         if (targetUsername.equalsIgnoreCase(playerUsername)) {
-            System.out.println("[FRIEND CTRL] Cannot send friend request to yourself!");
+            LOG.info("[FRIEND CTRL] Cannot send friend request to yourself!");
             return false;
         }
         
         if (isFriend(targetUsername)) {
-            System.out.println("[FRIEND CTRL] Already friends with: " + targetUsername);
+            LOG.info("[FRIEND CTRL] Already friends with: " + targetUsername);
             return false;
         }
         
         if (hasPendingRequestTo(targetUsername)) {
-            System.out.println("[FRIEND CTRL] Request already pending for: " + targetUsername);
+            LOG.info("[FRIEND CTRL] Request already pending for: " + targetUsername);
             return false;
         }
         
@@ -154,11 +158,11 @@ public class FriendController {
         
         if (sent) {
             pendingRequests.add(request);
-            System.out.println("[FRIEND CTRL] Friend request sent to: " + targetUsername);
+            LOG.info("[FRIEND CTRL] Friend request sent to: " + targetUsername);
             return true;
         }
         
-        System.err.println("[FRIEND CTRL] Failed to send request - no connection");
+        LOG.warn("[FRIEND CTRL] Failed to send request - no connection");
         return false;
     }
     
@@ -180,27 +184,27 @@ public class FriendController {
         
         // Check if already friends
         if (isFriend(fromUser)) {
-            System.out.println("[FRIEND CTRL] Already friends with: " + fromUser);
+            LOG.info("[FRIEND CTRL] Already friends with: " + fromUser);
             return;
         }
         
         // Check for mutual request (we already sent them a request!)
         FriendRequest ourRequest = findPendingRequestTo(fromUser);
         if (ourRequest != null) {
-            System.out.println("[FRIEND CTRL] 🎉 Mutual friend request! Auto-accepting...");
+            LOG.info("[FRIEND CTRL] 🎉 Mutual friend request! Auto-accepting...");
             handleMutualRequest(request, ourRequest);
             return;
         }
         
         // Check for duplicate
         if (hasIncomingRequestFrom(fromUser)) {
-            System.out.println("[FRIEND CTRL] Duplicate request ignored from: " + fromUser);
+            LOG.info("[FRIEND CTRL] Duplicate request ignored from: " + fromUser);
             return;
         }
         
         // Add to incoming requests
         incomingRequests.add(request);
-        System.out.println("[FRIEND CTRL] Received friend request from: " + fromUser);
+        LOG.info("[FRIEND CTRL] Received friend request from: " + fromUser);
         
         // Notify listener
         if (onRequestReceived != null) {
@@ -233,7 +237,7 @@ public class FriendController {
     public void acceptRequest(String fromUsername) {
         FriendRequest original = removeIncomingRequest(fromUsername);
         if (original == null) {
-            System.err.println("[FRIEND CTRL] No request found from: " + fromUsername);
+            LOG.warn("[FRIEND CTRL] No request found from: " + fromUsername);
             return;
         }
         
@@ -254,7 +258,7 @@ public class FriendController {
             gp.networkManager.sendFriendResponse(fromUsername, true);
         }
         
-        System.out.println("[FRIEND CTRL] Accepted friend request from: " + fromUsername);
+        LOG.info("[FRIEND CTRL] Accepted friend request from: " + fromUsername);
         
         // Notify listeners
         if (onFriendAdded != null) {
@@ -272,7 +276,7 @@ public class FriendController {
     public void rejectRequest(String fromUsername) {
         FriendRequest original = removeIncomingRequest(fromUsername);
         if (original == null) {
-            System.err.println("[FRIEND CTRL] No request found from: " + fromUsername);
+            LOG.warn("[FRIEND CTRL] No request found from: " + fromUsername);
             return;
         }
         
@@ -289,7 +293,7 @@ public class FriendController {
             gp.networkManager.sendFriendResponse(fromUsername, false);
         }
         
-        System.out.println("[FRIEND CTRL] Rejected friend request from: " + fromUsername);
+        LOG.info("[FRIEND CTRL] Rejected friend request from: " + fromUsername);
         
         // Notify listener
         if (onRequestRejected != null) {
@@ -316,13 +320,13 @@ public class FriendController {
             Friend newFriend = new Friend(otherPlayer, response.getFromGender());
             addFriendInternal(newFriend);
             
-            System.out.println("[FRIEND CTRL] " + otherPlayer + " accepted your friend request!");
+            LOG.info("[FRIEND CTRL] " + otherPlayer + " accepted your friend request!");
             
             if (onFriendAdded != null) {
                 onFriendAdded.accept(newFriend);
             }
         } else if (response.getType() == RequestType.REJECT_REQUEST) {
-            System.out.println("[FRIEND CTRL] " + otherPlayer + " rejected your friend request");
+            LOG.info("[FRIEND CTRL] " + otherPlayer + " rejected your friend request");
         }
         
         notifyListChanged();
@@ -353,7 +357,7 @@ public class FriendController {
         if (removed != null) {
             friends.remove(removed);
             saveFriends();
-            System.out.println("[FRIEND CTRL] Removed friend: " + username);
+            LOG.info("[FRIEND CTRL] Removed friend: " + username);
             
             if (onFriendRemoved != null) {
                 onFriendRemoved.accept(removed);
@@ -367,8 +371,8 @@ public class FriendController {
             if (f.getUsername().equalsIgnoreCase(username)) {
                 f.setOnline(online);
                 f.setCurrentRoom(room);
-                System.out.println("[FRIEND CTRL] Updated " + username + " status: " + 
-                                  (online ? "online in " + room : "offline"));
+                LOG.info("[FRIEND CTRL] Updated " + username + " status: " + 
+                        (online ? "online in " + room : "offline"));
                 notifyListChanged();
                 break;
             }
@@ -425,7 +429,7 @@ public class FriendController {
      * Shutdown the controller (save data, close connections)
      */
     public void shutdown() {
-        System.out.println("[FRIEND CTRL] Shutting down...");
+        LOG.info("[FRIEND CTRL] Shutting down...");
         kafkaService.shutdown();
         saveFriends();
     }
@@ -1,5 +1,7 @@
 package controller.friend;
 
+import logging.Log;
+import logging.Logger;
 import model.friend.Friend;
 
 import java.io.*;
@@ -14,6 +16,8 @@ import java.util.List;
  * Single Responsibility: Only handles file I/O, no business logic.
  */
 public class FriendRepository {
+
+    private static final Logger LOG = Log.get(FriendRepository.class);
     
     // ═══════════════════════════════════════════════════════════
     // CONSTANTS
@@ -54,10 +58,10 @@ public class FriendRepository {
                 writer.write(friend.serialize());
                 writer.newLine();
             }
-            System.out.println("[FRIEND REPO] Saved " + friends.size() + " friends to file");
+            LOG.info("[FRIEND REPO] Saved " + friends.size() + " friends to file");
             return true;
         } catch (IOException e) {
-            System.err.println("[FRIEND REPO] Failed to save friends: " + e.getMessage());
+            LOG.warn("[FRIEND REPO] Failed to save friends: " + e.getMessage());
             return false;
         }
     }
@@ -72,7 +76,7 @@ public class FriendRepository {
         File file = new File(getFilePath());
         
         if (!file.exists()) {
-            System.out.println("[FRIEND REPO] No friends file found for: " + playerUsername);
+            LOG.info("[FRIEND REPO] No friends file found for: " + playerUsername);
             return friends;
         }
         
@@ -84,13 +88,13 @@ public class FriendRepository {
                         Friend friend = Friend.deserialize(line);
                         friends.add(friend);
                     } catch (Exception e) {
-                        System.err.println("[FRIEND REPO] Failed to parse friend entry: " + line);
+                        LOG.warn("[FRIEND REPO] Failed to parse friend entry: " + line);
                     }
                 }
             }
-            System.out.println("[FRIEND REPO] Loaded " + friends.size() + " friends from file");
+            LOG.info("[FRIEND REPO] Loaded " + friends.size() + " friends from file");
         } catch (IOException e) {
-            System.err.println("[FRIEND REPO] Failed to load friends: " + e.getMessage());
+            LOG.warn("[FRIEND REPO] Failed to load friends: " + e.getMessage());
         }
         
         return friends;
@@ -127,7 +131,7 @@ public class FriendRepository {
         if (!dir.exists()) {
             boolean created = dir.mkdirs();
             if (created) {
-                System.out.println("[FRIEND REPO] Created friends directory");
+                LOG.info("[FRIEND REPO] Created friends directory");
             }
         }
     }
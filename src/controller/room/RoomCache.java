@@ -1,5 +1,7 @@
 package controller.room;
 
+import logging.Log;
+import logging.Logger;
 import model.room.Room;
 import service.api.RoomApiClient;
 
@@ -8,6 +10,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class RoomCache {
+
+    private static final Logger LOG = Log.get(RoomCache.class);
     
     private Map<String, Room> cache;
     private RoomApiClient apiClient;
@@ -18,16 +22,16 @@ public class RoomCache {
     }
     
     public void refresh() {
-        System.out.println("[ROOM CACHE] Refreshing from server...");
+        LOG.info("[ROOM CACHE] Refreshing from server...");
         try {
             List<Room> rooms = apiClient.getPublicRooms();
             cache.clear();
             for (Room room : rooms) {
                 cache.put(room.getRoomId(), room);
             }
-            System.out.println("[ROOM CACHE] Loaded " + cache.size() + " rooms");
+            LOG.info("[ROOM CACHE] Loaded " + cache.size() + " rooms");
         } catch (Exception e) {
-            System.err.println("[ROOM CACHE] Refresh failed: " + e.getMessage());
+            LOG.warn("[ROOM CACHE] Refresh failed: " + e.getMessage());
         }
     }
     
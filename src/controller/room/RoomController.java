@@ -1,5 +1,7 @@
 package controller.room;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import model.room.Room;
 import service.api.RoomApiClient;
@@ -15,6 +17,8 @@ import java.util.List;
  */
 public class RoomController {
 
+    private static final Logger LOG = Log.get(RoomController.class);
+
     private GamePanel gp;
     private RoomApiClient apiClient;
     private RoomCache cache;
@@ -37,7 +41,7 @@ public class RoomController {
         this.listenerManager = new RoomListenerManager();
         this.favoritesManager = new RoomFavoritesManager();
         
-        System.out.println("[ROOM CTRL] Controller created");
+        LOG.info("[ROOM CTRL] Controller created");
     }
 
     // ═══════════════════════════════════════════════════════════
@@ -45,7 +49,7 @@ public class RoomController {
     // ═══════════════════════════════════════════════════════════
 
     public void initialize(String username) {
-        System.out.println("[ROOM CTRL] Initializing for user: " + username);
+        LOG.info("[ROOM CTRL] Initializing for user: " + username);
         
         this.username = username;  // ✅ Store once
         apiClient.setCurrentUsername(username);
@@ -55,7 +59,7 @@ public class RoomController {
         if (lobby != null) {
             enterRoom("lobby");  // ✅ No username needed
         } else {
-            System.out.println("[ROOM CTRL] Warning: Lobby not found!");
+            LOG.info("[ROOM CTRL] Warning: Lobby not found!");
         }
     }
     
@@ -91,12 +95,12 @@ public class RoomController {
         Room room = cache.get(roomId);
         
         if (room == null) {
-            System.err.println("[ROOM CTRL] Room not found: " + roomId);
+            LOG.warn("[ROOM CTRL] Room not found: " + roomId);
             return false;
         }
         
         if (!room.canEnter(username)) {  // ✅ Use stored username
-            System.err.println("[ROOM CTRL] Cannot enter room: " + roomId);
+            LOG.warn("[ROOM CTRL] Cannot enter room: " + roomId);
             return false;
         }
         
@@ -111,7 +115,7 @@ public class RoomController {
             currentRoomId = roomId;
             updateGameForRoom();
             listenerManager.notifyRoomEntered(room);
-            System.out.println("[ROOM CTRL] Entered room: " + room.getRoomName());
+            LOG.info("[ROOM CTRL] Entered room: " + room.getRoomName());
         }
         
         return success;
@@ -121,7 +125,7 @@ public class RoomController {
         Room room = cache.get(roomId);
         
         if (room == null) {
-            System.err.println("[ROOM CTRL] Room not found: " + roomId);
+            LOG.warn("[ROOM CTRL] Room not found: " + roomId);
             return false;
         }
         
@@ -292,6 +296,6 @@ public class RoomController {
         listenerManager.clear();
         cache.clear();
         favoritesManager.clear();
-        System.out.println("[ROOM CTRL] Shutdown complete");
+        LOG.info("[ROOM CTRL] Shutdown complete");
     }
 }
\ No newline at end of file
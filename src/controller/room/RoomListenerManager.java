@@ -1,10 +1,14 @@
 package controller.room;
 
+import logging.Log;
+import logging.Logger;
 import model.room.Room;
 import java.util.ArrayList;
 import java.util.List;
 
 public class RoomListenerManager {
+
+    private static final Logger LOG = Log.get(RoomListenerManager.class);
     
     public interface RoomChangeListener {
         void onRoomEntered(Room room);
@@ -39,7 +43,7 @@ public class RoomListenerManager {
             try {
                 listener.onRoomEntered(room);
             } catch (Exception e) {
-                System.err.println("[LISTENER] Error: " + e.getMessage());
+                LOG.warn("[LISTENER] Error: " + e.getMessage());
             }
         }
     }
@@ -49,7 +53,7 @@ public class RoomListenerManager {
             try {
                 listener.onRoomLeft(room);
             } catch (Exception e) {
-                System.err.println("[LISTENER] Error: " + e.getMessage());
+                LOG.warn("[LISTENER] Error: " + e.getMessage());
             }
         }
     }
@@ -59,7 +63,7 @@ public class RoomListenerManager {
             try {
                 listener.onRoomCreated(room);
             } catch (Exception e) {
-                System.err.println("[LISTENER] Error: " + e.getMessage());
+                LOG.warn("[LISTENER] Error: " + e.getMessage());
             }
         }
     }
@@ -69,7 +73,7 @@ public class RoomListenerManager {
             try {
                 listener.onRoomDeleted(room);
             } catch (Exception e) {
-                System.err.println("[LISTENER] Error: " + e.getMessage());
+                LOG.warn("[LISTENER] Error: " + e.getMessage());
             }
         }
     }
@@ -79,7 +83,7 @@ public class RoomListenerManager {
             try {
                 listener.onRoomListChanged();
             } catch (Exception e) {
-                System.err.println("[LISTENER] Error: " + e.getMessage());
+                LOG.warn("[LISTENER] Error: " + e.getMessage());
             }
         }
     }
@@ -0,0 +1,522 @@
+package loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import Entity.Entity.Direction;
+import network.protocol.WireBuffer;
+import network.protocol.WireProtocol;
+import network.protocol.WireReader;
+
+/**
+ * Bot - One simulated player on a non-blocking connection
+ *
+ * Speaks what NetworkManager speaks: optional "hello bin1" handshake,
+ * join, then moves (one tile at a time inside the room), chat lines and
+ * room changes on Poisson timers, and bye at the end.
+ *
+ * Every move sent is remembered with its send time in a small ring. When
+ * another bot receives playerMoved for this bot, it looks the position up
+ * here - newest first, because the room tick merges a player's moves into
+ * the latest one - and records the difference as end-to-end latency.
+ *
+ * Owned by one BotLoop thread; only the sent-move ring is read by others.
+ */
+class Bot {
+
+    enum State { IDLE, CONNECTING, HANDSHAKE, JOINED, CLOSED }
+
+    private static final int SENT_RING = 32;
+    private static final int READ_BUFFER = 128 * 1024;
+    private static final int MAX_PENDING_OUT = 1024 * 1024;
+
+    // One-tile steps, same direction names as the client's PlayerMovement
+    private static final int[] STEP_X = {-1, 1, -1, 1, 0, 0, -1, 1};
+    private static final int[] STEP_Y = {-1, 1, 0, 0, -1, 1, 1, -1};
+    private static final Direction[] STEP_DIRECTION = {
+        Direction.DIAGONALE_UP, Direction.DIAGONALE_DOWN, Direction.ISO_X_LEFT, Direction.ISO_X_RIGHT,
+        Direction.ISO_Y_UP, Direction.ISO_Y_DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    final int index;
+    final String name;
+    private final LoadGenerator generator;
+    private final LoadConfig config;
+    private final LoadStats stats;
+
+    private State state = State.IDLE;
+    private SocketChannel channel;
+    private SelectionKey key;
+    private boolean binary;
+
+    private String room;
+    private int x;
+    private int y;
+    private Direction direction = Direction.ISO_Y_DOWN;
+    private int chats = 0;
+
+    long connectAt;
+    private long nextMove = Long.MAX_VALUE;
+    private long nextChat = Long.MAX_VALUE;
+    private long nextRoomChange = Long.MAX_VALUE;
+
+    private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);
+    private ByteBuffer out = ByteBuffer.allocate(4096);
+    private final WireBuffer frame = new WireBuffer(256);
+    private final WireReader reader = new WireReader();
+
+    // Recent moves: packed (x, y, direction) → send time, guarded by this
+    private final int[] sentMoves = new int[SENT_RING];
+    private final long[] sentNanos = new long[SENT_RING];
+    private int sentCount = 0;
+
+    Bot(int index, LoadGenerator generator) {
+        this.index = index;
+        this.generator = generator;
+        this.config = generator.config;
+        this.stats = generator.stats;
+        this.name = config.prefix + index;
+        this.room = config.roomFor(index);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SCHEDULE (bot loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Do whatever is due and return when to look at this bot again
+     */
+    long poll(long now, Selector selector, Random random) {
+        switch (state) {
+            case IDLE:
+                if (now - connectAt < 0) {
+                    return connectAt;
+                }
+                connect(selector, now, random);
+                return Long.MAX_VALUE;
+            case JOINED:
+                if (now - nextMove >= 0) {
+                    move(random);
+                    nextMove = now + interval(config.moveRate, random);
+                }
+                if (now - nextChat >= 0) {
+                    send("chat hello from " + name + " #" + (++chats));
+                    stats.chatsSent.increment();
+                    nextChat = now + interval(config.chatRate, random);
+                }
+                if (now - nextRoomChange >= 0) {
+                    changeRoom(random);
+                    nextRoomChange = now + interval(config.roomChangeRate, random);
+                }
+                return Math.min(nextMove, Math.min(nextChat, nextRoomChange));
+            default:
+                return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Poisson arrivals: exponential gaps with the given mean rate per second
+     */
+    private static long interval(double ratePerSecond, Random random) {
+        if (ratePerSecond <= 0) {
+            return Long.MAX_VALUE / 2;
+        }
+        double seconds = -Math.log(1.0 - random.nextDouble()) / ratePerSecond;
+        return Math.max(1, (long) (seconds * 1_000_000_000L));
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CONNECTION
+    // ═══════════════════════════════════════════════════════════
+
+    private void connect(Selector selector, long now, Random random) {
+        state = State.CONNECTING;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            key = channel.register(selector, SelectionKey.OP_CONNECT, this);
+            if (channel.connect(new InetSocketAddress(config.host, config.port))) {
+                connected(now, random);
+            }
+        } catch (IOException e) {
+            stats.connectsFailed.increment();
+            close();
+        }
+    }
+
+    void finishConnect(long now, Random random) {
+        try {
+            if (channel.finishConnect()) {
+                connected(now, random);
+            }
+        } catch (IOException e) {
+            stats.connectsFailed.increment();
+            close();
+        }
+    }
+
+    private void connected(long now, Random random) throws IOException {
+        stats.connectsOk.increment();
+        stats.connected.incrementAndGet();
+        key.interestOps(SelectionKey.OP_READ);
+
+        if (config.binary) {
+            state = State.HANDSHAKE;
+            sendLine(WireProtocol.HELLO_COMMAND + " " + WireProtocol.BINARY_V1);
+        } else {
+            join(now, random);
+        }
+    }
+
+    private void join(long now, Random random) {
+        state = State.JOINED;
+        // The server spawns everyone in the corner whatever the join says
+        x = 0;
+        y = 0;
+        send("join " + name + " MALE 0 0 " + direction.name() + " " + room);
+
+        nextMove = now + interval(config.moveRate, random);
+        nextChat = now + interval(config.chatRate, random);
+        nextRoomChange = now + interval(config.roomChangeRate, random);
+    }
+
+    /**
+     * Say goodbye and close (end of the run)
+     */
+    void bye() {
+        if (state == State.JOINED) {
+            send("bye");
+        }
+        close();
+    }
+
+    private void close() {
+        if (state == State.HANDSHAKE || state == State.JOINED) {
+            stats.connected.decrementAndGet();
+        }
+        state = State.CLOSED;
+        if (key != null) {
+            key.cancel();
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    State getState() {
+        return state;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ACTIONS
+    // ═══════════════════════════════════════════════════════════
+
+    private void move(Random random) {
+        // A random one-tile step that stays on the floor
+        int step;
+        do {
+            step = random.nextInt(STEP_X.length);
+        } while (!inRoom(x + STEP_X[step], y + STEP_Y[step]));
+
+        x += STEP_X[step];
+        y += STEP_Y[step];
+        direction = STEP_DIRECTION[step];
+        int directionCode = WireProtocol.directionCode(direction.name());
+
+        recordSent(pack(x, y, directionCode), System.nanoTime());
+        if (binary) {
+            frame.reset();
+            int mark = frame.beginFrame();
+            frame.writeVarint(WireProtocol.OP_MOVE);
+            frame.writeSignedVarint(x);
+            frame.writeSignedVarint(y);
+            frame.writeByte(WireProtocol.motion(directionCode, true));
+            frame.endFrame(mark);
+            write(frame.array(), frame.size());
+        } else {
+            send("move " + x + " " + y + " " + direction.name() + " true");
+        }
+        stats.movesSent.increment();
+    }
+
+    private void changeRoom(Random random) {
+        if (config.rooms < 2) {
+            return;
+        }
+        String next;
+        do {
+            next = config.roomName(random.nextInt(config.rooms));
+        } while (next.equals(room));
+
+        room = next;
+        x = 0;
+        y = 0;
+        send("changeRoom " + room);
+        stats.roomChanges.increment();
+    }
+
+    private boolean inRoom(int tileX, int tileY) {
+        return tileX >= 0 && tileX < config.roomWidth && tileY >= 0 && tileY < config.roomHeight;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SENT MOVES (read by other bot loops)
+    // ═══════════════════════════════════════════════════════════
+
+    private static int pack(int tileX, int tileY, int directionCode) {
+        return (tileX << 18) | ((tileY & 0x3FFF) << 4) | (directionCode & 0xF);
+    }
+
+    private synchronized void recordSent(int move, long nanos) {
+        int slot = sentCount++ % SENT_RING;
+        sentMoves[slot] = move;
+        sentNanos[slot] = nanos;
+    }
+
+    /**
+     * Send time of the newest remembered move to this position, or -1
+     */
+    private synchronized long sentAt(int move) {
+        int remembered = Math.min(sentCount, SENT_RING);
+        for (int i = 1; i <= remembered; i++) {
+            int slot = (sentCount - i) % SENT_RING;
+            if (sentMoves[slot] == move) {
+                return sentNanos[slot];
+            }
+        }
+        return -1;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OUTPUT
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * One text protocol line - an OP_TEXT frame once binary
+     */
+    private void send(String line) {
+        frame.reset();
+        if (binary) {
+            frame.writeTextFrame(line);
+        } else {
+            frame.writeLine(line);
+        }
+        write(frame.array(), frame.size());
+    }
+
+    private void sendLine(String line) {
+        frame.reset();
+        frame.writeLine(line);
+        write(frame.array(), frame.size());
+    }
+
+    private void write(byte[] data, int length) {
+        if (state == State.CLOSED) {
+            return;
+        }
+        if (out.remaining() < length) {
+            if (out.position() + length > MAX_PENDING_OUT) {
+                // The server stopped reading from us
+                stats.ioErrors.increment();
+                close();
+                return;
+            }
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + length));
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+        }
+        out.put(data, 0, length);
+        flush();
+    }
+
+    void flush() {
+        try {
+            out.flip();
+            int written = channel.write(out);
+            out.compact();
+            stats.bytesSent.add(written);
+
+            int ops = out.position() > 0
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        } catch (IOException e) {
+            stats.ioErrors.increment();
+            close();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // INPUT
+    // ═══════════════════════════════════════════════════════════
+
+    void read(long now, Random random) {
+        int count;
+        try {
+            count = channel.read(in);
+        } catch (IOException e) {
+            stats.ioErrors.increment();
+            close();
+            return;
+        }
+        if (count < 0) {
+            stats.disconnects.increment();
+            close();
+            return;
+        }
+        stats.bytesReceived.add(count);
+
+        in.flip();
+        try {
+            parse(now, random);
+        } catch (IllegalArgumentException e) {
+            stats.protocolErrors.increment();
+            close();
+            return;
+        }
+        in.compact();
+        if (!in.hasRemaining()) {
+            // A line or frame bigger than the buffer - nothing the server sends
+            stats.protocolErrors.increment();
+            close();
+        }
+    }
+
+    private void parse(long now, Random random) {
+        byte[] data = in.array();
+        int limit = in.limit();
+        int position = in.position();
+
+        while (position < limit && state != State.CLOSED) {
+            if (!binary) {
+                int end = position;
+                while (end < limit && data[end] != '\n') {
+                    end++;
+                }
+                if (end == limit) {
+                    break;
+                }
+                int length = end - position;
+                if (length > 0 && data[end - 1] == '\r') {
+                    length--;
+                }
+                String line = new String(data, position, length, StandardCharsets.UTF_8);
+                position = end + 1;
+
+                if (state == State.HANDSHAKE) {
+                    // "hello bin1" switches to frames from the next byte on; anything else keeps text
+                    binary = line.equals(WireProtocol.HELLO_COMMAND + " " + WireProtocol.BINARY_V1);
+                    join(now, random);
+                } else {
+                    handleLine(line, now);
+                }
+            } else {
+                int length = WireReader.peekVarint(data, position, limit);
+                if (length < 0) {
+                    break;
+                }
+                int header = WireBuffer.varintSize(length);
+                if (position + header + length > limit) {
+                    break;
+                }
+                reader.reset(data, position + header, length);
+                handleFrame(now);
+                position += header + length;
+            }
+        }
+        in.position(position);
+    }
+
+    private void handleLine(String line, long now) {
+        stats.messagesReceived.increment();
+        String[] parts = line.split(" ");
+        switch (parts[0]) {
+            case "playerMoved":
+                if (parts.length >= 5) {
+                    moved(generator.byName(parts[1]), Integer.parseInt(parts[2]),
+                          Integer.parseInt(parts[3]), WireProtocol.directionCode(parts[4]), now);
+                }
+                break;
+            case "playerChat":
+                stats.chatsReceived.increment();
+                break;
+            case "positionCorrected":
+                // The server disagreed with a move - walk on from where it says we are
+                stats.corrections.increment();
+                if (parts.length >= 3) {
+                    x = Integer.parseInt(parts[1]);
+                    y = Integer.parseInt(parts[2]);
+                }
+                break;
+            case "error":
+                stats.protocolErrors.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void handleFrame(long now) {
+        int opcode = reader.readVarint();
+        switch (opcode) {
+            case WireProtocol.OP_TEXT:
+                handleLine(reader.readString(), now);
+                return;
+            case WireProtocol.OP_PLAYER_JOINED:
+            case WireProtocol.OP_PLAYER_DETAILS:
+                generator.learnId(reader.readVarint(), reader.readString());
+                break;
+            case WireProtocol.OP_PLAYER_MOVED:
+                movedFrame(now);
+                break;
+            case WireProtocol.OP_ROOM_SNAPSHOT:
+                for (int count = reader.readVarint(); count > 0; count--) {
+                    movedFrame(now);
+                }
+                break;
+            case WireProtocol.OP_PLAYER_CHAT:
+                stats.chatsReceived.increment();
+                break;
+            default:
+                break;
+        }
+        stats.messagesReceived.increment();
+    }
+
+    private void movedFrame(long now) {
+        Bot mover = generator.byId(reader.readVarint());
+        int tileX = reader.readSignedVarint();
+        int tileY = reader.readSignedVarint();
+        int motion = reader.readUnsignedByte();
+        moved(mover, tileX, tileY, WireProtocol.motionDirection(motion), now);
+    }
+
+    /**
+     * A peer saw a bot's move: match it to the send
+     */
+    private void moved(Bot mover, int tileX, int tileY, int directionCode, long now) {
+        if (mover == null || mover == this) {
+            return;
+        }
+        stats.movesReceived.increment();
+        long sent = mover.sentAt(pack(tileX, tileY, directionCode));
+        if (sent < 0) {
+            stats.movesUnmatched.increment();
+        } else {
+            stats.moveLatency.record((now - sent) / 1000);
+        }
+    }
+}
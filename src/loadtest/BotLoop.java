@@ -0,0 +1,98 @@
+package loadtest;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BotLoop - One selector thread driving a share of the bots
+ *
+ * Thousands of bots need only a few threads: each loop owns its bots'
+ * channels, fires their timers (connect, move, chat, room change) and
+ * sleeps in select() until the next timer or incoming data.
+ */
+class BotLoop extends Thread {
+
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final List<Bot> bots = new ArrayList<>();
+    private final Selector selector;
+    private final Random random;
+    private volatile boolean running = true;
+
+    BotLoop(int index, long seed) throws IOException {
+        super("LoadBotLoop-" + index);
+        this.selector = Selector.open();
+        this.random = new Random(seed + index);
+    }
+
+    void add(Bot bot) {
+        bots.add(bot);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                long wake = now + MAX_WAIT_NANOS;
+                for (Bot bot : bots) {
+                    long due = bot.poll(now, selector, random);
+                    if (due - wake < 0) {
+                        wake = due;
+                    }
+                }
+
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(wake - System.nanoTime());
+                if (waitMillis > 0) {
+                    selector.select(waitMillis);
+                } else {
+                    selector.selectNow();
+                }
+                handleKeys();
+            }
+        } catch (IOException e) {
+            System.err.println("[LOAD] " + getName() + " failed: " + e.getMessage());
+        } finally {
+            for (Bot bot : bots) {
+                bot.bye();
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void handleKeys() {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            Bot bot = (Bot) key.attachment();
+
+            if (key.isValid() && key.isConnectable()) {
+                bot.finishConnect(System.nanoTime(), random);
+            }
+            if (key.isValid() && key.isReadable()) {
+                bot.read(System.nanoTime(), random);
+            }
+            if (key.isValid() && key.isWritable()) {
+                bot.flush();
+            }
+        }
+    }
+
+    /**
+     * Send bye from every bot and stop
+     */
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,124 @@
+package loadtest;
+
+import main.GameConstants;
+import network.ServerConfig;
+
+/**
+ * LoadConfig - Command line options of the load generator
+ *
+ * Options are "--name value" or "--name=value"; rates are per bot.
+ */
+public class LoadConfig {
+
+    String host = "localhost";
+    int port = ServerConfig.GAME_PORT;
+    int bots = 1000;
+    int rooms = 10;                 // "lobby" plus load_1 .. load_<rooms-1>
+    double moveRate = 4.0;          // moves per second (one tile step every 250 ms)
+    double chatRate = 0.05;         // chat lines per second
+    double roomChangeRate = 0.0;    // room changes per second
+    int durationSeconds = 60;       // measured window
+    int rampSeconds = 10;           // bots connect evenly over this time
+    int warmupSeconds = 5;          // after the ramp, not measured
+    int reportSeconds = 5;
+    int loops = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    boolean binary = false;
+    String prefix = "loadbot";
+    int roomWidth = ServerConfig.DEFAULT_ROOM_WIDTH;
+    int roomHeight = ServerConfig.DEFAULT_ROOM_HEIGHT;
+    long seed = 42L;
+
+    static LoadConfig parse(String[] args) {
+        LoadConfig config = new LoadConfig();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String name;
+            String value;
+            int equals = arg.indexOf('=');
+            if (equals > 0) {
+                name = arg.substring(2, equals);
+                value = arg.substring(equals + 1);
+            } else {
+                name = arg.substring(2);
+                if (name.equals("binary")) {
+                    value = "true";
+                } else if (i + 1 < args.length) {
+                    value = args[++i];
+                } else {
+                    throw new IllegalArgumentException("Missing value for --" + name);
+                }
+            }
+            config.set(name, value);
+        }
+
+        if (config.bots < 1 || config.rooms < 1 || config.loops < 1) {
+            throw new IllegalArgumentException("--bots, --rooms and --loops must be at least 1");
+        }
+        if (config.roomWidth < 2 || config.roomHeight < 2) {
+            throw new IllegalArgumentException("Rooms need at least 2x2 tiles to walk in");
+        }
+        return config;
+    }
+
+    private void set(String name, String value) {
+        try {
+            switch (name) {
+                case "host":        host = value; break;
+                case "port":        port = Integer.parseInt(value); break;
+                case "bots":        bots = Integer.parseInt(value); break;
+                case "rooms":       rooms = Integer.parseInt(value); break;
+                case "move-rate":   moveRate = Double.parseDouble(value); break;
+                case "chat-rate":   chatRate = Double.parseDouble(value); break;
+                case "room-rate":   roomChangeRate = Double.parseDouble(value); break;
+                case "duration":    durationSeconds = Integer.parseInt(value); break;
+                case "ramp":        rampSeconds = Integer.parseInt(value); break;
+                case "warmup":      warmupSeconds = Integer.parseInt(value); break;
+                case "report":      reportSeconds = Math.max(1, Integer.parseInt(value)); break;
+                case "loops":       loops = Integer.parseInt(value); break;
+                case "binary":      binary = Boolean.parseBoolean(value); break;
+                case "prefix":      prefix = value; break;
+                case "width":       roomWidth = Integer.parseInt(value); break;
+                case "height":      roomHeight = Integer.parseInt(value); break;
+                case "seed":        seed = Long.parseLong(value); break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad value for --" + name + ": " + value);
+        }
+    }
+
+    /**
+     * Room of bot i: bots are spread evenly, room 0 is the lobby
+     */
+    String roomFor(int index) {
+        return roomName(index % rooms);
+    }
+
+    String roomName(int room) {
+        return room == 0 ? GameConstants.LOBBY_ROOM_ID : "load_" + room;
+    }
+
+    static String usage() {
+        return "Usage: java -cp <classes> loadtest.LoadGenerator [options]\n"
+             + "  --host <host>         server host (localhost)\n"
+             + "  --port <port>         game port (" + ServerConfig.GAME_PORT + ")\n"
+             + "  --bots <n>            bot players (1000)\n"
+             + "  --rooms <n>           rooms to spread them over, lobby included (10)\n"
+             + "  --move-rate <r>       moves per bot per second (4)\n"
+             + "  --chat-rate <r>       chat lines per bot per second (0.05)\n"
+             + "  --room-rate <r>       room changes per bot per second (0)\n"
+             + "  --duration <s>        measured seconds (60)\n"
+             + "  --ramp <s>            seconds to connect all bots over (10)\n"
+             + "  --warmup <s>          unmeasured seconds after the ramp (5)\n"
+             + "  --report <s>          seconds between progress lines (5)\n"
+             + "  --loops <n>           selector threads driving the bots\n"
+             + "  --binary              negotiate the binary protocol (hello bin1)\n"
+             + "  --prefix <name>       bot name prefix (loadbot)\n"
+             + "  --width/--height <n>  walkable room size (server default)\n"
+             + "  --seed <n>            random seed (42)";
+    }
+}
@@ -0,0 +1,233 @@
+package loadtest;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import metrics.Histogram;
+
+/**
+ * LoadGenerator - Headless bot players against a running GameServer
+ *
+ * Connects N bots over a ramp, spreads them across rooms, lets each walk,
+ * chat and change rooms at the configured rates, and measures every move
+ * from the mover's send to a peer's playerMoved. After the ramp and a
+ * warm-up, counters are reset and the measured window runs for
+ * --duration seconds; progress lines go out every --report seconds and a
+ * summary (throughput, p50/p99/p999 latency, connection errors) at the end.
+ *
+ * Bots and server share the machine's clock, so run it on the server's
+ * host (or at least read the latency as client-observed).
+ *
+ * Run: java -cp <classes> loadtest.LoadGenerator --bots 2000 --rooms 20 --duration 60
+ */
+public class LoadGenerator {
+
+    final LoadConfig config;
+    final LoadStats stats = new LoadStats();
+
+    private final Bot[] bots;
+    private final BotLoop[] loops;
+
+    // Server-assigned player id → bot (binary frames carry ids, not names)
+    private final ConcurrentHashMap<Integer, Bot> botsById = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) {
+        LoadConfig config;
+        try {
+            config = LoadConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadConfig.usage());
+            System.exit(2);
+            return;
+        }
+
+        try {
+            new LoadGenerator(config).run();
+        } catch (IOException | InterruptedException e) {
+            System.err.println("[LOAD] Aborted: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    LoadGenerator(LoadConfig config) throws IOException {
+        this.config = config;
+        this.bots = new Bot[config.bots];
+        this.loops = new BotLoop[Math.min(config.loops, config.bots)];
+
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new BotLoop(i, config.seed);
+        }
+        for (int i = 0; i < bots.length; i++) {
+            bots[i] = new Bot(i, this);
+            loops[i % loops.length].add(bots[i]);
+        }
+    }
+
+    void run() throws InterruptedException {
+        System.out.println("===========================================");
+        System.out.println("  Futura Load Generator");
+        System.out.println("  Target: " + config.host + ":" + config.port +
+                           " (" + (config.binary ? "binary" : "text") + ")");
+        System.out.println("  Bots: " + config.bots + " in " + config.rooms + " rooms, " +
+                           config.loops + " loops");
+        System.out.println("  Per bot: " + config.moveRate + " moves/s, " + config.chatRate +
+                           " chats/s, " + config.roomChangeRate + " room changes/s");
+        System.out.println("  Ramp " + config.rampSeconds + "s, warm-up " + config.warmupSeconds +
+                           "s, measure " + config.durationSeconds + "s");
+        System.out.println("===========================================");
+
+        long start = System.nanoTime();
+        long rampNanos = TimeUnit.SECONDS.toNanos(config.rampSeconds);
+        for (int i = 0; i < bots.length; i++) {
+            bots[i].connectAt = start + rampNanos * i / bots.length;
+        }
+        for (BotLoop loop : loops) {
+            loop.start();
+        }
+
+        long measureAt = start + TimeUnit.SECONDS.toNanos(config.rampSeconds + config.warmupSeconds);
+        long endAt = measureAt + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        long reportNanos = TimeUnit.SECONDS.toNanos(config.reportSeconds);
+        boolean measuring = false;
+        Progress last = new Progress(stats, start);
+
+        while (true) {
+            long now = System.nanoTime();
+            long next = Math.min(last.nanos + reportNanos, measuring ? endAt : measureAt);
+            if (next - now > 0) {
+                TimeUnit.NANOSECONDS.sleep(next - now);
+                now = System.nanoTime();
+            }
+
+            if (!measuring && now - measureAt >= 0) {
+                stats.reset();
+                measuring = true;
+                last = new Progress(stats, now);
+                System.out.println("[LOAD] Measuring (" + stats.connected.get() + "/" + bots.length +
+                                   " bots connected)");
+                continue;
+            }
+            if (measuring && now - endAt >= 0) {
+                break;
+            }
+            if (now - last.nanos >= reportNanos) {
+                last = report(measuring ? "measure" : (now - start < rampNanos ? "ramp" : "warm-up"),
+                              start, last, now);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - stats.getWindowStartNanos();
+        printSummary(elapsedNanos);
+
+        for (BotLoop loop : loops) {
+            loop.shutdown();
+        }
+        for (BotLoop loop : loops) {
+            loop.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // BOT LOOKUP (any bot loop)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Bot with this player name, or null for players that aren't ours
+     */
+    Bot byName(String name) {
+        if (!name.startsWith(config.prefix)) {
+            return null;
+        }
+        try {
+            int index = Integer.parseInt(name.substring(config.prefix.length()));
+            return index >= 0 && index < bots.length ? bots[index] : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    Bot byId(int playerId) {
+        return botsById.get(playerId);
+    }
+
+    void learnId(int playerId, String name) {
+        Bot bot = byName(name);
+        if (bot != null && botsById.get(playerId) != bot) {
+            botsById.put(playerId, bot);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // REPORTS
+    // ═══════════════════════════════════════════════════════════
+
+    private Progress report(String phase, long start, Progress last, long now) {
+        Progress current = new Progress(stats, now);
+        double seconds = (now - last.nanos) / 1e9;
+        Histogram latency = stats.moveLatency;
+
+        System.out.println(String.format(
+                "[LOAD] %4ds %-7s bots %d/%d | moves %.0f/s sent %.0f/s seen | chat %.0f/s"
+                + " | p50 %s p99 %s p999 %s | errors %d",
+                TimeUnit.NANOSECONDS.toSeconds(now - start), phase,
+                stats.connected.get(), bots.length,
+                (current.movesSent - last.movesSent) / seconds,
+                (current.movesReceived - last.movesReceived) / seconds,
+                (current.chatsSent - last.chatsSent) / seconds,
+                millis(latency.getPercentile(50)),
+                millis(latency.getPercentile(99)),
+                millis(latency.getPercentile(99.9)),
+                stats.getConnectionErrors()));
+        return current;
+    }
+
+    private void printSummary(long elapsedNanos) {
+        double seconds = Math.max(1e-9, elapsedNanos / 1e9);
+        Histogram latency = stats.moveLatency;
+        long movesSent = stats.movesSent.sum();
+        long movesReceived = stats.movesReceived.sum();
+
+        System.out.println("===========================================");
+        System.out.println(String.format("  Load test results (%.1fs measured)", seconds));
+        System.out.println(String.format("  Connections : %d ok, %d failed, %d dropped by server, %d I/O errors",
+                stats.connectsOk.sum(), stats.connectsFailed.sum(),
+                stats.disconnects.sum(), stats.ioErrors.sum()));
+        System.out.println(String.format("  Sent        : %d moves (%.0f/s), %d chats, %d room changes",
+                movesSent, movesSent / seconds, stats.chatsSent.sum(), stats.roomChanges.sum()));
+        System.out.println(String.format("  Received    : %d playerMoved (%.0f/s, %d unmatched), %d chats, %d messages",
+                movesReceived, movesReceived / seconds, stats.movesUnmatched.sum(),
+                stats.chatsReceived.sum(), stats.messagesReceived.sum()));
+        System.out.println(String.format("  Bandwidth   : %.1f KB/s out, %.1f KB/s in",
+                stats.bytesSent.sum() / seconds / 1024, stats.bytesReceived.sum() / seconds / 1024));
+        System.out.println(String.format("  Move latency: %d samples, mean %s, p50 %s, p99 %s, p999 %s, max %s",
+                latency.getCount(), millis(latency.getMean()),
+                millis(latency.getPercentile(50)), millis(latency.getPercentile(99)),
+                millis(latency.getPercentile(99.9)), millis(latency.getMax())));
+        System.out.println(String.format("  Protocol    : %d errors, %d position corrections",
+                stats.protocolErrors.sum(), stats.corrections.sum()));
+        System.out.println("===========================================");
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2fms", micros / 1000.0);
+    }
+
+    /**
+     * Counter values at one report, for per-interval rates
+     */
+    private static class Progress {
+        final long nanos;
+        final long movesSent;
+        final long movesReceived;
+        final long chatsSent;
+
+        Progress(LoadStats stats, long nanos) {
+            this.nanos = nanos;
+            this.movesSent = stats.movesSent.sum();
+            this.movesReceived = stats.movesReceived.sum();
+            this.chatsSent = stats.chatsSent.sum();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package loadtest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import metrics.Histogram;
+
+/**
+ * LoadStats - Counters shared by all bot loops
+ *
+ * Counters are LongAdders so thousands of bots on several loops never
+ * contend on one cache line. reset() starts the measured window once
+ * every bot is connected and warmed up; the connection counters and the
+ * connected gauge cover the whole run.
+ */
+public class LoadStats {
+
+    // Connections (whole run)
+    final AtomicInteger connected = new AtomicInteger();
+    final LongAdder connectsOk = new LongAdder();
+    final LongAdder connectsFailed = new LongAdder();
+    final LongAdder disconnects = new LongAdder();    // Closed by the server mid-run
+    final LongAdder ioErrors = new LongAdder();
+
+    // Traffic (measured window)
+    final LongAdder movesSent = new LongAdder();
+    final LongAdder chatsSent = new LongAdder();
+    final LongAdder roomChanges = new LongAdder();
+    final LongAdder movesReceived = new LongAdder();  // playerMoved about another bot
+    final LongAdder movesUnmatched = new LongAdder(); // ... whose send was no longer remembered
+    final LongAdder chatsReceived = new LongAdder();
+    final LongAdder messagesReceived = new LongAdder();
+    final LongAdder protocolErrors = new LongAdder(); // "error ..." replies, bad frames
+    final LongAdder corrections = new LongAdder();    // positionCorrected (move rejected)
+    final LongAdder bytesSent = new LongAdder();
+    final LongAdder bytesReceived = new LongAdder();
+
+    // Move sent → playerMoved received by a peer, microseconds
+    final Histogram moveLatency = new Histogram();
+
+    private volatile long windowStartNanos = System.nanoTime();
+
+    void reset() {
+        movesSent.reset();
+        chatsSent.reset();
+        roomChanges.reset();
+        movesReceived.reset();
+        movesUnmatched.reset();
+        chatsReceived.reset();
+        messagesReceived.reset();
+        protocolErrors.reset();
+        corrections.reset();
+        bytesSent.reset();
+        bytesReceived.reset();
+        moveLatency.reset();
+        windowStartNanos = System.nanoTime();
+    }
+
+    long getWindowStartNanos() {
+        return windowStartNanos;
+    }
+
+    long getConnectionErrors() {
+        return connectsFailed.sum() + disconnects.sum() + ioErrors.sum();
+    }
+}
@@ -0,0 +1,22 @@
+package logging;
+
+/**
+ * Log levels, least to most severe
+ */
+public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    static Level parse(String value, Level fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package logging;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log - Asynchronous logging for server, client and tools
+ *
+ * Threads that log only put an event into a bounded lock-free ring
+ * (LogRing); a single background thread (LogWriter) formats and writes
+ * them in batches, to stdout or a file. Nobody ever waits on System.out's
+ * lock or a disk write again.
+ *
+ * When the ring fills up faster than it drains:
+ * - past 3/4 full, DEBUG and INFO events are sampled (1 in
+ *   futura.log.sampleRate is kept)
+ * - a full ring drops the event
+ * Both are counted and reported by the writer once per second.
+ *
+ * Configuration (-D system properties):
+ * - futura.log.level        DEBUG / INFO / WARN / ERROR (default INFO;
+ *                           futura.log.verbose=true means DEBUG)
+ * - futura.log.level.<name> level of one logger, e.g. futura.log.level.GameServerGroup=DEBUG
+ * - futura.log.file         append to this file instead of stdout
+ * - futura.log.format       text (default) or json - one object per line
+ * - futura.log.buffer       ring capacity in events (default 8192)
+ * - futura.log.sampleRate   1 in N low-level events kept when saturated (default 16)
+ */
+public final class Log {
+
+    static final Level ROOT_LEVEL = Boolean.getBoolean("futura.log.verbose")
+            ? Level.DEBUG
+            : Level.parse(System.getProperty("futura.log.level"), Level.INFO);
+
+    private static final int SAMPLE_RATE = Math.max(1, Integer.getInteger("futura.log.sampleRate", 16));
+
+    private static final LogRing RING = new LogRing(Integer.getInteger("futura.log.buffer", 8192));
+    private static final int HIGH_WATER = RING.capacity() - RING.capacity() / 4;
+
+    private static final ConcurrentHashMap<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+    private static final AtomicLong SAMPLE_COUNTER = new AtomicLong();
+
+    private static final LogWriter WRITER;
+
+    static {
+        boolean json = "json".equalsIgnoreCase(System.getProperty("futura.log.format", "text"));
+        WRITER = new LogWriter(RING, openOutput(System.getProperty("futura.log.file")), json);
+        WRITER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(WRITER::shutdown, "AsyncLogFlush"));
+    }
+
+    private Log() {
+    }
+
+    public static Logger get(Class<?> type) {
+        return get(type.getSimpleName());
+    }
+
+    public static Logger get(String name) {
+        return LOGGERS.computeIfAbsent(name, Logger::new);
+    }
+
+    public static Level getLevel() {
+        return ROOT_LEVEL;
+    }
+
+    /**
+     * Events lost because the ring was full
+     */
+    public static long getDropped() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * DEBUG/INFO events skipped while the ring was nearly full
+     */
+    public static long getSampledOut() {
+        return SAMPLED_OUT.sum();
+    }
+
+    public static int getQueued() {
+        return RING.size();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ENQUEUE (any thread, never blocks)
+    // ═══════════════════════════════════════════════════════════
+
+    static void enqueue(Level level, String logger, String message, Throwable error) {
+        if (level.compareTo(Level.WARN) < 0 && RING.size() >= HIGH_WATER
+                && SAMPLE_COUNTER.incrementAndGet() % SAMPLE_RATE != 0) {
+            SAMPLED_OUT.increment();
+            return;
+        }
+        if (!RING.offer(System.currentTimeMillis(), level, logger, Thread.currentThread().getName(),
+                        message != null ? message : "null", error)) {
+            DROPPED.increment();
+        }
+    }
+
+    private static Writer openOutput(String file) {
+        if (file != null && !file.isEmpty()) {
+            try {
+                return new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(file, true), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                System.err.println("[LOG] Cannot open " + file + " (" + e.getMessage() + "), using stdout");
+            }
+        }
+        // Straight to the descriptor: System.out's lock is exactly what we're avoiding
+        return new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8));
+    }
+}
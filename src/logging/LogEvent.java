@@ -0,0 +1,13 @@
+package logging;
+
+/**
+ * One log record - a reusable LogRing slot
+ */
+final class LogEvent {
+    long timeMillis;
+    Level level;
+    String logger;
+    String thread;
+    String message;
+    Throwable error;
+}
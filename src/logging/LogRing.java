@@ -0,0 +1,100 @@
+package logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LogRing - Bounded lock-free queue of log events, many producers, one consumer
+ *
+ * Slots are preallocated and reused. Each slot has a sequence number that
+ * says whose turn it is: a producer may claim position p when the slot's
+ * sequence equals p, publishes it by setting p + 1, and the consumer frees
+ * it for the next lap by setting p + capacity. A producer never waits -
+ * a full ring simply refuses the event.
+ */
+final class LogRing {
+
+    private final LogEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();   // Next position to claim
+    private volatile long head = 0;                      // Next position to read (consumer only writes)
+
+    LogRing(int requestedCapacity) {
+        int capacity = 16;
+        while (capacity < requestedCapacity && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        slots = new LogEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new LogEvent();
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return false if the ring is full (the event is dropped)
+     */
+    boolean offer(long timeMillis, Level level, String logger, String thread,
+                  String message, Throwable error) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed this position first - try the next one
+        }
+
+        LogEvent event = slots[index];
+        event.timeMillis = timeMillis;
+        event.level = level;
+        event.logger = logger;
+        event.thread = thread;
+        event.message = message;
+        event.error = error;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Next published event, or null - release() it once it's written
+     * (consumer thread only)
+     */
+    LogEvent peek() {
+        long position = head;
+        int index = (int) position & mask;
+        return sequences.get(index) == position + 1 ? slots[index] : null;
+    }
+
+    void release() {
+        long position = head;
+        int index = (int) position & mask;
+        LogEvent event = slots[index];
+        event.message = null;
+        event.error = null;
+        sequences.lazySet(index, position + slots.length);
+        head = position + 1;
+    }
+
+    /**
+     * Events waiting (approximate while producers are active)
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,197 @@
+package logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LogWriter - The one thread that formats and writes log events
+ *
+ * Drains the ring in batches into one buffer and writes each batch with
+ * a single write + flush, so the output stream's lock and the syscall are
+ * paid per batch, never by the threads that log. Sleeps briefly when the
+ * ring is empty. Drop and sampling counts are reported as a WARN line of
+ * their own once per second.
+ */
+final class LogWriter extends Thread {
+
+    private static final int BATCH = 512;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long REPORT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final LogRing ring;
+    private final Writer out;
+    private final boolean json;
+    private final StringBuilder batch = new StringBuilder(64 * 1024);
+
+    private volatile boolean running = true;
+    private long reportedDropped = 0;
+    private long reportedSampled = 0;
+    private long lastReport = System.nanoTime();
+
+    LogWriter(LogRing ring, Writer out, boolean json) {
+        super("AsyncLogWriter");
+        setDaemon(true);
+        this.ring = ring;
+        this.out = out;
+        this.json = json;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+            reportLosses();
+        }
+        // Final flush: everything logged before shutdown()
+        while (drain() > 0) {
+        }
+        reportLosses();
+    }
+
+    /**
+     * Stop after writing what is queued (called from the shutdown hook)
+     */
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(this);
+        try {
+            join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int drain() {
+        int count = 0;
+        LogEvent event;
+        while (count < BATCH && (event = ring.peek()) != null) {
+            format(event);
+            ring.release();
+            count++;
+        }
+        if (count > 0) {
+            write();
+        }
+        return count;
+    }
+
+    private void reportLosses() {
+        long now = System.nanoTime();
+        if (now - lastReport < REPORT_NANOS) {
+            return;
+        }
+        lastReport = now;
+
+        long dropped = Log.getDropped();
+        long sampled = Log.getSampledOut();
+        if (dropped != reportedDropped || sampled != reportedSampled) {
+            LogEvent report = new LogEvent();
+            report.timeMillis = System.currentTimeMillis();
+            report.level = Level.WARN;
+            report.logger = "logging";
+            report.thread = getName();
+            report.message = "Log saturated: " + (dropped - reportedDropped) + " dropped, " +
+                             (sampled - reportedSampled) + " sampled out";
+            reportedDropped = dropped;
+            reportedSampled = sampled;
+            format(report);
+            write();
+        }
+    }
+
+    private void write() {
+        try {
+            out.write(batch.toString());
+            out.flush();
+        } catch (IOException e) {
+            // Nowhere left to report it - keep the server running
+        }
+        batch.setLength(0);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // FORMATS
+    // ═══════════════════════════════════════════════════════════
+
+    private void format(LogEvent event) {
+        if (json) {
+            formatJson(event);
+        } else {
+            formatText(event);
+        }
+    }
+
+    /**
+     * 2026-01-31 20:15:02.114 INFO  [SelectorLoop-1] GameServerGroup - message
+     */
+    private void formatText(LogEvent event) {
+        TIME.formatTo(Instant.ofEpochMilli(event.timeMillis), batch);
+        batch.append(' ').append(event.level.name());
+        for (int pad = event.level.name().length(); pad < 5; pad++) {
+            batch.append(' ');
+        }
+        batch.append(" [").append(event.thread).append("] ")
+             .append(event.logger).append(" - ").append(event.message).append('\n');
+        if (event.error != null) {
+            batch.append(stackTrace(event.error));
+        }
+    }
+
+    /**
+     * One JSON object per line: ts, level, logger, thread, msg, error
+     */
+    private void formatJson(LogEvent event) {
+        batch.append("{\"ts\":").append(event.timeMillis)
+             .append(",\"level\":\"").append(event.level.name())
+             .append("\",\"logger\":");
+        quote(event.logger);
+        batch.append(",\"thread\":");
+        quote(event.thread);
+        batch.append(",\"msg\":");
+        quote(event.message);
+        if (event.error != null) {
+            batch.append(",\"error\":");
+            quote(stackTrace(event.error));
+        }
+        batch.append("}\n");
+    }
+
+    private void quote(String value) {
+        batch.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':  batch.append("\\\""); break;
+                case '\\': batch.append("\\\\"); break;
+                case '\n': batch.append("\\n"); break;
+                case '\r': batch.append("\\r"); break;
+                case '\t': batch.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        batch.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        batch.append(c);
+                    }
+            }
+        }
+        batch.append('"');
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package logging;
+
+/**
+ * Logger - Named entry point into the asynchronous log
+ *
+ * Get one per class (Log.get(Foo.class)) and keep it in a static field.
+ * Disabled levels cost one comparison; guard messages that are expensive
+ * to build with isDebugEnabled().
+ */
+public final class Logger {
+
+    private final String name;
+    private final Level level;
+
+    Logger(String name) {
+        this.name = name;
+        this.level = Level.parse(System.getProperty("futura.log.level." + name), Log.ROOT_LEVEL);
+    }
+
+    public boolean isEnabled(Level candidate) {
+        return candidate.compareTo(level) >= 0;
+    }
+
+    public boolean isDebugEnabled() {
+        return level == Level.DEBUG;
+    }
+
+    public void debug(String message) {
+        if (level == Level.DEBUG) {
+            Log.enqueue(Level.DEBUG, name, message, null);
+        }
+    }
+
+    public void info(String message) {
+        if (isEnabled(Level.INFO)) {
+            Log.enqueue(Level.INFO, name, message, null);
+        }
+    }
+
+    public void warn(String message) {
+        if (isEnabled(Level.WARN)) {
+            Log.enqueue(Level.WARN, name, message, null);
+        }
+    }
+
+    public void warn(String message, Throwable error) {
+        if (isEnabled(Level.WARN)) {
+            Log.enqueue(Level.WARN, name, message, error);
+        }
+    }
+
+    public void error(String message) {
+        Log.enqueue(Level.ERROR, name, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        Log.enqueue(Level.ERROR, name, message, error);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,199 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * FrameStats - Frame pacing metrics for the game loop
+ *
+ * Collects frame, update and paint times plus dropped frames over
+ * one-second windows, draws them as an overlay (toggle with F3) and
+ * logs a summary every few seconds. With active rendering it also shows
+ * how much of the screen each frame actually recomposited.
+ *
+ * record* methods are called from the game thread (frame/update/drop)
+ * and the EDT (paint), so everything is synchronized.
+ */
+public class FrameStats {
+
+    private static final Logger LOG = Log.get(FrameStats.class);
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final int OVERLAY_LINES = 6;
+    private static final Rectangle OVERLAY_BOUNDS = new Rectangle(8, 8, 260, 16 * OVERLAY_LINES + 8);
+
+    private final long logIntervalNanos;
+    private volatile boolean overlayVisible;
+
+    // Current window
+    private long windowStart = System.nanoTime();
+    private int frames = 0;
+    private long frameNanos = 0;
+    private long maxFrameNanos = 0;
+    private int updates = 0;
+    private long updateNanos = 0;
+    private int paints = 0;
+    private long paintNanos = 0;
+    private long dropped = 0;
+    private int composites = 0;
+    private int fullComposites = 0;
+    private long regions = 0;
+    private double coverage = 0;
+
+    // Last completed window (what the overlay and log show)
+    private double fps = 0;
+    private double avgFrameMs = 0;
+    private double maxFrameMs = 0;
+    private double avgUpdateMs = 0;
+    private double avgPaintMs = 0;
+    private long droppedLastWindow = 0;
+    private long droppedTotal = 0;
+    private double avgRegions = 0;
+    private double avgCoverage = 0;
+    private int fullLastWindow = 0;
+    private boolean idle = false;
+
+    private long lastLog = System.nanoTime();
+
+    /**
+     * @param logIntervalSeconds seconds between log lines (0 = no logging)
+     * @param overlayVisible     show the overlay from the start
+     */
+    public FrameStats(int logIntervalSeconds, boolean overlayVisible) {
+        this.logIntervalNanos = logIntervalSeconds * 1_000_000_000L;
+        this.overlayVisible = overlayVisible;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // RECORDING
+    // ═══════════════════════════════════════════════════════════
+
+    public synchronized void recordUpdate(long nanos) {
+        updates++;
+        updateNanos += nanos;
+    }
+
+    public synchronized void recordPaint(long nanos) {
+        paints++;
+        paintNanos += nanos;
+    }
+
+    /**
+     * One actively rendered frame: how many regions were recomposited and
+     * what share of the screen they covered (1.0 = full redraw)
+     */
+    public synchronized void recordComposite(int regionCount, double screenCoverage, boolean full) {
+        composites++;
+        regions += regionCount;
+        coverage += screenCoverage;
+        if (full) {
+            fullComposites++;
+        }
+    }
+
+    public synchronized void recordDropped(long count) {
+        dropped += count;
+        droppedTotal += count;
+    }
+
+    /**
+     * End of one loop iteration (update + wait), in idle or active pacing
+     */
+    public synchronized void recordFrame(long nanos, boolean idleFrame) {
+        frames++;
+        frameNanos += nanos;
+        maxFrameNanos = Math.max(maxFrameNanos, nanos);
+        idle = idleFrame;
+
+        long now = System.nanoTime();
+        if (now - windowStart >= WINDOW_NANOS) {
+            closeWindow(now);
+        }
+        if (logIntervalNanos > 0 && now - lastLog >= logIntervalNanos) {
+            lastLog = now;
+            LOG.info("[FRAME] " + summary());
+        }
+    }
+
+    private void closeWindow(long now) {
+        double seconds = (now - windowStart) / 1e9;
+        fps = frames / seconds;
+        avgFrameMs = frames > 0 ? frameNanos / 1e6 / frames : 0;
+        maxFrameMs = maxFrameNanos / 1e6;
+        avgUpdateMs = updates > 0 ? updateNanos / 1e6 / updates : 0;
+        avgPaintMs = paints > 0 ? paintNanos / 1e6 / paints : 0;
+        droppedLastWindow = dropped;
+        avgRegions = composites > 0 ? (double) regions / composites : 0;
+        avgCoverage = composites > 0 ? coverage / composites : 0;
+        fullLastWindow = fullComposites;
+
+        windowStart = now;
+        frames = 0;
+        frameNanos = 0;
+        maxFrameNanos = 0;
+        updates = 0;
+        updateNanos = 0;
+        paints = 0;
+        paintNanos = 0;
+        dropped = 0;
+        composites = 0;
+        fullComposites = 0;
+        regions = 0;
+        coverage = 0;
+    }
+
+    public synchronized String summary() {
+        return String.format("fps=%.1f frame=%.2fms (max %.2fms) update=%.3fms paint=%.3fms dropped=%d (total %d) dirty=%.0f%% regions=%.1f full=%d%s",
+                             fps, avgFrameMs, maxFrameMs, avgUpdateMs, avgPaintMs,
+                             droppedLastWindow, droppedTotal, avgCoverage * 100, avgRegions, fullLastWindow,
+                             idle ? " [idle]" : "");
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OVERLAY
+    // ═══════════════════════════════════════════════════════════
+
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /**
+     * Screen area the overlay covers, or null when hidden
+     */
+    public Rectangle getOverlayBounds() {
+        return overlayVisible ? new Rectangle(OVERLAY_BOUNDS) : null;
+    }
+
+    public void drawOverlay(Graphics2D g2d) {
+        if (!overlayVisible) return;
+
+        String[] lines;
+        synchronized (this) {
+            lines = new String[] {
+                String.format("FPS %.1f%s", fps, idle ? " (idle)" : ""),
+                String.format("frame  %.2f ms (max %.2f)", avgFrameMs, maxFrameMs),
+                String.format("update %.3f ms", avgUpdateMs),
+                String.format("paint  %.3f ms", avgPaintMs),
+                "dropped " + droppedLastWindow + "/s (total " + droppedTotal + ")",
+                String.format("dirty  %.0f%% in %.1f rects, %d full", avgCoverage * 100, avgRegions, fullLastWindow)
+            };
+        }
+
+        g2d.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        g2d.setColor(new Color(0, 0, 0, 160));
+        g2d.fillRect(OVERLAY_BOUNDS.x, OVERLAY_BOUNDS.y, OVERLAY_BOUNDS.width, OVERLAY_BOUNDS.height);
+        g2d.setColor(Color.GREEN);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], 14, 24 + 16 * i);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package main;
 
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import controller.room.RoomController;
 import model.friend.FriendRequest;
@@ -18,13 +20,17 @@ import ui.hud.TileHighlighter;
 import view.inventory.InventoryWindow;
 import view.room.RoomNavigator;
 import network.NetworkManager;
+import sprite.SpriteAtlas;
 import tile.TileManager;
 import object.FurnitureManager;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.event.MouseWheelEvent;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -37,7 +43,7 @@ import sound.Sound;
  * 
  * Responsibilities:
  * - Initialize game systems
- * - Run game loop (60 FPS)
+ * - Run game loop (paced at TARGET_FPS, throttled to IDLE_FPS when nothing moves)
  * - Handle user input (mouse, keyboard)
  * - Coordinate rendering
  * - Manage multiplayer connections
@@ -46,13 +52,22 @@ import sound.Sound;
  */
 public class GamePanel extends JPanel implements Runnable {
 
+    private static final Logger LOG = Log.get(GamePanel.class);
+
     // ═══════════════════════════════════════════════════════════
     // CONSTANTS
     // ═══════════════════════════════════════════════════════════
     
     public static final int ORIGINAL_TILE_SIZE = 16;
     public static final int TILE_SCALE = 6;
-    private static final int FPS = 60;
+    
+    // Game loop pacing (-Dfutura.fps=..., -Dfutura.idleFps=0 disables the idle throttle)
+    private static final int TARGET_FPS = Math.max(1, Integer.getInteger("futura.fps", 60));
+    private static final int IDLE_FPS = Integer.getInteger("futura.idleFps", 10);
+    private static final long IDLE_AFTER_NANOS = 1_000_000_000L;   // No input/movement for 1s = idle
+    
+    // Frame metrics (-Dfutura.showFps=true shows the overlay at start, F3 toggles it)
+    private static final int FRAME_LOG_SECONDS = Integer.getInteger("futura.frameLog", 10);
     
     public final int tileSizeWidth = ORIGINAL_TILE_SIZE * TILE_SCALE;
     public final int tileSizeHeight = ORIGINAL_TILE_SIZE * TILE_SCALE / 2;
@@ -72,7 +87,13 @@ public class GamePanel extends JPanel implements Runnable {
     // ═══════════════════════════════════════════════════════════
     
     // Game loop
-    private Thread gameThread;
+    private volatile Thread gameThread;
+    private final FrameStats frameStats = new FrameStats(
+        FRAME_LOG_SECONDS, Boolean.getBoolean("futura.showFps"));
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile boolean framePending = false;   // Frame requested by the loop, not rendered yet
+    private final GameRenderer renderer = new GameRenderer(this, frameStats);
+    private boolean mouseOverHud = false;
     
     // Player
     public Player player;
@@ -169,7 +190,7 @@ public class GamePanel extends JPanel implements Runnable {
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.warn("System look and feel unavailable", e);
         }
     }
     
@@ -179,8 +200,8 @@ public class GamePanel extends JPanel implements Runnable {
     }
     
     private void initializeManagers() {
-
-
+        // Decode the shared player sprites before any remote player can join
+        SpriteAtlas.preload();
 
         this.tile_manager = new TileManager(this);
         this.furnitureManager = new FurnitureManager(this);
@@ -213,7 +234,12 @@ public class GamePanel extends JPanel implements Runnable {
             public void keyPressed(java.awt.event.KeyEvent e) {
                 if (ui == null) return;
                 
+                wakeGameLoop();
                 switch (e.getKeyCode()) {
+                    case java.awt.event.KeyEvent.VK_F3:
+                        frameStats.toggleOverlay();  // F3 = frame time overlay
+                        repaint();
+                        break;
                     case java.awt.event.KeyEvent.VK_UP:
                         ui.getMusicPlayer().increaseVolume(); // Arrow UP = volume up
                         repaint();
@@ -261,10 +287,9 @@ public class GamePanel extends JPanel implements Runnable {
             this.friendsPanel = new FriendsPanel(this, friendController);
             this.friendRequestPopup = new FriendRequestPopup(this, friendController);
             
-            System.out.println("[GAME] Friend system initialized (MVC)");
+            LOG.info("[GAME] Friend system initialized (MVC)");
         } catch (Exception e) {
-            System.err.println("[GAME] Failed to initialize friend system: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("[GAME] Failed to initialize friend system: " + e.getMessage(), e);
         }
     }
 
@@ -294,28 +319,115 @@ public class GamePanel extends JPanel implements Runnable {
     public void startGameThread() {
         gameThread = new Thread(this);
         gameThread.start();
-        System.out.println("Game thread started");
+        LOG.info("Game thread started");
     }
     
+    /**
+     * Paced game loop: update, request a repaint, then park until the next
+     * frame deadline instead of spinning. Drops to IDLE_FPS while nothing
+     * moves; input wakes it immediately (see wakeGameLoop).
+     */
     @Override
     public void run() {
-        double drawInterval = 1_000_000_000.0 / FPS;
-        long lastTime = System.nanoTime();
-        double delta = 0;
+        long activeInterval = 1_000_000_000L / TARGET_FPS;
+        long idleInterval = IDLE_FPS > 0 ? 1_000_000_000L / Math.min(IDLE_FPS, TARGET_FPS) : activeInterval;
+        long nextFrame = System.nanoTime();
         
         while (gameThread != null) {
-            long currentTime = System.nanoTime();
-            delta += (currentTime - lastTime) / drawInterval;
-            lastTime = currentTime;
+            long frameStart = System.nanoTime();
             
-            if (delta >= 1) {
-                update();
-                repaint();
-                delta--;
+            update();
+            long updated = System.nanoTime();
+            frameStats.recordUpdate(updated - frameStart);
+            
+            // Previous frame never got rendered - coalesced away
+            if (framePending) {
+                frameStats.recordDropped(1);
             }
+            framePending = true;
+            renderer.requestFrame();
+            
+            boolean idle = isIdle(updated);
+            long interval = idle ? idleInterval : activeInterval;
+            nextFrame += interval;
+            
+            // Fell more than a frame behind: skip the missed frames rather than bursting
+            long late = updated - nextFrame;
+            if (late > activeInterval) {
+                frameStats.recordDropped(late / interval);
+                nextFrame = updated + interval;
+            }
+            
+            long remaining;
+            while ((remaining = nextFrame - System.nanoTime()) > 0 && gameThread != null) {
+                if (idle && lastActivityNanos - frameStart > 0) {
+                    // Input while throttled - start the next frame now
+                    nextFrame = System.nanoTime();
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            
+            frameStats.recordFrame(System.nanoTime() - frameStart, idle);
         }
     }
     
+    /**
+     * Nothing is moving and there was no input for a while
+     */
+    private boolean isIdle(long now) {
+        if (IDLE_FPS <= 0) {
+            return false;
+        }
+        if (player.movement.in_movement) {
+            lastActivityNanos = now;
+            return false;
+        }
+        synchronized (remotePlayers) {
+            for (RemotePlayer remotePlayer : remotePlayers.values()) {
+                if (remotePlayer.in_movement) {
+                    lastActivityNanos = now;
+                    return false;
+                }
+            }
+        }
+        return now - lastActivityNanos > IDLE_AFTER_NANOS;
+    }
+    
+    /**
+     * Leave idle pacing right away (input, network events)
+     */
+    public void wakeGameLoop() {
+        lastActivityNanos = System.nanoTime();
+        Thread thread = gameThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    public void stopGameThread() {
+        Thread thread = gameThread;
+        gameThread = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+    
+    public GameRenderer getRenderer() {
+        return renderer;
+    }
+    
+    /**
+     * The renderer finished (or skipped) the requested frame
+     */
+    void frameRendered() {
+        framePending = false;
+    }
+    
     // The update method stays mostly the same
     public void update() {
         player.update();
@@ -341,11 +453,36 @@ public class GamePanel extends JPanel implements Runnable {
     // RENDERING
     // ═══════════════════════════════════════════════════════════
     
+    /**
+     * Swing paint (expose, repaint()). Goes through the renderer's back
+     * buffer when active rendering is on; game loop frames bypass this
+     * and only recomposite the regions that changed (see GameRenderer).
+     */
     @Override
     public void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        
+        if (renderer.isActive() && renderer.paint(g)) {
+            frameStats.recordPaint(System.nanoTime() - paintStart);
+            return;
+        }
+        
+        framePending = false;
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
         
+        drawScene(g2d);
+        frameStats.recordPaint(System.nanoTime() - paintStart);
+        
+        // Cleanup
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.dispose();
+    }
+    
+    /**
+     * Full scene in depth order; the renderer calls this clipped to a dirty region
+     */
+    void drawScene(Graphics2D g2d) {
         // Draw world
         drawWorld(g2d);
         
@@ -355,9 +492,27 @@ public class GamePanel extends JPanel implements Runnable {
         // Draw UI
         drawUI(g2d);
         
-        // Cleanup
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.dispose();
+        // Frame metrics overlay (F3)
+        frameStats.drawOverlay(g2d);
+    }
+    
+    /**
+     * A UI window covers the world - dirty tracking doesn't follow its contents
+     */
+    boolean isWindowOpen() {
+        return displayProfile
+            || remoteProfile.isVisible()
+            || inventoryWindow.isVisible()
+            || inventoryWindow.isPlacementMode()
+            || roomNavigator.isVisible()
+            || (friendsPanel != null && friendsPanel.isVisible())
+            || (friendRequestPopup != null && friendRequestPopup.isVisible());
+    }
+    
+    List<RemotePlayer> getRemotePlayersSnapshot() {
+        synchronized (remotePlayers) {
+            return new ArrayList<>(remotePlayers.values());
+        }
     }
     
     private void drawWorld(Graphics2D g2d) {
@@ -491,10 +646,10 @@ public class GamePanel extends JPanel implements Runnable {
                 player.movement.yCurrent,
                 player.direction.toString()
             );
-            System.out.println("Connected to multiplayer server");
+            LOG.info("Connected to multiplayer server");
         } else {
             multiplayerEnabled = false;
-            System.out.println("Running in single-player mode");
+            LOG.info("Running in single-player mode");
         }
     }
     
@@ -502,7 +657,7 @@ public class GamePanel extends JPanel implements Runnable {
         if (!remotePlayers.containsKey(username)) {
             RemotePlayer remotePlayer = new RemotePlayer(this, username, gender, mapX, mapY, direction);
             remotePlayers.put(username, remotePlayer);
-            System.out.println("Added remote player: " + username);
+            LOG.info("Added remote player: " + username);
         }
     }
     
@@ -510,17 +665,33 @@ public class GamePanel extends JPanel implements Runnable {
         RemotePlayer remotePlayer = remotePlayers.get(username);
         if (remotePlayer != null) {
             remotePlayer.updatePosition(mapX, mapY, direction, inMovement);
+            wakeGameLoop();
+        }
+    }
+    
+    /**
+     * The server rejected our position (positionCorrected): snap back to its tile
+     */
+    public void correctPlayerPosition(int mapX, int mapY, String direction) {
+        Direction corrected = null;
+        try {
+            corrected = Direction.valueOf(direction);
+        } catch (IllegalArgumentException e) {
+            // Unknown direction - keep facing the current way
         }
+        player.correctPosition(mapX, mapY, corrected);
+        wakeGameLoop();
+        LOG.info("[MOVE] Server corrected position to " + mapX + ", " + mapY);
     }
     
     public synchronized void removeRemotePlayer(String username) {
         remotePlayers.remove(username);
-        System.out.println("Removed remote player: " + username);
+        LOG.info("Removed remote player: " + username);
     }
 
     public synchronized void removeAllRemotePlayers() {
         remotePlayers.clear();
-        System.out.println("Cleared all remote players");
+        LOG.info("Cleared all remote players");
     }
     
     public synchronized void addRemotePlayerChat(String username, String text) {
@@ -554,7 +725,7 @@ public class GamePanel extends JPanel implements Runnable {
 
         //! calculate mouseX and mouseY and tile mapX mapY
         
-        // System.out.println("Mouse: (" + mouseX + ", " + mouseY + ") → Tile: (" + mapX + ", " + mapY + ")");
+        // LOG.info("Mouse: (" + mouseX + ", " + mouseY + ") → Tile: (" + mapX + ", " + mapY + ")");
         
         return new Point(mapX, mapY);
     }
@@ -598,7 +769,10 @@ public class GamePanel extends JPanel implements Runnable {
             }
         }
         
-        repaint();
+        // Active rendering picks up moved bubbles on the next frame
+        if (!renderer.isActive()) {
+            repaint();
+        }
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -606,7 +780,8 @@ public class GamePanel extends JPanel implements Runnable {
     // ═══════════════════════════════════════════════════════════
     
     public void cleanup() {
-        System.out.println("[GAME] Cleaning up...");
+        LOG.info("[GAME] Cleaning up...");
+        stopGameThread();
 
                 // ✅ ADD THIS - Shutdown room controller (closes WebSocket properly)
         if (roomController != null) {
@@ -653,16 +828,19 @@ public class GamePanel extends JPanel implements Runnable {
     private class GameMouseListener extends MouseAdapter {
         @Override
         public void mousePressed(MouseEvent e) {
+            wakeGameLoop();
             handleMousePressed(e);
         }
         
         @Override
         public void mouseReleased(MouseEvent e) {
+            wakeGameLoop();
             handleMouseReleased(e);
         }
         
         @Override
         public void mouseClicked(MouseEvent e) {
+            wakeGameLoop();
             handleMouseClicked(e);
         }
     }
@@ -673,11 +851,13 @@ public class GamePanel extends JPanel implements Runnable {
     private class GameMouseMotionListener extends MouseMotionAdapter {
         @Override
         public void mouseDragged(MouseEvent e) {
+            wakeGameLoop();
             handleMouseDragged(e);
         }
         
         @Override
         public void mouseMoved(MouseEvent e) {
+            wakeGameLoop();
             handleMouseMoved(e);
         }
     }
@@ -857,7 +1037,7 @@ public class GamePanel extends JPanel implements Runnable {
                     remoteProfile.toggleProfile(remotePlayer);
                     displayProfile = false;
                     
-                    System.out.println("Clicked on remote player: " + remotePlayer.name);
+                    LOG.info("Clicked on remote player: " + remotePlayer.name);
                     return true;
                 }
             }
@@ -874,11 +1054,11 @@ public class GamePanel extends JPanel implements Runnable {
             mouseOverTileX < maxWorldCol && mouseOverTileY < maxWorldRow) {
             
             if (mouseOverTileX == previousTileX && mouseOverTileY == previousTileY) {
-                System.out.println("Clicked on the same tile, ignoring...");
+                LOG.info("Clicked on the same tile, ignoring...");
             } else {
                 hoveredTileX = mouseOverTileX;
                 hoveredTileY = mouseOverTileY;
-                System.out.println("Moving to tile: " + hoveredTileX + ", " + hoveredTileY);
+                LOG.info("Moving to tile: " + hoveredTileX + ", " + hoveredTileY);
                 
                 player.moveTo(hoveredTileX, hoveredTileY);
                 
@@ -960,6 +1140,13 @@ public class GamePanel extends JPanel implements Runnable {
         // ✨ UPDATE THIS - Add volume button hovers
         if (ui != null) {
             ui.handleMouseMove(mouseX, mouseY);
+            
+            // HUD hover isn't dirty-tracked - redraw when entering/leaving it
+            boolean overHud = ui.containsPoint(mouseX, mouseY);
+            if (overHud || mouseOverHud) {
+                renderer.invalidateAll();
+            }
+            mouseOverHud = overHud;
         }
 
     
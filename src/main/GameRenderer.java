@@ -0,0 +1,392 @@
+package main;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+
+import Entity.Player;
+import Entity.RemotePlayer;
+
+/**
+ * GameRenderer - Active rendering for the isometric view
+ *
+ * The game loop asks for a frame; the renderer works out which screen
+ * regions changed since the last one (sprites that moved or animated,
+ * chat bubbles, the hovered tile, the FPS overlay), recomposites only
+ * those regions into a VolatileImage back buffer and blits them straight
+ * to the panel - no full Swing repaint.
+ *
+ * Recompositing a region re-runs the normal scene drawing clipped to it,
+ * so depth order (floor → furniture → players → UI) stays exact.
+ *
+ * Falls back to a full redraw when:
+ * - a UI window is open or the HUD hover changed (invalidateAll())
+ * - the changed area covers most of the screen
+ * - the back buffer was recreated
+ * Map drags and room loads still call repaint(); Swing paints go through
+ * the same back buffer (paint), so both paths always agree.
+ * -Dfutura.render=full turns active rendering off (plain repaint() path).
+ */
+public class GameRenderer {
+
+    public static final boolean ACTIVE = !"full".equalsIgnoreCase(System.getProperty("futura.render", "active"));
+
+    // Above this share of the screen, one full redraw beats many regions
+    private static final double FULL_REDRAW_RATIO = 0.6;
+    private static final int PADDING = 4;
+    private static final Font NAME_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final Font BUBBLE_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Object HOVER_KEY = new Object();
+
+    private final GamePanel gp;
+    private final FrameStats frameStats;
+    private final AtomicBoolean frameQueued = new AtomicBoolean(false);
+
+    private VolatileImage buffer;
+    private volatile boolean fullRedraw = true;
+
+    // Screen bounds + visual state of everything drawn last frame (EDT only)
+    private Map<Object, Tracked> tracked = new IdentityHashMap<>();
+    private Map<Object, Tracked> current = new IdentityHashMap<>();
+    private final List<Rectangle> dirty = new ArrayList<>();
+
+    private static class Tracked {
+        final Rectangle bounds;
+        final int[] state;
+
+        Tracked(Rectangle bounds, int... state) {
+            this.bounds = bounds;
+            this.state = state;
+        }
+    }
+
+    public GameRenderer(GamePanel gp, FrameStats frameStats) {
+        this.gp = gp;
+        this.frameStats = frameStats;
+    }
+
+    public boolean isActive() {
+        return ACTIVE;
+    }
+
+    /**
+     * Redraw the whole view on the next frame
+     */
+    public void invalidateAll() {
+        fullRedraw = true;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // FRAME (game thread → EDT)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Called by the game loop once per frame
+     */
+    public void requestFrame() {
+        if (!ACTIVE) {
+            gp.repaint();
+            return;
+        }
+        // At most one frame queued on the EDT
+        if (frameQueued.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::renderFrame);
+        }
+    }
+
+    private void renderFrame() {
+        frameQueued.set(false);
+        long start = System.nanoTime();
+
+        int width = gp.getWidth();
+        int height = gp.getHeight();
+        if (width <= 0 || height <= 0 || !gp.isShowing()) {
+            gp.frameRendered();
+            return;
+        }
+
+        collectDirty(width, height);
+        if (dirty.isEmpty()) {
+            gp.frameRendered();
+            return;
+        }
+
+        VolatileImage image = validBuffer(width, height);
+        if (image == null) {
+            // No accelerated buffer - let Swing paint the frame
+            gp.frameRendered();
+            gp.repaint();
+            return;
+        }
+
+        boolean full = dirty.size() == 1 && dirty.get(0).width == width && dirty.get(0).height == height;
+        long pixels = 0;
+        do {
+            if (image.validate(gp.getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                buffer = null;
+                image = validBuffer(width, height);
+                if (image == null) {
+                    gp.frameRendered();
+                    gp.repaint();
+                    return;
+                }
+            }
+
+            pixels = 0;
+            for (Rectangle region : dirty) {
+                compose(image, region);
+                pixels += (long) region.width * region.height;
+            }
+
+            Graphics g = gp.getGraphics();
+            if (g == null) {
+                break;
+            }
+            try {
+                for (Rectangle region : dirty) {
+                    blit(g, image, region);
+                }
+            } finally {
+                g.dispose();
+            }
+        } while (image.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+
+        frameStats.recordComposite(dirty.size(), (double) pixels / ((long) width * height), full);
+        frameStats.recordPaint(System.nanoTime() - start);
+        gp.frameRendered();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SWING PAINT (EDT)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Paint a Swing-requested area (expose, repaint()) through the back
+     * buffer. Returns false when there is no buffer - caller draws directly.
+     */
+    public boolean paint(Graphics g) {
+        int width = gp.getWidth();
+        int height = gp.getHeight();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, width, height);
+        }
+        clip = clip.intersection(new Rectangle(0, 0, width, height));
+        if (clip.isEmpty()) {
+            return true;
+        }
+
+        VolatileImage image = validBuffer(width, height);
+        if (image == null) {
+            return false;
+        }
+        do {
+            if (image.validate(gp.getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                buffer = null;
+                image = validBuffer(width, height);
+                if (image == null) {
+                    return false;
+                }
+            }
+            compose(image, clip);
+            blit(g, image, clip);
+        } while (image.contentsLost());
+        return true;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // BACK BUFFER
+    // ═══════════════════════════════════════════════════════════
+
+    private VolatileImage validBuffer(int width, int height) {
+        if (buffer != null && buffer.getWidth() == width && buffer.getHeight() == height) {
+            return buffer;
+        }
+        GraphicsConfiguration config = gp.getGraphicsConfiguration();
+        if (config == null) {
+            return null;
+        }
+        if (buffer != null) {
+            buffer.flush();
+        }
+        buffer = config.createCompatibleVolatileImage(width, height);
+        fullRedraw = true;
+        return buffer;
+    }
+
+    private void compose(VolatileImage image, Rectangle region) {
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setClip(region);
+            g2d.setColor(gp.getBackground());
+            g2d.fillRect(region.x, region.y, region.width, region.height);
+            gp.drawScene(g2d);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private static void blit(Graphics g, VolatileImage image, Rectangle region) {
+        int x2 = region.x + region.width;
+        int y2 = region.y + region.height;
+        g.drawImage(image, region.x, region.y, x2, y2, region.x, region.y, x2, y2, null);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // DIRTY REGIONS
+    // ═══════════════════════════════════════════════════════════
+
+    private void collectDirty(int width, int height) {
+        dirty.clear();
+        current.clear();
+
+        Player player = gp.player;
+        trackEntity(player, spriteBounds(player.spriteX, player.spriteY, player.name),
+                    player.spriteX, player.spriteY, player.direction.ordinal(), player.SpriteNum,
+                    player.movement.in_movement ? 1 : 0, player.isTyping ? 1 : 0);
+        for (Entity.Player.Message msg : player.messages) {
+            trackBubble(msg, msg.text, player.spriteX, msg.y);
+        }
+
+        for (RemotePlayer rp : gp.getRemotePlayersSnapshot()) {
+            trackEntity(rp, spriteBounds(rp.spriteX, rp.spriteY, rp.name),
+                        rp.spriteX, rp.spriteY, System.identityHashCode(rp.currentSprite));
+            for (RemotePlayer.Message msg : rp.messages) {
+                trackBubble(msg, msg.text, rp.spriteX, msg.y);
+            }
+        }
+
+        Point tile = gp.getCalculateTileFromMouse(gp.mouseX, gp.mouseY);
+        if (tile.x >= 0 && tile.y >= 0 && tile.x < gp.maxWorldCol && tile.y < gp.maxWorldRow) {
+            trackEntity(HOVER_KEY, tileBounds(tile.x, tile.y), tile.x, tile.y);
+        }
+
+        // Removed since last frame: clear where they were
+        for (Map.Entry<Object, Tracked> entry : tracked.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                dirty.add(entry.getValue().bounds);
+            }
+        }
+        Map<Object, Tracked> swap = tracked;
+        tracked = current;
+        current = swap;
+
+        // Overlay numbers change every window
+        Rectangle overlay = frameStats.getOverlayBounds();
+        if (overlay != null) {
+            dirty.add(overlay);
+        }
+
+        Rectangle screen = new Rectangle(0, 0, width, height);
+        if (fullRedraw || gp.isWindowOpen()) {
+            fullRedraw = false;
+            dirty.clear();
+            dirty.add(screen);
+            return;
+        }
+
+        mergeDirty(screen);
+        long area = 0;
+        for (Rectangle region : dirty) {
+            area += (long) region.width * region.height;
+        }
+        if (area > FULL_REDRAW_RATIO * width * height) {
+            dirty.clear();
+            dirty.add(screen);
+        }
+    }
+
+    /**
+     * Compare with last frame; a changed element dirties both its old and new bounds
+     */
+    private void trackEntity(Object key, Rectangle bounds, int... state) {
+        Tracked now = new Tracked(bounds, state);
+        Tracked before = tracked.get(key);
+        current.put(key, now);
+
+        if (before == null) {
+            dirty.add(bounds);
+        } else if (!before.bounds.equals(bounds) || !Arrays.equals(before.state, state)) {
+            dirty.add(before.bounds);
+            dirty.add(bounds);
+        }
+    }
+
+    private void trackBubble(Object msg, String text, int spriteX, int y) {
+        if (y < -50) {
+            return;
+        }
+        // Same geometry as GamePanel.drawChatBubble
+        String displayText = text.length() > 200 ? text.substring(0, 200) : text;
+        FontMetrics fm = gp.getFontMetrics(BUBBLE_FONT);
+        int bubbleX = spriteX + (2 * gp.tileSizeWidth) - 30;
+        Rectangle bounds = new Rectangle(bubbleX - 10, y, fm.stringWidth(displayText) + 60, 35);
+        bounds.grow(PADDING, PADDING);
+        trackEntity(msg, bounds, spriteX, y);
+    }
+
+    private Rectangle spriteBounds(int spriteX, int spriteY, String name) {
+        int width = 2 * gp.tileSizeWidth;
+        int height = 4 * gp.tileSizeHeight;
+        Rectangle bounds = new Rectangle(spriteX, spriteY, width, height);
+
+        // Name label / typing bubble above the sprite
+        int nameWidth = name != null ? gp.getFontMetrics(NAME_FONT).stringWidth(name) : 0;
+        int labelX = spriteX + gp.tileSizeWidth - nameWidth / 2;
+        bounds.add(new Rectangle(labelX, spriteY - 20, nameWidth, 20));
+
+        bounds.grow(PADDING, PADDING);
+        return bounds;
+    }
+
+    private Rectangle tileBounds(int mapX, int mapY) {
+        // Same geometry as TileHighlighter.drawPolygon
+        int centerX = (mapX - mapY) * (gp.tileSizeWidth / 2) + gp.tile_manager.xOffset + (gp.tileSizeWidth / 2);
+        int top = (mapX + mapY) * (gp.tileSizeHeight / 2) + gp.tile_manager.yOffset;
+        Rectangle bounds = new Rectangle(centerX - gp.tileSizeWidth / 2, top, gp.tileSizeWidth, gp.tileSizeHeight);
+        bounds.grow(PADDING, PADDING);
+        return bounds;
+    }
+
+    /**
+     * Clip to the screen and merge overlapping regions so no pixel is drawn twice
+     */
+    private void mergeDirty(Rectangle screen) {
+        for (int i = dirty.size() - 1; i >= 0; i--) {
+            Rectangle clipped = dirty.get(i).intersection(screen);
+            if (clipped.isEmpty()) {
+                dirty.remove(i);
+            } else {
+                dirty.set(i, clipped);
+            }
+        }
+
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < dirty.size() && !merged; i++) {
+                for (int j = i + 1; j < dirty.size(); j++) {
+                    if (dirty.get(i).intersects(dirty.get(j))) {
+                        dirty.set(i, dirty.get(i).union(dirty.remove(j)));
+                        merged = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -5,6 +5,9 @@ import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
+import logging.Log;
+import logging.Logger;
+
 /**
  * GameWindow - Main game window container
  * 
@@ -15,6 +18,8 @@ import java.awt.event.WindowEvent;
  * - Handle window events (close, etc.)
  */
 public class GameWindow {
+
+    private static final Logger LOG = Log.get(GameWindow.class);
     
     // Window constants
     private static final String WINDOW_TITLE = "Futura - Virtual World";
@@ -136,7 +141,7 @@ public class GameWindow {
             Image scaledImage = originalIcon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
             button.setIcon(new ImageIcon(scaledImage));
         } catch (Exception e) {
-            System.out.println("inventory Icon not found");
+            LOG.info("inventory Icon not found");
         }
         
         // Hover effect
@@ -172,7 +177,7 @@ public class GameWindow {
             Image scaledImage = originalIcon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
             button.setIcon(new ImageIcon(scaledImage));
         } catch (Exception e) {
-            System.out.println("Room Icon not found");
+            LOG.info("Room Icon not found");
         }
 
 
@@ -209,7 +214,7 @@ public class GameWindow {
             button.setIcon(new ImageIcon(scaledImage));
         } catch (Exception e) {
             // Fallback: just use text
-            System.out.println("Friends icon not found - using text only");
+            LOG.info("Friends icon not found - using text only");
         }
         
         // White text on purple background
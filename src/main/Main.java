@@ -6,6 +6,8 @@ import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import logging.Log;
+import logging.Logger;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
@@ -18,15 +20,17 @@ import com.google.gson.JsonParser;
  * Example: futura://open?token=abc123xyz789
  */
 public class Main {
+
+    private static final Logger LOG = Log.get(Main.class);
     
     private static final String PROTOCOL = "futura://";
     private static final String API_BASE_URL = "http://localhost:9090";  // Your Spring Boot server
     
     public static void main(String[] args) {
-        System.out.println("=================================");
-        System.out.println("  Futura Virtual World Launcher  ");
-        System.out.println("=================================");
-        System.out.println("Args received: " + java.util.Arrays.toString(args));
+        LOG.info("=================================");
+        LOG.info("  Futura Virtual World Launcher  ");
+        LOG.info("=================================");
+        LOG.info("Args received: " + java.util.Arrays.toString(args));
         
         // Check if we have arguments
         if (args.length == 0 || !args[0].startsWith(PROTOCOL)) {
@@ -36,7 +40,7 @@ public class Main {
         
         // Parse the SSO token from URL
         String ssoToken = parseToken(args[0]);
-        System.out.println("SSO Token: " + (ssoToken != null ? ssoToken.substring(0, Math.min(10, ssoToken.length())) + "..." : "null"));
+        LOG.info("SSO Token: " + (ssoToken != null ? ssoToken.substring(0, Math.min(10, ssoToken.length())) + "..." : "null"));
         
         if (ssoToken == null || ssoToken.isEmpty()) {
             showError("Invalid launch token!\n\nPlease try launching the game again from the website.");
@@ -49,7 +53,7 @@ public class Main {
         // Validate token with backend (in background thread)
         new Thread(() -> {
             try {
-                System.out.println("Validating SSO token with backend...");
+                LOG.info("Validating SSO token with backend...");
                 UserData userData = validateSsoToken(ssoToken);
                 
                 // Close loading dialog
@@ -61,8 +65,8 @@ public class Main {
                 }
                 
                 // ✅ Token is valid! Launch the game
-                System.out.println("✅ Authentication successful!");
-                System.out.println("Welcome, " + userData.username() + "!");
+                LOG.info("✅ Authentication successful!");
+                LOG.info("Welcome, " + userData.username() + "!");
                 
                 // Launch game on Swing thread
                 // Launch game on Swing thread
@@ -73,19 +77,19 @@ public class Main {
                     // ✅ Initialize room controller with authenticated username
                     GamePanel gamePanel = gameWindow.getGamePanel();
                     if (gamePanel != null && gamePanel.roomController != null) {
-                        System.out.println("[MAIN] Initializing room controller for: " + userData.username());
+                        LOG.info("[MAIN] Initializing room controller for: " + userData.username());
                         gamePanel.roomController.initialize(userData.username());
                          // ✅ START LIVE UPDATES (WebSocket)
                          
                         gamePanel.roomController.startLiveUpdates();
                     } else {
-                        System.err.println("[MAIN] Warning: Could not initialize room controller");
+                        LOG.warn("[MAIN] Warning: Could not initialize room controller");
                     }
                 });
                 
             } catch (Exception e) {
                 SwingUtilities.invokeLater(() -> loadingDialog.dispose());
-                e.printStackTrace();
+                LOG.error("Room controller setup failed", e);
                 showError("Failed to connect to server!\n\nPlease check your internet connection and try again.");
             }
         }).start();
@@ -139,21 +143,20 @@ public class Main {
             }
             
             int responseCode = connection.getResponseCode();
-            System.out.println("SSO Validation Response Code: " + responseCode);
+            LOG.info("SSO Validation Response Code: " + responseCode);
             
             if (responseCode == HttpURLConnection.HTTP_OK) {
                 String response = readResponse(connection.getInputStream());
-                System.out.println("SSO Validation Response: " + response);
+                LOG.info("SSO Validation Response: " + response);
                 return parseUserData(response);
             } else {
                 String errorResponse = readResponse(connection.getErrorStream());
-                System.err.println("SSO Validation Failed: " + errorResponse);
+                LOG.warn("SSO Validation Failed: " + errorResponse);
                 return null;
             }
             
         } catch (Exception e) {
-            System.err.println("SSO Validation Error: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("SSO Validation Error: " + e.getMessage(), e);
             return null;
         } finally {
             if (connection != null) {
@@ -187,7 +190,7 @@ public class Main {
             JsonObject obj = JsonParser.parseString(json).getAsJsonObject();
             
             if (obj.has("valid") && !obj.get("valid").getAsBoolean()) {
-                System.err.println("Token invalid: " + obj.get("error").getAsString());
+                LOG.warn("Token invalid: " + obj.get("error").getAsString());
                 return null;
             }
             
@@ -201,8 +204,7 @@ public class Main {
             return new UserData(userId, username, email, gender);
             
         } catch (Exception e) {
-            System.err.println("Failed to parse user data: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to parse user data: " + e.getMessage(), e);
             return null;
         }
     }
@@ -225,7 +227,7 @@ public class Main {
      * Show error dialog and exit
      */
     private static void showError(String message) {
-        System.err.println("ERROR: " + message);
+        LOG.error("ERROR: " + message);
         JOptionPane.showMessageDialog(null, message, "Futura - Error", JOptionPane.ERROR_MESSAGE);
         System.exit(1);
     }
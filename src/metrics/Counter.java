@@ -0,0 +1,38 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter - Monotonic count backed by a LongAdder (contention-free adds)
+ */
+public class Counter {
+
+    private final String name;
+    private final String labels;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String labels) {
+        this.name = name;
+        this.labels = labels;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLabels() {
+        return labels;
+    }
+}
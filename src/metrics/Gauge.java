@@ -0,0 +1,10 @@
+package metrics;
+
+/**
+ * Gauge - A value read when metrics are collected (connected clients, ...)
+ */
+@FunctionalInterface
+public interface Gauge {
+
+    long read();
+}
@@ -0,0 +1,141 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram - Lock-free log-linear histogram (HDR-style)
+ *
+ * Every power of two is split into 16 linear buckets, so any recorded
+ * value is reported within ~6% whatever its size, from 1 to 2^63, in a
+ * fixed 1 KB of counters. record() is one atomic increment plus two
+ * LongAdder adds and can be called from every thread at once.
+ *
+ * Values have no unit; the metric name says what they are (nanos,
+ * recipients, ...).
+ */
+public class Histogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final String labels;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private volatile long max = 0;
+
+    public Histogram() {
+        this("histogram", "");
+    }
+
+    Histogram(String name, String labels) {
+        this.name = name;
+        this.labels = labels;
+    }
+
+    public void record(long value) {
+        value = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        if (value > max) {
+            max = value; // A lost race only under-reports the max by one sample
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max = 0;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Label pairs without braces (name="value",...), or ""
+     */
+    public String getLabels() {
+        return labels;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getMean() {
+        long samples = count.sum();
+        return samples > 0 ? sum.sum() / samples : 0;
+    }
+
+    /**
+     * Value at the given percentile (0-100), or 0 without samples
+     */
+    public long getPercentile(double percentile) {
+        long samples = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            samples += snapshot[i];
+        }
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // BUCKETS
+    // ═══════════════════════════════════════════════════════════
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Largest value that lands in the bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+}
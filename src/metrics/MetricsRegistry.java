@@ -0,0 +1,175 @@
+package metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * MetricsRegistry - Named counters, histograms and gauges
+ *
+ * Metrics are created once (computeIfAbsent) and then updated without any
+ * lock; callers on hot paths keep the returned Counter / Histogram in a
+ * field instead of looking it up per event. Gauges are only read when
+ * someone collects, so they cost nothing between scrapes.
+ *
+ * A metric may carry one label (command="move", room="lobby"); the same
+ * name with different label values gives separate series, as in the
+ * Prometheus text format that writeText() produces.
+ */
+public class MetricsRegistry {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, GaugeFamily> gaugeFamilies = new ConcurrentHashMap<>();
+    private final long startMillis = System.currentTimeMillis();
+
+    // ═══════════════════════════════════════════════════════════
+    // REGISTRATION
+    // ═══════════════════════════════════════════════════════════
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter(name, ""));
+    }
+
+    public Counter counter(String name, String label, String value) {
+        String labels = labels(label, value);
+        return counters.computeIfAbsent(key(name, labels), key -> new Counter(name, labels));
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram(name, ""));
+    }
+
+    public Histogram histogram(String name, String label, String value) {
+        String labels = labels(label, value);
+        return histograms.computeIfAbsent(key(name, labels), key -> new Histogram(name, labels));
+    }
+
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * One gauge per label value, read together (e.g. players per room)
+     */
+    public void gaugeFamily(String name, String label, Supplier<? extends Map<String, ? extends Number>> values) {
+        gaugeFamilies.put(name, new GaugeFamily(label, values));
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // COLLECTION
+    // ═══════════════════════════════════════════════════════════
+
+    public SortedMap<String, Counter> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    public SortedMap<String, Histogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Current value of every gauge, family members included, by series key
+     */
+    public SortedMap<String, Long> readGauges() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().read());
+        }
+        for (Map.Entry<String, GaugeFamily> entry : gaugeFamilies.entrySet()) {
+            GaugeFamily family = entry.getValue();
+            for (Map.Entry<String, ? extends Number> member : family.values.get().entrySet()) {
+                values.put(key(entry.getKey(), labels(family.label, member.getKey())),
+                           member.getValue().longValue());
+            }
+        }
+        return values;
+    }
+
+    public long getUptimeMillis() {
+        return System.currentTimeMillis() - startMillis;
+    }
+
+    /**
+     * Prometheus text exposition: counters, gauges, and histograms as
+     * summaries (quantiles 0.5 / 0.99 / 0.999, _count, _sum, _max)
+     */
+    public void writeText(StringBuilder out) {
+        String lastName = null;
+        for (Counter counter : getCounters().values()) {
+            if (!counter.getName().equals(lastName)) {
+                lastName = counter.getName();
+                out.append("# TYPE ").append(lastName).append(" counter\n");
+            }
+            sample(out, counter.getName(), counter.getLabels(), null, counter.get());
+        }
+
+        lastName = null;
+        for (Map.Entry<String, Long> gauge : readGauges().entrySet()) {
+            String key = gauge.getKey();
+            int brace = key.indexOf('{');
+            String name = brace < 0 ? key : key.substring(0, brace);
+            if (!name.equals(lastName)) {
+                lastName = name;
+                out.append("# TYPE ").append(name).append(" gauge\n");
+            }
+            out.append(key).append(' ').append(gauge.getValue()).append('\n');
+        }
+
+        lastName = null;
+        for (Histogram histogram : getHistograms().values()) {
+            String name = histogram.getName();
+            String labels = histogram.getLabels();
+            if (!name.equals(lastName)) {
+                lastName = name;
+                out.append("# TYPE ").append(name).append(" summary\n");
+            }
+            sample(out, name, labels, "quantile=\"0.5\"", histogram.getPercentile(50));
+            sample(out, name, labels, "quantile=\"0.99\"", histogram.getPercentile(99));
+            sample(out, name, labels, "quantile=\"0.999\"", histogram.getPercentile(99.9));
+            sample(out, name + "_count", labels, null, histogram.getCount());
+            sample(out, name + "_sum", labels, null, histogram.getSum());
+            sample(out, name + "_max", labels, null, histogram.getMax());
+        }
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String extra, long value) {
+        out.append(name);
+        if (!labels.isEmpty() || extra != null) {
+            out.append('{').append(labels);
+            if (extra != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extra);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // KEYS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Series key: name{labels}, or the bare name without labels
+     */
+    public static String key(String name, String labels) {
+        return labels.isEmpty() ? name : name + "{" + labels + "}";
+    }
+
+    private static String labels(String label, String value) {
+        return label + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static class GaugeFamily {
+        final String label;
+        final Supplier<? extends Map<String, ? extends Number>> values;
+
+        GaugeFamily(String label, Supplier<? extends Map<String, ? extends Number>> values) {
+            this.label = label;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package metrics;
+
+/**
+ * TimeSeries - One value sampled once a second, kept at two resolutions
+ * in fixed-size primitive rings
+ *
+ *   SECOND  the last 3600 samples          (1 s steps, 1 hour)
+ *   MINUTE  the last 1440 per-minute means  (1 min steps, 1 day)
+ *
+ * Memory is 5040 ints whatever the uptime, and recording allocates
+ * nothing. The owner calls record() every second and closeMinute() every
+ * 60 samples, the same moment for all of its series, so their minutes line
+ * up. Not thread-safe: the owner guards reads and writes.
+ */
+public class TimeSeries {
+
+    public enum Resolution {
+        SECOND(1, 3600),
+        MINUTE(60, 1440);
+
+        public final int stepSeconds;
+        public final int slots;
+
+        Resolution(int stepSeconds, int slots) {
+            this.stepSeconds = stepSeconds;
+            this.slots = slots;
+        }
+    }
+
+    private final int[] seconds = new int[Resolution.SECOND.slots];
+    private final int[] minutes = new int[Resolution.MINUTE.slots];
+    private int secondHead = 0;    // Next slot to write
+    private int secondCount = 0;
+    private int minuteHead = 0;
+    private int minuteCount = 0;
+
+    // Samples of the minute in progress
+    private long minuteSum = 0;
+    private int minuteSamples = 0;
+
+    public void record(int value) {
+        seconds[secondHead] = value;
+        secondHead = (secondHead + 1) % seconds.length;
+        secondCount = Math.min(secondCount + 1, seconds.length);
+
+        minuteSum += value;
+        minuteSamples++;
+    }
+
+    /**
+     * Store the mean of the samples since the last call as one minute
+     * (nothing if there were none)
+     */
+    public void closeMinute() {
+        if (minuteSamples == 0) {
+            return;
+        }
+        minutes[minuteHead] = (int) Math.round((double) minuteSum / minuteSamples);
+        minuteHead = (minuteHead + 1) % minutes.length;
+        minuteCount = Math.min(minuteCount + 1, minutes.length);
+        minuteSum = 0;
+        minuteSamples = 0;
+    }
+
+    /**
+     * The newest values at a resolution, oldest first (fewer than
+     * requested if the series is younger)
+     */
+    public int[] latest(Resolution resolution, int points) {
+        int[] ring = resolution == Resolution.SECOND ? seconds : minutes;
+        int head = resolution == Resolution.SECOND ? secondHead : minuteHead;
+        int count = Math.min(points, resolution == Resolution.SECOND ? secondCount : minuteCount);
+
+        int[] values = new int[Math.max(0, count)];
+        int start = head - values.length;
+        if (start < 0) {
+            start += ring.length;
+        }
+        int firstPart = Math.min(values.length, ring.length - start);
+        System.arraycopy(ring, start, values, 0, firstPart);
+        System.arraycopy(ring, 0, values, firstPart, values.length - firstPart);
+        return values;
+    }
+
+    public void clear() {
+        secondHead = secondCount = 0;
+        minuteHead = minuteCount = 0;
+        minuteSum = 0;
+        minuteSamples = 0;
+    }
+}
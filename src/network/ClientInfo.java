@@ -1,6 +1,13 @@
 package network;
 
 import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import network.protocol.PlayerMovedMessage;
+import network.protocol.ServerMessage;
 
 /**
  * ClientInfo - Stores information about one connected client
@@ -8,21 +15,58 @@ import java.io.PrintWriter;
  */
 public class ClientInfo {
     
+    // Binary protocol ids, unique for the life of the server (0 = none)
+    private static final AtomicInteger NEXT_PLAYER_ID = new AtomicInteger();
+    
     public PrintWriter out;
+    public OutboundQueue outbound;      // Per-client send queue (null = write straight to out)
     public String address;
     public int port;
+    public final String connectionId;   // "address:port" - registry key
+    public final int playerId;          // Sent once in playerJoined, then instead of the name
     public String playerName;
     public String gender;
     public int mapX;
     public int mapY;
     public String direction;
-    public String currentRoomId;  // ✨ NEW - Track which room player is in
+    // ✨ NEW - Track which room player is in
+    // Change it through GameServerGroup.changeRoom() so the room index stays in step
+    public volatile String currentRoomId;
+    // Guards room changes; a lock rather than a monitor so a virtual thread
+    // waiting on it unmounts instead of pinning its carrier
+    final ReentrantLock roomLock = new ReentrantLock();
+    
+    // Room tick: latest move not yet sent (replaced by newer moves), and the
+    // last one sent (ticker thread only)
+    final AtomicReference<PlayerMovedMessage> pendingMove = new AtomicReference<>();
+    PlayerMovedMessage lastSentMove;
+    public boolean inMovement;
+    
+    // Server-authoritative movement ("hello ... walk"): the client sends walk
+    // intents and only turns in place as moves
+    public boolean serverMovement;
+    // Latest walk target not planned yet (MovementSimulator.NO_WALK = none)
+    final AtomicLong pendingWalk = new AtomicLong(MovementSimulator.NO_WALK);
+    // Path being walked - ticker thread only, except walking
+    int[] walkPath;
+    int walkLength;
+    int walkIndex;
+    int walkX;
+    int walkY;
+    long nextStepNanos;
+    String walkRoomId;
+    RoomLayout walkLayout;      // The path's tile ids are in this layout's grid
+    boolean walkerListed;
+    volatile boolean walking;
     
-    public ClientInfo(PrintWriter out, String address, int port, String playerName, 
+    public ClientInfo(PrintWriter out, OutboundQueue outbound, String address, int port, String playerName, 
                      String gender, int mapX, int mapY, String direction, String roomId) {
         this.out = out;
+        this.outbound = outbound;
         this.address = address;
         this.port = port;
+        this.connectionId = connectionId(address, port);
+        this.playerId = NEXT_PLAYER_ID.incrementAndGet();
         this.playerName = playerName;
         this.gender = gender;
         this.mapX = mapX;
@@ -31,6 +75,13 @@ public class ClientInfo {
         this.currentRoomId = roomId;  // ✨ NEW
     }
     
+    /**
+     * Registry key for a connection
+     */
+    public static String connectionId(String address, int port) {
+        return address + ":" + port;
+    }
+    
     /**
      * Check if this client matches the given address and port
      */
@@ -40,13 +91,56 @@ public class ClientInfo {
     
     /**
      * Send a message to this client
+     * Only queues the line - the client's writer does the socket I/O
      */
     public void sendMessage(String message) {
-        if (out != null) {
+        if (outbound != null) {
+            outbound.offer(message);
+        } else if (out != null) {
             out.println(message);
         }
     }
     
+    /**
+     * Send a typed message - encoded as text or binary by the client's writer
+     */
+    public void sendMessage(ServerMessage message) {
+        if (outbound != null) {
+            outbound.offer(message);
+        } else if (out != null) {
+            out.println(message.toText());
+        }
+    }
+    
+    /**
+     * Lines waiting in this client's outbound queue
+     */
+    public int getQueueDepth() {
+        return outbound != null ? outbound.getDepth() : 0;
+    }
+    
+    /**
+     * Take a ticked move as the new position.
+     * @return false if it changes nothing since the last one sent
+     */
+    boolean applyMove(PlayerMovedMessage move) {
+        if (move.mapX == mapX && move.mapY == mapY && move.inMovement == inMovement
+                && move.direction.equals(direction)) {
+            return false;
+        }
+        updatePosition(move.mapX, move.mapY, move.direction);
+        inMovement = move.inMovement;
+        lastSentMove = move;
+        return true;
+    }
+    
+    /**
+     * True while the server is stepping this player along a path
+     */
+    public boolean isWalking() {
+        return walking;
+    }
+    
     /**
      * Update player position
      */
@@ -3,61 +3,172 @@ package network;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.concurrent.ExecutorService;
 
+import logging.Log;
+import logging.Logger;
 import admin.AdminServer;
+import admin.shared.AdminActionBus;
 import admin.shared.AdminActionWatcher;
+import metrics.MetricsHttpServer;
+import network.ServerConfig.ServerMode;
 import network.clientHandler.ClientHandler;
+import network.cluster.Cluster;
+import network.cluster.PeerServer;
+import network.nio.NioGameServer;
 
 /**
  * GameServer - Main multiplayer server
  * Now includes AdminActionWatcher for file-based admin commands
+ *
+ * Start with "--nio" (or -Dfutura.server.mode=nio) to serve players from
+ * selector event loops instead of one thread per connection.
+ *
+ * With -Dfutura.cluster.node=<id> the server is one node of a cluster and
+ * serves only the rooms the membership file's hash ring gives it.
  */
 public class GameServer {
-    
-    private static final int PORT = 5555;
+
+    private static final Logger LOG = Log.get(GameServer.class);
+
+    private static int PORT = ServerConfig.GAME_PORT;
     private static GameServerGroup clientGroup;
-    
+
     public static void main(String[] args) {
         clientGroup = new GameServerGroup();
-        
-        System.out.println("===========================================");
-        System.out.println("  Futura Multiplayer Server");
-        System.out.println("  Game Port: " + PORT);
-        System.out.println("  Admin Port: 5001");
-        System.out.println("  Room System: ENABLED");
-        System.out.println("  Admin Actions: FILE-BASED (Approach A)");
-        System.out.println("===========================================");
-        
+        ServerMode mode = ServerConfig.resolveMode(args);
+
+        Cluster cluster = null;
+        PeerServer peerServer = null;
+        if (ServerConfig.CLUSTER_NODE != null) {
+            if (ServerConfig.CLUSTER_SECRET == null || ServerConfig.CLUSTER_SECRET.isBlank()) {
+                LOG.error("Cluster mode needs -Dfutura.cluster.secret=<secret> (the same on every node)");
+                System.exit(1);
+            }
+            try {
+                cluster = new Cluster(ServerConfig.CLUSTER_NODE, ServerConfig.CLUSTER_FILE,
+                                      ServerConfig.CLUSTER_SECRET);
+                peerServer = new PeerServer(cluster, clientGroup);
+                peerServer.bind();
+            } catch (IOException e) {
+                LOG.error("Cluster startup failed: " + e.getMessage(), e);
+                System.exit(1);
+            }
+            PORT = cluster.getSelf().gamePort;
+            clientGroup.setCluster(cluster);
+        }
+
+        LOG.info("===========================================");
+        LOG.info("  Futura Multiplayer Server");
+        LOG.info("  Game Port: " + PORT);
+        LOG.info("  Admin Port: " + ServerConfig.ADMIN_PORT);
+        LOG.info("  Room System: ENABLED");
+        LOG.info("  Cluster: " + (cluster != null
+                 ? "node " + cluster.getSelf().id + " of " + cluster.getNodes().size() +
+                   " (" + ServerConfig.CLUSTER_FILE + ")"
+                 : "OFF (single server)"));
+        LOG.info("  Admin Actions: " + ServerConfig.ADMIN_BUS.toUpperCase() + " bus");
+        LOG.info("  I/O Mode: " + mode + (mode == ServerMode.NIO
+                 ? " (" + ServerConfig.NIO_LOOPS + " loops)"
+                 : ServerExecutors.useVirtualHandlers() ? " (virtual threads)" : " (platform threads)"));
+        LOG.info("  Room Tick: " + (ServerConfig.TICK_RATE_HZ > 0
+                 ? ServerConfig.TICK_RATE_HZ + " Hz" : "OFF (moves sent immediately)"));
+        LOG.info("  Metrics: " + (ServerConfig.METRICS_PORT > 0
+                 ? "http://" + ServerConfig.METRICS_HOST + ":" + ServerConfig.METRICS_PORT + "/metrics"
+                 : "OFF"));
+        LOG.info("  Log Level: " + Log.getLevel() + " (async)");
+        LOG.info("===========================================");
+
+        // Admin action transport, before anything can publish to it
+        try {
+            clientGroup.setAdminBus(AdminActionBus.create(ServerConfig.ADMIN_BUS, ServerConfig.ADMIN_BUS_SOCKET));
+        } catch (IOException e) {
+            LOG.warn("Admin bus '" + ServerConfig.ADMIN_BUS + "' unavailable (" + e.getMessage() +
+                     ") - using the in-process queue");
+        }
+
         // Start Admin Server
         AdminServer adminServer = new AdminServer(clientGroup);
         adminServer.start();
-        
-        // ✨ NEW - Start Admin Action Watcher (watches admin_actions.dat)
+
+        // ✨ NEW - Start Admin Action Watcher (consumes the admin bus)
         AdminActionWatcher actionWatcher = new AdminActionWatcher(clientGroup);
         actionWatcher.start();
-        
+
+        if (cluster != null) {
+            cluster.start();
+            peerServer.start();
+        }
+
+        // Room simulation tick (batched movement snapshots)
+        clientGroup.getRoomTicker().start();
+
+        // Load history for the HISTORY admin command
+        clientGroup.getLoadRecorder().start();
+
+        // Metrics: gauges over the live state, plain-text scrape endpoint
+        ServerMetrics.registerGauges(clientGroup);
+        MetricsHttpServer metricsServer = ServerMetrics.startHttp();
+
         // Add shutdown hook for cleanup
+        Cluster clusterToStop = cluster;
+        PeerServer peerToStop = peerServer;
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            System.out.println("\n[SERVER] Shutting down...");
+            LOG.info("[SERVER] Shutting down...");
             actionWatcher.shutdown();
+            adminServer.shutdown();
+            clientGroup.getAdminBus().close();
+            clientGroup.getRoomTicker().shutdown();
+            clientGroup.getLoadRecorder().shutdown();
+            if (clusterToStop != null) {
+                peerToStop.shutdown();
+                clusterToStop.shutdown();
+            }
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
         }));
-        
+
+        if (mode == ServerMode.NIO) {
+            runNio();
+        } else {
+            runLegacy();
+        }
+    }
+
+    private static void runLegacy() {
+        if ("virtual".equalsIgnoreCase(ServerConfig.HANDLER_THREADS) && !ServerExecutors.useVirtualHandlers()) {
+            LOG.warn("Virtual threads need Java 21+ - running handlers on platform threads");
+        }
+        ExecutorService handlers = ServerExecutors.newHandlerExecutor("ClientHandler");
+
         try (ServerSocket serverSocket = new ServerSocket(PORT)) {
-            System.out.println("Game server listening on port " + PORT);
-            
+            LOG.info("Game server listening on port " + PORT);
+
             while (true) {
                 Socket socket = serverSocket.accept();
-                System.out.println("\n[NEW PLAYER] " + 
-                                 socket.getInetAddress().getHostAddress() + 
-                                 ":" + socket.getPort());
-                
-                ClientHandler clientHandler = new ClientHandler(socket, clientGroup);
-                clientHandler.start();
+                ServerMetrics.CONNECTIONS.increment();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("[NEW PLAYER] " +
+                              socket.getInetAddress().getHostAddress() +
+                              ":" + socket.getPort());
+                }
+
+                handlers.execute(new ClientHandler(socket, clientGroup));
             }
-            
+
+        } catch (IOException e) {
+            LOG.error("Server error: " + e.getMessage(), e);
+        }
+    }
+
+    private static void runNio() {
+        try {
+            NioGameServer nioServer = new NioGameServer(PORT, clientGroup, ServerConfig.NIO_LOOPS);
+            Runtime.getRuntime().addShutdownHook(new Thread(nioServer::shutdown));
+            nioServer.run();
         } catch (IOException e) {
-            System.err.println("Server error: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Server error: " + e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
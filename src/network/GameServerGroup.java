@@ -1,152 +1,491 @@
 package network;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import admin.shared.AdminActionBus;
+import admin.shared.InProcessActionBus;
+import logging.Log;
+import logging.Logger;
+import network.cluster.Cluster;
+import network.cluster.ClusterNode;
+import network.protocol.PlayerMovedMessage;
+import network.protocol.ServerMessage;
 
 /**
  * GameServerGroup - Manages all connected clients
  * NOW WITH ROOM-BASED BROADCASTING!
+ *
+ * Clients are indexed three ways so no lookup walks the whole server:
+ * - by connection id ("address:port")
+ * - by lower-cased player name
+ * - by room (one concurrent member set per occupied room)
+ *
+ * There is no global lock: a move in one room never waits on another room.
+ *
+ * Moves go through the RoomTicker, which sends them as one snapshot per
+ * room and tick (or straight away when the ticker is not running).
+ * Walk intents go to the ticker's MovementSimulator, which paths them
+ * against the room's RoomLayout (registered by the first client to enter
+ * the room, dropped when it empties).
  */
 public class GameServerGroup {
-    
-    private List<ClientInfo> clients;
-    
+
+    private static final Logger LOG = Log.get(GameServerGroup.class);
+
+    private final Map<String, ClientInfo> clientsByConnection;
+    private final Map<String, ClientInfo> clientsByName;
+    private final Map<String, Set<ClientInfo>> roomMembers;
+    private final RoomTicker roomTicker;
+    private final LoadRecorder loadRecorder;
+    private final Map<String, RoomLayout> roomLayouts;
+    private final RoomLayoutLoader layoutLoader;
+    private final Map<String, InterestPolicy> interestPolicies;
+    private volatile Cluster cluster;       // null = single server, every room is local
+    private volatile AdminActionBus adminBus = new InProcessActionBus();
+
     public GameServerGroup() {
-        this.clients = new ArrayList<>();
+        this.clientsByConnection = new ConcurrentHashMap<>();
+        this.clientsByName = new ConcurrentHashMap<>();
+        this.roomMembers = new ConcurrentHashMap<>();
+        this.roomTicker = new RoomTicker(this);
+        this.loadRecorder = new LoadRecorder(this);
+        this.roomLayouts = new ConcurrentHashMap<>();
+        this.layoutLoader = new RoomLayoutLoader(this);
+        this.interestPolicies = new ConcurrentHashMap<>();
     }
-    
+
     // ═══════════════════════════════════════════════════════════
     // CLIENT MANAGEMENT
     // ═══════════════════════════════════════════════════════════
-    
-    public synchronized void addClient(ClientInfo client) {
-        clients.add(client);
-        System.out.println("Client added: " + client.playerName + 
-                          " (Total: " + clients.size() + ")");
-    }
-    
-    public synchronized void removeClient(String address, int port) {
-        clients.removeIf(client -> client.matches(address, port));
-        System.out.println("Client removed (Total: " + clients.size() + ")");
-    }
-    
-    public synchronized ClientInfo getClient(String address, int port) {
-        for (ClientInfo client : clients) {
-            if (client.matches(address, port)) {
-                return client;
+
+    public void addClient(ClientInfo client) {
+        ClientInfo previous = clientsByConnection.put(client.connectionId, client);
+        if (previous != null) {
+            // Same connection joined twice - drop the stale entry from its room
+            unindex(previous);
+        }
+
+        client.roomLock.lock();
+        try {
+            joinRoomSet(client.currentRoomId, client);
+        } finally {
+            client.roomLock.unlock();
+        }
+        if (client.playerName != null) {
+            clientsByName.put(nameKey(client.playerName), client);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Client added: " + client.playerName +
+                     " (Total: " + clientsByConnection.size() + ")");
+        }
+    }
+
+    public void removeClient(String address, int port) {
+        ClientInfo client = clientsByConnection.remove(ClientInfo.connectionId(address, port));
+        if (client != null) {
+            unindex(client);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Client removed (Total: " + clientsByConnection.size() + ")");
+        }
+    }
+
+    public ClientInfo getClient(String address, int port) {
+        return clientsByConnection.get(ClientInfo.connectionId(address, port));
+    }
+
+    /**
+     * Move a client to another room, keeping the room index in step.
+     * Every room change (changeRoom, admin kick/move, clear room) goes through here.
+     */
+    public void changeRoom(ClientInfo client, String newRoomId) {
+        client.roomLock.lock();
+        try {
+            String oldRoomId = client.currentRoomId;
+            if (newRoomId.equals(oldRoomId)) {
+                return;
+            }
+            joinRoomSet(newRoomId, client);
+            client.currentRoomId = newRoomId;
+            leaveRoomSet(oldRoomId, client);
+            // A move or walk made in the old room must not show up in the new one
+            client.pendingMove.set(null);
+            client.pendingWalk.set(MovementSimulator.NO_WALK);
+        } finally {
+            client.roomLock.unlock();
+        }
+    }
+
+    private void unindex(ClientInfo client) {
+        client.roomLock.lock();
+        try {
+            leaveRoomSet(client.currentRoomId, client);
+        } finally {
+            client.roomLock.unlock();
+        }
+        if (client.playerName != null) {
+            clientsByName.remove(nameKey(client.playerName), client);
+        }
+    }
+
+    private void joinRoomSet(String roomId, ClientInfo client) {
+        boolean[] opened = new boolean[1];
+        roomMembers.compute(roomId, (id, members) -> {
+            if (members == null) {
+                members = ConcurrentHashMap.newKeySet();
+                opened[0] = true;
+            }
+            members.add(client);
+            return members;
+        });
+        if (opened[0]) {
+            // First player in: the room's layout comes from the backend
+            layoutLoader.load(roomId);
+        }
+    }
+
+    private void leaveRoomSet(String roomId, ClientInfo client) {
+        // compute* is atomic per key, so an emptied room can't swallow a concurrent join
+        roomMembers.computeIfPresent(roomId, (id, members) -> {
+            members.remove(client);
+            if (!members.isEmpty()) {
+                return members;
             }
+            // The next player in loads the room afresh
+            roomLayouts.remove(id);
+            return null;
+        });
+    }
+
+    private static String nameKey(String playerName) {
+        return playerName.toLowerCase();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // MOVEMENT
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * A player moved: merged into the next room snapshot, or broadcast
+     * right away if the room ticker is off
+     */
+    public void submitMove(String address, int port, PlayerMovedMessage move) {
+        ClientInfo client = getClient(address, port);
+        if (client == null) {
+            return;
+        }
+
+        move = roomTicker.getMovement().filterMove(client, move);
+        if (move == null) {
+            return;
+        }
+
+        if (roomTicker.isRunning()) {
+            roomTicker.submit(client, move);
+        } else {
+            client.updatePosition(move.mapX, move.mapY, move.direction);
+            client.inMovement = move.inMovement;
+            broadcastToRoom(client.currentRoomId, address, port, move);
+        }
+    }
+
+    /**
+     * A player wants to walk to a tile: the server finds the path and
+     * steps it. Only with the ticker running - hello doesn't offer "walk"
+     * otherwise.
+     */
+    public void submitWalk(String address, int port, int targetX, int targetY) {
+        ClientInfo client = getClient(address, port);
+        if (client != null && roomTicker.isRunning()) {
+            roomTicker.getMovement().submitWalk(client, targetX, targetY);
+        }
+    }
+
+    /**
+     * Whether walk intents are handled (offered in the hello reply)
+     */
+    public boolean isServerMovementAvailable() {
+        return ServerConfig.SERVER_MOVEMENT && roomTicker.isRunning();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ROOM LAYOUTS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Use a room's freshly loaded layout (RoomLayoutLoader), unless the room
+     * already has one - the owner's furniture changes are applied to it from
+     * then on. Ignored if the room emptied in the meantime: the layout is
+     * dropped with the room's last player and loaded again for the next.
+     * @return true if the layout was registered
+     */
+    public boolean registerRoomLayout(String roomId, RoomLayout layout) {
+        boolean[] registered = new boolean[1];
+        roomMembers.computeIfPresent(roomId, (id, members) -> {
+            registered[0] = roomLayouts.putIfAbsent(id, layout) == null;
+            return members;
+        });
+        return registered[0];
+    }
+
+    /**
+     * Layout of a room, or null while it is still loading (or nobody is in it)
+     */
+    public RoomLayout getRoomLayout(String roomId) {
+        return roomId != null ? roomLayouts.get(roomId) : null;
+    }
+
+    public int getRoomLayoutCount() {
+        return roomLayouts.size();
+    }
+
+    /**
+     * Registered layouts by room id (read-only view)
+     */
+    public Map<String, RoomLayout> getRoomLayouts() {
+        return Collections.unmodifiableMap(roomLayouts);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CLUSTER
+    // ═══════════════════════════════════════════════════════════
+
+    public void setCluster(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * The cluster this server is a node of, or null when running alone
+     */
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    /**
+     * Node that owns a room if it's not this one, else null
+     */
+    public ClusterNode remoteOwnerOf(String roomId) {
+        Cluster current = cluster;
+        if (current == null || current.isLocal(roomId)) {
+            return null;
+        }
+        return current.ownerOf(roomId);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ADMIN ACTIONS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Replace the in-process bus (before the AdminActionWatcher starts)
+     */
+    public void setAdminBus(AdminActionBus adminBus) {
+        this.adminBus = adminBus;
+    }
+
+    /**
+     * Where admin commands publish KICK / MOVE_PLAYER and the
+     * AdminActionWatcher takes them from
+     */
+    public AdminActionBus getAdminBus() {
+        return adminBus;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // AREA OF INTEREST
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Distance filtering of one room's moves (null = back to the default)
+     */
+    public void setInterestPolicy(String roomId, InterestPolicy policy) {
+        if (policy == null) {
+            interestPolicies.remove(roomId);
+        } else {
+            interestPolicies.put(roomId, policy);
         }
-        return null;
     }
-    
+
+    public InterestPolicy getInterestPolicy(String roomId) {
+        InterestPolicy policy = roomId != null ? interestPolicies.get(roomId) : null;
+        return policy != null ? policy : InterestPolicy.DEFAULT;
+    }
+
+    /**
+     * Rooms with a policy of their own (read-only view)
+     */
+    public Map<String, InterestPolicy> getInterestPolicies() {
+        return Collections.unmodifiableMap(interestPolicies);
+    }
+
+    public RoomTicker getRoomTicker() {
+        return roomTicker;
+    }
+
+    public LoadRecorder getLoadRecorder() {
+        return loadRecorder;
+    }
+
     // ═══════════════════════════════════════════════════════════
     // BROADCASTING - ✨ ROOM-AWARE
     // ═══════════════════════════════════════════════════════════
-    
+
     /**
      * Broadcast message to ALL clients except sender (old method - avoid using)
      */
     @Deprecated
-    public synchronized void broadcast(String senderAddr, int senderPort, String message) {
-        for (ClientInfo client : clients) {
+    public void broadcast(String senderAddr, int senderPort, String message) {
+        for (ClientInfo client : clientsByConnection.values()) {
             if (!client.matches(senderAddr, senderPort)) {
                 client.sendMessage(message);
             }
         }
     }
-    
+
     /**
      * ✨ NEW - Broadcast only to players in the same room
      */
-    public synchronized void broadcastToRoom(String roomId, String senderAddr, 
-                                            int senderPort, String message) {
+    public void broadcastToRoom(String roomId, String senderAddr,
+                                int senderPort, String message) {
         int sentCount = 0;
-        
-        for (ClientInfo client : clients) {
-            // Only send if:
-            // 1. Not the sender
-            // 2. In the same room
-            if (!client.matches(senderAddr, senderPort) && 
-                client.currentRoomId.equals(roomId)) {
-                client.sendMessage(message);
-                sentCount++;
+
+        Set<ClientInfo> members = roomMembers.get(roomId);
+        if (members != null) {
+            for (ClientInfo client : members) {
+                // Only send if not the sender
+                if (!client.matches(senderAddr, senderPort)) {
+                    client.sendMessage(message);
+                    sentCount++;
+                }
             }
         }
-        
-        System.out.println("Broadcast to room '" + roomId + "': " + message + 
-                          " (sent to " + sentCount + " players)");
+
+        ServerMetrics.BROADCAST_FANOUT.record(sentCount);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Broadcast to room '" + roomId + "': " + message +
+                     " (sent to " + sentCount + " players)");
+        }
     }
-    
+
     /**
-     * Send message to specific client
+     * Broadcast a typed message to the room - one instance shared by every
+     * recipient, encoded once per wire format
      */
-    public synchronized void sendTo(String address, int port, String message) {
-        for (ClientInfo client : clients) {
-            if (client.matches(address, port)) {
-                client.sendMessage(message);
-                return;
+    public void broadcastToRoom(String roomId, String senderAddr,
+                                int senderPort, ServerMessage message) {
+        int sentCount = 0;
+
+        Set<ClientInfo> members = roomMembers.get(roomId);
+        if (members != null) {
+            for (ClientInfo client : members) {
+                if (!client.matches(senderAddr, senderPort)) {
+                    client.sendMessage(message);
+                    sentCount++;
+                }
             }
         }
+
+        ServerMetrics.BROADCAST_FANOUT.record(sentCount);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Broadcast to room '" + roomId + "': " + message +
+                     " (sent to " + sentCount + " players)");
+        }
+    }
+
+    /**
+     * Send message to specific client
+     */
+    public void sendTo(String address, int port, String message) {
+        ClientInfo client = getClient(address, port);
+        if (client != null) {
+            client.sendMessage(message);
+        }
+    }
+
+    public void sendTo(String address, int port, ServerMessage message) {
+        ClientInfo client = getClient(address, port);
+        if (client != null) {
+            client.sendMessage(message);
+        }
     }
-    
+
     // ═══════════════════════════════════════════════════════════
     // ROOM QUERIES
     // ═══════════════════════════════════════════════════════════
-    
+
     /**
      * Get all clients in a specific room
      */
-    public synchronized List<ClientInfo> getClientsInRoom(String roomId) {
-        List<ClientInfo> roomClients = new ArrayList<>();
-        for (ClientInfo client : clients) {
-            if (client.currentRoomId.equals(roomId)) {
-                roomClients.add(client);
-            }
-        }
-        return roomClients;
+    public List<ClientInfo> getClientsInRoom(String roomId) {
+        Set<ClientInfo> members = roomMembers.get(roomId);
+        return members != null ? new ArrayList<>(members) : new ArrayList<>();
+    }
+
+    /**
+     * Live member set of a room, for the ticker to iterate without copying
+     */
+    Set<ClientInfo> getRoomMembers(String roomId) {
+        Set<ClientInfo> members = roomMembers.get(roomId);
+        return members != null ? members : Collections.emptySet();
     }
-    
+
     /**
      * Get count of players in a room
      */
-    public synchronized int getRoomPlayerCount(String roomId) {
-        int count = 0;
-        for (ClientInfo client : clients) {
-            if (client.currentRoomId.equals(roomId)) {
-                count++;
+    public int getRoomPlayerCount(String roomId) {
+        Set<ClientInfo> members = roomMembers.get(roomId);
+        return members != null ? members.size() : 0;
+    }
+
+    /**
+     * Player count for every occupied room
+     */
+    public Map<String, Integer> getRoomOccupancy() {
+        Map<String, Integer> occupancy = new HashMap<>();
+        for (Map.Entry<String, Set<ClientInfo>> entry : roomMembers.entrySet()) {
+            int count = entry.getValue().size();
+            if (count > 0) {
+                occupancy.put(entry.getKey(), count);
             }
         }
-        return count;
+        return occupancy;
     }
 
-    // Add these methods to your existing GameServerGroup.java
-
     /**
      * Get ALL connected clients
      */
-    public synchronized List<ClientInfo> getAllClients() {
-        return new ArrayList<>(clients);
+    public List<ClientInfo> getAllClients() {
+        return new ArrayList<>(clientsByConnection.values());
+    }
+
+    public int getClientCount() {
+        return clientsByConnection.size();
     }
 
     /**
-     * Find client by username
+     * Find client by username (case-insensitive)
      */
-    public synchronized ClientInfo getClientByName(String playerName) {
-        for (ClientInfo client : clients) {
-            if (client.playerName != null && client.playerName.equals(playerName)) {
-                return client;
-            }
+    public ClientInfo getClientByName(String playerName) {
+        if (playerName == null) {
+            return null;
         }
-        return null;
+        return clientsByName.get(nameKey(playerName));
     }
 
     /**
      * Broadcast to ALL clients (admin announcements)
      */
-    public synchronized void broadcastToAll(String message) {
-        for (ClientInfo client : clients) {
+    public void broadcastToAll(String message) {
+        for (ClientInfo client : clientsByConnection.values()) {
             client.sendMessage(message);
         }
-        System.out.println("[BROADCAST ALL] " + message);
+        LOG.info("[BROADCAST ALL] " + message);
     }
 }
\ No newline at end of file
@@ -0,0 +1,275 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import network.protocol.PlayerMovedMessage;
+import network.protocol.RoomSnapshotMessage;
+import network.protocol.ServerMessage;
+
+/**
+ * InterestGrid - Area-of-interest fan-out for large rooms
+ *
+ * A room-wide snapshot costs changed players x room members updates per
+ * tick, which is what makes 200-avatar event rooms expensive. For rooms
+ * whose InterestPolicy applies, the ticker hands the tick's changes here
+ * instead. Players are bucketed into square cells of radius tiles, and
+ * each occupied cell gets messages encoded once and shared by all its
+ * players:
+ *
+ * - every tick, the changes in its own and the 8 neighbouring cells
+ *   (everyone within radius, and some up to 2 x radius)
+ * - every farEveryTicks ticks, the latest move of everyone outside that
+ *   neighbourhood who changed since the last far tick - distant avatars
+ *   still move, just coarser, and moves made in between are merged
+ *
+ * Ticker thread only.
+ */
+public class InterestGrid {
+
+    private final GameServerGroup clientGroup;
+    private final int batchSize;
+
+    // Changed since the room's last far tick, latest state wins
+    private final Map<String, Set<ClientInfo>> farPending = new HashMap<>();
+    // Reused between rooms and ticks
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final List<ClientInfo> outgoing = new ArrayList<>();
+    private final Set<String> sentThisTick = new HashSet<>();
+
+    // Metrics: player updates delivered, and what room-wide snapshots would have cost
+    private volatile long nearUpdates = 0;
+    private volatile long farUpdates = 0;
+    private volatile long broadcastUpdates = 0;
+    private volatile long cellSnapshots = 0;
+    private volatile int activeRooms = 0;
+
+    private static final class Cell {
+        final List<ClientInfo> changes = new ArrayList<>();
+        final List<ClientInfo> far = new ArrayList<>();
+        final List<ClientInfo> recipients = new ArrayList<>();
+    }
+
+    public InterestGrid(GameServerGroup clientGroup, int batchSize) {
+        this.clientGroup = clientGroup;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Whether this room's moves go through the grid this tick
+     */
+    public boolean handles(String roomId) {
+        return clientGroup.getInterestPolicy(roomId).appliesTo(clientGroup.getRoomPlayerCount(roomId));
+    }
+
+    /**
+     * Send one tick's changes of a room to the players near them (and,
+     * on a far tick, everything pending to the players far from it)
+     */
+    public void send(String roomId, List<ClientInfo> changes, long tick) {
+        sentThisTick.add(roomId);
+        Set<ClientInfo> pending = farPending.computeIfAbsent(roomId, id -> new LinkedHashSet<>());
+        pending.addAll(changes);
+
+        Set<ClientInfo> members = clientGroup.getRoomMembers(roomId);
+        if (members.isEmpty()) {
+            pending.clear();
+            return;
+        }
+        broadcastUpdates += (long) changes.size() * members.size();
+
+        InterestPolicy policy = clientGroup.getInterestPolicy(roomId);
+        int cellSize = policy.getRadius();
+        boolean farTick = policy.isFarTick(tick);
+
+        for (ClientInfo client : changes) {
+            cell(client, cellSize).changes.add(client);
+        }
+        if (farTick) {
+            for (ClientInfo client : pending) {
+                // Gone or moved on since: its playerLeft already went out
+                if (clientGroup.getClient(client.address, client.port) == client
+                        && roomId.equals(client.currentRoomId)) {
+                    cell(client, cellSize).far.add(client);
+                }
+            }
+            pending.clear();
+        }
+        for (ClientInfo member : members) {
+            cell(member, cellSize).recipients.add(member);
+        }
+
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            if (cell.recipients.isEmpty()) {
+                continue;
+            }
+            int cx = (int) (entry.getKey() >> 32);
+            int cy = (int) entry.getKey().longValue();
+
+            collectNear(cx, cy);
+            if (!outgoing.isEmpty()) {
+                nearUpdates += sendTo(cell.recipients, outgoing);
+            }
+            if (farTick) {
+                collectFar(cx, cy);
+                if (!outgoing.isEmpty()) {
+                    farUpdates += sendTo(cell.recipients, outgoing);
+                }
+            }
+        }
+        cells.clear();
+    }
+
+    /**
+     * End of tick: rooms that had no changes this tick but whose far tick
+     * it is still get what changed since their last one
+     */
+    public void endTick(long tick) {
+        Iterator<Map.Entry<String, Set<ClientInfo>>> it = farPending.entrySet().iterator();
+        List<String> due = new ArrayList<>();
+        while (it.hasNext()) {
+            Map.Entry<String, Set<ClientInfo>> entry = it.next();
+            String roomId = entry.getKey();
+            if (sentThisTick.contains(roomId)) {
+                continue;
+            }
+            if (entry.getValue().isEmpty() && !handles(roomId)) {
+                it.remove();
+            } else if (clientGroup.getInterestPolicy(roomId).isFarTick(tick) && !entry.getValue().isEmpty()) {
+                due.add(roomId);
+            }
+        }
+        for (String roomId : due) {
+            send(roomId, Collections.emptyList(), tick);
+        }
+        activeRooms = farPending.size();
+        sentThisTick.clear();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // GRID
+    // ═══════════════════════════════════════════════════════════
+
+    private Cell cell(ClientInfo client, int cellSize) {
+        long key = key(Math.floorDiv(client.mapX, cellSize), Math.floorDiv(client.mapY, cellSize));
+        return cells.computeIfAbsent(key, k -> new Cell());
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    /**
+     * This tick's changes in the cell and its 8 neighbours
+     */
+    private void collectNear(int cx, int cy) {
+        outgoing.clear();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                Cell neighbour = cells.get(key(cx + dx, cy + dy));
+                if (neighbour != null) {
+                    outgoing.addAll(neighbour.changes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pending far moves from every cell outside the neighbourhood
+     */
+    private void collectFar(int cx, int cy) {
+        outgoing.clear();
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            List<ClientInfo> far = entry.getValue().far;
+            if (far.isEmpty()) {
+                continue;
+            }
+            int fx = (int) (entry.getKey() >> 32);
+            int fy = (int) entry.getKey().longValue();
+            if (Math.abs(fx - cx) > 1 || Math.abs(fy - cy) > 1) {
+                outgoing.addAll(far);
+            }
+        }
+    }
+
+    /**
+     * Send the changes to a cell's players, one shared message per batch.
+     * @return player updates delivered
+     */
+    private long sendTo(List<ClientInfo> recipients, List<ClientInfo> changes) {
+        if (changes.size() == 1) {
+            // A lone mover doesn't need its own move echoed back
+            ClientInfo mover = changes.get(0);
+            int sent = 0;
+            for (ClientInfo recipient : recipients) {
+                if (recipient != mover) {
+                    recipient.sendMessage(mover.lastSentMove);
+                    sent++;
+                }
+            }
+            ServerMetrics.BROADCAST_FANOUT.record(sent);
+            cellSnapshots++;
+            return sent;
+        }
+
+        for (ServerMessage snapshot : snapshots(changes)) {
+            for (ClientInfo recipient : recipients) {
+                recipient.sendMessage(snapshot);
+            }
+            ServerMetrics.BROADCAST_FANOUT.record(recipients.size());
+            cellSnapshots++;
+        }
+        return (long) changes.size() * recipients.size();
+    }
+
+    private List<ServerMessage> snapshots(List<ClientInfo> changes) {
+        List<ServerMessage> snapshots = new ArrayList<>();
+        for (int from = 0; from < changes.size(); from += batchSize) {
+            int to = Math.min(changes.size(), from + batchSize);
+            List<PlayerMovedMessage> moves = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                moves.add(changes.get(i).lastSentMove);
+            }
+            snapshots.add(new RoomSnapshotMessage(moves));
+        }
+        return snapshots;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════
+
+    public long getNearUpdates() {
+        return nearUpdates;
+    }
+
+    public long getFarUpdates() {
+        return farUpdates;
+    }
+
+    /**
+     * Player updates room-wide snapshots would have sent for the same rooms
+     */
+    public long getBroadcastUpdates() {
+        return broadcastUpdates;
+    }
+
+    public long getCellSnapshots() {
+        return cellSnapshots;
+    }
+
+    /**
+     * Rooms currently filtered by distance
+     */
+    public int getActiveRooms() {
+        return activeRooms;
+    }
+}
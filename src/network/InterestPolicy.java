@@ -0,0 +1,63 @@
+package network;
+
+/**
+ * InterestPolicy - Area-of-interest settings of one room
+ *
+ * Rooms with at least minPlayers members stop sending every move to
+ * everyone: players within about radius tiles get each other's moves every
+ * tick, the rest of the room gets them merged every farEveryTicks ticks.
+ * Smaller rooms keep the plain room-wide snapshot.
+ *
+ * Set per room with GameServerGroup.setInterestPolicy() (admin: AOI), the
+ * default comes from ServerConfig.
+ */
+public final class InterestPolicy {
+
+    public static final InterestPolicy OFF = new InterestPolicy(0, 1, Integer.MAX_VALUE);
+
+    public static final InterestPolicy DEFAULT = new InterestPolicy(
+            ServerConfig.AOI_RADIUS, ServerConfig.AOI_FAR_EVERY_TICKS, ServerConfig.AOI_MIN_PLAYERS);
+
+    private final int radius;
+    private final int farEveryTicks;
+    private final int minPlayers;
+
+    public InterestPolicy(int radius, int farEveryTicks, int minPlayers) {
+        this.radius = radius;
+        this.farEveryTicks = Math.max(1, farEveryTicks);
+        this.minPlayers = minPlayers;
+    }
+
+    /**
+     * Whether a room this full is filtered by distance
+     */
+    public boolean appliesTo(int players) {
+        return radius > 0 && players >= minPlayers;
+    }
+
+    /**
+     * Far moves go out on this tick
+     */
+    public boolean isFarTick(long tick) {
+        return tick % farEveryTicks == 0;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int getFarEveryTicks() {
+        return farEveryTicks;
+    }
+
+    public int getMinPlayers() {
+        return minPlayers;
+    }
+
+    @Override
+    public String toString() {
+        return radius > 0
+                ? "radius " + radius + ", far every " + farEveryTicks + " ticks, from " + minPlayers + " players"
+                : "off";
+    }
+}
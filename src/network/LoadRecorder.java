@@ -0,0 +1,255 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import logging.Log;
+import logging.Logger;
+import metrics.Histogram;
+import metrics.TimeSeries;
+import metrics.TimeSeries.Resolution;
+
+/**
+ * LoadRecorder - Server load over time, sampled once a second
+ *
+ * Series (TimeSeries: 1 s for an hour, 1 min for a day):
+ *   clients        connected clients
+ *   rooms          occupied rooms
+ *   messages_in    game commands handled per second (futura_command_nanos counts)
+ *   messages_out   messages queued to clients per second (futura_messages_out_total)
+ *   room:<id>      players in one room
+ *
+ * At most ServerConfig.HISTORY_ROOMS rooms get their own series; when all
+ * are taken, the one empty the longest makes way for a new room (rooms
+ * still busy keep theirs). Memory is bounded by that and the ring sizes,
+ * however long the server runs. Read with the HISTORY admin command.
+ */
+public class LoadRecorder {
+
+    private static final Logger LOG = Log.get(LoadRecorder.class);
+
+    public static final String CLIENTS = "clients";
+    public static final String ROOMS = "rooms";
+    public static final String MESSAGES_IN = "messages_in";
+    public static final String MESSAGES_OUT = "messages_out";
+    public static final String ROOM_PREFIX = "room:";
+
+    private final GameServerGroup clientGroup;
+    private final int maxRooms;
+
+    // Guarded by this
+    private final Map<String, TimeSeries> totals = new LinkedHashMap<>();
+    private final Map<String, RoomSeries> rooms = new LinkedHashMap<>();
+    private long samples = 0;
+    private long lastSampleSecond = 0;
+    private long lastMinuteSecond = 0;
+
+    // Sampler thread only: counter readings of the previous second
+    private long lastMessagesIn = -1;
+    private long lastMessagesOut = -1;
+
+    private ScheduledExecutorService scheduler;
+
+    private static class RoomSeries {
+        final TimeSeries series = new TimeSeries();
+        long lastOccupied;
+    }
+
+    /**
+     * Values of several series over the same span, oldest first
+     */
+    public static class History {
+        public final Resolution resolution;
+        public final long endSecond;      // Epoch second of the newest point (0 before the first)
+        public final Map<String, int[]> series;
+
+        History(Resolution resolution, long endSecond, Map<String, int[]> series) {
+            this.resolution = resolution;
+            this.endSecond = endSecond;
+            this.series = series;
+        }
+    }
+
+    public LoadRecorder(GameServerGroup clientGroup) {
+        this.clientGroup = clientGroup;
+        this.maxRooms = Math.max(0, ServerConfig.HISTORY_ROOMS);
+        totals.put(CLIENTS, new TimeSeries());
+        totals.put(ROOMS, new TimeSeries());
+        totals.put(MESSAGES_IN, new TimeSeries());
+        totals.put(MESSAGES_OUT, new TimeSeries());
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // LIFECYCLE
+    // ═══════════════════════════════════════════════════════════
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "LoadRecorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
+        LOG.info("[HISTORY] Recording load every second (" + maxRooms + " room series)");
+    }
+
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SAMPLING (sampler thread)
+    // ═══════════════════════════════════════════════════════════
+
+    private void sample() {
+        try {
+            // Read the live state before taking the lock
+            int clients = clientGroup.getClientCount();
+            Map<String, Integer> occupancy = clientGroup.getRoomOccupancy();
+            long messagesIn = messagesIn();
+            long messagesOut = ServerMetrics.MESSAGES_OUT.get();
+            int inRate = lastMessagesIn < 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, messagesIn - lastMessagesIn);
+            int outRate = lastMessagesOut < 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, messagesOut - lastMessagesOut);
+            lastMessagesIn = messagesIn;
+            lastMessagesOut = messagesOut;
+
+            record(clients, occupancy, inRate, outRate);
+        } catch (RuntimeException e) {
+            LOG.error("[HISTORY] Sample failed: " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized void record(int clients, Map<String, Integer> occupancy, int inRate, int outRate) {
+        long now = System.currentTimeMillis() / 1000;
+        totals.get(CLIENTS).record(clients);
+        totals.get(ROOMS).record(occupancy.size());
+        totals.get(MESSAGES_IN).record(inRate);
+        totals.get(MESSAGES_OUT).record(outRate);
+        recordRooms(occupancy, now);
+
+        samples++;
+        lastSampleSecond = now;
+        if (samples % Resolution.MINUTE.stepSeconds == 0) {
+            lastMinuteSecond = now;
+            for (TimeSeries series : totals.values()) {
+                series.closeMinute();
+            }
+            for (RoomSeries room : rooms.values()) {
+                room.series.closeMinute();
+            }
+        }
+    }
+
+    private void recordRooms(Map<String, Integer> occupancy, long now) {
+        for (Map.Entry<String, Integer> entry : occupancy.entrySet()) {
+            RoomSeries room = rooms.get(entry.getKey());
+            if (room == null) {
+                room = claimRoomSeries(entry.getKey(), occupancy);
+                if (room == null) {
+                    continue;   // All series taken by rooms in use
+                }
+            }
+            room.lastOccupied = now;
+        }
+        for (Map.Entry<String, RoomSeries> entry : rooms.entrySet()) {
+            entry.getValue().series.record(occupancy.getOrDefault(entry.getKey(), 0));
+        }
+    }
+
+    /**
+     * A series for a newly occupied room: a free one, or the one of the
+     * room empty the longest
+     */
+    private RoomSeries claimRoomSeries(String roomId, Map<String, Integer> occupancy) {
+        RoomSeries room;
+        if (rooms.size() < maxRooms) {
+            room = new RoomSeries();
+        } else {
+            String oldest = null;
+            long oldestOccupied = Long.MAX_VALUE;
+            for (Map.Entry<String, RoomSeries> entry : rooms.entrySet()) {
+                if (!occupancy.containsKey(entry.getKey()) && entry.getValue().lastOccupied < oldestOccupied) {
+                    oldest = entry.getKey();
+                    oldestOccupied = entry.getValue().lastOccupied;
+                }
+            }
+            if (oldest == null) {
+                return null;
+            }
+            room = rooms.remove(oldest);
+            room.series.clear();
+        }
+        rooms.put(roomId, room);
+        return room;
+    }
+
+    /**
+     * Game commands handled so far, all commands together
+     */
+    private static long messagesIn() {
+        long total = 0;
+        for (Histogram histogram : ServerMetrics.REGISTRY.getHistograms().values()) {
+            if (histogram.getName().equals("futura_command_nanos")) {
+                total += histogram.getCount();
+            }
+        }
+        return total;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // QUERIES (any thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * The newest points of the named series (all series if names is empty);
+     * unknown names are left out
+     */
+    public synchronized History query(Resolution resolution, int points, List<String> names) {
+        Map<String, int[]> values = new LinkedHashMap<>();
+        for (String name : names.isEmpty() ? getSeriesNames() : names) {
+            TimeSeries series = find(name);
+            if (series != null) {
+                values.put(name, series.latest(resolution, points));
+            }
+        }
+        long endSecond = resolution == Resolution.MINUTE ? lastMinuteSecond : lastSampleSecond;
+        return new History(resolution, endSecond, values);
+    }
+
+    /**
+     * Totals first, then room series (busiest room series first)
+     */
+    public synchronized List<String> getSeriesNames() {
+        List<String> names = new ArrayList<>(totals.keySet());
+        List<Map.Entry<String, RoomSeries>> byLatest = new ArrayList<>(rooms.entrySet());
+        byLatest.sort((a, b) -> Integer.compare(latest(b.getValue()), latest(a.getValue())));
+        for (Map.Entry<String, RoomSeries> entry : byLatest) {
+            names.add(ROOM_PREFIX + entry.getKey());
+        }
+        return names;
+    }
+
+    private TimeSeries find(String name) {
+        if (name.startsWith(ROOM_PREFIX)) {
+            RoomSeries room = rooms.get(name.substring(ROOM_PREFIX.length()));
+            return room != null ? room.series : null;
+        }
+        return totals.get(name);
+    }
+
+    private static int latest(RoomSeries room) {
+        int[] last = room.series.latest(Resolution.SECOND, 1);
+        return last.length > 0 ? last[0] : 0;
+    }
+}
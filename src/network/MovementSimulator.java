@@ -0,0 +1,384 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import Entity.Entity.Direction;
+import network.protocol.PlayerMovedMessage;
+
+/**
+ * MovementSimulator - Server-authoritative walking, run by the RoomTicker
+ *
+ * Clients that negotiated "walk" send one intent ("walk to x,y") instead of
+ * one move per tile. Each tick the simulator:
+ * 1. plans the latest intent of each player with the room's PathFinder
+ *    (or a cached flow field for popular targets) - at most
+ *    ServerConfig.PATH_BUDGET searches, the rest wait a tick
+ * 2. steps every walking player one tile per ServerConfig.STEP_MILLIS,
+ *    through the ticker's normal move path (merged into the room snapshot)
+ *
+ * A walk that can't be planned or runs into a blocked tile ends with
+ * "positionCorrected <x> <y> <direction>" to the walker.
+ *
+ * Moves from clients still sending tiles themselves are checked against
+ * the room layout here too (filterMove), so nobody stands inside furniture.
+ * A room whose layout is still loading has none: its moves and walks are
+ * rejected (answered with a correction) until it has loaded.
+ */
+public class MovementSimulator {
+
+    static final long NO_WALK = Long.MIN_VALUE;
+
+    public static final String POSITION_CORRECTED = "positionCorrected";
+
+    private final GameServerGroup clientGroup;
+    private final RoomTicker ticker;
+    private final int pathBudget;
+    private final long stepNanos;
+
+    // Players with an unplanned intent (each at most once - see submitWalk)
+    private final ConcurrentLinkedQueue<ClientInfo> walkRequests = new ConcurrentLinkedQueue<>();
+
+    // Ticker thread only
+    private final List<ClientInfo> walkers = new ArrayList<>();
+
+    // Metrics
+    private final LongAdder walkIntents = new LongAdder();
+    private final LongAdder walkIntentsMerged = new LongAdder();
+    private final LongAdder movesRejected = new LongAdder();
+    private volatile long pathsPlanned = 0;
+    private volatile long pathsFailed = 0;
+    private volatile long budgetExhausted = 0;
+    private volatile long steps = 0;
+    private volatile long stepsBlocked = 0;
+    private volatile long totalPathNanos = 0;
+    private volatile long maxPathNanos = 0;
+    private volatile int walkerCount = 0;
+
+    MovementSimulator(GameServerGroup clientGroup, RoomTicker ticker) {
+        this(clientGroup, ticker, ServerConfig.PATH_BUDGET, ServerConfig.STEP_MILLIS);
+    }
+
+    MovementSimulator(GameServerGroup clientGroup, RoomTicker ticker, int pathBudget, long stepMillis) {
+        this.clientGroup = clientGroup;
+        this.ticker = ticker;
+        this.pathBudget = pathBudget;
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(stepMillis);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PRODUCER SIDE (client reader threads / selector loops)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Record a player's walk target for the next tick, replacing any
+     * target that has not been planned yet.
+     */
+    public void submitWalk(ClientInfo client, int targetX, int targetY) {
+        walkIntents.increment();
+        if (client.pendingWalk.getAndSet(pack(targetX, targetY)) == NO_WALK) {
+            walkRequests.add(client);
+        } else {
+            walkIntentsMerged.increment();
+        }
+    }
+
+    /**
+     * Check a client-reported move against the room - rejected while its
+     * layout is still loading.
+     * @return the move to apply, or null if it was rejected (the client
+     *         has been told where it really is)
+     */
+    PlayerMovedMessage filterMove(ClientInfo client, PlayerMovedMessage move) {
+        if (!ServerConfig.SERVER_MOVEMENT) {
+            return move;
+        }
+
+        if (client.serverMovement) {
+            // The server walks this player: only turning in place is up to the client
+            if (client.walking) {
+                return null;
+            }
+            if (move.mapX == client.mapX && move.mapY == client.mapY && !move.inMovement) {
+                return move;
+            }
+            return new PlayerMovedMessage(move.playerId, move.playerName,
+                                          client.mapX, client.mapY, move.direction, false);
+        }
+
+        RoomLayout layout = clientGroup.getRoomLayout(client.currentRoomId);
+        if (layout != null && layout.isWalkable(move.mapX, move.mapY)) {
+            return move;
+        }
+        movesRejected.increment();
+        sendCorrection(client, client.mapX, client.mapY, client.direction);
+        return null;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // TICK (ticker thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Plan new intents and advance walkers - called at the start of each tick
+     */
+    void tick(long now) {
+        planWalks(now);
+        stepWalkers(now);
+    }
+
+    private void planWalks(long now) {
+        int searches = 0;
+        ClientInfo client;
+        while (searches < pathBudget && (client = walkRequests.poll()) != null) {
+            long target = client.pendingWalk.getAndSet(NO_WALK);
+            if (target == NO_WALK || !isConnected(client)) {
+                continue;
+            }
+            plan(client, unpackX(target), unpackY(target), now);
+            searches++;
+        }
+        if (searches == pathBudget && !walkRequests.isEmpty()) {
+            budgetExhausted++;
+        }
+    }
+
+    private void plan(ClientInfo client, int targetX, int targetY, long now) {
+        String roomId = client.currentRoomId;
+
+        // A player already walking turns off from the tile it is on
+        boolean continuing = client.walking && roomId.equals(client.walkRoomId);
+        if (!continuing) {
+            client.walkX = client.mapX;
+            client.walkY = client.mapY;
+        }
+
+        RoomLayout layout = clientGroup.getRoomLayout(roomId);
+        if (layout == null) {
+            // Still loading - nothing to check the walk against yet
+            pathsFailed++;
+            stopWalking(client, true);
+            return;
+        }
+
+        if (client.walkPath == null || client.walkPath.length < layout.getNodeCount()) {
+            client.walkPath = new int[layout.getNodeCount()];
+        }
+
+        long start = System.nanoTime();
+        int length = layout.isWalkable(targetX, targetY)
+                ? layout.findPath(client.walkX, client.walkY, targetX, targetY, client.walkPath)
+                : -1;
+        long elapsed = System.nanoTime() - start;
+        pathsPlanned++;
+        totalPathNanos += elapsed;
+        if (elapsed > maxPathNanos) {
+            maxPathNanos = elapsed;
+        }
+
+        if (length < 0) {
+            pathsFailed++;
+            stopWalking(client, true);
+            return;
+        }
+        if (length == 0) {
+            // Already there
+            stopWalking(client, false);
+            return;
+        }
+
+        client.walkLength = length;
+        client.walkIndex = 0;
+        client.walkRoomId = roomId;
+        client.walkLayout = layout;
+        if (!continuing) {
+            // First tile after one step, like the client's PlayerMovement
+            client.nextStepNanos = now + stepNanos;
+            client.walking = true;
+            if (!client.walkerListed) {
+                client.walkerListed = true;
+                walkers.add(client);
+            }
+        }
+    }
+
+    private void stepWalkers(long now) {
+        for (int i = walkers.size() - 1; i >= 0; i--) {
+            ClientInfo client = walkers.get(i);
+            if (!client.walking || !isConnected(client) || !client.walkRoomId.equals(client.currentRoomId)) {
+                // Left, changed room or stopped - nothing to tell anyone
+                client.walking = false;
+                removeWalker(i);
+                continue;
+            }
+            if (now - client.nextStepNanos < 0) {
+                continue;
+            }
+
+            step(client);
+            if (!client.walking) {
+                removeWalker(i);
+                continue;
+            }
+            client.nextStepNanos += stepNanos;
+            if (now - client.nextStepNanos >= 0) {
+                // Ticks fell behind: don't catch up with a burst of steps
+                client.nextStepNanos = now + stepNanos;
+            }
+        }
+        walkerCount = walkers.size();
+    }
+
+    private void step(ClientInfo client) {
+        RoomLayout layout = client.walkLayout;
+        int id = client.walkPath[client.walkIndex];
+        int x = id % layout.getWidth();
+        int y = id / layout.getWidth();
+
+        if (!layout.isWalkable(x, y)) {
+            // The room changed under the path
+            stepsBlocked++;
+            stopWalking(client, true);
+            return;
+        }
+
+        String direction = directionBetween(client.walkX, client.walkY, x, y);
+        if (direction == null) {
+            direction = client.direction;
+        }
+        client.walkX = x;
+        client.walkY = y;
+        client.walkIndex++;
+        boolean arrived = client.walkIndex >= client.walkLength;
+        if (arrived) {
+            client.walking = false;
+        }
+
+        ticker.submit(client, new PlayerMovedMessage(client.playerId, client.playerName,
+                                                     x, y, direction, !arrived));
+        steps++;
+    }
+
+    private void stopWalking(ClientInfo client, boolean correct) {
+        boolean wasWalking = client.walking;
+        client.walking = false;
+        client.walkLength = 0;
+        client.walkIndex = 0;
+
+        if (wasWalking) {
+            // Others saw it walking - let it stand still where it is
+            ticker.submit(client, new PlayerMovedMessage(client.playerId, client.playerName,
+                                                         client.walkX, client.walkY,
+                                                         client.direction, false));
+        }
+        if (correct) {
+            sendCorrection(client, client.walkX, client.walkY, client.direction);
+        }
+    }
+
+    private void removeWalker(int index) {
+        walkers.get(index).walkerListed = false;
+        walkers.get(index).walkLayout = null;   // Don't keep a dropped room's grid alive
+        int last = walkers.size() - 1;
+        walkers.set(index, walkers.get(last));
+        walkers.remove(last);
+    }
+
+    private boolean isConnected(ClientInfo client) {
+        return clientGroup.getClient(client.address, client.port) == client;
+    }
+
+    private static void sendCorrection(ClientInfo client, int x, int y, String direction) {
+        client.sendMessage(POSITION_CORRECTED + " " + x + " " + y + " " + direction);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // HELPERS
+    // ═══════════════════════════════════════════════════════════
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Direction of a one-tile step - same mapping as the client's PlayerMovement
+     */
+    static String directionBetween(int x1, int y1, int x2, int y2) {
+        int dx = x2 - x1;
+        int dy = y2 - y1;
+
+        if (dx == -1 && dy == -1) return Direction.DIAGONALE_UP.name();
+        if (dx == 1 && dy == 1) return Direction.DIAGONALE_DOWN.name();
+        if (dx == -1 && dy == 0) return Direction.ISO_X_LEFT.name();
+        if (dx == 1 && dy == 0) return Direction.ISO_X_RIGHT.name();
+        if (dx == 0 && dy == -1) return Direction.ISO_Y_UP.name();
+        if (dx == 0 && dy == 1) return Direction.ISO_Y_DOWN.name();
+        if (dx == -1 && dy == 1) return Direction.LEFT.name();
+        if (dx == 1 && dy == -1) return Direction.RIGHT.name();
+        return null;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════
+
+    public int getPathBudget() {
+        return pathBudget;
+    }
+
+    public long getWalkIntents() {
+        return walkIntents.sum();
+    }
+
+    public long getWalkIntentsMerged() {
+        return walkIntentsMerged.sum();
+    }
+
+    public long getMovesRejected() {
+        return movesRejected.sum();
+    }
+
+    public long getPathsPlanned() {
+        return pathsPlanned;
+    }
+
+    public long getPathsFailed() {
+        return pathsFailed;
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    public long getStepsBlocked() {
+        return stepsBlocked;
+    }
+
+    public int getWalkerCount() {
+        return walkerCount;
+    }
+
+    public long getAveragePathMicros() {
+        long count = pathsPlanned;
+        return count > 0 ? TimeUnit.NANOSECONDS.toMicros(totalPathNanos / count) : 0;
+    }
+
+    public long getMaxPathMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxPathNanos);
+    }
+}
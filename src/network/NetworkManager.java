@@ -3,17 +3,38 @@ package network;
 import java.io.*;
 import java.net.*;
 
+import logging.Log;
+import logging.Logger;
 import main.GameConstants;
 import main.GamePanel;
+import object.Furniture;
+import network.protocol.WireBuffer;
+import network.protocol.WireInput;
+import network.protocol.WireProtocol;
 
 public class NetworkManager {
+
+    private static final Logger LOG = Log.get(NetworkManager.class);
+    
+    // Initial server (-Dfutura.server.host / -Dfutura.game.port); a cluster
+    // node may redirect us to another one
+    private String serverHost = System.getProperty("futura.server.host", "localhost");
+    private int serverPort = Integer.getInteger("futura.game.port", 5555);
     
-    private static final String SERVER_HOST = "localhost";
-    private static final int SERVER_PORT = 5555;
+    // Ask the server for the compact binary protocol (-Dfutura.protocol.binary=false to disable)
+    private static final boolean REQUEST_BINARY = Boolean.parseBoolean(
+            System.getProperty("futura.protocol.binary", "true"));
+    // Let the server path and step our player (-Dfutura.movement.server=false to disable)
+    private static final boolean REQUEST_SERVER_MOVEMENT = Boolean.parseBoolean(
+            System.getProperty("futura.movement.server", "true"));
+    private static final int HANDSHAKE_TIMEOUT_MS = 3000;
     
     private Socket socket;
-    private BufferedReader in;
-    private PrintWriter out;
+    private WireInput in;
+    private OutputStream out;
+    private boolean binary = false;
+    private boolean serverMovement = false;
+    private final WireBuffer frame = new WireBuffer(64);   // Guarded by out
     private ServerMessageWatcher watcher;
     private GamePanel gamePanel;
     private boolean connected = false;
@@ -24,24 +45,133 @@ public class NetworkManager {
     
     public boolean connect() {
         try {
-            socket = new Socket(SERVER_HOST, SERVER_PORT);
-            in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            out = new PrintWriter(socket.getOutputStream(), true);
+            openSocket();
+            if ((REQUEST_BINARY || REQUEST_SERVER_MOVEMENT) && !negotiate()) {
+                // No usable answer - start over on a fresh text connection
+                socket.close();
+                openSocket();
+            }
             
-            watcher = new ServerMessageWatcher(this, in, gamePanel);
+            watcher = new ServerMessageWatcher(this, in, binary, gamePanel);
             watcher.start();
             
             connected = true;
-            System.out.println("Connected to server successfully");
+            LOG.info("Connected to server successfully (" +
+                     (binary ? "binary" : "text") + " protocol" +
+                     (serverMovement ? ", server movement" : "") + ")");
             return true;
             
         } catch (IOException e) {
-            System.err.println("Could not connect to server: " + e.getMessage());
+            LOG.warn("Could not connect to server: " + e.getMessage());
             connected = false;
             return false;
         }
     }
     
+    private void openSocket() throws IOException {
+        socket = new Socket(serverHost, serverPort);
+        in = new WireInput(socket.getInputStream());
+        out = new BufferedOutputStream(socket.getOutputStream());
+        binary = false;
+        serverMovement = false;
+    }
+    
+    /**
+     * Cluster: the room we joined or entered is owned by another node.
+     * Drop this connection, connect to the owner and join the room there
+     * at our current position. Called on the watcher thread, which ends
+     * with the old connection.
+     */
+    public synchronized void redirect(String host, int port, String roomId) {
+        LOG.info("Redirected to " + host + ":" + port + " for room: " + roomId);
+        if (watcher != null) {
+            watcher.shutdown();
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+        
+        serverHost = host;
+        serverPort = port;
+        gamePanel.removeAllRemotePlayers();
+        if (!connect()) {
+            return;
+        }
+        sendJoinMessage(
+            gamePanel.player.name,
+            gamePanel.player.gender.toString(),
+            gamePanel.player.movement.xCurrent,
+            gamePanel.player.movement.yCurrent,
+            gamePanel.player.direction.toString(),
+            roomId
+        );
+    }
+    
+    /**
+     * Offer the binary protocol and features and wait for the server's answer.
+     * "hello bin1" switches; "hello text" or an older server's
+     * "error Unknown command" keeps text lines. Features the server
+     * accepted follow the protocol ("hello bin1 walk").
+     * @return false if the server never answered (connection unusable)
+     */
+    private boolean negotiate() throws IOException {
+        String hello = WireProtocol.HELLO_COMMAND + " " +
+                       (REQUEST_BINARY ? WireProtocol.BINARY_V1 : WireProtocol.TEXT);
+        if (REQUEST_SERVER_MOVEMENT) {
+            hello += " " + WireProtocol.FEATURE_WALK;
+        }
+        sendLine(hello);
+        
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+        try {
+            String reply = in.readLine();
+            if (reply == null) {
+                throw new EOFException("Server closed the connection during handshake");
+            }
+            String[] parts = reply.split(" ");
+            if (parts.length >= 2 && parts[0].equals(WireProtocol.HELLO_COMMAND)) {
+                binary = parts[1].equals(WireProtocol.BINARY_V1);
+                for (int i = 2; i < parts.length; i++) {
+                    if (parts[i].equals(WireProtocol.FEATURE_WALK)) {
+                        serverMovement = true;
+                    }
+                }
+            }
+            return true;
+        } catch (SocketTimeoutException e) {
+            LOG.warn("No protocol handshake reply - falling back to text");
+            return false;
+        } finally {
+            socket.setSoTimeout(0);
+        }
+    }
+    
+    // ═══════════════════════════════════════════════════════════
+    // WIRE OUTPUT
+    // ═══════════════════════════════════════════════════════════
+    
+    /**
+     * Send one text protocol line (wrapped in an OP_TEXT frame when binary)
+     */
+    private void sendLine(String line) {
+        synchronized (out) {
+            try {
+                frame.reset();
+                if (binary) {
+                    frame.writeTextFrame(line);
+                } else {
+                    frame.writeLine(line);
+                }
+                frame.writeTo(out);
+                out.flush();
+            } catch (IOException e) {
+                LOG.warn("Error sending to server: " + e.getMessage());
+            }
+        }
+    }
+    
     // ═══════════════════════════════════════════════════════════
     // ORIGINAL VERSION - Keep for backward compatibility
     // ═══════════════════════════════════════════════════════════
@@ -66,29 +196,77 @@ public class NetworkManager {
         if (connected && out != null) {
             String message = "join " + username + " " + gender + " " + 
                            mapX + " " + mapY + " " + direction + " " + roomId;
-            out.println(message);
-            System.out.println("Sent join message with room: " + message);
+            sendLine(message);
+            LOG.info("Sent join message with room: " + message);
         }
     }
     
     public void sendMoveMessage(int mapX, int mapY, String direction, boolean inMovement) {
         if (connected && out != null) {
-            String message = "move " + mapX + " " + mapY + " " + direction + " " + inMovement;
-            out.println(message);
+            if (!binary) {
+                sendLine("move " + mapX + " " + mapY + " " + direction + " " + inMovement);
+                return;
+            }
+            
+            // Binary: OP_MOVE with a packed motion byte, no Strings built
+            synchronized (out) {
+                try {
+                    frame.reset();
+                    int mark = frame.beginFrame();
+                    frame.writeVarint(WireProtocol.OP_MOVE);
+                    frame.writeSignedVarint(mapX);
+                    frame.writeSignedVarint(mapY);
+                    frame.writeByte(WireProtocol.motion(WireProtocol.directionCode(direction), inMovement));
+                    frame.endFrame(mark);
+                    frame.writeTo(out);
+                    out.flush();
+                } catch (IOException e) {
+                    LOG.warn("Error sending to server: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    
+    /**
+     * Walk intent: the server finds the path and steps the player
+     * (only when isServerMovement())
+     */
+    public void sendWalkMessage(int targetX, int targetY) {
+        if (connected && out != null) {
+            if (!binary) {
+                sendLine("walk " + targetX + " " + targetY);
+                return;
+            }
+            
+            synchronized (out) {
+                try {
+                    frame.reset();
+                    int mark = frame.beginFrame();
+                    frame.writeVarint(WireProtocol.OP_WALK);
+                    frame.writeSignedVarint(targetX);
+                    frame.writeSignedVarint(targetY);
+                    frame.endFrame(mark);
+                    frame.writeTo(out);
+                    out.flush();
+                } catch (IOException e) {
+                    LOG.warn("Error sending to server: " + e.getMessage());
+                }
+            }
         }
     }
     
     public void sendChatMessage(String text) {
         if (connected && out != null) {
             String message = "chat " + text;
-            out.println(message);
+            sendLine(message);
         }
     }
     
     public void sendDetailsRequest(String targetAddr, int targetPort) {
         if (connected && out != null) {
             String message = "wantDetails " + targetAddr + " " + targetPort;
-            out.println(message);
+            sendLine(message);
         }
     }
     
@@ -97,13 +275,13 @@ public class NetworkManager {
         if (connected && out != null) {
             String message = "detailsFor " + targetAddr + " " + targetPort + " " + 
                            username + " " + gender + " " + mapX + " " + mapY + " " + direction;
-            out.println(message);
+            sendLine(message);
         }
     }
     
     public void sendByeMessage() {
         if (connected && out != null) {
-            out.println("bye");
+            sendLine("bye");
         }
     }
     
@@ -117,8 +295,19 @@ public class NetworkManager {
     public void sendRoomChange(String roomId) {
         if (connected && out != null) {
             String message = "changeRoom " + roomId;
-            out.println(message);
-            System.out.println("Sent room change: " + roomId);
+            sendLine(message);
+            LOG.info("Sent room change: " + roomId);
+        }
+    }
+    
+    /**
+     * A piece of furniture was placed in or picked up from our room - the
+     * server updates the room's collision grid if the room is ours
+     */
+    public void sendFurnitureChange(Furniture item, boolean placed) {
+        if (connected && out != null) {
+            sendLine("furniture " + (placed ? "add " : "remove ") + item.mapX + " " + item.mapY + " " +
+                     item.tileWidth + " " + item.tileHeight);
         }
     }
     
@@ -128,7 +317,7 @@ public class NetworkManager {
     public void sendLeaveRoom(String roomId) {
         if (connected && out != null) {
             String message = "leaveRoom " + roomId;
-            out.println(message);
+            sendLine(message);
         }
     }
     
@@ -136,13 +325,14 @@ public class NetworkManager {
         connected = false;
         try {
             if (watcher != null) {
+                watcher.shutdown();
                 watcher.interrupt();
             }
             if (socket != null && !socket.isClosed()) {
                 socket.close();
             }
         } catch (IOException e) {
-            System.err.println("Error disconnecting: " + e.getMessage());
+            LOG.warn("Error disconnecting: " + e.getMessage());
         }
     }
 
@@ -153,10 +343,10 @@ public class NetworkManager {
     public void sendFriendRequest(String targetUsername) {
         if (connected && out != null) {
             String message = "friendRequest " + targetUsername;
-            out.println(message);
-            System.out.println("[NETWORK] Sent friend request to: " + targetUsername);
+            sendLine(message);
+            LOG.info("[NETWORK] Sent friend request to: " + targetUsername);
         } else {
-            System.err.println("[NETWORK] Cannot send friend request - not connected");
+            LOG.warn("[NETWORK] Cannot send friend request - not connected");
         }
     }
 
@@ -167,15 +357,22 @@ public class NetworkManager {
         if (connected && out != null) {
             String response = accepted ? "accept" : "reject";
             String message = "friendResponse " + targetUsername + " " + response;
-            out.println(message);
-            System.out.println("[NETWORK] Sent friend response to " + targetUsername + ": " + response);
+            sendLine(message);
+            LOG.info("[NETWORK] Sent friend response to " + targetUsername + ": " + response);
         } else {
-            System.err.println("[NETWORK] Cannot send friend response - not connected");
+            LOG.warn("[NETWORK] Cannot send friend response - not connected");
         }
     }
 
 
     
+    /**
+     * True if the server accepted walk intents and steps our player itself
+     */
+    public boolean isServerMovement() {
+        return serverMovement;
+    }
+    
     /**
      * Check if network is connected
      */
@@ -0,0 +1,267 @@
+package network;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import logging.Log;
+import logging.Logger;
+import network.protocol.ServerMessage;
+import network.protocol.WireBuffer;
+import network.protocol.WireFormat;
+
+/**
+ * OutboundQueue - Bounded per-client queue of outgoing protocol lines
+ *
+ * Senders (broadcasts, commands) only append here and never touch the
+ * socket. A single drainer per client - a writer task in legacy mode, the
+ * selector loop in NIO mode - takes everything queued and writes it with
+ * one flush.
+ *
+ * Entries are text lines or typed ServerMessages; the drainer encodes them
+ * in the client's WireFormat, which a handshake can switch mid-stream.
+ *
+ * Overflow policy (see ServerConfig):
+ * 1. A full queue first evicts its oldest move whose players all have a newer
+ *    move queued behind it (their last known positions are never dropped)
+ * 2. If nothing can be evicted the new line is dropped and counted as an overflow
+ * 3. Too many overflows before the queue drains empty disconnects the client
+ */
+public class OutboundQueue {
+
+    private static final Logger LOG = Log.get(OutboundQueue.class);
+
+    private static final String MOVE_PREFIX = "playerMoved ";
+
+    private final ArrayDeque<Object> lines = new ArrayDeque<>();
+    private final int capacity;
+    private final Runnable drainTrigger;
+    private final Runnable overflowDisconnect;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final LongAdder droppedMoves = new LongAdder();
+    private final LongAdder droppedLines = new LongAdder();
+    private int overflowStrikes = 0;
+    private volatile int depth = 0;
+    private volatile boolean closed = false;
+    private volatile boolean overflowed = false;
+
+    // Drainer-side encoding, switched in queue order by a WireFormat entry
+    private WireFormat format = WireFormat.TEXT;
+
+    /**
+     * @param drainTrigger       called when the queue goes from idle to having work
+     * @param overflowDisconnect called once when the client overflows too often
+     */
+    public OutboundQueue(Runnable drainTrigger, Runnable overflowDisconnect) {
+        this(ServerConfig.OUTBOUND_QUEUE_CAPACITY, drainTrigger, overflowDisconnect);
+    }
+
+    public OutboundQueue(int capacity, Runnable drainTrigger, Runnable overflowDisconnect) {
+        this.capacity = capacity;
+        this.drainTrigger = drainTrigger;
+        this.overflowDisconnect = overflowDisconnect;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PRODUCER SIDE (any thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Queue one line (without line terminator).
+     * @return false if the line was dropped
+     */
+    public boolean offer(String line) {
+        return counted(enqueue(line));
+    }
+
+    /**
+     * Queue a typed message (the same instance may sit in many queues).
+     * @return false if the message was dropped
+     */
+    public boolean offer(ServerMessage message) {
+        return counted(enqueue(message));
+    }
+
+    private static boolean counted(boolean queued) {
+        if (queued) {
+            ServerMetrics.MESSAGES_OUT.increment();
+        }
+        return queued;
+    }
+
+    /**
+     * Encode everything queued after this call in another format
+     * (protocol handshake). Lines queued before it keep the old format.
+     */
+    public void switchFormat(WireFormat newFormat) {
+        enqueue(newFormat);
+    }
+
+    private boolean enqueue(Object entry) {
+        boolean disconnect = false;
+
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+
+            if (lines.size() >= capacity && !evictStaleMove()) {
+                droppedLines.increment();
+                overflowStrikes++;
+                if (overflowStrikes >= ServerConfig.OUTBOUND_MAX_OVERFLOWS) {
+                    closed = true;
+                    overflowed = true;
+                    lines.clear();
+                    depth = 0;
+                    disconnect = true;
+                } else {
+                    return false;
+                }
+            } else {
+                lines.addLast(entry);
+                depth = lines.size();
+            }
+        }
+
+        if (disconnect) {
+            LOG.warn("[OUTBOUND] Queue overflowed " + ServerConfig.OUTBOUND_MAX_OVERFLOWS +
+                     " times - disconnecting slow client");
+            overflowDisconnect.run();
+            return false;
+        }
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            drainTrigger.run();
+        }
+        return true;
+    }
+
+    private boolean evictStaleMove() {
+        if (!ServerConfig.OUTBOUND_DROP_STALE_MOVES) {
+            return false;
+        }
+        // Newest first: remember who has a later move, keep the oldest entry
+        // whose players all do
+        Set<String> movedLater = new HashSet<>();
+        Object stale = null;
+        Iterator<Object> it = lines.descendingIterator();
+        while (it.hasNext()) {
+            Object entry = it.next();
+            List<String> players = movedPlayers(entry);
+            if (players.isEmpty()) {
+                continue;
+            }
+            if (movedLater.containsAll(players)) {
+                stale = entry;
+            } else {
+                movedLater.addAll(players);
+            }
+        }
+        if (stale == null) {
+            return false;
+        }
+        lines.removeFirstOccurrence(stale);
+        droppedMoves.increment();
+        return true;
+    }
+
+    private static List<String> movedPlayers(Object entry) {
+        if (entry instanceof ServerMessage) {
+            return ((ServerMessage) entry).movedPlayers();
+        }
+        if (entry instanceof String && ((String) entry).startsWith(MOVE_PREFIX)) {
+            // playerMoved <username> ...
+            String line = (String) entry;
+            int end = line.indexOf(' ', MOVE_PREFIX.length());
+            return Collections.singletonList(line.substring(MOVE_PREFIX.length(), end < 0 ? line.length() : end));
+        }
+        return Collections.emptyList();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // DRAINER SIDE (one thread at a time)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Encode every queued entry into the buffer.
+     * @return number of entries taken
+     */
+    public synchronized int drainInto(WireBuffer out) {
+        int count = lines.size();
+        Object entry;
+        while ((entry = lines.pollFirst()) != null) {
+            if (entry instanceof WireFormat) {
+                format = (WireFormat) entry;
+            } else {
+                format.encode(entry, out);
+            }
+        }
+        depth = 0;
+        overflowStrikes = 0;
+        return count;
+    }
+
+    /**
+     * Blocking drain for socket writers: write everything, flush once,
+     * and repeat while producers kept adding.
+     */
+    public void drainTo(OutputStream stream) throws IOException {
+        WireBuffer batch = new WireBuffer();
+        do {
+            while (drainInto(batch) > 0) {
+                batch.writeTo(stream);
+                batch.reset();
+            }
+            stream.flush();
+        } while (finishDrain());
+    }
+
+    /**
+     * Release the drain slot. Returns true if more lines arrived meanwhile
+     * and the caller still owns the slot and should drain again.
+     */
+    public boolean finishDrain() {
+        drainScheduled.set(false);
+        return !isEmpty() && drainScheduled.compareAndSet(false, true);
+    }
+
+    public synchronized boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            lines.clear();
+            depth = 0;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getDroppedMoves() {
+        return droppedMoves.sum();
+    }
+
+    public long getDroppedLines() {
+        return droppedLines.sum();
+    }
+
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+}
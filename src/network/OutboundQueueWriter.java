@@ -0,0 +1,59 @@
+package network;
+
+import java.io.Writer;
+
+/**
+ * OutboundQueueWriter - Lets PrintWriter-based code feed an OutboundQueue
+ *
+ * Commands keep calling ctx.out.println(...). On flush (autoflush after
+ * every println) each completed line is handed to the queue, so direct
+ * replies and room broadcasts reach the client in the order they were sent.
+ */
+public class OutboundQueueWriter extends Writer {
+
+    private final OutboundQueue queue;
+    private final StringBuilder pending = new StringBuilder(128);
+
+    public OutboundQueueWriter(OutboundQueue queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        synchronized (lock) {
+            pending.append(cbuf, off, len);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        synchronized (lock) {
+            pending.append(str, off, off + len);
+        }
+    }
+
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            int start = 0;
+            int newline;
+            while ((newline = pending.indexOf("\n", start)) != -1) {
+                int end = newline;
+                if (end > start && pending.charAt(end - 1) == '\r') {
+                    end--;
+                }
+                queue.offer(pending.substring(start, end));
+                start = newline + 1;
+            }
+            pending.delete(0, start);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            pending.setLength(0);
+        }
+        queue.close();
+    }
+}
@@ -0,0 +1,257 @@
+package network;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import pathfinding.FlowFieldCache;
+import pathfinding.PathFinder;
+
+/**
+ * RoomLayout - Server-side walkability grid of one room
+ *
+ * Built from the room's tile map (negative tile = no floor) and the
+ * footprints of its placed furniture, as the backend stores the room
+ * (RoomLayoutLoader). Pieces never overlap and only the room's owner
+ * places or picks them up. Floor and furniture changes can be made from
+ * any thread; each changed tile is queued and handed to the PathFinder by
+ * the room ticker before its next search, which drops only the flow
+ * fields the tile affects.
+ *
+ * The PathFinder and its FlowFieldCache are created on first use and only
+ * touched by the room ticker thread, so every search in a room reuses the
+ * same arrays, and popular targets cost one flow field build for everyone.
+ */
+public class RoomLayout {
+
+    private final int width;
+    private final int height;
+    private final String owner;   // null: nobody edits its furniture
+
+    // index = y * width + x; guarded by this, solid is also read without it
+    private final boolean[] noFloor;
+    private final boolean[] furniture;   // Covered by a piece
+    private final boolean[] solid;
+    private final Set<Long> pieces = new HashSet<>();   // Footprints (see footprint())
+
+    // Tiles whose solidity changed since the ticker last looked
+    private final ConcurrentLinkedQueue<Integer> changedTiles = new ConcurrentLinkedQueue<>();
+
+    // Ticker thread only
+    private PathFinder pathFinder;
+    private volatile FlowFieldCache flowFields;
+
+    public RoomLayout(int width, int height) {
+        this(width, height, null);
+    }
+
+    public RoomLayout(int width, int height, String owner) {
+        this.width = width;
+        this.height = height;
+        this.owner = owner;
+        this.noFloor = new boolean[width * height];
+        this.furniture = new boolean[width * height];
+        this.solid = new boolean[width * height];
+    }
+
+    /**
+     * An unfurnished room from its tile map ([x][y], a negative tile has no
+     * floor); only the owner may place or pick up furniture in it
+     */
+    public static RoomLayout fromTileMap(int[][] tileMap, String owner) {
+        int width = tileMap.length;
+        int height = width > 0 ? tileMap[0].length : 0;
+
+        RoomLayout layout = new RoomLayout(width, height, owner);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                // A short column is missing floor
+                if (y >= tileMap[x].length || tileMap[x][y] < 0) {
+                    layout.setFloor(x, y, false);
+                }
+            }
+        }
+        return layout;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // EDITS (any thread)
+    // ═══════════════════════════════════════════════════════════
+
+    public synchronized void setFloor(int x, int y, boolean hasFloor) {
+        if (contains(x, y)) {
+            noFloor[y * width + x] = !hasFloor;
+            update(y * width + x);
+        }
+    }
+
+    /**
+     * A piece of furniture placed at (mapX, mapY) now blocks its footprint
+     * @return false if the footprint leaves the floor or overlaps another piece
+     */
+    public synchronized boolean addFurniture(int mapX, int mapY, int tileWidth, int tileHeight) {
+        if (tileWidth < 1 || tileHeight < 1 || !contains(mapX, mapY) ||
+                !contains(mapX + tileWidth - 1, mapY + tileHeight - 1)) {
+            return false;
+        }
+        for (int x = mapX; x < mapX + tileWidth; x++) {
+            for (int y = mapY; y < mapY + tileHeight; y++) {
+                if (solid[y * width + x]) {
+                    return false;
+                }
+            }
+        }
+        pieces.add(footprint(mapX, mapY, tileWidth, tileHeight));
+        coverFootprint(mapX, mapY, tileWidth, tileHeight, true);
+        return true;
+    }
+
+    /**
+     * A piece picked up from (mapX, mapY) no longer blocks its footprint -
+     * moving a piece is a remove at the old spot and an add at the new one
+     * @return false if no such piece stands there
+     */
+    public synchronized boolean removeFurniture(int mapX, int mapY, int tileWidth, int tileHeight) {
+        if (!contains(mapX, mapY) || !pieces.remove(footprint(mapX, mapY, tileWidth, tileHeight))) {
+            return false;
+        }
+        coverFootprint(mapX, mapY, tileWidth, tileHeight, false);
+        return true;
+    }
+
+    private void coverFootprint(int mapX, int mapY, int tileWidth, int tileHeight, boolean covered) {
+        for (int x = mapX; x < mapX + tileWidth; x++) {
+            for (int y = mapY; y < mapY + tileHeight; y++) {
+                furniture[y * width + x] = covered;
+                update(y * width + x);
+            }
+        }
+    }
+
+    // Pieces in a room of at most 65535 x 65535 tiles
+    private static long footprint(int mapX, int mapY, int tileWidth, int tileHeight) {
+        return ((long) mapX << 48) | ((long) mapY << 32) | ((long) (tileWidth & 0xFFFF) << 16) | (tileHeight & 0xFFFF);
+    }
+
+    private void update(int id) {
+        boolean blocked = noFloor[id] || furniture[id];
+        if (solid[id] != blocked) {
+            solid[id] = blocked;
+            changedTiles.add(id);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Whether this player may place and pick up furniture here
+     */
+    public boolean isOwner(String username) {
+        return owner != null && owner.equalsIgnoreCase(username);
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Inside the room and not blocked
+     */
+    public boolean isWalkable(int x, int y) {
+        return contains(x, y) && !solid[y * width + x];
+    }
+
+    /**
+     * Path search (room ticker thread only) - same contract as
+     * PathFinder.findPath(..., int[]), answered from a flow field when
+     * the target is popular. pathOut needs getNodeCount() entries.
+     */
+    int findPath(int startX, int startY, int goalX, int goalY, int[] pathOut) {
+        PathFinder finder = getPathFinder();
+        return flowFields != null
+                ? flowFields.findPath(startX, startY, goalX, goalY, pathOut)
+                : finder.findPath(startX, startY, goalX, goalY, pathOut);
+    }
+
+    /**
+     * This room's PathFinder, brought up to date with the latest edits
+     * (room ticker thread only)
+     */
+    PathFinder getPathFinder() {
+        if (pathFinder == null) {
+            pathFinder = new PathFinder(width, height);
+            pathFinder.setStrategy(chooseStrategy(width * height));
+            if (ServerConfig.FLOW_FIELDS > 0) {
+                flowFields = new FlowFieldCache(pathFinder, ServerConfig.FLOW_FIELDS,
+                                                ServerConfig.FLOW_FIELD_THRESHOLD);
+            }
+            changedTiles.clear();
+            for (int id = 0; id < solid.length; id++) {
+                if (solid[id]) {
+                    pathFinder.setSolid(id % width, id / width, true);
+                }
+            }
+        }
+
+        Integer id;
+        while ((id = changedTiles.poll()) != null) {
+            // Flow fields that can't see this tile survive the change
+            pathFinder.setSolid(id % width, id / width, solid[id]);
+        }
+        return pathFinder;
+    }
+
+    /**
+     * Jump Point Search pays off in big open rooms; small rooms keep A*
+     */
+    static PathFinder.Strategy chooseStrategy(int tiles) {
+        switch (ServerConfig.PATH_STRATEGY.toLowerCase()) {
+            case "astar":
+                return PathFinder.Strategy.A_STAR;
+            case "jps":
+                return PathFinder.Strategy.JUMP_POINT;
+            default:
+                return tiles >= ServerConfig.PATH_JPS_MIN_TILES
+                        ? PathFinder.Strategy.JUMP_POINT : PathFinder.Strategy.A_STAR;
+        }
+    }
+
+    /**
+     * Strategy this room searches with (decided on its first search)
+     */
+    public PathFinder.Strategy getStrategy() {
+        return chooseStrategy(width * height);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getNodeCount() {
+        return width * height;
+    }
+
+    public int getSolidCount() {
+        int count = 0;
+        for (boolean blocked : solid) {
+            if (blocked) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Flow field cache of this room, or null before its first search
+     * (or with futura.movement.flowFields=0)
+     */
+    public FlowFieldCache getFlowFields() {
+        return flowFields;
+    }
+}
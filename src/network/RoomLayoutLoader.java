@@ -0,0 +1,114 @@
+package network;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import logging.Log;
+import logging.Logger;
+import service.api.HttpClient;
+
+/**
+ * RoomLayoutLoader - Builds a room's layout when its first player enters,
+ * from the room as the backend stores it (ServerConfig.ROOMS_API, the API
+ * the client's RoomApiClient uses)
+ *
+ * Loads off the caller's thread - joins run on selector loops and handler
+ * threads - and registers the layout with the GameServerGroup when done;
+ * until then the room's moves and walks are rejected.
+ * A room the backend doesn't know (the load generator's rooms) or can't be
+ * asked about gets an open DEFAULT_ROOM_WIDTH x DEFAULT_ROOM_HEIGHT floor
+ * nobody can furnish.
+ */
+public class RoomLayoutLoader {
+
+    private static final Logger LOG = Log.get(RoomLayoutLoader.class);
+
+    /**
+     * The fields of the backend's room JSON a layout needs - model.room.Room
+     * can't be read on the server (its Furniture carries an image)
+     */
+    private static class BackendRoom {
+        String ownerUsername;
+        int[][] tileMap;
+        List<BackendFurniture> furniture;
+    }
+
+    private static class BackendFurniture {
+        int mapX;
+        int mapY;
+        int tileWidth;
+        int tileHeight;
+        boolean placed;
+    }
+
+    private final GameServerGroup clientGroup;
+    private final ExecutorService loaders = ServerExecutors.newPerTaskExecutor("RoomLoader");
+    private volatile HttpClient backend;
+    private volatile boolean backendUsable;
+
+    RoomLayoutLoader(GameServerGroup clientGroup) {
+        this.clientGroup = clientGroup;
+        this.backendUsable = !ServerConfig.ROOMS_API.isEmpty();
+    }
+
+    /**
+     * Load the room's layout in the background
+     */
+    void load(String roomId) {
+        loaders.execute(() -> {
+            RoomLayout layout;
+            try {
+                layout = fetch(roomId);
+            } catch (RuntimeException e) {
+                // Moves in the room are rejected until it has a layout, so it always gets one
+                LOG.warn("Room '" + roomId + "' from the backend unusable (" + e + ") - using a default floor");
+                layout = defaultFloor();
+            }
+            if (clientGroup.registerRoomLayout(roomId, layout) && LOG.isDebugEnabled()) {
+                LOG.debug("Room layout of '" + roomId + "' loaded: " + layout.getWidth() + "x" +
+                          layout.getHeight() + ", " + layout.getSolidCount() + " blocked tiles");
+            }
+        });
+    }
+
+    private RoomLayout fetch(String roomId) {
+        BackendRoom room = backendUsable ? request(roomId) : null;
+        if (room == null || room.tileMap == null || room.tileMap.length == 0) {
+            return defaultFloor();
+        }
+
+        RoomLayout layout = RoomLayout.fromTileMap(room.tileMap, room.ownerUsername);
+        if (room.furniture != null) {
+            for (BackendFurniture item : room.furniture) {
+                if (item.placed) {
+                    layout.addFurniture(item.mapX, item.mapY, item.tileWidth, item.tileHeight);
+                }
+            }
+        }
+        return layout;
+    }
+
+    private static RoomLayout defaultFloor() {
+        return new RoomLayout(ServerConfig.DEFAULT_ROOM_WIDTH, ServerConfig.DEFAULT_ROOM_HEIGHT);
+    }
+
+    private BackendRoom request(String roomId) {
+        try {
+            HttpClient client = backend;
+            if (client == null) {
+                client = new HttpClient(ServerConfig.ROOMS_API);
+                backend = client;
+            }
+            // Logs and returns null if the backend is down or has no such room
+            return client.get("/" + URLEncoder.encode(roomId, StandardCharsets.UTF_8), BackendRoom.class);
+        } catch (LinkageError e) {
+            // Started without the client libraries (Gson) on the class path
+            backendUsable = false;
+            LOG.warn("Room backend unusable (" + e + ") - every room is a default " +
+                     ServerConfig.DEFAULT_ROOM_WIDTH + "x" + ServerConfig.DEFAULT_ROOM_HEIGHT + " floor");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import logging.Log;
+import logging.Logger;
+import network.protocol.PlayerMovedMessage;
+import network.protocol.RoomSnapshotMessage;
+
+/**
+ * RoomTicker - Fixed-rate room simulation tick
+ *
+ * Moves no longer go out the moment they arrive. Each player keeps only
+ * its latest move; every tick (ServerConfig.TICK_RATE_HZ) the ticker
+ * collects the players that moved, drops updates that change nothing,
+ * and sends each room one snapshot of the players that changed - so a
+ * client gets one message and one flush per tick instead of one per move.
+ *
+ * Each tick starts with the MovementSimulator, which plans walk intents
+ * and feeds the steps of server-walked players in as ordinary moves.
+ * Rooms big enough for their InterestPolicy send through the
+ * InterestGrid instead: near players every tick, far ones coarser.
+ */
+public class RoomTicker {
+
+    private static final Logger LOG = Log.get(RoomTicker.class);
+
+    private final GameServerGroup clientGroup;
+    private final int tickRateHz;
+    private final int batchSize;
+    private final MovementSimulator movement;
+    private final InterestGrid interest;
+
+    // Players with a pending move (each at most once - see submit)
+    private final ConcurrentLinkedQueue<ClientInfo> dirtyClients = new ConcurrentLinkedQueue<>();
+
+    // Tick thread only: changed players per room, reused between ticks
+    private final Map<String, List<ClientInfo>> changesByRoom = new HashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running = false;
+
+    // Metrics
+    private final LongAdder movesReceived = new LongAdder();
+    private final LongAdder movesMerged = new LongAdder();
+    private volatile long ticks = 0;
+    private volatile long overruns = 0;
+    private volatile long unchangedSkipped = 0;
+    private volatile long snapshotsSent = 0;
+    private volatile long playersSent = 0;
+    private volatile long lastTickNanos = 0;
+    private volatile long maxTickNanos = 0;
+    private volatile long totalTickNanos = 0;
+    private volatile int lastTickPlayers = 0;
+
+    public RoomTicker(GameServerGroup clientGroup) {
+        this(clientGroup, ServerConfig.TICK_RATE_HZ, ServerConfig.TICK_BATCH_SIZE);
+    }
+
+    public RoomTicker(GameServerGroup clientGroup, int tickRateHz, int batchSize) {
+        this.clientGroup = clientGroup;
+        this.tickRateHz = tickRateHz;
+        this.batchSize = batchSize;
+        this.movement = new MovementSimulator(clientGroup, this);
+        this.interest = new InterestGrid(clientGroup, batchSize);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // LIFECYCLE
+    // ═══════════════════════════════════════════════════════════
+
+    public synchronized void start() {
+        if (running || tickRateHz <= 0) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "RoomTicker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / tickRateHz;
+        scheduler.scheduleAtFixedRate(this::tick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        running = true;
+
+        LOG.info("[TICK] Room ticker started at " + tickRateHz + " Hz (batch " + batchSize + ")");
+    }
+
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+        // Anything still pending goes out right away
+        tick();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PRODUCER SIDE (client reader threads / selector loops)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Record a player's latest move for the next tick, replacing any
+     * move that has not been sent yet.
+     */
+    public void submit(ClientInfo client, PlayerMovedMessage move) {
+        movesReceived.increment();
+        if (client.pendingMove.getAndSet(move) == null) {
+            dirtyClients.add(client);
+        } else {
+            movesMerged.increment();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // TICK (ticker thread)
+    // ═══════════════════════════════════════════════════════════
+
+    private synchronized void tick() {
+        long start = System.nanoTime();
+        int changedPlayers = 0;
+
+        try {
+            movement.tick(start);
+
+            ClientInfo client;
+            while ((client = dirtyClients.poll()) != null) {
+                PlayerMovedMessage move = client.pendingMove.getAndSet(null);
+                if (move == null) {
+                    continue;
+                }
+                // Disconnected since the move arrived
+                if (clientGroup.getClient(client.address, client.port) != client) {
+                    continue;
+                }
+                // Delta: only players whose position/direction/movement changed
+                if (!client.applyMove(move)) {
+                    unchangedSkipped++;
+                    continue;
+                }
+                changesByRoom.computeIfAbsent(client.currentRoomId, id -> new ArrayList<>()).add(client);
+                changedPlayers++;
+            }
+
+            for (Map.Entry<String, List<ClientInfo>> entry : changesByRoom.entrySet()) {
+                List<ClientInfo> changes = entry.getValue();
+                if (!changes.isEmpty()) {
+                    if (interest.handles(entry.getKey())) {
+                        interest.send(entry.getKey(), changes, ticks);
+                    } else {
+                        sendSnapshots(entry.getKey(), changes);
+                    }
+                    changes.clear();
+                }
+            }
+            interest.endTick(ticks);
+        } catch (RuntimeException e) {
+            // An exception would silently cancel the scheduled task
+            LOG.error("[TICK] Tick failed: " + e, e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        ticks++;
+        lastTickNanos = elapsed;
+        totalTickNanos += elapsed;
+        lastTickPlayers = changedPlayers;
+        if (elapsed > maxTickNanos) {
+            maxTickNanos = elapsed;
+        }
+        if (tickRateHz > 0 && elapsed > TimeUnit.SECONDS.toNanos(1) / tickRateHz) {
+            overruns++;
+        }
+    }
+
+    private void sendSnapshots(String roomId, List<ClientInfo> changes) {
+        if (changes.size() == 1) {
+            // A lone mover doesn't need its own move echoed back
+            ClientInfo mover = changes.get(0);
+            clientGroup.broadcastToRoom(roomId, mover.address, mover.port, mover.lastSentMove);
+            snapshotsSent++;
+            playersSent++;
+            return;
+        }
+
+        for (int from = 0; from < changes.size(); from += batchSize) {
+            int to = Math.min(changes.size(), from + batchSize);
+            List<PlayerMovedMessage> moves = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                moves.add(changes.get(i).lastSentMove);
+            }
+            RoomSnapshotMessage snapshot = new RoomSnapshotMessage(moves);
+            clientGroup.broadcastToRoom(roomId, null, -1, snapshot);
+            snapshotsSent++;
+            playersSent += snapshot.size();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════
+
+    public MovementSimulator getMovement() {
+        return movement;
+    }
+
+    public InterestGrid getInterest() {
+        return interest;
+    }
+
+    public int getTickRateHz() {
+        return tickRateHz;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getMovesReceived() {
+        return movesReceived.sum();
+    }
+
+    public long getMovesMerged() {
+        return movesMerged.sum();
+    }
+
+    public long getUnchangedSkipped() {
+        return unchangedSkipped;
+    }
+
+    public long getSnapshotsSent() {
+        return snapshotsSent;
+    }
+
+    public long getPlayersSent() {
+        return playersSent;
+    }
+
+    public int getLastTickPlayers() {
+        return lastTickPlayers;
+    }
+
+    public long getLastTickMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(lastTickNanos);
+    }
+
+    public long getMaxTickMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxTickNanos);
+    }
+
+    public long getAverageTickMicros() {
+        long count = ticks;
+        return count > 0 ? TimeUnit.NANOSECONDS.toMicros(totalTickNanos / count) : 0;
+    }
+}
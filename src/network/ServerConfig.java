@@ -0,0 +1,141 @@
+package network;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Game server configuration
+ *
+ * Defaults can be overridden at launch with -D system properties, e.g.
+ * java -Dfutura.server.mode=nio -cp bin network.GameServer
+ */
+public class ServerConfig {
+
+    private static final Logger LOG = Log.get(ServerConfig.class);
+
+    public enum ServerMode {
+        LEGACY,     // One ClientHandler thread per socket
+        NIO         // Selector event loops, non-blocking channels
+    }
+
+    public static final int GAME_PORT = Integer.getInteger("futura.game.port", 5555);
+    public static final int ADMIN_PORT = Integer.getInteger("futura.admin.port", 5001);
+    public static final String ADMIN_HOST = System.getProperty("futura.admin.host", "0.0.0.0");
+    public static final String ADMIN_SECRET = System.getProperty("futura.admin.secret", "your-secret-key-123");
+
+    // Admin console: max bytes of output queued per console before a command
+    // waits for it to read (a console that stops reading is disconnected)
+    public static final int ADMIN_MAX_OUTPUT = Integer.getInteger("futura.admin.maxOutput", 1024 * 1024);
+
+    // WATCH: how often player changes are collected and pushed to dashboards
+    public static final int ADMIN_WATCH_INTERVAL_MS = Integer.getInteger("futura.admin.watchInterval", 500);
+
+    // Cluster mode: this node's id in the membership file (unset = single server).
+    // Rooms are owned by nodes through consistent hashing on the room id; the
+    // node's game port comes from its membership line. The peer secret has no
+    // default: a node will not start without one.
+    public static final String CLUSTER_NODE = System.getProperty("futura.cluster.node");
+    public static final String CLUSTER_FILE = System.getProperty("futura.cluster.file", "data/cluster.txt");
+    public static final String CLUSTER_SECRET = System.getProperty("futura.cluster.secret");
+
+    // How KICK / MOVE_PLAYER reach the game server: "memory" (in-process queue),
+    // "socket" (also accepts actions from other local processes on ADMIN_BUS_SOCKET)
+    // or "journal" (memory-mapped file, pending actions survive a restart)
+    public static final String ADMIN_BUS = System.getProperty("futura.admin.bus", "memory");
+    public static final String ADMIN_BUS_SOCKET = System.getProperty("futura.admin.bus.socket", "data/admin_bus.sock");
+
+    // I/O mode (a "--nio" / "--legacy" program argument takes precedence)
+    public static final String MODE_PROPERTY = "futura.server.mode";
+
+    // NIO: number of selector loops
+    public static final int NIO_LOOPS = Integer.getInteger("futura.nio.loops",
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+
+    // Legacy mode: threads that run the blocking ClientHandler loops -
+    // "platform" (one OS thread per socket) or "virtual" (Java 21+; platform on older JVMs)
+    public static final String HANDLER_THREADS = System.getProperty("futura.handler.threads", "platform");
+
+    // Per-client outbound queue: max queued lines before the overflow policy kicks in
+    public static final int OUTBOUND_QUEUE_CAPACITY = Integer.getInteger("futura.outbound.capacity", 1024);
+
+    // When the queue is full, evict the oldest queued move that a newer move
+    // of the same player replaces
+    public static final boolean OUTBOUND_DROP_STALE_MOVES = Boolean.parseBoolean(
+            System.getProperty("futura.outbound.dropStaleMoves", "true"));
+
+    // Overflows (nothing evictable) tolerated before the client is disconnected
+    public static final int OUTBOUND_MAX_OVERFLOWS = Integer.getInteger("futura.outbound.maxOverflows", 3);
+
+    // Room simulation tick: moves are merged per player and sent as one snapshot
+    // per room and tick (0 = rebroadcast every move immediately)
+    public static final int TICK_RATE_HZ = Integer.getInteger("futura.tick.rate", 20);
+
+    // Max players per snapshot frame; busier rooms get several frames per tick
+    public static final int TICK_BATCH_SIZE = Math.max(1, Integer.getInteger("futura.tick.batchSize", 64));
+
+    // Server-authoritative movement: clients that negotiate "walk" send one walk intent,
+    // the server finds the path and steps the player (needs the room ticker)
+    public static final boolean SERVER_MOVEMENT = Boolean.parseBoolean(
+            System.getProperty("futura.movement.server", "true"));
+
+    // Time per tile step - same pace as the client's PlayerMovement
+    public static final long STEP_MILLIS = Long.getLong("futura.movement.stepMillis", 250);
+
+    // Max path searches per tick; further walk intents wait for the next tick
+    public static final int PATH_BUDGET = Math.max(1, Integer.getInteger("futura.movement.pathBudget", 32));
+
+    // Flow fields kept per room for popular walk targets (0 = always A*),
+    // and how many recent walks to one tile make it popular
+    public static final int FLOW_FIELDS = Integer.getInteger("futura.movement.flowFields", 8);
+    public static final int FLOW_FIELD_THRESHOLD = Integer.getInteger("futura.movement.flowFieldThreshold", 3);
+
+    // Path search strategy: "astar", "jps" (Jump Point Search) or "auto" -
+    // JPS for rooms of at least PATH_JPS_MIN_TILES tiles, A* below
+    public static final String PATH_STRATEGY = System.getProperty("futura.path.strategy", "auto");
+    public static final int PATH_JPS_MIN_TILES = Integer.getInteger("futura.path.jpsMinTiles", 1024);
+
+    // Area of interest (default for rooms without their own InterestPolicy): rooms with
+    // at least AOI_MIN_PLAYERS players send moves every tick only to players within
+    // about AOI_RADIUS tiles, and to the rest of the room every AOI_FAR_EVERY_TICKS ticks
+    public static final int AOI_MIN_PLAYERS = Integer.getInteger("futura.aoi.minPlayers", 100);
+    public static final int AOI_RADIUS = Integer.getInteger("futura.aoi.radius", 12);
+    public static final int AOI_FAR_EVERY_TICKS = Integer.getInteger("futura.aoi.farEvery", 10);
+
+    // Backend room API the server loads room layouts from (the client's RoomApiClient
+    // base URL); empty = don't ask, every room gets the default floor
+    public static final String ROOMS_API = System.getProperty("futura.rooms.api", "http://localhost:9090/api/rooms");
+
+    // Floor of rooms the backend doesn't know, which the load generator's bots walk in
+    // (matches Room's default 9x5 floor)
+    public static final int DEFAULT_ROOM_WIDTH = Integer.getInteger("futura.room.width", 9);
+    public static final int DEFAULT_ROOM_HEIGHT = Integer.getInteger("futura.room.height", 5);
+
+    // Accept the compact binary protocol from clients that ask for it ("hello bin1")
+    public static final boolean BINARY_PROTOCOL = Boolean.parseBoolean(
+            System.getProperty("futura.protocol.binary", "true"));
+
+    // Plain-text metrics scrape endpoint (GET /metrics; port 0 = off)
+    public static final int METRICS_PORT = Integer.getInteger("futura.metrics.port", 9100);
+    public static final String METRICS_HOST = System.getProperty("futura.metrics.host", "127.0.0.1");
+
+    // Load history (LoadRecorder): rooms that get their own players-over-time series
+    public static final int HISTORY_ROOMS = Integer.getInteger("futura.history.rooms", 32);
+
+    /**
+     * Resolve the I/O mode from program arguments, then the system property.
+     */
+    public static ServerMode resolveMode(String[] args) {
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase("--nio")) return ServerMode.NIO;
+            if (arg.equalsIgnoreCase("--legacy")) return ServerMode.LEGACY;
+        }
+
+        String property = System.getProperty(MODE_PROPERTY, "legacy");
+        try {
+            return ServerMode.valueOf(property.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown server mode '" + property + "', using LEGACY");
+            return ServerMode.LEGACY;
+        }
+    }
+}
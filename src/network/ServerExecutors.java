@@ -0,0 +1,86 @@
+package network;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * ServerExecutors - Shared executors for short-lived server tasks and
+ * the legacy per-connection handlers
+ *
+ * Uses one virtual thread per task when the JVM provides them (Java 21+),
+ * otherwise a cached pool of platform threads. Looked up reflectively so
+ * the server still builds and runs on Java 17.
+ */
+public class ServerExecutors {
+
+    private static final Logger LOG = Log.get(ServerExecutors.class);
+
+    // Drains OutboundQueues onto blocking sockets (legacy I/O mode)
+    public static final ExecutorService OUTBOUND_WRITERS = newPerTaskExecutor("OutboundWriter");
+
+    public static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executor that runs every task on its own (ideally virtual) thread.
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        ExecutorService virtual = newVirtualExecutor();
+        return virtual != null ? virtual : newPlatformExecutor(namePrefix, true);
+    }
+
+    /**
+     * Executor for the blocking per-connection read loops (legacy I/O mode),
+     * on platform or virtual threads as set by futura.handler.threads.
+     * Platform threads are reused after a disconnect but otherwise one per
+     * live connection, like the old Thread-per-socket handlers.
+     */
+    public static ExecutorService newHandlerExecutor(String namePrefix) {
+        if (useVirtualHandlers()) {
+            ExecutorService virtual = newVirtualExecutor();
+            if (virtual != null) {
+                return virtual;
+            }
+        }
+        return newPlatformExecutor(namePrefix, false);
+    }
+
+    /**
+     * True when handler loops actually run on virtual threads
+     */
+    public static boolean useVirtualHandlers() {
+        return "virtual".equalsIgnoreCase(ServerConfig.HANDLER_THREADS) && virtualThreadsAvailable();
+    }
+
+    private static ExecutorService newVirtualExecutor() {
+        if (virtualThreadsAvailable()) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                LOG.warn("[SERVER] Virtual threads unavailable: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static ExecutorService newPlatformExecutor(String namePrefix, boolean daemon) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        });
+    }
+}
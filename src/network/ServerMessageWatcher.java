@@ -1,42 +1,72 @@
 package network;
 
 import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 
+import logging.Log;
+import logging.Logger;
 import main.GameConstants;
 import main.GamePanel;
+import network.protocol.WireInput;
+import network.protocol.WireProtocol;
+import network.protocol.WireReader;
 import Entity.Entity.Gender;
 
 public class ServerMessageWatcher extends Thread {
+
+    private static final Logger LOG = Log.get(ServerMessageWatcher.class);
     
     private NetworkManager networkManager;
-    private BufferedReader in;
+    private WireInput in;
+    private final boolean binary;
     private GamePanel gamePanel;
     private volatile boolean running = true;
     
-    public ServerMessageWatcher(NetworkManager networkManager, BufferedReader in, GamePanel gamePanel) {
+    // Binary protocol: player id → name, learned from playerJoined / detailsFor
+    private final WireReader frame = new WireReader();
+    private final Map<Integer, String> playerNames = new HashMap<>();
+    
+    public ServerMessageWatcher(NetworkManager networkManager, WireInput in, boolean binary, GamePanel gamePanel) {
         this.networkManager = networkManager;
         this.in = in;
+        this.binary = binary;
         this.gamePanel = gamePanel;
     }
     
     @Override
     public void run() {
         try {
-            String line;
-            while (running && (line = in.readLine()) != null) {
-                System.out.println("Received from server: " + line);
-                processMessage(line.trim());
+            if (binary) {
+                while (running && in.readFrame(frame)) {
+                    processFrame(frame);
+                }
+            } else {
+                String line;
+                while (running && (line = in.readLine()) != null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Received from server: " + line);
+                    }
+                    processMessage(line.trim());
+                }
             }
         } catch (IOException e) {
             if (running) {
-                System.err.println("Connection to server lost: " + e.getMessage());
+                LOG.warn("Connection to server lost: " + e.getMessage());
             }
         } finally {
             running = false;
         }
     }
     
+    /**
+     * Stop reading without reporting the closed connection as lost
+     */
+    public void shutdown() {
+        running = false;
+    }
+    
     // ═══════════════════════════════════════════════════════════
     // MESSAGE ROUTER
     // ═══════════════════════════════════════════════════════════
@@ -51,6 +81,8 @@ public class ServerMessageWatcher extends Thread {
             handlePlayerChat(message);
         } else if (message.startsWith("playerLeft")) {
             handlePlayerLeft(message);
+        } else if (message.startsWith(MovementSimulator.POSITION_CORRECTED)) {
+            handlePositionCorrected(message);
         } 
         // Details exchange
         else if (message.startsWith("wantDetails")) {
@@ -59,7 +91,9 @@ public class ServerMessageWatcher extends Thread {
             handleDetailsFor(message);
         }
         // ✨ Admin commands - FIXED
-        else if (message.startsWith("forceRoomChange")) {
+        else if (message.startsWith(WireProtocol.REDIRECT)) {
+            handleRedirect(message);
+        } else if (message.startsWith("forceRoomChange")) {
             handleForceRoomChange(message);
         } else if (message.startsWith("adminMessage")) {
             handleAdminMessage(message);
@@ -68,7 +102,90 @@ public class ServerMessageWatcher extends Thread {
         }
         // Unknown
         else {
-            System.out.println("Unknown message from server: " + message);
+            LOG.info("Unknown message from server: " + message);
+        }
+    }
+    
+    /**
+     * Binary protocol: hot player events are decoded straight from the
+     * frame; everything else is an OP_TEXT line for processMessage
+     */
+    private void processFrame(WireReader frame) {
+        int opcode = frame.readVarint();
+        switch (opcode) {
+            case WireProtocol.OP_TEXT: {
+                String line = frame.readString();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Received from server: " + line);
+                }
+                processMessage(line.trim());
+                break;
+            }
+            case WireProtocol.OP_PLAYER_JOINED:
+            case WireProtocol.OP_PLAYER_DETAILS: {
+                int playerId = frame.readVarint();
+                String username = frame.readString();
+                Gender gender = frame.readUnsignedByte() == WireProtocol.GENDER_FEMALE
+                        ? Gender.FEMALE : Gender.MALE;
+                int mapX = frame.readSignedVarint();
+                int mapY = frame.readSignedVarint();
+                String direction = WireProtocol.directionName(frame.readUnsignedByte());
+                
+                if (playerId != 0) {
+                    playerNames.put(playerId, username);
+                }
+                if (opcode == WireProtocol.OP_PLAYER_JOINED) {
+                    playerJoined(username, gender, mapX, mapY, direction);
+                } else {
+                    gamePanel.addRemotePlayer(username, gender, mapX, mapY, direction);
+                }
+                break;
+            }
+            case WireProtocol.OP_PLAYER_MOVED: {
+                String username = playerNames.get(frame.readVarint());
+                int mapX = frame.readSignedVarint();
+                int mapY = frame.readSignedVarint();
+                int motion = frame.readUnsignedByte();
+                if (username != null) {
+                    gamePanel.updateRemotePlayer(username, mapX, mapY,
+                        WireProtocol.directionName(WireProtocol.motionDirection(motion)),
+                        WireProtocol.motionInMovement(motion));
+                }
+                break;
+            }
+            case WireProtocol.OP_ROOM_SNAPSHOT: {
+                // One tick's worth of moves for the room
+                int count = frame.readVarint();
+                for (int i = 0; i < count; i++) {
+                    String username = playerNames.get(frame.readVarint());
+                    int mapX = frame.readSignedVarint();
+                    int mapY = frame.readSignedVarint();
+                    int motion = frame.readUnsignedByte();
+                    if (username != null) {
+                        gamePanel.updateRemotePlayer(username, mapX, mapY,
+                            WireProtocol.directionName(WireProtocol.motionDirection(motion)),
+                            WireProtocol.motionInMovement(motion));
+                    }
+                }
+                break;
+            }
+            case WireProtocol.OP_PLAYER_CHAT: {
+                String username = playerNames.get(frame.readVarint());
+                String chatText = frame.readString();
+                if (username != null) {
+                    gamePanel.addRemotePlayerChat(username, chatText);
+                }
+                break;
+            }
+            case WireProtocol.OP_PLAYER_LEFT: {
+                String username = playerNames.remove(frame.readVarint());
+                if (username != null) {
+                    gamePanel.removeRemotePlayer(username);
+                }
+                break;
+            }
+            default:
+                LOG.info("Unknown frame from server: opcode " + opcode);
         }
     }
     
@@ -86,16 +203,20 @@ public class ServerMessageWatcher extends Thread {
         int mapY = Integer.parseInt(st.nextToken());
         String directionStr = st.nextToken();
         
+        Gender gender = genderStr.equalsIgnoreCase("FEMALE") ? Gender.FEMALE : Gender.MALE;
+        
+        playerJoined(username, gender, mapX, mapY, directionStr);
+    }
+    
+    private void playerJoined(String username, Gender gender, int mapX, int mapY, String directionStr) {
         // ═══════════════════════════════════════════════════════════
         // ✅ FIX: Don't create a remote player for YOURSELF!
         // ═══════════════════════════════════════════════════════════
         if (gamePanel.player != null && username.equals(gamePanel.player.name)) {
-            System.out.println("[CLIENT] Ignoring playerJoined for self: " + username);
+            LOG.info("[CLIENT] Ignoring playerJoined for self: " + username);
             return;
         }
         
-        Gender gender = genderStr.equalsIgnoreCase("FEMALE") ? Gender.FEMALE : Gender.MALE;
-        
         gamePanel.addRemotePlayer(username, gender, mapX, mapY, directionStr);
     }
     
@@ -113,6 +234,18 @@ public class ServerMessageWatcher extends Thread {
         gamePanel.updateRemotePlayer(username, mapX, mapY, direction, inMovement);
     }
     
+    private void handlePositionCorrected(String message) {
+        // Format: positionCorrected <mapX> <mapY> <direction>
+        StringTokenizer st = new StringTokenizer(message);
+        st.nextToken(); // skip "positionCorrected"
+        
+        int mapX = Integer.parseInt(st.nextToken());
+        int mapY = Integer.parseInt(st.nextToken());
+        String direction = st.hasMoreTokens() ? st.nextToken() : "";
+        
+        gamePanel.correctPlayerPosition(mapX, mapY, direction);
+    }
+    
     private void handlePlayerChat(String message) {
         // Format: playerChat <username> <text...>
         int firstSpace = message.indexOf(' ');
@@ -177,6 +310,24 @@ public class ServerMessageWatcher extends Thread {
         gamePanel.addRemotePlayer(username, gender, mapX, mapY, directionStr);
     }
     
+    /**
+     * Cluster: "redirect <host> <port> <roomId>" - the room is on another node
+     */
+    private void handleRedirect(String message) {
+        StringTokenizer st = new StringTokenizer(message);
+        st.nextToken(); // skip "redirect"
+        
+        if (st.countTokens() < 3) {
+            LOG.warn("[CLIENT] Invalid redirect message: " + message);
+            return;
+        }
+        String host = st.nextToken();
+        int port = Integer.parseInt(st.nextToken());
+        String roomId = st.nextToken();
+        
+        networkManager.redirect(host, port, roomId);
+    }
+    
     // ═══════════════════════════════════════════════════════════
     // ✨ ADMIN COMMAND HANDLERS - FIXED VERSION
     // ═══════════════════════════════════════════════════════════
@@ -187,12 +338,12 @@ public class ServerMessageWatcher extends Thread {
         st.nextToken(); // skip "forceRoomChange"
         
         if (!st.hasMoreTokens()) {
-            System.err.println("[CLIENT] Invalid forceRoomChange message - no room ID");
+            LOG.warn("[CLIENT] Invalid forceRoomChange message - no room ID");
             return;
         }
         
         String targetRoomId = st.nextToken();
-        System.out.println("[CLIENT] Admin forcing room change to: " + targetRoomId);
+        LOG.info("[CLIENT] Admin forcing room change to: " + targetRoomId);
         
         // ✨ ACTUALLY change the room on the client side
         javax.swing.SwingUtilities.invokeLater(() -> {
@@ -205,16 +356,16 @@ public class ServerMessageWatcher extends Thread {
                     boolean success = gamePanel.roomController.enterRoom(targetRoomId);
                     
                     if (success) {
-                        System.out.println("[CLIENT] Successfully moved to room: " + targetRoomId);
+                        LOG.info("[CLIENT] Successfully moved to room: " + targetRoomId);
                         
                         // Show notification to player
                         showAdminNotification("You have been moved to room: " + targetRoom.getRoomName());
                     } else {
-                        System.err.println("[CLIENT] Failed to enter room: " + targetRoomId);
+                        LOG.warn("[CLIENT] Failed to enter room: " + targetRoomId);
                     }
                 } else {
                     // Room doesn't exist on client - go to lobby instead
-                    System.out.println("[CLIENT] Room not found locally, going to lobby");
+                    LOG.info("[CLIENT] Room not found locally, going to lobby");
                     gamePanel.roomController.returnToLobby();
                     showAdminNotification("Admin moved you - room not found, returned to lobby");
                 }
@@ -227,7 +378,7 @@ public class ServerMessageWatcher extends Thread {
                 // Repaint to show changes
                 gamePanel.repaint();
             } else {
-                System.err.println("[CLIENT] RoomController is null!");
+                LOG.warn("[CLIENT] RoomController is null!");
             }
         });
     }
@@ -237,12 +388,12 @@ public class ServerMessageWatcher extends Thread {
         int spaceIndex = message.indexOf(' ');
         
         if (spaceIndex == -1) {
-            System.err.println("[CLIENT] Invalid adminMessage format");
+            LOG.warn("[CLIENT] Invalid adminMessage format");
             return;
         }
         
         String text = message.substring(spaceIndex + 1);
-        System.out.println("[CLIENT] Admin broadcast: " + text);
+        LOG.info("[CLIENT] Admin broadcast: " + text);
         
         // Show as chat bubble above player
         javax.swing.SwingUtilities.invokeLater(() -> {
@@ -264,7 +415,7 @@ public class ServerMessageWatcher extends Thread {
             reason = message.substring(7); // Skip "KICKED "
         }
         
-        System.out.println("[CLIENT] KICKED by admin: " + reason);
+        LOG.info("[CLIENT] KICKED by admin: " + reason);
         
         final String finalReason = reason;
         
@@ -0,0 +1,144 @@
+package network;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import logging.Log;
+import logging.Logger;
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.MetricsHttpServer;
+import metrics.MetricsRegistry;
+
+/**
+ * ServerMetrics - The game server's metrics registry and its hot-path metrics
+ *
+ * Read by the METRICS admin command and served as plain text on
+ * http://<metrics host>:<metrics port>/metrics (futura.metrics.port,
+ * 0 = off).
+ *
+ * - futura_command_nanos{command}  execution time per GameCommand (count = rate)
+ * - futura_broadcast_fanout        recipients per room broadcast / snapshot
+ * - futura_bytes_in/out_total      game socket traffic, both I/O modes
+ * - futura_messages_out_total     lines / messages queued to clients
+ * - futura_clients_connected, futura_room_players{room}  (gauges)
+ * - futura_admin_bus_published_total, futura_admin_bus_latency_nanos,
+ *   futura_admin_bus_backlog  KICK / MOVE_PLAYER actions on the AdminActionBus
+ *   (latency = publish to poll by the AdminActionWatcher)
+ * - futura_jvm_threads, futura_jvm_heap_used_bytes  per-connection cost of
+ *   the handler thread mode (virtual threads are not counted as threads)
+ */
+public final class ServerMetrics {
+
+    private static final Logger LOG = Log.get(ServerMetrics.class);
+
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    public static final Counter BYTES_IN = REGISTRY.counter("futura_bytes_in_total");
+    public static final Counter BYTES_OUT = REGISTRY.counter("futura_bytes_out_total");
+    public static final Counter CONNECTIONS = REGISTRY.counter("futura_connections_total");
+    public static final Counter MESSAGES_OUT = REGISTRY.counter("futura_messages_out_total");
+    public static final Histogram BROADCAST_FANOUT = REGISTRY.histogram("futura_broadcast_fanout");
+    public static final Counter ADMIN_BUS_PUBLISHED = REGISTRY.counter("futura_admin_bus_published_total");
+    public static final Histogram ADMIN_BUS_LATENCY = REGISTRY.histogram("futura_admin_bus_latency_nanos");
+
+    private ServerMetrics() {
+    }
+
+    /**
+     * Execution time histogram of one game command
+     */
+    public static Histogram command(String name) {
+        return REGISTRY.histogram("futura_command_nanos", "command", name);
+    }
+
+    /**
+     * Gauges that read the live server state
+     */
+    public static void registerGauges(GameServerGroup clientGroup) {
+        REGISTRY.gauge("futura_clients_connected", clientGroup::getClientCount);
+        REGISTRY.gauge("futura_rooms_occupied", () -> clientGroup.getRoomOccupancy().size());
+        REGISTRY.gaugeFamily("futura_room_players", "room", clientGroup::getRoomOccupancy);
+
+        RoomTicker ticker = clientGroup.getRoomTicker();
+        REGISTRY.gauge("futura_tick_overruns", ticker::getOverruns);
+        REGISTRY.gauge("futura_tick_max_micros", ticker::getMaxTickMicros);
+        REGISTRY.gauge("futura_walkers", () -> ticker.getMovement().getWalkerCount());
+        REGISTRY.gauge("futura_aoi_rooms", () -> ticker.getInterest().getActiveRooms());
+        REGISTRY.gauge("futura_aoi_near_updates", () -> ticker.getInterest().getNearUpdates());
+        REGISTRY.gauge("futura_aoi_far_updates", () -> ticker.getInterest().getFarUpdates());
+        REGISTRY.gauge("futura_aoi_broadcast_equivalent", () -> ticker.getInterest().getBroadcastUpdates());
+
+        REGISTRY.gauge("futura_admin_bus_backlog", () -> clientGroup.getAdminBus().getBacklog());
+
+        REGISTRY.gauge("futura_jvm_threads", () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        REGISTRY.gauge("futura_jvm_heap_used_bytes",
+                       () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * Start the scrape endpoint, or return null when it is switched off
+     * or the port is taken (the game server runs on without it)
+     */
+    public static MetricsHttpServer startHttp() {
+        if (ServerConfig.METRICS_PORT <= 0) {
+            return null;
+        }
+        try {
+            MetricsHttpServer server = new MetricsHttpServer(REGISTRY, ServerConfig.METRICS_HOST,
+                                                             ServerConfig.METRICS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            LOG.warn("[METRICS] HTTP endpoint unavailable on port " +
+                     ServerConfig.METRICS_PORT + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // BYTE COUNTING (legacy blocking sockets)
+    // ═══════════════════════════════════════════════════════════
+
+    public static InputStream countIn(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    BYTES_IN.increment();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                if (count > 0) {
+                    BYTES_IN.add(count);
+                }
+                return count;
+            }
+        };
+    }
+
+    public static OutputStream countOut(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                BYTES_OUT.increment();
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) throws IOException {
+                out.write(buffer, offset, length);
+                BYTES_OUT.add(length);
+            }
+        };
+    }
+}
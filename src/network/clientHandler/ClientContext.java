@@ -5,23 +5,37 @@ import java.net.Socket;
 
 import main.GameConstants;
 import network.GameServerGroup;
+import network.OutboundQueue;
+import network.protocol.ServerMessage;
 
 public class ClientContext {
-    public final PrintWriter out;
+    public final PrintWriter out;          // Writes into outbound (never blocks on the socket)
+    public final OutboundQueue outbound;
     public final GameServerGroup clientGroup;
     public final String clientAddr;
     public final int port;
     public final Socket socket;
     public String playerName;
+    public int playerId;                   // Set by join (0 until then)
     public String currentRoomId;
+    public boolean binaryProtocol;         // Set by the "hello bin1" handshake
+    public boolean serverMovement;         // Set by the "walk" hello feature
     
-    public ClientContext(PrintWriter out, GameServerGroup clientGroup, 
+    public ClientContext(PrintWriter out, OutboundQueue outbound, GameServerGroup clientGroup, 
                          String clientAddr, int port, Socket socket) {
         this.out = out;
+        this.outbound = outbound;
         this.clientGroup = clientGroup;
         this.clientAddr = clientAddr;
         this.port = port;
         this.currentRoomId = GameConstants.LOBBY_ROOM_ID;
         this.socket = socket;
     }
+    
+    /**
+     * Send a typed message to this client (ctx.out autoflushes, so order is kept)
+     */
+    public void send(ServerMessage message) {
+        outbound.offer(message);
+    }
 }
\ No newline at end of file
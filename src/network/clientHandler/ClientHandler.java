@@ -2,37 +2,64 @@
 
 package network.clientHandler;
 
-import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.Socket;
 
+import logging.Log;
+import logging.Logger;
 import network.GameServerGroup;
+import network.OutboundQueue;
+import network.OutboundQueueWriter;
+import network.ServerExecutors;
+import network.ServerMetrics;
+import network.protocol.PlayerLeftMessage;
+import network.protocol.WireInput;
+import network.protocol.WireReader;
 
-public class ClientHandler extends Thread {
+/**
+ * ClientHandler - Blocking read loop of one player socket (legacy I/O mode)
+ *
+ * Run by GameServer's handler executor, on a platform or a virtual thread
+ * (futura.handler.threads).
+ */
+public class ClientHandler implements Runnable {
+
+    private static final Logger LOG = Log.get(ClientHandler.class);
     
     private static final CommandRegistry registry = new CommandRegistry();
     
     private Socket socket;
-    private BufferedReader in; 
+    private WireInput in; 
+    private final WireReader frame = new WireReader();
+    private OutputStream socketOut;
     private ClientContext context;
     
     public ClientHandler(Socket socket, GameServerGroup clientGroup) {
         this.socket = socket;
         
         try {
-            in = new BufferedReader(
-                new InputStreamReader(socket.getInputStream()));
-            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            // Lines until a "hello bin1" handshake, binary frames after it
+            in = new WireInput(ServerMetrics.countIn(socket.getInputStream()));
+            socketOut = new BufferedOutputStream(ServerMetrics.countOut(socket.getOutputStream()));
+            
+            // Everything sent to this client is queued and written by a writer task,
+            // so a slow socket only ever blocks its own writer
+            OutboundQueue outbound = new OutboundQueue(
+                () -> ServerExecutors.OUTBOUND_WRITERS.execute(this::drainOutbound),
+                this::closeSocket
+            );
+            PrintWriter out = new PrintWriter(new OutboundQueueWriter(outbound), true);
             
             this.context = new ClientContext(
-                out, clientGroup,
+                out, outbound, clientGroup,
                 socket.getInetAddress().getHostAddress(),
                 socket.getPort(), socket
             );
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.error("Client connection setup failed", e);
         }
     }
 
@@ -43,25 +70,49 @@ public class ClientHandler extends Thread {
     @Override
     public void run() {
         try {
-            String message;
-            while ((message = in.readLine()) != null) {
-                System.out.println("Received from " + context.clientAddr + ":" + 
-                                   context.port + " - " + message);
-                processMessage(message);
+            while (true) {
+                if (context.binaryProtocol) {
+                    if (!in.readFrame(frame)) break;
+                    registry.executeFrame(frame, context);
+                } else {
+                    String message = in.readLine();
+                    if (message == null) break;
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Received from " + context.clientAddr + ":" + 
+                                  context.port + " - " + message);
+                    }
+                    processMessage(message);
+                }
             }
         } catch (IOException e) {
-            System.out.println("Client disconnected: " + context.clientAddr + ":" + context.port);
+            LOG.info("Client disconnected: " + context.clientAddr + ":" + context.port);
         } finally {
             cleanup();
         }
     }
     
     private void processMessage(String message) {
-        int spaceIndex = message.indexOf(' ');
-        String commandName = (spaceIndex == -1) ? message : message.substring(0, spaceIndex);
-        
-        GameCommand command = registry.getCommand(commandName);
-        command.execute(message, context);
+        registry.execute(message, context);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OUTBOUND WRITER
+    // ═══════════════════════════════════════════════════════════
+    
+    private void drainOutbound() {
+        try {
+            context.outbound.drainTo(socketOut);
+        } catch (IOException e) {
+            closeSocket();
+        }
+    }
+    
+    private void closeSocket() {
+        try {
+            socket.close();  // Unblocks readLine() -> cleanup()
+        } catch (IOException e) {
+            LOG.warn("Closing socket failed", e);
+        }
     }
 
       // ═══════════════════════════════════════════════════════════
@@ -75,15 +126,16 @@ public class ClientHandler extends Thread {
                     context.currentRoomId, 
                     context.clientAddr, 
                     context.port,
-                    "playerLeft " + context.playerName
+                    new PlayerLeftMessage(context.playerId, context.playerName)
                 );
                 context.clientGroup.removeClient(context.clientAddr, context.port);
-                System.out.println(context.playerName + " disconnected from room: " + 
-                                   context.currentRoomId);
+                LOG.info(context.playerName + " disconnected from room: " + 
+                         context.currentRoomId);
             }
+            context.outbound.close();
             socket.close();
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.warn("Client cleanup failed", e);
         }
     }
 }
\ No newline at end of file
@@ -1,35 +1,116 @@
 package network.clientHandler;
+import logging.Log;
+import logging.Logger;
+import metrics.Histogram;
+import network.ServerMetrics;
 import network.clientHandler.commands.*;
+import network.protocol.WireProtocol;
+import network.protocol.WireReader;
+
 import java.util.HashMap;
 import java.util.Map;
 
 
 // Command registry
 public class CommandRegistry {
+
+    private static final Logger LOG = Log.get(CommandRegistry.class);
     
     private final Map<String, GameCommand> commands = new HashMap<>();
+    // Execution time per command - the histogram count doubles as its rate
+    private final Map<String, Histogram> timings = new HashMap<>();
+    private final MoveCommand moveCommand = new MoveCommand();
+    private final WalkCommand walkCommand = new WalkCommand();
     private final GameCommand unknownCommand = (msg, ctx) -> {
-        System.out.println("Unknown command: " + msg);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Unknown command: " + msg);
+        }
         ctx.out.println("error Unknown command");
     };
+    private final Histogram unknownTiming = ServerMetrics.command("unknown");
+    private final Histogram moveTiming;
+    private final Histogram walkTiming;
     
     public CommandRegistry() {
         // Register all commands
         register("join", new JoinCommand());
-        register("move", new MoveCommand());
+        register("move", moveCommand);
+        register("walk", walkCommand);
         register("chat", new ChatCommand());
         register("changeRoom", new ChangeRoomCommand());
         register("leaveRoom", new LeaveRoomCommand());
+        register("furniture", new FurnitureCommand());
         register("wantDetails", new WantDetailsCommand());
         register("detailsFor", new DetailsForCommand());
         register("bye", new ByeCommand());
+        register(WireProtocol.HELLO_COMMAND, new HelloCommand());
+        
+        // Binary moves and walks skip the name lookup
+        moveTiming = timings.get("move");
+        walkTiming = timings.get("walk");
     }
     
     public void register(String name, GameCommand command) {
         commands.put(name, command);
+        timings.put(name, ServerMetrics.command(name));
     }
     
     public GameCommand getCommand(String name) {
         return commands.getOrDefault(name, unknownCommand);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Run one text protocol line
+     */
+    public void execute(String message, ClientContext ctx) {
+        int spaceIndex = message.indexOf(' ');
+        String commandName = (spaceIndex == -1) ? message : message.substring(0, spaceIndex);
+        
+        GameCommand command = commands.get(commandName);
+        if (command == null) {
+            timed(unknownCommand, unknownTiming, message, ctx);
+        } else {
+            timed(command, timings.get(commandName), message, ctx);
+        }
+    }
+    
+    private static void timed(GameCommand command, Histogram timing, String message, ClientContext ctx) {
+        long start = System.nanoTime();
+        try {
+            command.execute(message, ctx);
+        } finally {
+            timing.record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Run one binary frame: moves and walks are decoded in place, everything else
+     * arrives as an OP_TEXT line and goes through the text commands
+     */
+    public void executeFrame(WireReader frame, ClientContext ctx) {
+        int opcode = frame.readVarint();
+        long start = System.nanoTime();
+        switch (opcode) {
+            case WireProtocol.OP_TEXT:
+                execute(frame.readString(), ctx);
+                break;
+            case WireProtocol.OP_MOVE:
+                int mapX = frame.readSignedVarint();
+                int mapY = frame.readSignedVarint();
+                int motion = frame.readUnsignedByte();
+                moveCommand.move(ctx, mapX, mapY,
+                                 WireProtocol.directionName(WireProtocol.motionDirection(motion)),
+                                 WireProtocol.motionInMovement(motion));
+                moveTiming.record(System.nanoTime() - start);
+                break;
+            case WireProtocol.OP_WALK:
+                int targetX = frame.readSignedVarint();
+                int targetY = frame.readSignedVarint();
+                walkCommand.walk(ctx, targetX, targetY);
+                walkTiming.record(System.nanoTime() - start);
+                break;
+            default:
+                timed(unknownCommand, unknownTiming, "opcode " + opcode, ctx);
+        }
+    }
+}
@@ -2,10 +2,15 @@ package network.clientHandler.commands;
 
 import java.io.IOException;
 
+import logging.Log;
+import logging.Logger;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerLeftMessage;
 
 public class ByeCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(ByeCommand.class);
     
     @Override
     public void execute(String message, ClientContext ctx) {
@@ -13,13 +18,13 @@ public class ByeCommand implements GameCommand {
             if (ctx.playerName != null) {
                 // Notify room that player left
                 ctx.clientGroup.broadcastToRoom(ctx.currentRoomId, ctx.clientAddr, ctx.port, 
-                                               "playerLeft " + ctx.playerName);
+                                               new PlayerLeftMessage(ctx.playerId, ctx.playerName));
                 ctx.clientGroup.removeClient(ctx.clientAddr, ctx.port);
-                System.out.println(ctx.playerName + " disconnected from room: " + ctx.currentRoomId);
+                LOG.info(ctx.playerName + " disconnected from room: " + ctx.currentRoomId);
             }
             ctx.socket.close();
         } catch (IOException e) {
-            e.printStackTrace();
+            LOG.warn("Closing socket failed", e);
         }
     }
 }
\ No newline at end of file
@@ -2,11 +2,19 @@ package network.clientHandler.commands;
 
 import java.util.List;
 import java.util.StringTokenizer;
+import logging.Log;
+import logging.Logger;
 import network.ClientInfo;
+import network.cluster.ClusterNode;
+import network.protocol.PlayerJoinedMessage;
+import network.protocol.PlayerLeftMessage;
+import network.protocol.WireProtocol;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
 
 public class ChangeRoomCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(ChangeRoomCommand.class);
     
     // ✨ Habbo-style spawn position (corner) for NEW players only
     private static final int SPAWN_X = 0;
@@ -20,10 +28,19 @@ public class ChangeRoomCommand implements GameCommand {
         
         String oldRoomId = ctx.currentRoomId;
         
+        // Cluster: another node owns the room - the client reconnects there, and
+        // leaving this node tells the old room
+        ClusterNode owner = ctx.clientGroup.remoteOwnerOf(newRoomId);
+        if (owner != null) {
+            ctx.out.println(WireProtocol.REDIRECT + " " + owner.host + " " + owner.gamePort + " " + newRoomId);
+            LOG.info(ctx.playerName + " redirected to node " + owner.id + " for room: " + newRoomId);
+            return;
+        }
+        
         // ═══════════════════════════════════════════════════════════
         // STEP 1: Notify OLD room that player left
         // ═══════════════════════════════════════════════════════════
-        String leaveMsg = "playerLeft " + ctx.playerName;
+        PlayerLeftMessage leaveMsg = new PlayerLeftMessage(ctx.playerId, ctx.playerName);
         ctx.clientGroup.broadcastToRoom(oldRoomId, ctx.clientAddr, ctx.port, leaveMsg);
         
         // ═══════════════════════════════════════════════════════════
@@ -33,10 +50,9 @@ public class ChangeRoomCommand implements GameCommand {
         
         for (ClientInfo existing : existingPlayers) {
             // ✨ Show existing players at their REAL position
-            String existingPlayerMsg = "playerJoined " + existing.playerName + " " + 
-                                       existing.gender + " " + existing.mapX + " " + 
-                                       existing.mapY + " " + existing.direction;
-            ctx.out.println(existingPlayerMsg);
+            ctx.send(new PlayerJoinedMessage(existing.playerId, existing.playerName,
+                                             existing.gender, existing.mapX,
+                                             existing.mapY, existing.direction));
         }
         
         // ═══════════════════════════════════════════════════════════
@@ -46,19 +62,22 @@ public class ChangeRoomCommand implements GameCommand {
         
         ClientInfo clientInfo = ctx.clientGroup.getClient(ctx.clientAddr, ctx.port);
         if (clientInfo != null) {
-            clientInfo.currentRoomId = newRoomId;
+            ctx.clientGroup.changeRoom(clientInfo, newRoomId);
             clientInfo.mapX = SPAWN_X;  // ✨ Reset to corner
             clientInfo.mapY = SPAWN_Y;  // ✨ Reset to corner
             
             // ═══════════════════════════════════════════════════════════
             // STEP 4: Notify NEW room - THIS player at corner (Habbo style!)
             // ═══════════════════════════════════════════════════════════
-            String joinMsg = "playerJoined " + ctx.playerName + " " + clientInfo.gender + " " +
-                            SPAWN_X + " " + SPAWN_Y + " " + clientInfo.direction;  // ✨ At corner
+            PlayerJoinedMessage joinMsg = new PlayerJoinedMessage(ctx.playerId, ctx.playerName,
+                                      clientInfo.gender, SPAWN_X, SPAWN_Y,
+                                      clientInfo.direction);  // ✨ At corner
             ctx.clientGroup.broadcastToRoom(newRoomId, ctx.clientAddr, ctx.port, joinMsg);
         }
         
-        System.out.println("✅ " + ctx.playerName + " changed: '" + oldRoomId + 
-                          "' → '" + newRoomId + "' (appears at corner to others)");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("✅ " + ctx.playerName + " changed: '" + oldRoomId + 
+                     "' → '" + newRoomId + "' (appears at corner to others)");
+        }
     }
 }
\ No newline at end of file
@@ -2,13 +2,15 @@ package network.clientHandler.commands;
 
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerChatMessage;
 
 public class ChatCommand implements GameCommand {
     
     @Override
     public void execute(String message, ClientContext ctx) {
         if (ctx.playerName != null) {
-            String chatMsg = "playerChat " + ctx.playerName + " " + message.substring(5);
+            PlayerChatMessage chatMsg = new PlayerChatMessage(ctx.playerId, ctx.playerName,
+                                                              message.substring(5));
             ctx.clientGroup.broadcastToRoom(ctx.currentRoomId, ctx.clientAddr, ctx.port, chatMsg);
         }
     }
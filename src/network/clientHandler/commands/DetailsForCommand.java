@@ -2,10 +2,15 @@ package network.clientHandler.commands;
 
 import java.util.StringTokenizer;
 
+import logging.Log;
+import logging.Logger;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerJoinedMessage;
 
 public class DetailsForCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(DetailsForCommand.class);
     
     @Override
     public void execute(String message, ClientContext ctx) {
@@ -21,16 +26,18 @@ public class DetailsForCommand implements GameCommand {
         // Get remaining tokens (username, gender, mapX, mapY, direction)
         String username = st.nextToken();
         String gender = st.nextToken();
-        String mapX = st.nextToken();
-        String mapY = st.nextToken();
+        int mapX = Integer.parseInt(st.nextToken());
+        int mapY = Integer.parseInt(st.nextToken());
         String direction = st.nextToken();
         
-        // Route to target (WITHOUT addr/port)
-        String forwardMessage = "detailsFor " + username + " " + gender + " " + 
-                                mapX + " " + mapY + " " + direction;
+        // Route to target (WITHOUT addr/port) - the sender's id lets binary clients intern it
+        PlayerJoinedMessage forwardMessage = PlayerJoinedMessage.details(
+            ctx.playerId, username, gender, mapX, mapY, direction);
         
         ctx.clientGroup.sendTo(targetAddr, targetPort, forwardMessage);
         
-        System.out.println("Routed details to " + targetAddr + ":" + targetPort + " - " + forwardMessage);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Routed details to " + targetAddr + ":" + targetPort + " - " + forwardMessage);
+        }
     }
 }
\ No newline at end of file
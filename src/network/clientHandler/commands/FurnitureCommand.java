@@ -0,0 +1,53 @@
+package network.clientHandler.commands;
+
+import java.util.StringTokenizer;
+
+import logging.Log;
+import logging.Logger;
+import network.RoomLayout;
+import network.clientHandler.ClientContext;
+import network.clientHandler.GameCommand;
+
+/**
+ * furniture - The room's owner placed or picked up a piece. Applied to the
+ * room's layout, which drops only the cached flow fields the footprint
+ * touches. Ignored from anyone but the owner, for a piece that would
+ * leave the floor or overlap another, and for picking up a piece that
+ * isn't there.
+ */
+public class FurnitureCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(FurnitureCommand.class);
+
+    @Override
+    public void execute(String message, ClientContext ctx) {
+        // Format: furniture <add|remove> <x> <y> <width> <height>
+        StringTokenizer st = new StringTokenizer(message);
+        if (ctx.playerName == null || st.countTokens() != 6) {
+            return;
+        }
+        st.nextToken(); // skip "furniture"
+        String action = st.nextToken();
+        int mapX = Integer.parseInt(st.nextToken());
+        int mapY = Integer.parseInt(st.nextToken());
+        int tileWidth = Integer.parseInt(st.nextToken());
+        int tileHeight = Integer.parseInt(st.nextToken());
+
+        RoomLayout layout = ctx.clientGroup.getRoomLayout(ctx.currentRoomId);
+        if (layout == null || !layout.isOwner(ctx.playerName)) {
+            return;
+        }
+        boolean applied;
+        if (action.equals("add")) {
+            applied = layout.addFurniture(mapX, mapY, tileWidth, tileHeight);
+        } else if (action.equals("remove")) {
+            applied = layout.removeFurniture(mapX, mapY, tileWidth, tileHeight);
+        } else {
+            return;
+        }
+        if (!applied && LOG.isDebugEnabled()) {
+            LOG.debug("Furniture " + action + " at " + mapX + "," + mapY + " (" + tileWidth + "x" + tileHeight +
+                      ") in '" + ctx.currentRoomId + "' from " + ctx.playerName + " ignored");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package network.clientHandler.commands;
+
+import java.util.StringTokenizer;
+
+import logging.Log;
+import logging.Logger;
+import network.ServerConfig;
+import network.clientHandler.ClientContext;
+import network.clientHandler.GameCommand;
+import network.protocol.WireFormat;
+import network.protocol.WireProtocol;
+
+public class HelloCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(HelloCommand.class);
+    
+    @Override
+    public void execute(String message, ClientContext ctx) {
+        // Format: hello <protocol> [features...]  - must come before join
+        StringTokenizer st = new StringTokenizer(message);
+        st.nextToken(); // skip "hello"
+        String requested = st.hasMoreTokens() ? st.nextToken() : WireProtocol.TEXT;
+        
+        boolean wantsWalk = false;
+        while (st.hasMoreTokens()) {
+            if (WireProtocol.FEATURE_WALK.equals(st.nextToken())) {
+                wantsWalk = true;
+            }
+        }
+        // Features are only settled before join; old clients never ask, so their reply is unchanged
+        if (wantsWalk && ctx.playerName == null && ctx.clientGroup.isServerMovementAvailable()) {
+            ctx.serverMovement = true;
+        }
+        String features = ctx.serverMovement ? " " + WireProtocol.FEATURE_WALK : "";
+        
+        boolean binary = ServerConfig.BINARY_PROTOCOL
+                && WireProtocol.BINARY_V1.equals(requested)
+                && ctx.playerName == null;
+        
+        if (ctx.binaryProtocol || !binary) {
+            // Already switched, or stay on text lines
+            ctx.out.println(WireProtocol.HELLO_COMMAND + " " +
+                            (ctx.binaryProtocol ? WireProtocol.BINARY_V1 : WireProtocol.TEXT) + features);
+            return;
+        }
+        
+        // The reply is the last text line; everything after it is binary, both ways
+        ctx.out.println(WireProtocol.HELLO_COMMAND + " " + WireProtocol.BINARY_V1 + features);
+        ctx.outbound.switchFormat(WireFormat.BINARY);
+        ctx.binaryProtocol = true;
+        
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Binary protocol for " + ctx.clientAddr + ":" + ctx.port + features);
+        }
+    }
+}
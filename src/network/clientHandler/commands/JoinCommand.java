@@ -3,11 +3,18 @@ package network.clientHandler.commands;
 import java.util.List;
 import java.util.StringTokenizer;
 
+import logging.Log;
+import logging.Logger;
 import network.ClientInfo;
+import network.cluster.ClusterNode;
+import network.protocol.PlayerJoinedMessage;
+import network.protocol.WireProtocol;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
 
 public class JoinCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(JoinCommand.class);
     
     // ✨ Habbo-style spawn position (corner) for NEW players only
     private static final int SPAWN_X = 0;
@@ -28,6 +35,17 @@ public class JoinCommand implements GameCommand {
             ctx.currentRoomId = st.nextToken();
         }
         
+        // Cluster: the room lives on another node - send the client there
+        // before it becomes a player here
+        ClusterNode owner = ctx.clientGroup.remoteOwnerOf(ctx.currentRoomId);
+        if (owner != null) {
+            ctx.out.println(WireProtocol.REDIRECT + " " + owner.host + " " + owner.gamePort + " " +
+                            ctx.currentRoomId);
+            LOG.info(ctx.playerName + " redirected to node " + owner.id + " for room: " + ctx.currentRoomId);
+            ctx.playerName = null;
+            return;
+        }
+        
         // ═══════════════════════════════════════════════════════════
         // STEP 1: Send EXISTING players to NEW player at ACTUAL position
         // ═══════════════════════════════════════════════════════════
@@ -35,31 +53,34 @@ public class JoinCommand implements GameCommand {
         
         for (ClientInfo existing : existingPlayers) {
             // ✨ Show existing players at their REAL position
-            String existingPlayerMsg = "playerJoined " + existing.playerName + " " + 
-                                       existing.gender + " " + existing.mapX + " " + 
-                                       existing.mapY + " " + existing.direction;
-            ctx.out.println(existingPlayerMsg);
-            System.out.println("  → Sent existing player at ACTUAL pos: " + existing.playerName + 
-                             " (" + existing.mapX + "," + existing.mapY + ")");
+            ctx.send(new PlayerJoinedMessage(existing.playerId, existing.playerName,
+                                             existing.gender, existing.mapX,
+                                             existing.mapY, existing.direction));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("  → Sent existing player at ACTUAL pos: " + existing.playerName + 
+                        " (" + existing.mapX + "," + existing.mapY + ")");
+            }
         }
         
         // ═══════════════════════════════════════════════════════════
         // STEP 2: Add the new player to the group (at corner)
         // ═══════════════════════════════════════════════════════════
         ClientInfo clientInfo = new ClientInfo(
-            ctx.out, ctx.clientAddr, ctx.port, ctx.playerName, 
+            ctx.out, ctx.outbound, ctx.clientAddr, ctx.port, ctx.playerName, 
             gender, SPAWN_X, SPAWN_Y, direction, ctx.currentRoomId  // ✨ Store at corner
         );
+        clientInfo.serverMovement = ctx.serverMovement;
         ctx.clientGroup.addClient(clientInfo);
+        ctx.playerId = clientInfo.playerId;
         
         // ═══════════════════════════════════════════════════════════
         // STEP 3: Broadcast NEW player to EXISTING players (at corner - Habbo style!)
         // ═══════════════════════════════════════════════════════════
-        String joinMsg = "playerJoined " + ctx.playerName + " " + gender + " " + 
-                        SPAWN_X + " " + SPAWN_Y + " " + direction;  // ✨ NEW player at corner
+        PlayerJoinedMessage joinMsg = new PlayerJoinedMessage(ctx.playerId, ctx.playerName, gender,
+                                  SPAWN_X, SPAWN_Y, direction);  // ✨ NEW player at corner
         ctx.clientGroup.broadcastToRoom(ctx.currentRoomId, ctx.clientAddr, ctx.port, joinMsg);
         
-        System.out.println(ctx.playerName + " joined room: " + ctx.currentRoomId + 
-                          " (appears at corner to others)");
+        LOG.info(ctx.playerName + " joined room: " + ctx.currentRoomId + 
+                " (appears at corner to others)");
     }
 }
\ No newline at end of file
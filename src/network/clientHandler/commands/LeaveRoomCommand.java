@@ -2,10 +2,15 @@ package network.clientHandler.commands;
 
 
 import java.util.StringTokenizer;
+import logging.Log;
+import logging.Logger;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerLeftMessage;
 
 public class LeaveRoomCommand implements GameCommand {
+
+    private static final Logger LOG = Log.get(LeaveRoomCommand.class);
     
     @Override
     public void execute(String message, ClientContext ctx) {
@@ -14,9 +19,9 @@ public class LeaveRoomCommand implements GameCommand {
         st.nextToken(); // skip "leaveRoom"
         String roomId = st.nextToken();
         
-        String leaveMsg = "playerLeft " + ctx.playerName;
+        PlayerLeftMessage leaveMsg = new PlayerLeftMessage(ctx.playerId, ctx.playerName);
         ctx.clientGroup.broadcastToRoom(roomId, ctx.clientAddr, ctx.port, leaveMsg);
         
-        System.out.println(ctx.playerName + " left room: " + roomId);
+        LOG.info(ctx.playerName + " left room: " + roomId);
     }
 }
@@ -1,15 +1,38 @@
 package network.clientHandler.commands;
 
+import java.util.StringTokenizer;
+
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerMovedMessage;
 
 public class MoveCommand implements GameCommand {
     
     @Override
     public void execute(String message, ClientContext ctx) {
+        // Format: move <mapX> <mapY> <direction> <inMovement>
+        if (ctx.playerName != null) {
+            StringTokenizer st = new StringTokenizer(message);
+            st.nextToken(); // skip "move"
+            
+            int mapX = Integer.parseInt(st.nextToken());
+            int mapY = Integer.parseInt(st.nextToken());
+            String direction = st.nextToken();
+            boolean inMovement = Boolean.parseBoolean(st.nextToken());
+            
+            move(ctx, mapX, mapY, direction, inMovement);
+        }
+    }
+    
+    /**
+     * Shared by the text command and the binary OP_MOVE frame.
+     * The room ticker merges it with later moves and sends it on the next tick.
+     */
+    public void move(ClientContext ctx, int mapX, int mapY, String direction, boolean inMovement) {
         if (ctx.playerName != null) {
-            String moveMsg = "playerMoved " + ctx.playerName + " " + message.substring(5);
-            ctx.clientGroup.broadcastToRoom(ctx.currentRoomId, ctx.clientAddr, ctx.port, moveMsg);
+            PlayerMovedMessage moveMsg = new PlayerMovedMessage(
+                ctx.playerId, ctx.playerName, mapX, mapY, direction, inMovement);
+            ctx.clientGroup.submitMove(ctx.clientAddr, ctx.port, moveMsg);
         }
     }
 }
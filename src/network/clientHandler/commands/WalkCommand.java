@@ -0,0 +1,33 @@
+package network.clientHandler.commands;
+
+import java.util.StringTokenizer;
+
+import network.clientHandler.ClientContext;
+import network.clientHandler.GameCommand;
+
+public class WalkCommand implements GameCommand {
+    
+    @Override
+    public void execute(String message, ClientContext ctx) {
+        // Format: walk <targetX> <targetY>
+        if (ctx.playerName != null) {
+            StringTokenizer st = new StringTokenizer(message);
+            st.nextToken(); // skip "walk"
+            
+            int targetX = Integer.parseInt(st.nextToken());
+            int targetY = Integer.parseInt(st.nextToken());
+            
+            walk(ctx, targetX, targetY);
+        }
+    }
+    
+    /**
+     * Shared by the text command and the binary OP_WALK frame.
+     * The server paths and steps the player from the next tick on.
+     */
+    public void walk(ClientContext ctx, int targetX, int targetY) {
+        if (ctx.playerName != null && ctx.serverMovement) {
+            ctx.clientGroup.submitWalk(ctx.clientAddr, ctx.port, targetX, targetY);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.StringTokenizer;
 import network.ClientInfo;
 import network.clientHandler.ClientContext;
 import network.clientHandler.GameCommand;
+import network.protocol.PlayerJoinedMessage;
 
 public class WantDetailsCommand implements GameCommand {
     
@@ -22,8 +23,8 @@ public class WantDetailsCommand implements GameCommand {
             ClientInfo myInfo = ctx.clientGroup.getClient(ctx.clientAddr, ctx.port);
             if (myInfo != null) {
                 ctx.clientGroup.sendTo(requesterAddr, requesterPort,
-                    "detailsFor " + ctx.playerName + " " + myInfo.gender + " " +
-                    myInfo.mapX + " " + myInfo.mapY + " " + myInfo.direction);
+                    PlayerJoinedMessage.details(myInfo.playerId, ctx.playerName, myInfo.gender,
+                                                myInfo.mapX, myInfo.mapY, myInfo.direction));
             }
         }
     }
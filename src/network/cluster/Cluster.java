@@ -0,0 +1,148 @@
+package network.cluster;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Cluster - This node's view of the cluster
+ *
+ * Rooms are owned by nodes through consistent hashing on the room id
+ * (HashRing over the ClusterMembership table). Players are only ever
+ * connected to the owner of their room: joins and room changes to a room
+ * owned elsewhere are answered with a redirect, and the client reconnects.
+ *
+ * Admin commands reach players on other nodes through the peers'
+ * PeerServer: one request line per connection, answered with lines and
+ * a final "END".
+ */
+public class Cluster {
+
+    private static final Logger LOG = Log.get(Cluster.class);
+
+    private static final int CONNECT_TIMEOUT_MS = 1000;
+    private static final int READ_TIMEOUT_MS = 3000;
+
+    private final String selfId;
+    private final String secret;
+    private final ClusterMembership membership;
+    private volatile ClusterNode self;
+
+    public Cluster(String selfId, String membershipFile, String secret) throws IOException {
+        this.selfId = selfId;
+        this.secret = secret;
+        this.membership = new ClusterMembership(membershipFile);
+        this.self = membership.getNode(selfId);
+        if (self == null) {
+            throw new IOException("Node '" + selfId + "' is not listed in " + membershipFile);
+        }
+    }
+
+    public void start() {
+        membership.start();
+    }
+
+    public void shutdown() {
+        membership.shutdown();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OWNERSHIP
+    // ═══════════════════════════════════════════════════════════
+
+    public ClusterNode getSelf() {
+        ClusterNode listed = membership.getNode(selfId);
+        if (listed != null) {
+            self = listed;
+        }
+        return self;
+    }
+
+    public ClusterNode ownerOf(String roomId) {
+        ClusterNode owner = membership.getRing().ownerOf(roomId);
+        return owner != null ? owner : getSelf();
+    }
+
+    public boolean isLocal(String roomId) {
+        return ownerOf(roomId).id.equals(selfId);
+    }
+
+    public List<ClusterNode> getNodes() {
+        return membership.getRing().getNodes();
+    }
+
+    public List<ClusterNode> getPeers() {
+        List<ClusterNode> peers = new ArrayList<>();
+        for (ClusterNode node : getNodes()) {
+            if (!node.id.equals(selfId)) {
+                peers.add(node);
+            }
+        }
+        return peers;
+    }
+
+    String getSecret() {
+        return secret;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PEER REQUESTS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Send one request to a peer and read its answer (without the "END")
+     */
+    public List<String> ask(ClusterNode node, String request) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(node.host, node.peerPort), CONNECT_TIMEOUT_MS);
+            socket.setSoTimeout(READ_TIMEOUT_MS);
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            out.println(PeerServer.AUTH + " " + secret);
+            out.println(request);
+
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null && !line.equals(PeerServer.END)) {
+                if (line.startsWith(PeerServer.ERROR)) {
+                    throw new IOException(node.id + ": " + line);
+                }
+                lines.add(line);
+            }
+            if (line == null) {
+                throw new IOException(node.id + ": connection closed before " + PeerServer.END);
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Ask every other node; unreachable ones are logged and left out
+     */
+    public Map<ClusterNode, List<String>> askPeers(String request) {
+        Map<ClusterNode, List<String>> answers = new LinkedHashMap<>();
+        for (ClusterNode peer : getPeers()) {
+            try {
+                answers.put(peer, ask(peer, request));
+            } catch (IOException e) {
+                LOG.warn("[CLUSTER] " + peer.id + " did not answer '" + request + "': " + e.getMessage());
+            }
+        }
+        return answers;
+    }
+}
@@ -0,0 +1,89 @@
+package network.cluster;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * ClusterMembership - The node table, read from a local file
+ *
+ * One node per line (see ClusterNode); every node of the cluster reads
+ * the same file. A background thread re-reads it when it changes, so
+ * nodes can be added or removed without restarts - rooms then move to
+ * their new owners as their players next change rooms.
+ */
+public class ClusterMembership extends Thread {
+
+    private static final Logger LOG = Log.get(ClusterMembership.class);
+
+    private static final long POLL_INTERVAL_MS = 2000;
+
+    private final Path file;
+    private volatile HashRing ring;
+    private volatile boolean running = true;
+    private long lastModified;
+
+    public ClusterMembership(String file) throws IOException {
+        this.file = Paths.get(file);
+        this.setName("ClusterMembership");
+        this.setDaemon(true);
+        this.lastModified = Files.getLastModifiedTime(this.file).toMillis();
+        this.ring = new HashRing(read());
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+                long modified = Files.getLastModifiedTime(file).toMillis();
+                if (modified != lastModified) {
+                    lastModified = modified;
+                    ring = new HashRing(read());
+                    LOG.info("[CLUSTER] Membership reloaded: " + ring.getNodes().size() + " nodes");
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException | IllegalArgumentException e) {
+                // Keep the last good table until the file is fixed
+                LOG.warn("[CLUSTER] Cannot reload " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private List<ClusterNode> read() throws IOException {
+        List<ClusterNode> nodes = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            ClusterNode node = ClusterNode.parse(line);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    public HashRing getRing() {
+        return ring;
+    }
+
+    public ClusterNode getNode(String id) {
+        for (ClusterNode node : ring.getNodes()) {
+            if (node.id.equals(id)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    public void shutdown() {
+        running = false;
+        this.interrupt();
+    }
+}
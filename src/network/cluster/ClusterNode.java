@@ -0,0 +1,57 @@
+package network.cluster;
+
+/**
+ * ClusterNode - One game server in the cluster membership table
+ *
+ * Line format in the membership file:
+ *   <id> <host> <gamePort> <peerPort>
+ */
+public final class ClusterNode {
+
+    public final String id;
+    public final String host;
+    public final int gamePort;
+    public final int peerPort;
+
+    public ClusterNode(String id, String host, int gamePort, int peerPort) {
+        this.id = id;
+        this.host = host;
+        this.gamePort = gamePort;
+        this.peerPort = peerPort;
+    }
+
+    /**
+     * Parse one membership line, or null for blanks and # comments
+     */
+    public static ClusterNode parse(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+        String[] parts = trimmed.split("\\s+");
+        if (parts.length < 4) {
+            throw new IllegalArgumentException("Expected <id> <host> <gamePort> <peerPort>: " + line);
+        }
+        return new ClusterNode(parts[0], parts[1], Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ClusterNode)) {
+            return false;
+        }
+        ClusterNode node = (ClusterNode) other;
+        return id.equals(node.id) && host.equals(node.host)
+                && gamePort == node.gamePort && peerPort == node.peerPort;
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return id + " " + host + " " + gamePort + " " + peerPort;
+    }
+}
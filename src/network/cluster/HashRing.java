@@ -0,0 +1,68 @@
+package network.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HashRing - Consistent hashing of room ids onto cluster nodes
+ *
+ * Every node is placed on a 64-bit ring at VIRTUAL_NODES points; a room
+ * belongs to the first node point at or after the room id's hash. Adding
+ * or removing a node only moves the rooms between its points and their
+ * predecessors (about 1/N of them), and the many points per node keep
+ * the share of rooms per node even.
+ *
+ * Immutable - membership changes build a new ring.
+ */
+public final class HashRing {
+
+    static final int VIRTUAL_NODES = 128;
+
+    private final TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final List<ClusterNode> nodes;
+
+    public HashRing(List<ClusterNode> nodes) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        for (ClusterNode node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node.id + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * Node that owns the room, or null for an empty ring
+     */
+    public ClusterNode ownerOf(String roomId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash(roomId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<ClusterNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * FNV-1a over UTF-8, then a 64-bit finalizer: FNV alone clusters
+     * the short, similar keys ("node-a#17") used here
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,169 @@
+package network.cluster;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+import admin.shared.AdminAction;
+import logging.Log;
+import logging.Logger;
+import network.ClientInfo;
+import network.GameServerGroup;
+import network.ServerExecutors;
+
+/**
+ * PeerServer - Answers other nodes' requests about this node's players
+ *
+ * Protocol (text lines, one request per connection):
+ *   → AUTH <cluster secret>
+ *   → PLAYERS | KICK <user> [reason] | MOVE <user> <roomId>
+ *   ← answer lines, then END  (ERROR <reason> on failure)
+ *
+ * PLAYERS  one "PLAYER <name> <room> <x> <y>" line per local player
+ * KICK     "OK <actionId>" or "NOT_FOUND" - queued like a local admin KICK
+ * MOVE     "OK <actionId>" or "NOT_FOUND"
+ */
+public class PeerServer extends Thread {
+
+    private static final Logger LOG = Log.get(PeerServer.class);
+
+    static final String AUTH = "AUTH";
+    static final String END = "END";
+    static final String ERROR = "ERROR";
+    public static final String OK = "OK";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    private static final int READ_TIMEOUT_MS = 5000;
+
+    private final Cluster cluster;
+    private final GameServerGroup clientGroup;
+    private final ExecutorService handlers = ServerExecutors.newPerTaskExecutor("PeerHandler");
+    private ServerSocket serverSocket;
+    private volatile boolean running = true;
+
+    public PeerServer(Cluster cluster, GameServerGroup clientGroup) {
+        this.cluster = cluster;
+        this.clientGroup = clientGroup;
+        this.setName("PeerServer");
+        this.setDaemon(true);
+    }
+
+    /**
+     * Bind the peer port (before start(), so a taken port fails the launch)
+     */
+    public void bind() throws IOException {
+        ClusterNode self = cluster.getSelf();
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(self.host, self.peerPort));
+        LOG.info("[CLUSTER] Peer requests on " + self.host + ":" + self.peerPort);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                handlers.execute(() -> handle(socket));
+            } catch (IOException e) {
+                if (running) {
+                    LOG.warn("[CLUSTER] Peer accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Closing peer socket failed", e);
+        }
+        handlers.shutdown();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // REQUESTS
+    // ═══════════════════════════════════════════════════════════
+
+    private void handle(Socket socket) {
+        try (Socket s = socket) {
+            s.setSoTimeout(READ_TIMEOUT_MS);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), true);
+
+            String auth = in.readLine();
+            if (auth == null || !auth.equals(AUTH + " " + cluster.getSecret())) {
+                out.println(ERROR + " Not authenticated");
+                LOG.warn("[CLUSTER] Rejected peer " + s.getInetAddress().getHostAddress());
+                return;
+            }
+            String request = in.readLine();
+            if (request != null) {
+                execute(request.trim(), out);
+            }
+            out.println(END);
+        } catch (IOException e) {
+            LOG.warn("[CLUSTER] Peer request failed: " + e.getMessage());
+        }
+    }
+
+    private void execute(String request, PrintWriter out) {
+        String[] parts = request.split(" ", 3);
+        switch (parts[0]) {
+            case "PLAYERS":
+                for (ClientInfo client : clientGroup.getAllClients()) {
+                    out.println("PLAYER " + client.playerName + " " + client.currentRoomId + " " +
+                                client.mapX + " " + client.mapY);
+                }
+                break;
+            case "KICK": {
+                if (parts.length < 2) {
+                    out.println(ERROR + " Usage: KICK <user> [reason]");
+                    return;
+                }
+                if (clientGroup.getClientByName(parts[1]) == null) {
+                    out.println(NOT_FOUND);
+                    return;
+                }
+                String reason = parts.length > 2 ? parts[2] : "Kicked by admin";
+                out.println(OK + " " + publish(AdminAction.createKick(parts[1], reason)));
+                break;
+            }
+            case "MOVE": {
+                if (parts.length < 3) {
+                    out.println(ERROR + " Usage: MOVE <user> <roomId>");
+                    return;
+                }
+                if (clientGroup.getClientByName(parts[1]) == null) {
+                    out.println(NOT_FOUND);
+                    return;
+                }
+                out.println(OK + " " + publish(AdminAction.createMove(parts[1], parts[2].trim())));
+                break;
+            }
+            default:
+                out.println(ERROR + " Unknown request: " + parts[0]);
+        }
+    }
+
+    /**
+     * Queue an action like a local admin command
+     * @return its id
+     */
+    private String publish(AdminAction action) {
+        clientGroup.getAdminBus().publish(action);
+        return action.getActionId();
+    }
+}
@@ -0,0 +1,339 @@
+package network.nio;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import logging.Log;
+import logging.Logger;
+import network.GameServerGroup;
+import network.OutboundQueue;
+import network.OutboundQueueWriter;
+import network.ServerMetrics;
+import network.clientHandler.ClientContext;
+import network.clientHandler.CommandRegistry;
+import network.protocol.PlayerLeftMessage;
+import network.protocol.WireBuffer;
+import network.protocol.WireProtocol;
+import network.protocol.WireReader;
+
+/**
+ * NioConnection - One non-blocking player connection
+ *
+ * NIO counterpart of ClientHandler: frames newline-delimited messages (or
+ * binary frames after a "hello bin1" handshake) out of the owning
+ * SelectorLoop's read buffer and dispatches them to the same
+ * CommandRegistry. Outbound lines go through the client's OutboundQueue
+ * and are written by the loop, coalesced, when the socket is writable.
+ *
+ * All read/dispatch/write/close work happens on the owning loop thread;
+ * other threads only ever touch the OutboundQueue.
+ */
+public class NioConnection {
+
+    private static final Logger LOG = Log.get(NioConnection.class);
+
+    // Carry-over cap: one maximal line or frame plus the next read
+    private static final int MAX_PENDING = 2 * WireProtocol.MAX_LINE_LENGTH;
+
+    private final SocketChannel channel;
+    private final SelectorLoop loop;
+    private final CommandRegistry registry;
+    private final ClientContext context;
+    private final OutboundQueue outbound;
+
+    // Coalesced batch currently being written, and its reusable encode buffer
+    private ByteBuffer pendingWrite;
+    private final WireBuffer writeBatch = new WireBuffer();
+
+    // Carry-over for a line or frame split across reads (allocated on demand)
+    private ByteBuffer partial;
+    private final WireReader frame = new WireReader();
+    private SelectionKey key;
+    private boolean closed = false;
+
+    public NioConnection(SocketChannel channel, SelectorLoop loop,
+                         CommandRegistry registry, GameServerGroup clientGroup) throws IOException {
+        this.channel = channel;
+        this.loop = loop;
+        this.registry = registry;
+
+        InetSocketAddress remote = (InetSocketAddress) channel.getRemoteAddress();
+
+        // Both drain requests and overflow disconnects are handled on the loop thread
+        this.outbound = new OutboundQueue(
+            () -> loop.scheduleWrite(this),
+            () -> loop.scheduleWrite(this)
+        );
+        PrintWriter out = new PrintWriter(new OutboundQueueWriter(outbound), true);
+
+        // socket() is the channel's adaptor - ByeCommand closing it closes the channel
+        this.context = new ClientContext(
+            out, outbound, clientGroup,
+            remote.getAddress().getHostAddress(),
+            remote.getPort(), channel.socket()
+        );
+    }
+
+    void attach(SelectionKey key) {
+        this.key = key;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // READ PATH (loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Read whatever is available into the loop's shared buffer and
+     * dispatch every complete line (or frame, once binary).
+     */
+    void onReadable(ByteBuffer readBuffer) {
+        int read;
+        try {
+            readBuffer.clear();
+            read = channel.read(readBuffer);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+
+        if (read < 0) {
+            close();
+            return;
+        }
+        ServerMetrics.BYTES_IN.add(read);
+
+        readBuffer.flip();
+        byte[] data = readBuffer.array();
+        int start = readBuffer.arrayOffset() + readBuffer.position();
+        int limit = readBuffer.arrayOffset() + readBuffer.limit();
+
+        if (partial != null && partial.position() > 0) {
+            // Finish the carried-over line or frame together with the new bytes
+            appendPartial(data, start, limit - start);
+            if (closed) return;
+            int consumed = consume(partial.array(), 0, partial.position());
+            if (closed) return;
+            partial.flip();
+            partial.position(consumed);
+            partial.compact();
+        } else {
+            int consumed = consume(data, start, limit);
+            if (!closed && consumed < limit) {
+                appendPartial(data, consumed, limit - consumed);
+            }
+        }
+    }
+
+    /**
+     * Dispatch every complete unit in data[from, to). The protocol can
+     * switch from lines to frames in the middle (hello handshake).
+     * @return index of the first byte not consumed
+     */
+    private int consume(byte[] data, int from, int to) {
+        int start = from;
+        while (start < to && !closed) {
+            if (context.binaryProtocol) {
+                int length;
+                try {
+                    length = WireReader.peekVarint(data, start, to);
+                } catch (IllegalArgumentException e) {
+                    protocolError("Malformed frame header");
+                    break;
+                }
+                if (length < 0) break;
+                if (length > WireProtocol.MAX_FRAME_LENGTH) {
+                    protocolError("Frame too large (" + length + " bytes)");
+                    break;
+                }
+                int body = start + WireBuffer.varintSize(length);
+                if (to - body < length) break;
+                processFrame(data, body, length);
+                start = body + length;
+            } else {
+                int newline = start;
+                while (newline < to && data[newline] != '\n') {
+                    newline++;
+                }
+                if (newline == to) {
+                    if (to - start > WireProtocol.MAX_LINE_LENGTH) {
+                        protocolError("Line too long");
+                    }
+                    break;
+                }
+                processMessage(decode(data, start, newline - start));
+                start = newline + 1;
+            }
+        }
+        return start;
+    }
+
+    private static String decode(byte[] data, int offset, int length) {
+        // Tolerate CRLF from Windows PrintWriter.println
+        if (length > 0 && data[offset + length - 1] == '\r') {
+            length--;
+        }
+        return new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private void appendPartial(byte[] data, int offset, int length) {
+        if (partial == null) {
+            partial = ByteBuffer.allocate(Math.max(256, length));
+        }
+        if (partial.position() + length > MAX_PENDING) {
+            protocolError("Too much unframed input");
+            return;
+        }
+        if (partial.remaining() < length) {
+            int newSize = Math.min(MAX_PENDING,
+                                   Math.max(partial.capacity() * 2, partial.position() + length));
+            ByteBuffer grown = ByteBuffer.allocate(newSize);
+            partial.flip();
+            grown.put(partial);
+            partial = grown;
+        }
+        partial.put(data, offset, length);
+    }
+
+    private void processMessage(String message) {
+        try {
+            registry.execute(message, context);
+        } catch (RuntimeException e) {
+            // Legacy handler thread dies on a malformed line; do the same per connection
+            LOG.warn("[NIO] Bad message from " + context.clientAddr + ":" +
+                     context.port + " - " + message + " (" + e + ")");
+            close();
+            return;
+        }
+
+        // ByeCommand closes the socket from inside execute()
+        if (!channel.isOpen()) {
+            close();
+        }
+    }
+
+    private void processFrame(byte[] data, int offset, int length) {
+        try {
+            registry.executeFrame(frame.reset(data, offset, length), context);
+        } catch (RuntimeException e) {
+            protocolError("Bad frame (" + e + ")");
+            return;
+        }
+
+        if (!channel.isOpen()) {
+            close();
+        }
+    }
+
+    private void protocolError(String reason) {
+        LOG.warn("[NIO] " + reason + " from " + context.clientAddr + ":" +
+                 context.port + " - closing");
+        close();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // WRITE PATH
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Write queued lines as coalesced batches until the queue is empty or
+     * the socket stops accepting data (loop thread).
+     */
+    void onWritable() {
+        if (closed) return;
+
+        if (outbound.isOverflowed()) {
+            close();
+            return;
+        }
+
+        try {
+            while (true) {
+                if (pendingWrite != null) {
+                    ServerMetrics.BYTES_OUT.add(channel.write(pendingWrite));
+                    if (pendingWrite.hasRemaining()) {
+                        // Socket buffer full - wait for OP_WRITE
+                        setWriteInterest(true);
+                        return;
+                    }
+                    pendingWrite = null;
+                }
+
+                writeBatch.reset();
+                if (outbound.drainInto(writeBatch) > 0) {
+                    // Safe to reuse: the next drain only happens once this is fully written
+                    pendingWrite = ByteBuffer.wrap(writeBatch.array(), 0, writeBatch.size());
+                    continue;
+                }
+
+                setWriteInterest(false);
+                if (!outbound.finishDrain()) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    private void setWriteInterest(boolean enabled) {
+        try {
+            if (key == null || !key.isValid()) return;
+            int ops = key.interestOps();
+            int updated = enabled ? (ops | SelectionKey.OP_WRITE) : (ops & ~SelectionKey.OP_WRITE);
+            if (updated != ops) {
+                key.interestOps(updated);
+            }
+        } catch (CancelledKeyException e) {
+            // Connection closed concurrently
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CLEANUP (loop thread)
+    // ═══════════════════════════════════════════════════════════
+
+    void close() {
+        if (closed) return;
+        closed = true;
+
+        if (context.playerName != null) {
+            context.clientGroup.broadcastToRoom(
+                context.currentRoomId,
+                context.clientAddr,
+                context.port,
+                new PlayerLeftMessage(context.playerId, context.playerName)
+            );
+            context.clientGroup.removeClient(context.clientAddr, context.port);
+            LOG.info(context.playerName + " disconnected from room: " +
+                     context.currentRoomId);
+        } else {
+            LOG.info("Client disconnected: " + context.clientAddr + ":" + context.port);
+        }
+
+        outbound.close();
+        pendingWrite = null;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Closing channel failed", e);
+        }
+        loop.connectionClosed();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    public ClientContext getContext() {
+        return context;
+    }
+}
@@ -0,0 +1,95 @@
+package network.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import logging.Log;
+import logging.Logger;
+import network.GameServerGroup;
+import network.ServerMetrics;
+import network.clientHandler.CommandRegistry;
+
+/**
+ * NioGameServer - Selector-based alternative to thread-per-client
+ *
+ * The calling thread accepts connections and deals them round-robin to a
+ * small, fixed pool of SelectorLoops. Thread count no longer grows with
+ * the number of players.
+ */
+public class NioGameServer {
+
+    private static final Logger LOG = Log.get(NioGameServer.class);
+
+    private final int port;
+    private final SelectorLoop[] loops;
+    private volatile boolean running = true;
+    private ServerSocketChannel serverChannel;
+
+    public NioGameServer(int port, GameServerGroup clientGroup, int loopCount) throws IOException {
+        this.port = port;
+        this.loops = new SelectorLoop[Math.max(1, loopCount)];
+
+        CommandRegistry registry = new CommandRegistry();
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new SelectorLoop(i, registry, clientGroup);
+        }
+    }
+
+    /**
+     * Start the loops and accept connections until shutdown (blocks).
+     */
+    public void run() throws IOException {
+        for (SelectorLoop loop : loops) {
+            loop.start();
+        }
+
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);  // Same as ServerSocket
+        serverChannel.bind(new InetSocketAddress(port));
+        LOG.info("Game server (NIO, " + loops.length + " loops) listening on port " + port);
+
+        int next = 0;
+        while (running) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                if (!running) break;
+                throw e;
+            }
+
+            ServerMetrics.CONNECTIONS.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[NEW PLAYER] " + channel.getRemoteAddress());
+            }
+
+            loops[next].register(channel);
+            next = (next + 1) % loops.length;
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        for (SelectorLoop loop : loops) {
+            loop.shutdown();
+        }
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Closing server channel failed", e);
+        }
+    }
+
+    public int getConnectionCount() {
+        int total = 0;
+        for (SelectorLoop loop : loops) {
+            total += loop.getConnectionCount();
+        }
+        return total;
+    }
+}
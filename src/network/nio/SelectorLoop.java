@@ -0,0 +1,166 @@
+package network.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import logging.Log;
+import logging.Logger;
+import network.GameServerGroup;
+import network.clientHandler.CommandRegistry;
+
+/**
+ * SelectorLoop - One event-loop thread serving many connections
+ *
+ * Owns a Selector plus a single reusable read buffer. New channels and
+ * write requests from other threads are handed over through lock-free
+ * queues and picked up after the next wakeup().
+ */
+public class SelectorLoop extends Thread {
+
+    private static final Logger LOG = Log.get(SelectorLoop.class);
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final Selector selector;
+    private final CommandRegistry registry;
+    private final GameServerGroup clientGroup;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final Queue<SocketChannel> pendingRegistrations = new ConcurrentLinkedQueue<>();
+    private final Queue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public SelectorLoop(int index, CommandRegistry registry, GameServerGroup clientGroup) throws IOException {
+        this.selector = Selector.open();
+        this.registry = registry;
+        this.clientGroup = clientGroup;
+        setName("NioLoop-" + index);
+        setDaemon(true);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // HAND-OFF FROM OTHER THREADS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Adopt a freshly accepted channel (called by the acceptor).
+     */
+    public void register(SocketChannel channel) {
+        pendingRegistrations.add(channel);
+        connectionCount.incrementAndGet();
+        selector.wakeup();
+    }
+
+    void scheduleWrite(NioConnection connection) {
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    void connectionClosed() {
+        connectionCount.decrementAndGet();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // EVENT LOOP
+    // ═══════════════════════════════════════════════════════════
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+
+                processRegistrations();
+                processPendingWrites();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+            } catch (IOException e) {
+                LOG.warn("[NIO] " + getName() + " selector error: " + e.getMessage());
+            }
+        }
+
+        closeAll();
+    }
+
+    private void processRegistrations() {
+        SocketChannel channel;
+        while ((channel = pendingRegistrations.poll()) != null) {
+            try {
+                channel.configureBlocking(false);
+                NioConnection connection = new NioConnection(channel, this, registry, clientGroup);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connection.attach(key);
+            } catch (IOException e) {
+                LOG.warn("[NIO] Failed to register connection: " + e.getMessage());
+                connectionCount.decrementAndGet();
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private void processPendingWrites() {
+        NioConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            connection.onWritable();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                connection.onReadable(readBuffer);
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (CancelledKeyException e) {
+            connection.close();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CONTROL
+    // ═══════════════════════════════════════════════════════════
+
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof NioConnection) {
+                ((NioConnection) attachment).close();
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOG.warn("Closing selector failed", e);
+        }
+    }
+}
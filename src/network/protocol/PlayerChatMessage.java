@@ -0,0 +1,31 @@
+package network.protocol;
+
+/**
+ * playerChat - Chat line from a player in the room
+ *
+ * Text: playerChat <username> <text...>
+ */
+public class PlayerChatMessage extends ServerMessage {
+
+    public final int playerId;
+    public final String playerName;
+    public final String text;
+
+    public PlayerChatMessage(int playerId, String playerName, String text) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.text = text;
+    }
+
+    @Override
+    public String toText() {
+        return "playerChat " + playerName + " " + text;
+    }
+
+    @Override
+    protected void writeBody(WireBuffer out) {
+        out.writeVarint(WireProtocol.OP_PLAYER_CHAT);
+        out.writeVarint(playerId);
+        out.writeString(text);
+    }
+}
@@ -0,0 +1,59 @@
+package network.protocol;
+
+/**
+ * playerJoined / detailsFor - Introduces a player and interns its id
+ *
+ * Text: playerJoined <username> <gender> <mapX> <mapY> <direction>
+ *       detailsFor   <username> <gender> <mapX> <mapY> <direction>
+ */
+public class PlayerJoinedMessage extends ServerMessage {
+
+    public final int playerId;
+    public final String playerName;
+    public final String gender;
+    public final int mapX;
+    public final int mapY;
+    public final String direction;
+    private final boolean details;
+
+    public PlayerJoinedMessage(int playerId, String playerName, String gender,
+                               int mapX, int mapY, String direction) {
+        this(playerId, playerName, gender, mapX, mapY, direction, false);
+    }
+
+    private PlayerJoinedMessage(int playerId, String playerName, String gender,
+                                int mapX, int mapY, String direction, boolean details) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.gender = gender;
+        this.mapX = mapX;
+        this.mapY = mapY;
+        this.direction = direction;
+        this.details = details;
+    }
+
+    /**
+     * Reply to a wantDetails request - same fields, "detailsFor" on the text protocol
+     */
+    public static PlayerJoinedMessage details(int playerId, String playerName, String gender,
+                                              int mapX, int mapY, String direction) {
+        return new PlayerJoinedMessage(playerId, playerName, gender, mapX, mapY, direction, true);
+    }
+
+    @Override
+    public String toText() {
+        return (details ? "detailsFor " : "playerJoined ") + playerName + " " + gender + " " +
+               mapX + " " + mapY + " " + direction;
+    }
+
+    @Override
+    protected void writeBody(WireBuffer out) {
+        out.writeVarint(details ? WireProtocol.OP_PLAYER_DETAILS : WireProtocol.OP_PLAYER_JOINED);
+        out.writeVarint(playerId);
+        out.writeString(playerName);
+        out.writeByte(WireProtocol.genderCode(gender));
+        out.writeSignedVarint(mapX);
+        out.writeSignedVarint(mapY);
+        out.writeByte(WireProtocol.directionCode(direction));
+    }
+}
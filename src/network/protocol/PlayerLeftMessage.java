@@ -0,0 +1,28 @@
+package network.protocol;
+
+/**
+ * playerLeft - A player left the room or disconnected
+ *
+ * Text: playerLeft <username>
+ */
+public class PlayerLeftMessage extends ServerMessage {
+
+    public final int playerId;
+    public final String playerName;
+
+    public PlayerLeftMessage(int playerId, String playerName) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+    }
+
+    @Override
+    public String toText() {
+        return "playerLeft " + playerName;
+    }
+
+    @Override
+    protected void writeBody(WireBuffer out) {
+        out.writeVarint(WireProtocol.OP_PLAYER_LEFT);
+        out.writeVarint(playerId);
+    }
+}
@@ -0,0 +1,49 @@
+package network.protocol;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * playerMoved - Position update, the bulk of all game traffic
+ *
+ * Text:   playerMoved <username> <mapX> <mapY> <direction> <inMovement>
+ * Binary: id, x, y and one motion byte - typically 5 bytes per move
+ */
+public class PlayerMovedMessage extends ServerMessage {
+
+    public final int playerId;
+    public final String playerName;
+    public final int mapX;
+    public final int mapY;
+    public final String direction;
+    public final boolean inMovement;
+
+    public PlayerMovedMessage(int playerId, String playerName, int mapX, int mapY,
+                              String direction, boolean inMovement) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.mapX = mapX;
+        this.mapY = mapY;
+        this.direction = direction;
+        this.inMovement = inMovement;
+    }
+
+    @Override
+    public List<String> movedPlayers() {
+        return Collections.singletonList(playerName);
+    }
+
+    @Override
+    public String toText() {
+        return "playerMoved " + playerName + " " + mapX + " " + mapY + " " + direction + " " + inMovement;
+    }
+
+    @Override
+    protected void writeBody(WireBuffer out) {
+        out.writeVarint(WireProtocol.OP_PLAYER_MOVED);
+        out.writeVarint(playerId);
+        out.writeSignedVarint(mapX);
+        out.writeSignedVarint(mapY);
+        out.writeByte(WireProtocol.motion(WireProtocol.directionCode(direction), inMovement));
+    }
+}
@@ -0,0 +1,56 @@
+package network.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Room snapshot - Every player in a room whose position changed this tick
+ *
+ * Text:   one playerMoved line per player, so text clients need no changes
+ * Binary: OP_ROOM_SNAPSHOT with the moves packed back to back
+ */
+public class RoomSnapshotMessage extends ServerMessage {
+
+    private final List<PlayerMovedMessage> moves;
+
+    public RoomSnapshotMessage(List<PlayerMovedMessage> moves) {
+        this.moves = moves;
+    }
+
+    public int size() {
+        return moves.size();
+    }
+
+    @Override
+    public List<String> movedPlayers() {
+        List<String> names = new ArrayList<>(moves.size());
+        for (PlayerMovedMessage move : moves) {
+            names.add(move.playerName);
+        }
+        return names;
+    }
+
+    @Override
+    public String toText() {
+        StringBuilder sb = new StringBuilder(moves.size() * 48);
+        for (PlayerMovedMessage move : moves) {
+            if (sb.length() > 0) {
+                sb.append('\n');
+            }
+            sb.append(move.toText());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected void writeBody(WireBuffer out) {
+        out.writeVarint(WireProtocol.OP_ROOM_SNAPSHOT);
+        out.writeVarint(moves.size());
+        for (PlayerMovedMessage move : moves) {
+            out.writeVarint(move.playerId);
+            out.writeSignedVarint(move.mapX);
+            out.writeSignedVarint(move.mapY);
+            out.writeByte(WireProtocol.motion(WireProtocol.directionCode(move.direction), move.inMovement));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ServerMessage - A typed server → client event shared by all recipients
+ *
+ * A broadcast creates one immutable message and queues the same instance
+ * for every client in the room. Each connection's writer asks for the
+ * encoding it speaks; both encodings are built at most once per message.
+ */
+public abstract class ServerMessage {
+
+    private volatile byte[] textLine;
+    private volatile byte[] binaryFrame;
+
+    /**
+     * Text protocol form, without line terminator
+     */
+    public abstract String toText();
+
+    /**
+     * Binary body: opcode followed by the payload
+     */
+    protected abstract void writeBody(WireBuffer out);
+
+    /**
+     * Players whose position this message carries. It is obsolete once newer
+     * positions for all of them are queued behind it; empty means never.
+     */
+    public List<String> movedPlayers() {
+        return Collections.emptyList();
+    }
+
+    public final byte[] textLine() {
+        byte[] line = textLine;
+        if (line == null) {
+            byte[] text = toText().getBytes(StandardCharsets.UTF_8);
+            line = new byte[text.length + 1];
+            System.arraycopy(text, 0, line, 0, text.length);
+            line[text.length] = '\n';
+            textLine = line;
+        }
+        return line;
+    }
+
+    public final byte[] binaryFrame() {
+        byte[] frame = binaryFrame;
+        if (frame == null) {
+            WireBuffer out = new WireBuffer(32);
+            int mark = out.beginFrame();
+            writeBody(out);
+            out.endFrame(mark);
+            frame = out.toByteArray();
+            binaryFrame = frame;
+        }
+        return frame;
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
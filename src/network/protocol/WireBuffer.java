@@ -0,0 +1,155 @@
+package network.protocol;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * WireBuffer - Growable byte buffer for encoding protocol output
+ *
+ * Holds text lines and binary frames alike; writers reuse one buffer per
+ * connection and reset() it between batches. Not thread-safe.
+ */
+public class WireBuffer {
+
+    private byte[] data;
+    private int size = 0;
+
+    public WireBuffer() {
+        this(256);
+    }
+
+    public WireBuffer(int initialCapacity) {
+        this.data = new byte[Math.max(16, initialCapacity)];
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PRIMITIVES
+    // ═══════════════════════════════════════════════════════════
+
+    public void writeByte(int value) {
+        ensure(1);
+        data[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, data, size, length);
+        size += length;
+    }
+
+    public void writeVarint(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    public void writeSignedVarint(int value) {
+        writeVarint((value << 1) ^ (value >> 31));
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        writeBytes(bytes);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PROTOCOL UNITS
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Text protocol line, newline-terminated
+     */
+    public void writeLine(String line) {
+        writeBytes(line.getBytes(StandardCharsets.UTF_8));
+        writeByte('\n');
+    }
+
+    /**
+     * Start a binary frame in place: write the body (opcode + payload),
+     * then call endFrame() with the returned mark. Bodies under 128 bytes
+     * - every move - are never copied.
+     */
+    public int beginFrame() {
+        writeByte(0);
+        return size;
+    }
+
+    public void endFrame(int bodyStart) {
+        int length = size - bodyStart;
+        int header = varintSize(length);
+        if (header > 1) {
+            ensure(header - 1);
+            System.arraycopy(data, bodyStart, data, bodyStart + header - 1, length);
+            size += header - 1;
+        }
+
+        int position = bodyStart - 1;
+        while ((length & ~0x7F) != 0) {
+            data[position++] = (byte) ((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        data[position] = (byte) length;
+    }
+
+    /**
+     * Binary OP_TEXT frame carrying one text protocol line
+     */
+    public void writeTextFrame(String line) {
+        int mark = beginFrame();
+        writeVarint(WireProtocol.OP_TEXT);
+        writeString(line);
+        endFrame(mark);
+    }
+
+    public static int varintSize(int value) {
+        int bytes = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            bytes++;
+        }
+        return bytes;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ACCESS
+    // ═══════════════════════════════════════════════════════════
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Backing array - valid up to size(), replaced when the buffer grows
+     */
+    public byte[] array() {
+        return data;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(data, 0, size);
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package network.protocol;
+
+/**
+ * WireFormat - How a connection encodes what is queued for it
+ *
+ * Outbound queues hold plain text lines (String) and typed ServerMessages;
+ * the connection's current format turns either into bytes.
+ */
+public enum WireFormat {
+
+    TEXT {
+        @Override
+        public void encode(Object entry, WireBuffer out) {
+            if (entry instanceof ServerMessage) {
+                out.writeBytes(((ServerMessage) entry).textLine());
+            } else {
+                out.writeLine((String) entry);
+            }
+        }
+    },
+
+    BINARY {
+        @Override
+        public void encode(Object entry, WireBuffer out) {
+            if (entry instanceof ServerMessage) {
+                out.writeBytes(((ServerMessage) entry).binaryFrame());
+            } else {
+                out.writeTextFrame((String) entry);
+            }
+        }
+    };
+
+    public abstract void encode(Object entry, WireBuffer out);
+}
@@ -0,0 +1,140 @@
+package network.protocol;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * WireInput - Blocking reader for a socket that can switch protocols
+ *
+ * Reads text lines until the handshake switches the connection to binary,
+ * then reads frames from the very next byte. A BufferedReader can't do
+ * this: its decoder reads ahead and would swallow the first frames.
+ */
+public class WireInput {
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int position = 0;
+    private int limit = 0;
+
+    // Lines spanning several reads, and frame bodies (reused between calls)
+    private byte[] scratch = new byte[256];
+
+    public WireInput(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Next text line without its terminator (CRLF tolerated), or null at end of stream
+     */
+    public String readLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (position == limit && !fill()) {
+                return length > 0 ? decodeLine(scratch, 0, length) : null;
+            }
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int chunk = position - start;
+            boolean complete = position < limit;
+
+            if (complete && length == 0) {
+                // Common case: the whole line is already buffered
+                position++;
+                return decodeLine(buffer, start, chunk);
+            }
+
+            if (length + chunk > WireProtocol.MAX_LINE_LENGTH) {
+                throw new IOException("Line too long");
+            }
+            ensureScratch(length + chunk);
+            System.arraycopy(buffer, start, scratch, length, chunk);
+            length += chunk;
+
+            if (complete) {
+                position++;
+                return decodeLine(scratch, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Read one binary frame and point the reader at its body.
+     * The body stays valid until the next read.
+     * @return false at a clean end of stream
+     */
+    public boolean readFrame(WireReader reader) throws IOException {
+        int first = read();
+        if (first < 0) {
+            return false;
+        }
+
+        int length = first & 0x7F;
+        int b = first;
+        for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+            if (shift > 28) {
+                throw new IOException("Malformed frame length");
+            }
+            b = read();
+            if (b < 0) {
+                throw new EOFException("End of stream inside frame header");
+            }
+            length |= (b & 0x7F) << shift;
+        }
+
+        if (length < 0 || length > WireProtocol.MAX_FRAME_LENGTH) {
+            throw new IOException("Frame too large: " + length);
+        }
+
+        ensureScratch(length);
+        int filled = 0;
+        while (filled < length) {
+            if (position == limit && !fill()) {
+                throw new EOFException("End of stream inside frame");
+            }
+            int chunk = Math.min(length - filled, limit - position);
+            System.arraycopy(buffer, position, scratch, filled, chunk);
+            position += chunk;
+            filled += chunk;
+        }
+
+        reader.reset(scratch, 0, length);
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void ensureScratch(int length) {
+        if (scratch.length < length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, length));
+        }
+    }
+
+    private static String decodeLine(byte[] data, int offset, int length) {
+        if (length > 0 && data[offset + length - 1] == '\r') {
+            length--;
+        }
+        return new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+}
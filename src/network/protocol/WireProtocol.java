@@ -0,0 +1,123 @@
+package network.protocol;
+
+import Entity.Entity.Direction;
+
+/**
+ * WireProtocol - Constants of the compact binary game protocol
+ *
+ * Every connection starts in the text protocol. A client that speaks
+ * binary sends "hello bin1" before anything else and waits for the reply:
+ * - "hello bin1"              → both sides switch to binary frames
+ * - anything else ("hello text", or "error Unknown command" from an
+ *   older server)             → the connection stays on text lines
+ *
+ * Optional features follow the protocol name ("hello bin1 walk"); the
+ * reply repeats the ones the server accepted:
+ * - walk   server-authoritative movement - the client sends one walk
+ *          intent per click and only turns as moves; the server paths
+ *          and steps the player and may answer "positionCorrected x y dir"
+ *
+ * Binary frame:  varint bodyLength | varint opcode | payload
+ * - varint        unsigned LEB128 (7 bits per byte, low group first)
+ * - svarint       zig-zag encoded varint (map coordinates)
+ * - string        varint byteLength | UTF-8 bytes
+ * - direction     Entity.Direction ordinal + 1 (0 = unknown)
+ * - motion byte   (direction << 1) | inMovement
+ *
+ * Cluster mode: a join or changeRoom to a room owned by another node is
+ * answered with "redirect <host> <port> <roomId>" (a text line, OP_TEXT in
+ * binary); the client reconnects there and joins the room.
+ *
+ * Player names are sent once, in PLAYER_JOINED / PLAYER_DETAILS, together
+ * with a server-assigned player id; moves, chat and leaves carry the id only.
+ */
+public final class WireProtocol {
+
+    public static final String HELLO_COMMAND = "hello";
+    public static final String BINARY_V1 = "bin1";
+    public static final String TEXT = "text";
+    public static final String FEATURE_WALK = "walk";
+    public static final String REDIRECT = "redirect";
+
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+    public static final int MAX_FRAME_LENGTH = 64 * 1024;
+
+    // ═══════════════════════════════════════════════════════════
+    // OPCODES
+    // ═══════════════════════════════════════════════════════════
+
+    // Both directions: one text protocol line, for everything without its own opcode
+    public static final int OP_TEXT = 0;
+
+    // Server → client
+    public static final int OP_PLAYER_JOINED = 1;   // varint id, string name, byte gender, svarint x, svarint y, byte direction
+    public static final int OP_PLAYER_MOVED = 2;    // varint id, svarint x, svarint y, motion byte
+    public static final int OP_PLAYER_LEFT = 3;     // varint id
+    public static final int OP_PLAYER_CHAT = 4;     // varint id, string text
+    public static final int OP_PLAYER_DETAILS = 5;  // same layout as OP_PLAYER_JOINED
+    public static final int OP_ROOM_SNAPSHOT = 6;   // varint count, count × (varint id, svarint x, svarint y, motion byte)
+
+    // Client → server
+    public static final int OP_MOVE = 2;            // svarint x, svarint y, motion byte
+    public static final int OP_WALK = 3;            // svarint targetX, svarint targetY
+
+    // ═══════════════════════════════════════════════════════════
+    // FIELD CODES
+    // ═══════════════════════════════════════════════════════════
+
+    public static final int GENDER_MALE = 0;
+    public static final int GENDER_FEMALE = 1;
+
+    // Index = direction code; code 0 decodes to "" which every parser treats as unknown
+    private static final String[] DIRECTION_NAMES;
+
+    static {
+        Direction[] directions = Direction.values();
+        DIRECTION_NAMES = new String[directions.length + 1];
+        DIRECTION_NAMES[0] = "";
+        for (Direction direction : directions) {
+            DIRECTION_NAMES[direction.ordinal() + 1] = direction.name();
+        }
+    }
+
+    private WireProtocol() {
+    }
+
+    public static int directionCode(String direction) {
+        if (direction != null) {
+            for (int code = 1; code < DIRECTION_NAMES.length; code++) {
+                if (DIRECTION_NAMES[code].equals(direction)) {
+                    return code;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Direction name for a code; unknown codes give "" (never a new String)
+     */
+    public static String directionName(int code) {
+        return (code > 0 && code < DIRECTION_NAMES.length) ? DIRECTION_NAMES[code] : DIRECTION_NAMES[0];
+    }
+
+    public static int motion(int directionCode, boolean inMovement) {
+        return (directionCode << 1) | (inMovement ? 1 : 0);
+    }
+
+    public static int motionDirection(int motion) {
+        return motion >>> 1;
+    }
+
+    public static boolean motionInMovement(int motion) {
+        return (motion & 1) != 0;
+    }
+
+    public static int genderCode(String gender) {
+        return "FEMALE".equalsIgnoreCase(gender) ? GENDER_FEMALE : GENDER_MALE;
+    }
+
+    public static String genderName(int code) {
+        return code == GENDER_FEMALE ? "FEMALE" : "MALE";
+    }
+}
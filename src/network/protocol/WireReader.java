@@ -0,0 +1,84 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WireReader - Decodes the body of one binary frame
+ *
+ * A cursor over a byte range that callers reset() for every frame, so
+ * decoding a move allocates nothing. Truncated or malformed input throws
+ * IllegalArgumentException, which connections treat like a bad text line.
+ */
+public class WireReader {
+
+    private byte[] data;
+    private int position;
+    private int limit;
+
+    public WireReader reset(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+        return this;
+    }
+
+    public int readUnsignedByte() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("Truncated frame");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    public int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readSignedVarint() {
+        int raw = readVarint();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        int length = readVarint();
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException("Truncated string");
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    /**
+     * Decode a varint length prefix from data[from, to) without consuming it.
+     * @return the value, or -1 if the prefix is not complete yet
+     */
+    public static int peekVarint(byte[] data, int from, int to) {
+        int value = 0;
+        for (int shift = 0, i = from; shift < 35 && i < to; shift += 7, i++) {
+            int b = data[i] & 0xFF;
+            if (shift == 28 && b > 0x07) {
+                throw new IllegalArgumentException("Varint out of range");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        if (to - from >= 5) {
+            throw new IllegalArgumentException("Malformed varint");
+        }
+        return -1;
+    }
+}
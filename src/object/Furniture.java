@@ -1,8 +1,8 @@
 package object;
 
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+
+import sprite.ImageCache;
 
 public class Furniture {
     
@@ -20,12 +20,8 @@ public class Furniture {
         this.tileHeight = tileHeight;
         this.placed = false;
         
-        try {
-            image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-        } catch (IOException e) {
-            System.err.println("Failed to load furniture: " + imagePath);
-            e.printStackTrace();
-        }
+        // Shared decoded image - every copy of a furniture type uses the same bitmap
+        image = ImageCache.get(imagePath);
     }
     
     public void place(int mapX, int mapY) {
@@ -1,11 +1,15 @@
 package object;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 
 public class FurnitureManager {
+
+    private static final Logger LOG = Log.get(FurnitureManager.class);
     
     private GamePanel gp;
     private List<Furniture> placedFurniture;
@@ -20,6 +24,7 @@ public class FurnitureManager {
         removeFurnitureAt(furniture.mapX, furniture.mapY, furniture.tileWidth, furniture.tileHeight);
 
         placedFurniture.add(furniture);
+        notifyServer(furniture, true);
     }
     
     public void removeFurnitureAt(int mapX, int mapY, int width, int height) {
@@ -28,18 +33,29 @@ public class FurnitureManager {
             // Check if furniture footprints overlap
             boolean overlapX = mapX < f.mapX + f.tileWidth && mapX + width > f.mapX;
             boolean overlapY = mapY < f.mapY + f.tileHeight && mapY + height > f.mapY;
-            return overlapX && overlapY;
+            if (overlapX && overlapY) {
+                notifyServer(f, false);
+                return true;
+            }
+            return false;
         });
     }
 
+    // The server walks players around placed pieces
+    private void notifyServer(Furniture furniture, boolean placed) {
+        if (furniture.placed && gp.networkManager != null) {
+            gp.networkManager.sendFurnitureChange(furniture, placed);
+        }
+    }
+
     // Clear all furniture (used when switching rooms)
     
     public void clearFurniture() { placedFurniture.clear(); }
     
     public void draw(Graphics2D g2d) {
         //! debug prints for the array placedFurniture
-        // System.out.println("=== DRAW CALL ===");
-        // System.out.println("Placed furniture count: " + placedFurniture.size());
+        // LOG.info("=== DRAW CALL ===");
+        // LOG.info("Placed furniture count: " + placedFurniture.size());
         
         placedFurniture.sort((f1, f2) -> {
             int pos1 = f1.mapX + f1.mapY;
@@ -70,10 +86,10 @@ public class FurnitureManager {
                 int drawY = tileCenterY - imageHeight + (gp.tileSizeHeight / 2);
                 
                 //! print lines for furniture objects
-                // System.out.println("Drawing " + furniture.name + ":");
-                // System.out.println("  Original size: " + imageWidth + "x" + imageHeight);
-                // System.out.println("  Tile center: (" + tileCenterX + ", " + tileCenterY + ")");
-                // System.out.println("  Draw position: (" + drawX + ", " + drawY + ")");
+                // LOG.info("Drawing " + furniture.name + ":");
+                // LOG.info("  Original size: " + imageWidth + "x" + imageHeight);
+                // LOG.info("  Tile center: (" + tileCenterX + ", " + tileCenterY + ")");
+                // LOG.info("  Draw position: (" + drawX + ", " + drawY + ")");
                 
                 // ✨ STEP 5: Draw at original size (NO width/height parameters = no scaling!)
                 g2d.drawImage(furniture.image, drawX, drawY, null);
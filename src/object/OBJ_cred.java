@@ -4,9 +4,14 @@ import java.io.InputStream;
 
 import javax.imageio.ImageIO;
 
+import logging.Log;
+import logging.Logger;
+
 
 public class OBJ_cred extends SuperObject {
 
+    private static final Logger LOG = Log.get(OBJ_cred.class);
+
 
     public OBJ_cred(){
 
@@ -23,7 +28,7 @@ public class OBJ_cred extends SuperObject {
 
         }
         catch (IOException ioe){
-            ioe.printStackTrace();
+            LOG.error("Loading credits image failed", ioe);
         }
 
 
@@ -0,0 +1,391 @@
+package pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * FlowFieldCache - Shared distance-to-goal grids for popular destinations
+ *
+ * In a busy room many players walk to the same few tiles (door, bar, dance
+ * floor). Once a goal has been asked for often enough, one Dijkstra pass
+ * from the goal fills a flow field with every tile's distance to it; from
+ * then on any walker's path is read off the field by stepping downhill,
+ * with no search at all. Other goals still go through A*.
+ *
+ * Distances use the same costs as PathFinder (10 straight, 14 diagonal),
+ * so a flow field path is always as short as the A* one.
+ *
+ * PathFinder.setSolid reports each changed tile here. Only fields the
+ * change can affect are dropped: a tile that becomes solid matters only
+ * if the field reached it, a tile that opens up only if it touches a
+ * reached tile.
+ *
+ * Not thread-safe, same as PathFinder: use both from one thread.
+ */
+public class FlowFieldCache {
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    // Request counts are halved every AGING_PERIOD lookups, so "popular" means recently
+    private static final int AGING_PERIOD = 256;
+
+    private final PathFinder pathFinder;
+    private final int capacity;
+    private final int hotThreshold;
+    private final int nodeCount;
+
+    // Cached fields: slot → goal id, distances, last use
+    private final int[] slotGoal;
+    private final int[][] slotDistance;
+    private final long[] slotLastUse;
+    private final int[] goalSlot;       // goal id → slot, or -1
+    private int slotsUsed = 0;
+
+    private final int[] requests;       // goal id → recent request count
+    private long clock = 0;
+
+    // Dijkstra scratch: heap of (distance << 32 | id)
+    private long[] heap;
+    private int heapSize;
+
+    // Metrics
+    private volatile long lookups = 0;
+    private volatile long hits = 0;
+    private volatile long builds = 0;
+    private volatile long invalidations = 0;
+    private volatile long totalBuildNanos = 0;
+    private volatile long maxBuildNanos = 0;
+
+    /**
+     * @param capacity     max flow fields kept (least recently used go first)
+     * @param hotThreshold requests for a goal before it gets a field
+     */
+    public FlowFieldCache(PathFinder pathFinder, int capacity, int hotThreshold) {
+        this.pathFinder = pathFinder;
+        this.capacity = Math.max(1, capacity);
+        this.hotThreshold = Math.max(1, hotThreshold);
+        this.nodeCount = pathFinder.getNodeCount();
+
+        slotGoal = new int[this.capacity];
+        slotDistance = new int[this.capacity][];
+        slotLastUse = new long[this.capacity];
+        goalSlot = new int[nodeCount];
+        Arrays.fill(goalSlot, -1);
+        requests = new int[nodeCount];
+        heap = new long[Math.max(16, nodeCount)];
+
+        pathFinder.setFlowFields(this);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // SEARCH
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Same contract as PathFinder.findPath(..., int[]): writes the path
+     * (start excluded) into pathOut and returns its length, or -1.
+     * Popular goals are answered from their flow field.
+     */
+    public int findPath(int startCol, int startRow, int goalCol, int goalRow, int[] pathOut) {
+        if (!pathFinder.isValid(startCol, startRow) || !pathFinder.isValid(goalCol, goalRow)) {
+            return -1;
+        }
+
+        lookups++;
+        if (++clock % AGING_PERIOD == 0) {
+            for (int i = 0; i < nodeCount; i++) {
+                requests[i] >>= 1;
+            }
+        }
+
+        int start = pathFinder.getId(startCol, startRow);
+        int goal = pathFinder.getId(goalCol, goalRow);
+        if (start == goal || pathFinder.isSolidId(start)) {
+            // Nothing to walk, or standing where the field never goes - A* handles both
+            return pathFinder.findPath(startCol, startRow, goalCol, goalRow, pathOut);
+        }
+
+        int slot = goalSlot[goal];
+        if (slot >= 0) {
+            hits++;
+        } else {
+            if (requests[goal] < Integer.MAX_VALUE) {
+                requests[goal]++;
+            }
+            if (requests[goal] < hotThreshold) {
+                return pathFinder.findPath(startCol, startRow, goalCol, goalRow, pathOut);
+            }
+            slot = build(goal);
+        }
+        slotLastUse[slot] = clock;
+
+        return walkField(slotDistance[slot], start, goal, pathOut);
+    }
+
+    /**
+     * Follow the field downhill from start: each step goes to the neighbor
+     * whose distance plus step cost equals the current distance.
+     */
+    private int walkField(int[] distance, int start, int goal, int[] pathOut) {
+        if (distance[start] == UNREACHED) {
+            return -1;
+        }
+
+        int length = 0;
+        int current = start;
+        while (current != goal) {
+            int col = pathFinder.getCol(current);
+            int row = pathFinder.getRow(current);
+            int next = -1;
+            int best = UNREACHED;
+
+            for (int dir = 0; dir < PathFinder.DCOL.length; dir++) {
+                int nCol = col + PathFinder.DCOL[dir];
+                int nRow = row + PathFinder.DROW[dir];
+                if (!pathFinder.isValid(nCol, nRow)) {
+                    continue;
+                }
+                int neighbor = pathFinder.getId(nCol, nRow);
+                if (distance[neighbor] == UNREACHED) {
+                    continue;
+                }
+                int through = distance[neighbor] + PathFinder.STEP_COST[dir];
+                if (through < best) {
+                    best = through;
+                    next = neighbor;
+                }
+            }
+
+            pathOut[length++] = next;
+            current = next;
+        }
+        return length;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // BUILD (Dijkstra from the goal)
+    // ═══════════════════════════════════════════════════════════
+
+    private int build(int goal) {
+        long start = System.nanoTime();
+
+        int slot = takeSlot();
+        int[] distance = slotDistance[slot];
+        if (distance == null) {
+            distance = new int[nodeCount];
+            slotDistance[slot] = distance;
+        }
+        Arrays.fill(distance, UNREACHED);
+
+        // A solid goal is never reached - the field stays empty, like A*'s "no path"
+        if (!pathFinder.isSolidId(goal)) {
+            distance[goal] = 0;
+            heapSize = 0;
+            push(goal, 0);
+
+            while (heapSize > 0) {
+                long top = pop();
+                int id = (int) top;
+                int dist = (int) (top >>> 32);
+                if (dist > distance[id]) {
+                    continue; // Stale entry
+                }
+
+                int col = pathFinder.getCol(id);
+                int row = pathFinder.getRow(id);
+                for (int dir = 0; dir < PathFinder.DCOL.length; dir++) {
+                    int nCol = col + PathFinder.DCOL[dir];
+                    int nRow = row + PathFinder.DROW[dir];
+                    if (!pathFinder.isValid(nCol, nRow)) {
+                        continue;
+                    }
+                    int neighbor = pathFinder.getId(nCol, nRow);
+                    if (pathFinder.isSolidId(neighbor)) {
+                        continue;
+                    }
+                    int newDistance = dist + PathFinder.STEP_COST[dir];
+                    if (newDistance < distance[neighbor]) {
+                        distance[neighbor] = newDistance;
+                        push(neighbor, newDistance);
+                    }
+                }
+            }
+        }
+
+        slotGoal[slot] = goal;
+        goalSlot[goal] = slot;
+
+        long elapsed = System.nanoTime() - start;
+        builds++;
+        totalBuildNanos += elapsed;
+        if (elapsed > maxBuildNanos) {
+            maxBuildNanos = elapsed;
+        }
+        return slot;
+    }
+
+    /**
+     * A free slot, or the least recently used one
+     */
+    private int takeSlot() {
+        if (slotsUsed < capacity) {
+            return slotsUsed++;
+        }
+        int oldest = 0;
+        for (int slot = 1; slot < capacity; slot++) {
+            if (slotLastUse[slot] < slotLastUse[oldest]) {
+                oldest = slot;
+            }
+        }
+        if (slotGoal[oldest] >= 0) {
+            goalSlot[slotGoal[oldest]] = -1;
+        }
+        return oldest;
+    }
+
+    private void push(int id, int distance) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = ((long) distance << 32) | id;
+        int index = heapSize++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int index = 0;
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= last) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (heapSize > 0) {
+            heap[index] = last;
+        }
+        return top;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // INVALIDATION (called by PathFinder.setSolid)
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * One tile changed: drop only the fields it can affect
+     */
+    void tileChanged(int id, boolean solid) {
+        int col = pathFinder.getCol(id);
+        int row = pathFinder.getRow(id);
+
+        for (int slot = 0; slot < slotsUsed; slot++) {
+            int goal = slotGoal[slot];
+            if (goal < 0) {
+                continue;
+            }
+            int[] distance = slotDistance[slot];
+
+            boolean affected;
+            if (solid) {
+                // Blocking a tile the field never reached changes nothing
+                affected = distance[id] != UNREACHED;
+            } else {
+                // An opened tile matters if it is the goal or touches a reached tile
+                affected = id == goal || touchesReached(distance, col, row);
+            }
+
+            if (affected) {
+                goalSlot[goal] = -1;
+                slotGoal[slot] = -1;
+                slotLastUse[slot] = Long.MIN_VALUE; // Reused first
+                invalidations++;
+            }
+        }
+    }
+
+    private boolean touchesReached(int[] distance, int col, int row) {
+        for (int dir = 0; dir < PathFinder.DCOL.length; dir++) {
+            int nCol = col + PathFinder.DCOL[dir];
+            int nRow = row + PathFinder.DROW[dir];
+            if (pathFinder.isValid(nCol, nRow) && distance[pathFinder.getId(nCol, nRow)] != UNREACHED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop every field (e.g. after rebuilding the whole grid)
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotsUsed; slot++) {
+            if (slotGoal[slot] >= 0) {
+                goalSlot[slotGoal[slot]] = -1;
+                slotGoal[slot] = -1;
+                slotLastUse[slot] = Long.MIN_VALUE;
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════
+
+    public int getFieldCount() {
+        int count = 0;
+        for (int slot = 0; slot < slotsUsed; slot++) {
+            if (slotGoal[slot] >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public double getHitRate() {
+        long count = lookups;
+        return count > 0 ? (double) hits / count : 0;
+    }
+
+    public long getBuilds() {
+        return builds;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public long getAverageBuildMicros() {
+        long count = builds;
+        return count > 0 ? totalBuildNanos / count / 1000 : 0;
+    }
+
+    public long getMaxBuildMicros() {
+        return maxBuildNanos / 1000;
+    }
+}
@@ -5,160 +5,560 @@ import java.util.*;
 /**
  * A* Pathfinding Algorithm for Isometric Tile-Based Movement
  * Like Habbo Hotel - finds the shortest path from point A to B
+ *
+ * Search state lives in flat int arrays indexed by node id
+ * (id = row * maxWorldCol + col) and the open list is an indexed binary
+ * heap ordered by fCost, then hCost. A generation counter marks which
+ * entries belong to the current search, so nothing is reset or allocated
+ * per search - findPath(..., int[]) allocates nothing at all; the List
+ * variant only allocates the returned path.
+ *
+ * Two strategies behind the same findPath contract (setStrategy):
+ * - A_STAR       classic 8-directional A*, expands every tile it reaches
+ * - JUMP_POINT   Jump Point Search: scans straight and diagonal runs of
+ *                open floor and only expands tiles where the way forward
+ *                changes (forced neighbours). Same path cost as A*, far
+ *                fewer expansions in big open rooms. Paths come back tile
+ *                by tile like A*'s.
+ *
+ * A FlowFieldCache can be attached to answer popular goals without a
+ * search; setSolid keeps it up to date.
+ *
+ * Not thread-safe: one PathFinder per searching thread.
  */
 public class PathFinder {
-    
+
+    /**
+     * Search strategy - both give paths of the same (shortest) cost
+     */
+    public enum Strategy {
+        A_STAR,
+        JUMP_POINT
+    }
+
+    static final int STRAIGHT_COST = 10;
+    static final int DIAGONAL_COST = 14;
+
+    // 8 directions, same order as before: up, down, left, right, then diagonals
+    static final int[] DCOL = {0, 0, -1, 1, -1, 1, -1, 1};
+    static final int[] DROW = {-1, 1, 0, 0, -1, -1, 1, 1};
+    static final int[] STEP_COST = {
+        STRAIGHT_COST, STRAIGHT_COST, STRAIGHT_COST, STRAIGHT_COST,
+        DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST
+    };
+
     private int maxWorldCol;
     private int maxWorldRow;
+    private int nodeCount;
     private Node[][] grid;
-    private List<Node> openList;
-    private List<Node> closedList;
-    
+
+    // Per node id
+    private boolean[] solid;
+    private int[] gCost;
+    private int[] hCost;
+    private int[] parent;
+    private int[] heapIndex;      // Position in heap while open
+    private int[] seenGeneration; // == generation → g/h/parent are from this search
+    private int[] closedGeneration;
+
+    // Open list: binary heap of node ids
+    private int[] heap;
+    private int heapSize;
+
+    private int generation = 0;
+    private int[] pathBuffer;     // For the List API
+    private FlowFieldCache flowFields;
+
+    private Strategy strategy = Strategy.A_STAR;
+    private int lastExpansions = 0;   // Nodes taken off the open list by the last search
+
     public PathFinder(int maxWorldCol, int maxWorldRow) {
         this.maxWorldCol = maxWorldCol;
         this.maxWorldRow = maxWorldRow;
         instantiateNodes();
     }
-    
+
     private void instantiateNodes() {
+        nodeCount = maxWorldCol * maxWorldRow;
         grid = new Node[maxWorldCol][maxWorldRow];
-        
+
         for (int col = 0; col < maxWorldCol; col++) {
             for (int row = 0; row < maxWorldRow; row++) {
                 grid[col][row] = new Node(col, row);
             }
         }
+
+        solid = new boolean[nodeCount];
+        gCost = new int[nodeCount];
+        hCost = new int[nodeCount];
+        parent = new int[nodeCount];
+        heapIndex = new int[nodeCount];
+        seenGeneration = new int[nodeCount];
+        closedGeneration = new int[nodeCount];
+        heap = new int[nodeCount];
+        pathBuffer = new int[nodeCount];
     }
-    
+
+    /**
+     * Start a new search generation - O(1), nothing is cleared
+     */
     public void resetNodes() {
-        for (int col = 0; col < maxWorldCol; col++) {
-            for (int row = 0; row < maxWorldRow; row++) {
-                grid[col][row].reset();
-            }
+        generation++;
+        if (generation == 0) {
+            // Wrapped around: old stamps could match again
+            Arrays.fill(seenGeneration, 0);
+            Arrays.fill(closedGeneration, 0);
+            generation = 1;
         }
-        openList = new ArrayList<>();
-        closedList = new ArrayList<>();
+        heapSize = 0;
     }
-    
+
+    // ═══════════════════════════════════════════════════════════
+    // SEARCH
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * Shortest path from start to goal, excluding the start tile
+     * (empty if start == goal), or null when there is none.
+     */
     public List<Node> findPath(int startCol, int startRow, int goalCol, int goalRow) {
+        int length = findPath(startCol, startRow, goalCol, goalRow, pathBuffer);
+        if (length < 0) {
+            return null;
+        }
+
+        List<Node> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int id = pathBuffer[i];
+            Node node = grid[getCol(id)][getRow(id)];
+            node.gCost = gCost[id];
+            node.hCost = hCost[id];
+            node.updateFCost();
+            node.parent = i > 0 ? path.get(i - 1) : null;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Allocation-free search: writes the node ids of the path (start
+     * excluded) into pathOut and returns its length, or -1 if there is
+     * no path. pathOut must hold at least getNodeCount() entries.
+     */
+    public int findPath(int startCol, int startRow, int goalCol, int goalRow, int[] pathOut) {
         resetNodes();
-        
+
         // Validate coordinates
         if (!isValid(startCol, startRow) || !isValid(goalCol, goalRow)) {
-            return null;
+            return -1;
         }
-        
-        Node startNode = grid[startCol][startRow];
-        Node goalNode = grid[goalCol][goalRow];
-        
-        openList.add(startNode);
-        startNode.open = true;
-        
-        while (!openList.isEmpty()) {
-            // Get node with lowest fCost
-            Node currentNode = openList.get(0);
-            for (Node node : openList) {
-                if (node.fCost < currentNode.fCost || 
-                    (node.fCost == currentNode.fCost && node.hCost < currentNode.hCost)) {
-                    currentNode = node;
-                }
-            }
-            
+        if (pathOut.length < nodeCount) {
+            throw new IllegalArgumentException("pathOut holds " + pathOut.length + " ids, needs " + nodeCount);
+        }
+
+        int start = getId(startCol, startRow);
+        int goal = getId(goalCol, goalRow);
+        lastExpansions = 0;
+
+        if (strategy == Strategy.JUMP_POINT) {
+            return findJumpPointPath(start, goal, pathOut);
+        }
+
+        seenGeneration[start] = generation;
+        gCost[start] = 0;
+        hCost[start] = getDistance(startCol, startRow, goalCol, goalRow);
+        parent[start] = -1;
+        push(start);
+
+        while (heapSize > 0) {
+            // Node with lowest fCost (ties: lowest hCost)
+            int current = pop();
+            lastExpansions++;
+
             // Found the goal
-            if (currentNode == goalNode) {
-                return retracePath(startNode, goalNode);
-            }
-            
-            openList.remove(currentNode);
-            currentNode.open = false;
-            closedList.add(currentNode);
-            currentNode.checked = true;
-            
+            if (current == goal) {
+                return retracePath(start, goal, pathOut);
+            }
+
+            closedGeneration[current] = generation;
+            int col = getCol(current);
+            int row = getRow(current);
+
             // Check all neighbors
-            for (Node neighbor : getNeighbors(currentNode)) {
-                if (neighbor.checked || neighbor.solid) {
+            for (int dir = 0; dir < DCOL.length; dir++) {
+                int nCol = col + DCOL[dir];
+                int nRow = row + DROW[dir];
+                if (!isValid(nCol, nRow)) {
                     continue;
                 }
-                
-                int newMovementCost = currentNode.gCost + getDistance(currentNode, neighbor);
-                
-                if (newMovementCost < neighbor.gCost || !neighbor.open) {
-                    neighbor.gCost = newMovementCost;
-                    neighbor.hCost = getDistance(neighbor, goalNode);
-                    neighbor.parent = currentNode;
-                    
-                    if (!neighbor.open) {
-                        openList.add(neighbor);
-                        neighbor.open = true;
-                    }
+
+                int neighbor = getId(nCol, nRow);
+                if (closedGeneration[neighbor] == generation || solid[neighbor]) {
+                    continue;
+                }
+
+                int newMovementCost = gCost[current] + STEP_COST[dir];
+                boolean open = seenGeneration[neighbor] == generation;
+
+                if (!open) {
+                    seenGeneration[neighbor] = generation;
+                    gCost[neighbor] = newMovementCost;
+                    hCost[neighbor] = getDistance(nCol, nRow, goalCol, goalRow);
+                    parent[neighbor] = current;
+                    push(neighbor);
+                } else if (newMovementCost < gCost[neighbor]) {
+                    gCost[neighbor] = newMovementCost;
+                    parent[neighbor] = current;
+                    siftUp(heapIndex[neighbor]);
                 }
             }
         }
-        
+
         // No path found
-        return null;
-    }
-    
-    private List<Node> getNeighbors(Node node) {
-        List<Node> neighbors = new ArrayList<>();
-        int col = node.col;
-        int row = node.row;
-        
-        // 8 directions (including diagonals)
-        // Up
-        if (row > 0) neighbors.add(grid[col][row - 1]);
-        // Down
-        if (row < maxWorldRow - 1) neighbors.add(grid[col][row + 1]);
-        // Left
-        if (col > 0) neighbors.add(grid[col - 1][row]);
-        // Right
-        if (col < maxWorldCol - 1) neighbors.add(grid[col + 1][row]);
-        
-        // Diagonals
-        if (col > 0 && row > 0) neighbors.add(grid[col - 1][row - 1]);
-        if (col < maxWorldCol - 1 && row > 0) neighbors.add(grid[col + 1][row - 1]);
-        if (col > 0 && row < maxWorldRow - 1) neighbors.add(grid[col - 1][row + 1]);
-        if (col < maxWorldCol - 1 && row < maxWorldRow - 1) neighbors.add(grid[col + 1][row + 1]);
-        
-        return neighbors;
-    }
-    
-    private List<Node> retracePath(Node startNode, Node endNode) {
-        List<Node> path = new ArrayList<>();
-        Node currentNode = endNode;
-        
-        while (currentNode != startNode) {
-            path.add(currentNode);
-            currentNode = currentNode.parent;
-        }
-        
-        Collections.reverse(path);
-        return path;
+        return -1;
+    }
+
+    private int retracePath(int start, int goal, int[] pathOut) {
+        int length = 0;
+        for (int id = goal; id != start; id = parent[id]) {
+            length++;
+        }
+
+        int index = length;
+        for (int id = goal; id != start; id = parent[id]) {
+            pathOut[--index] = id;
+        }
+        return length;
     }
-    
-    private int getDistance(Node a, Node b) {
-        int distX = Math.abs(a.col - b.col);
-        int distY = Math.abs(a.row - b.row);
-        
+
+    // ═══════════════════════════════════════════════════════════
+    // JUMP POINT SEARCH
+    // ═══════════════════════════════════════════════════════════
+
+    private int findJumpPointPath(int start, int goal, int[] pathOut) {
+        int goalCol = getCol(goal);
+        int goalRow = getRow(goal);
+
+        seenGeneration[start] = generation;
+        gCost[start] = 0;
+        hCost[start] = getDistance(getCol(start), getRow(start), goalCol, goalRow);
+        parent[start] = -1;
+        push(start);
+
+        while (heapSize > 0) {
+            int current = pop();
+            lastExpansions++;
+
+            if (current == goal) {
+                return retraceJumpPath(start, goal, pathOut);
+            }
+            closedGeneration[current] = generation;
+
+            int col = getCol(current);
+            int row = getRow(current);
+            int from = parent[current];
+
+            if (from < 0) {
+                // Start: every direction
+                for (int dir = 0; dir < DCOL.length; dir++) {
+                    jumpAndAdd(current, col, row, DCOL[dir], DROW[dir], goal);
+                }
+                continue;
+            }
+
+            int dx = Integer.signum(col - getCol(from));
+            int dy = Integer.signum(row - getRow(from));
+
+            if (dx != 0 && dy != 0) {
+                // Diagonal: both straight parts and the diagonal itself, plus forced turns
+                jumpAndAdd(current, col, row, dx, 0, goal);
+                jumpAndAdd(current, col, row, 0, dy, goal);
+                jumpAndAdd(current, col, row, dx, dy, goal);
+                if (isBlocked(col - dx, row)) {
+                    jumpAndAdd(current, col, row, -dx, dy, goal);
+                }
+                if (isBlocked(col, row - dy)) {
+                    jumpAndAdd(current, col, row, dx, -dy, goal);
+                }
+            } else if (dx != 0) {
+                jumpAndAdd(current, col, row, dx, 0, goal);
+                if (isBlocked(col, row + 1)) {
+                    jumpAndAdd(current, col, row, dx, 1, goal);
+                }
+                if (isBlocked(col, row - 1)) {
+                    jumpAndAdd(current, col, row, dx, -1, goal);
+                }
+            } else {
+                jumpAndAdd(current, col, row, 0, dy, goal);
+                if (isBlocked(col + 1, row)) {
+                    jumpAndAdd(current, col, row, 1, dy, goal);
+                }
+                if (isBlocked(col - 1, row)) {
+                    jumpAndAdd(current, col, row, -1, dy, goal);
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Jump from (col,row) in one direction and open the jump point found
+     */
+    private void jumpAndAdd(int current, int col, int row, int dx, int dy, int goal) {
+        int jumpPoint = dx != 0 && dy != 0
+                ? jumpDiagonal(col, row, dx, dy, goal)
+                : jumpStraight(col, row, dx, dy, goal);
+        if (jumpPoint < 0 || closedGeneration[jumpPoint] == generation) {
+            return;
+        }
+
+        int jCol = getCol(jumpPoint);
+        int jRow = getRow(jumpPoint);
+        int newMovementCost = gCost[current] + getDistance(col, row, jCol, jRow);
+
+        if (seenGeneration[jumpPoint] != generation) {
+            seenGeneration[jumpPoint] = generation;
+            gCost[jumpPoint] = newMovementCost;
+            hCost[jumpPoint] = getDistance(jCol, jRow, getCol(goal), getRow(goal));
+            parent[jumpPoint] = current;
+            push(jumpPoint);
+        } else if (newMovementCost < gCost[jumpPoint]) {
+            gCost[jumpPoint] = newMovementCost;
+            parent[jumpPoint] = current;
+            siftUp(heapIndex[jumpPoint]);
+        }
+    }
+
+    /**
+     * Walk a straight line until the goal, a tile with a forced neighbour
+     * (jump point) or a wall. Returns the jump point id or -1.
+     */
+    private int jumpStraight(int col, int row, int dx, int dy, int goal) {
+        while (true) {
+            col += dx;
+            row += dy;
+            if (isBlocked(col, row)) {
+                return -1;
+            }
+            int id = getId(col, row);
+            if (id == goal) {
+                return id;
+            }
+            if (dx != 0) {
+                if ((isBlocked(col, row + 1) && !isBlocked(col + dx, row + 1))
+                        || (isBlocked(col, row - 1) && !isBlocked(col + dx, row - 1))) {
+                    return id;
+                }
+            } else {
+                if ((isBlocked(col + 1, row) && !isBlocked(col + 1, row + dy))
+                        || (isBlocked(col - 1, row) && !isBlocked(col - 1, row + dy))) {
+                    return id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Walk a diagonal; a tile is a jump point if it has a forced neighbour
+     * or either straight scan from it finds one.
+     */
+    private int jumpDiagonal(int col, int row, int dx, int dy, int goal) {
+        while (true) {
+            col += dx;
+            row += dy;
+            if (isBlocked(col, row)) {
+                return -1;
+            }
+            int id = getId(col, row);
+            if (id == goal) {
+                return id;
+            }
+            if ((isBlocked(col - dx, row) && !isBlocked(col - dx, row + dy))
+                    || (isBlocked(col, row - dy) && !isBlocked(col + dx, row - dy))) {
+                return id;
+            }
+            if (jumpStraight(col, row, dx, 0, goal) >= 0 || jumpStraight(col, row, 0, dy, goal) >= 0) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Expand the jump point chain back into single tiles
+     */
+    private int retraceJumpPath(int start, int goal, int[] pathOut) {
+        int length = 0;
+        for (int id = goal; id != start; id = parent[id]) {
+            int from = parent[id];
+            length += Math.max(Math.abs(getCol(id) - getCol(from)), Math.abs(getRow(id) - getRow(from)));
+        }
+
+        int index = length;
+        for (int id = goal; id != start; id = parent[id]) {
+            int from = parent[id];
+            int col = getCol(id);
+            int row = getRow(id);
+            int dx = Integer.signum(getCol(from) - col);
+            int dy = Integer.signum(getRow(from) - row);
+            // From the jump point back towards its parent, parent excluded
+            while (col != getCol(from) || row != getRow(from)) {
+                pathOut[--index] = getId(col, row);
+                col += dx;
+                row += dy;
+            }
+        }
+        return length;
+    }
+
+    private boolean isBlocked(int col, int row) {
+        return !isValid(col, row) || solid[getId(col, row)];
+    }
+
+    private int getDistance(int colA, int rowA, int colB, int rowB) {
+        int distX = Math.abs(colA - colB);
+        int distY = Math.abs(rowA - rowB);
+
         // Diagonal distance
         if (distX > distY) {
-            return 14 * distY + 10 * (distX - distY);
+            return DIAGONAL_COST * distY + STRAIGHT_COST * (distX - distY);
+        }
+        return DIAGONAL_COST * distX + STRAIGHT_COST * (distY - distX);
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // OPEN LIST (indexed binary heap)
+    // ═══════════════════════════════════════════════════════════
+
+    private boolean before(int a, int b) {
+        int fA = gCost[a] + hCost[a];
+        int fB = gCost[b] + hCost[b];
+        return fA < fB || (fA == fB && hCost[a] < hCost[b]);
+    }
+
+    private void push(int id) {
+        heap[heapSize] = id;
+        heapIndex[id] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            heapIndex[last] = 0;
+            siftDown(0);
         }
-        return 14 * distX + 10 * (distY - distX);
+        return top;
     }
-    
-    private boolean isValid(int col, int row) {
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parentId = heap[parentIndex];
+            if (!before(id, parentId)) {
+                break;
+            }
+            heap[index] = parentId;
+            heapIndex[parentId] = index;
+            index = parentIndex;
+        }
+        heap[index] = id;
+        heapIndex[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && before(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!before(heap[child], id)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = id;
+        heapIndex[id] = index;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // GRID
+    // ═══════════════════════════════════════════════════════════
+
+    boolean isValid(int col, int row) {
         return col >= 0 && col < maxWorldCol && row >= 0 && row < maxWorldRow;
     }
-    
+
     public void setSolid(int col, int row, boolean solid) {
         if (isValid(col, row)) {
+            int id = getId(col, row);
             grid[col][row].solid = solid;
+            if (this.solid[id] != solid) {
+                this.solid[id] = solid;
+                if (flowFields != null) {
+                    flowFields.tileChanged(id, solid);
+                }
+            }
         }
     }
-    
+
+    public boolean isSolid(int col, int row) {
+        return isValid(col, row) && solid[getId(col, row)];
+    }
+
+    boolean isSolidId(int id) {
+        return solid[id];
+    }
+
+    /**
+     * Called by the FlowFieldCache built on this PathFinder
+     */
+    void setFlowFields(FlowFieldCache flowFields) {
+        this.flowFields = flowFields;
+    }
+
+    public int getId(int col, int row) {
+        return row * maxWorldCol + col;
+    }
+
+    public int getCol(int id) {
+        return id % maxWorldCol;
+    }
+
+    public int getRow(int id) {
+        return id / maxWorldCol;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Nodes the last search took off its open list
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
     /**
-     * Node class for A* pathfinding
+     * Node class for A* pathfinding - one per tile, returned in paths.
+     * Cost fields are filled in for the nodes of the last returned path.
      */
     public static class Node {
         public int col;
@@ -170,12 +570,12 @@ public class PathFinder {
         public boolean open;
         public boolean checked;
         public Node parent;
-        
+
         public Node(int col, int row) {
             this.col = col;
             this.row = row;
         }
-        
+
         public void reset() {
             this.gCost = 0;
             this.hCost = 0;
@@ -184,7 +584,7 @@ public class PathFinder {
             this.checked = false;
             this.parent = null;
         }
-        
+
         public void updateFCost() {
             fCost = gCost + hCost;
         }
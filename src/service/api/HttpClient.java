@@ -1,5 +1,7 @@
 package service.api;
 
+import logging.Log;
+import logging.Logger;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.*;
@@ -11,6 +13,8 @@ import java.nio.charset.StandardCharsets;
  * Generic HTTP Client - Reusable for ANY API
  */
 public class HttpClient {
+
+    private static final Logger LOG = Log.get(HttpClient.class);
     
     private static final int TIMEOUT = 10000;
     private static final Gson gson = new GsonBuilder()
@@ -44,7 +48,7 @@ public class HttpClient {
             String response = sendRequest("GET", path, null);
             return gson.fromJson(response, responseType);
         } catch (Exception e) {
-            System.err.println("[HTTP] GET " + path + " failed: " + e.getMessage());
+            LOG.warn("[HTTP] GET " + path + " failed: " + e.getMessage());
             return null;
         }
     }
@@ -58,7 +62,7 @@ public class HttpClient {
             T[] array = gson.fromJson(response, arrayType);
             return array != null ? java.util.Arrays.asList(array) : new java.util.ArrayList<>();
         } catch (Exception e) {
-            System.err.println("[HTTP] GET " + path + " failed: " + e.getMessage());
+            LOG.warn("[HTTP] GET " + path + " failed: " + e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
@@ -72,7 +76,7 @@ public class HttpClient {
             String response = sendRequest("POST", path, jsonBody);
             return gson.fromJson(response, responseType);
         } catch (Exception e) {
-            System.err.println("[HTTP] POST " + path + " failed: " + e.getMessage());
+            LOG.warn("[HTTP] POST " + path + " failed: " + e.getMessage());
             return null;
         }
     }
@@ -87,7 +91,7 @@ public class HttpClient {
             ApiResponse result = gson.fromJson(response, ApiResponse.class);
             return result != null && result.success;
         } catch (Exception e) {
-            System.err.println("[HTTP] POST " + path + " failed: " + e.getMessage());
+            LOG.warn("[HTTP] POST " + path + " failed: " + e.getMessage());
             return false;
         }
     }
@@ -100,7 +104,7 @@ public class HttpClient {
             sendRequest("DELETE", path, null);
             return true;
         } catch (Exception e) {
-            System.err.println("[HTTP] DELETE " + path + " failed: " + e.getMessage());
+            LOG.warn("[HTTP] DELETE " + path + " failed: " + e.getMessage());
             return false;
         }
     }
@@ -1,5 +1,7 @@
 package service.api;
 
+import logging.Log;
+import logging.Logger;
 import model.room.Room;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +14,8 @@ import java.util.Map;
  * No need to pass username in every method!
  */
 public class RoomApiClient {
+
+    private static final Logger LOG = Log.get(RoomApiClient.class);
     
     private final HttpClient http;
     
@@ -21,7 +25,7 @@ public class RoomApiClient {
     
     public RoomApiClient() {
         this.http = new HttpClient("http://localhost:9090/api/rooms");
-        System.out.println("[ROOM API] Client initialized");
+        LOG.info("[ROOM API] Client initialized");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -30,7 +34,7 @@ public class RoomApiClient {
     
     public void setCurrentUsername(String username) {
         http.setUsername(username);
-        System.out.println("[ROOM API] Username set to: " + username);
+        LOG.info("[ROOM API] Username set to: " + username);
     }
     
     public String getCurrentUsername() {
@@ -1,5 +1,7 @@
 package service.kafka;
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import model.friend.FriendRequest;
 import org.apache.kafka.clients.consumer.*;
@@ -21,6 +23,8 @@ import java.util.Properties;
  * - Uses model.friend.FriendRequest
  */
 public class FriendEventConsumer extends Thread {
+
+    private static final Logger LOG = Log.get(FriendEventConsumer.class);
     
     private KafkaConsumer<String, String> consumer;
     private FriendController friendController;
@@ -75,12 +79,12 @@ public class FriendEventConsumer extends Thread {
                 KafkaConfig.TOPIC_FRIEND_RESPONSES
             ));
             
-            System.out.println("[KAFKA CONSUMER] Initialized for player: " + playerUsername);
-            System.out.println("[KAFKA CONSUMER] Subscribed to topics:");
-            System.out.println("[KAFKA CONSUMER]   - " + KafkaConfig.TOPIC_FRIEND_REQUESTS);
-            System.out.println("[KAFKA CONSUMER]   - " + KafkaConfig.TOPIC_FRIEND_RESPONSES);
+            LOG.info("[KAFKA CONSUMER] Initialized for player: " + playerUsername);
+            LOG.info("[KAFKA CONSUMER] Subscribed to topics:");
+            LOG.info("[KAFKA CONSUMER]   - " + KafkaConfig.TOPIC_FRIEND_REQUESTS);
+            LOG.info("[KAFKA CONSUMER]   - " + KafkaConfig.TOPIC_FRIEND_RESPONSES);
         } catch (Exception e) {
-            System.err.println("[KAFKA CONSUMER] Failed to initialize: " + e.getMessage());
+            LOG.warn("[KAFKA CONSUMER] Failed to initialize: " + e.getMessage());
             this.consumer = null;
         }
     }
@@ -88,11 +92,11 @@ public class FriendEventConsumer extends Thread {
     @Override
     public void run() {
         if (consumer == null) {
-            System.err.println("[KAFKA CONSUMER] Cannot start - consumer not initialized");
+            LOG.warn("[KAFKA CONSUMER] Cannot start - consumer not initialized");
             return;
         }
         
-        System.out.println("[KAFKA CONSUMER] Started listening for friend events...");
+        LOG.info("[KAFKA CONSUMER] Started listening for friend events...");
         
         try {
             while (running) {
@@ -105,12 +109,11 @@ public class FriendEventConsumer extends Thread {
         } catch (WakeupException e) {
             // Expected when shutdown() is called
             if (running) {
-                System.err.println("[KAFKA CONSUMER] Unexpected wakeup: " + e.getMessage());
+                LOG.warn("[KAFKA CONSUMER] Unexpected wakeup: " + e.getMessage());
             }
         } catch (Exception e) {
             if (running) {
-                System.err.println("[KAFKA CONSUMER] Error: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("[KAFKA CONSUMER] Error: " + e.getMessage(), e);
             }
         } finally {
             closeConsumer();
@@ -127,13 +130,11 @@ public class FriendEventConsumer extends Thread {
             return;
         }
         
-        System.out.println("[KAFKA CONSUMER] ═══════════════════════════════════════");
-        System.out.println("[KAFKA CONSUMER] Received message for: " + playerUsername);
-        System.out.println("[KAFKA CONSUMER]   Topic: " + topic);
-        System.out.println("[KAFKA CONSUMER]   Partition: " + record.partition());
-        System.out.println("[KAFKA CONSUMER]   Offset: " + record.offset());
-        System.out.println("[KAFKA CONSUMER]   Value: " + value);
-        System.out.println("[KAFKA CONSUMER] ═══════════════════════════════════════");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[KAFKA CONSUMER] Received message for: " + playerUsername +
+                      " (topic " + topic + ", partition " + record.partition() +
+                      ", offset " + record.offset() + "): " + value);
+        }
         
         try {
             FriendRequest request = FriendRequest.fromJson(value);
@@ -141,18 +142,17 @@ public class FriendEventConsumer extends Thread {
             if (topic.equals(KafkaConfig.TOPIC_FRIEND_REQUESTS)) {
                 // Someone sent us a friend request
                 if (request.getType() == FriendRequest.RequestType.SEND_REQUEST) {
-                    System.out.println("[KAFKA CONSUMER] 💬 Friend request from: " + request.getFromUsername());
+                    LOG.info("[KAFKA CONSUMER] 💬 Friend request from: " + request.getFromUsername());
                     friendController.receiveRequest(request);
                 }
             } else if (topic.equals(KafkaConfig.TOPIC_FRIEND_RESPONSES)) {
                 // Response to our friend request
-                System.out.println("[KAFKA CONSUMER] 📬 Friend response from: " + request.getFromUsername() + 
-                                  " - " + request.getType());
+                LOG.info("[KAFKA CONSUMER] 📬 Friend response from: " + request.getFromUsername() + 
+                        " - " + request.getType());
                 friendController.handleResponse(request);
             }
         } catch (Exception e) {
-            System.err.println("[KAFKA CONSUMER] Failed to parse message: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("[KAFKA CONSUMER] Failed to parse message: " + e.getMessage(), e);
         }
     }
     
@@ -160,15 +160,15 @@ public class FriendEventConsumer extends Thread {
         if (consumer != null) {
             try {
                 consumer.close(Duration.ofSeconds(5));
-                System.out.println("[KAFKA CONSUMER] Closed gracefully");
+                LOG.info("[KAFKA CONSUMER] Closed gracefully");
             } catch (Exception e) {
-                System.err.println("[KAFKA CONSUMER] Error closing: " + e.getMessage());
+                LOG.warn("[KAFKA CONSUMER] Error closing: " + e.getMessage());
             }
         }
     }
     
     public void shutdown() {
-        System.out.println("[KAFKA CONSUMER] Shutting down...");
+        LOG.info("[KAFKA CONSUMER] Shutting down...");
         running = false;
         if (consumer != null) {
             consumer.wakeup();  // Interrupt the poll() call
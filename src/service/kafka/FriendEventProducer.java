@@ -1,5 +1,7 @@
 package service.kafka;
 
+import logging.Log;
+import logging.Logger;
 import model.friend.FriendRequest;
 import org.apache.kafka.clients.producer.*;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -17,6 +19,8 @@ import java.util.concurrent.Future;
  * - Uses model.friend.FriendRequest
  */
 public class FriendEventProducer {
+
+    private static final Logger LOG = Log.get(FriendEventProducer.class);
     
     private KafkaProducer<String, String> producer;
     private volatile boolean isConnected = false;
@@ -51,10 +55,10 @@ public class FriendEventProducer {
         try {
             this.producer = new KafkaProducer<>(props);
             this.isConnected = true;
-            System.out.println("[KAFKA PRODUCER] Initialized successfully");
-            System.out.println("[KAFKA PRODUCER] Connected to: " + KafkaConfig.BOOTSTRAP_SERVERS);
+            LOG.info("[KAFKA PRODUCER] Initialized successfully");
+            LOG.info("[KAFKA PRODUCER] Connected to: " + KafkaConfig.BOOTSTRAP_SERVERS);
         } catch (Exception e) {
-            System.err.println("[KAFKA PRODUCER] Failed to initialize: " + e.getMessage());
+            LOG.warn("[KAFKA PRODUCER] Failed to initialize: " + e.getMessage());
             this.isConnected = false;
         }
     }
@@ -64,7 +68,7 @@ public class FriendEventProducer {
      */
     public Future<RecordMetadata> sendFriendRequest(FriendRequest request) {
         if (producer == null || !isConnected) {
-            System.err.println("[KAFKA PRODUCER] Not connected, cannot send request");
+            LOG.warn("[KAFKA PRODUCER] Not connected, cannot send request");
             return null;
         }
         
@@ -77,18 +81,18 @@ public class FriendEventProducer {
             value
         );
         
-        System.out.println("[KAFKA PRODUCER] Sending friend request to topic: " + KafkaConfig.TOPIC_FRIEND_REQUESTS);
-        System.out.println("[KAFKA PRODUCER] Key: " + key + ", Value: " + value);
+        LOG.info("[KAFKA PRODUCER] Sending friend request to topic: " + KafkaConfig.TOPIC_FRIEND_REQUESTS);
+        LOG.info("[KAFKA PRODUCER] Key: " + key + ", Value: " + value);
         
         return producer.send(record, (metadata, exception) -> {
             if (exception != null) {
-                System.err.println("[KAFKA PRODUCER] Failed to send request: " + exception.getMessage());
+                LOG.warn("[KAFKA PRODUCER] Failed to send request: " + exception.getMessage());
                 isConnected = false;
             } else {
-                System.out.println("[KAFKA PRODUCER] ✓ Request sent successfully!");
-                System.out.println("[KAFKA PRODUCER]   Topic: " + metadata.topic());
-                System.out.println("[KAFKA PRODUCER]   Partition: " + metadata.partition());
-                System.out.println("[KAFKA PRODUCER]   Offset: " + metadata.offset());
+                LOG.info("[KAFKA PRODUCER] ✓ Request sent successfully!");
+                LOG.info("[KAFKA PRODUCER]   Topic: " + metadata.topic());
+                LOG.info("[KAFKA PRODUCER]   Partition: " + metadata.partition());
+                LOG.info("[KAFKA PRODUCER]   Offset: " + metadata.offset());
                 isConnected = true;
             }
         });
@@ -99,7 +103,7 @@ public class FriendEventProducer {
      */
     public Future<RecordMetadata> sendFriendResponse(FriendRequest response) {
         if (producer == null || !isConnected) {
-            System.err.println("[KAFKA PRODUCER] Not connected, cannot send response");
+            LOG.warn("[KAFKA PRODUCER] Not connected, cannot send response");
             return null;
         }
         
@@ -112,17 +116,17 @@ public class FriendEventProducer {
             value
         );
         
-        System.out.println("[KAFKA PRODUCER] Sending friend response to topic: " + KafkaConfig.TOPIC_FRIEND_RESPONSES);
+        LOG.info("[KAFKA PRODUCER] Sending friend response to topic: " + KafkaConfig.TOPIC_FRIEND_RESPONSES);
         
         return producer.send(record, (metadata, exception) -> {
             if (exception != null) {
-                System.err.println("[KAFKA PRODUCER] Failed to send response: " + exception.getMessage());
+                LOG.warn("[KAFKA PRODUCER] Failed to send response: " + exception.getMessage());
                 isConnected = false;
             } else {
-                System.out.println("[KAFKA PRODUCER] ✓ Response sent successfully!");
-                System.out.println("[KAFKA PRODUCER]   Topic: " + metadata.topic());
-                System.out.println("[KAFKA PRODUCER]   Partition: " + metadata.partition());
-                System.out.println("[KAFKA PRODUCER]   Offset: " + metadata.offset());
+                LOG.info("[KAFKA PRODUCER] ✓ Response sent successfully!");
+                LOG.info("[KAFKA PRODUCER]   Topic: " + metadata.topic());
+                LOG.info("[KAFKA PRODUCER]   Partition: " + metadata.partition());
+                LOG.info("[KAFKA PRODUCER]   Offset: " + metadata.offset());
                 isConnected = true;
             }
         });
@@ -148,7 +152,7 @@ public class FriendEventProducer {
         
         producer.send(record, (metadata, exception) -> {
             if (exception != null) {
-                System.err.println("[KAFKA PRODUCER] Failed to send status: " + exception.getMessage());
+                LOG.warn("[KAFKA PRODUCER] Failed to send status: " + exception.getMessage());
             }
         });
     }
@@ -165,12 +169,12 @@ public class FriendEventProducer {
     
     public void close() {
         if (producer != null) {
-            System.out.println("[KAFKA PRODUCER] Closing...");
+            LOG.info("[KAFKA PRODUCER] Closing...");
             producer.flush();
             producer.close();
             producer = null;
             isConnected = false;
-            System.out.println("[KAFKA PRODUCER] Closed");
+            LOG.info("[KAFKA PRODUCER] Closed");
         }
     }
 }
\ No newline at end of file
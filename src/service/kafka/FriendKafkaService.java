@@ -1,5 +1,7 @@
 package service.kafka;
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import model.friend.FriendRequest;
 import org.apache.kafka.clients.consumer.*;
@@ -20,6 +22,8 @@ import java.util.Properties;
  * Handles all Kafka communication, isolating it from business logic.
  */
 public class FriendKafkaService {
+
+    private static final Logger LOG = Log.get(FriendKafkaService.class);
     
     // ═══════════════════════════════════════════════════════════
     // CONFIGURATION
@@ -80,9 +84,9 @@ public class FriendKafkaService {
         try {
             this.producer = new KafkaProducer<>(props);
             this.connected = true;
-            System.out.println("[KAFKA SVC] Producer initialized for: " + playerUsername);
+            LOG.info("[KAFKA SVC] Producer initialized for: " + playerUsername);
         } catch (Exception e) {
-            System.err.println("[KAFKA SVC] Failed to initialize producer: " + e.getMessage());
+            LOG.warn("[KAFKA SVC] Failed to initialize producer: " + e.getMessage());
             this.producer = null;
             this.connected = false;
         }
@@ -106,7 +110,7 @@ public class FriendKafkaService {
     
     private boolean send(String topic, String key, String value) {
         if (producer == null || !connected) {
-            System.err.println("[KAFKA SVC] Not connected, cannot send message");
+            LOG.warn("[KAFKA SVC] Not connected, cannot send message");
             return false;
         }
         
@@ -115,18 +119,18 @@ public class FriendKafkaService {
         try {
             producer.send(record, (metadata, exception) -> {
                 if (exception != null) {
-                    System.err.println("[KAFKA SVC] Send failed: " + exception.getMessage());
+                    LOG.warn("[KAFKA SVC] Send failed: " + exception.getMessage());
                     connected = false;
                 } else {
-                    System.out.println("[KAFKA SVC] ✓ Sent to " + topic + 
-                                      " partition " + metadata.partition() + 
-                                      " offset " + metadata.offset());
+                    LOG.info("[KAFKA SVC] ✓ Sent to " + topic + 
+                            " partition " + metadata.partition() + 
+                            " offset " + metadata.offset());
                     connected = true;
                 }
             });
             return true;
         } catch (Exception e) {
-            System.err.println("[KAFKA SVC] Send error: " + e.getMessage());
+            LOG.warn("[KAFKA SVC] Send error: " + e.getMessage());
             return false;
         }
     }
@@ -153,22 +157,22 @@ public class FriendKafkaService {
         try {
             this.consumer = new KafkaConsumer<>(props);
             consumer.subscribe(Arrays.asList(TOPIC_FRIEND_REQUESTS, TOPIC_FRIEND_RESPONSES));
-            System.out.println("[KAFKA SVC] Consumer initialized for: " + playerUsername);
+            LOG.info("[KAFKA SVC] Consumer initialized for: " + playerUsername);
         } catch (Exception e) {
-            System.err.println("[KAFKA SVC] Failed to initialize consumer: " + e.getMessage());
+            LOG.warn("[KAFKA SVC] Failed to initialize consumer: " + e.getMessage());
             this.consumer = null;
         }
     }
     
     private void startConsumerThread() {
         if (consumer == null) {
-            System.err.println("[KAFKA SVC] Cannot start consumer thread - consumer not initialized");
+            LOG.warn("[KAFKA SVC] Cannot start consumer thread - consumer not initialized");
             return;
         }
         
         running = true;
         consumerThread = new Thread(() -> {
-            System.out.println("[KAFKA SVC] Consumer thread started");
+            LOG.info("[KAFKA SVC] Consumer thread started");
             
             try {
                 while (running) {
@@ -180,11 +184,11 @@ public class FriendKafkaService {
                 }
             } catch (WakeupException e) {
                 if (running) {
-                    System.err.println("[KAFKA SVC] Unexpected wakeup: " + e.getMessage());
+                    LOG.warn("[KAFKA SVC] Unexpected wakeup: " + e.getMessage());
                 }
             } catch (Exception e) {
                 if (running) {
-                    System.err.println("[KAFKA SVC] Consumer error: " + e.getMessage());
+                    LOG.warn("[KAFKA SVC] Consumer error: " + e.getMessage());
                 }
             } finally {
                 closeConsumer();
@@ -205,27 +209,27 @@ public class FriendKafkaService {
             return;
         }
         
-        System.out.println("[KAFKA SVC] ═══════════════════════════════════════");
-        System.out.println("[KAFKA SVC] Received message for: " + playerUsername);
-        System.out.println("[KAFKA SVC]   Topic: " + topic);
-        System.out.println("[KAFKA SVC]   Value: " + value);
-        System.out.println("[KAFKA SVC] ═══════════════════════════════════════");
+        LOG.info("[KAFKA SVC] ═══════════════════════════════════════");
+        LOG.info("[KAFKA SVC] Received message for: " + playerUsername);
+        LOG.info("[KAFKA SVC]   Topic: " + topic);
+        LOG.info("[KAFKA SVC]   Value: " + value);
+        LOG.info("[KAFKA SVC] ═══════════════════════════════════════");
         
         try {
             FriendRequest request = FriendRequest.fromJson(value);
             
             if (topic.equals(TOPIC_FRIEND_REQUESTS)) {
                 if (request.getType() == FriendRequest.RequestType.SEND_REQUEST) {
-                    System.out.println("[KAFKA SVC] 💬 Friend request from: " + request.getFromUsername());
+                    LOG.info("[KAFKA SVC] 💬 Friend request from: " + request.getFromUsername());
                     controller.receiveRequest(request);
                 }
             } else if (topic.equals(TOPIC_FRIEND_RESPONSES)) {
-                System.out.println("[KAFKA SVC] 📬 Friend response from: " + request.getFromUsername() + 
-                                  " - " + request.getType());
+                LOG.info("[KAFKA SVC] 📬 Friend response from: " + request.getFromUsername() + 
+                        " - " + request.getType());
                 controller.handleResponse(request);
             }
         } catch (Exception e) {
-            System.err.println("[KAFKA SVC] Failed to parse message: " + e.getMessage());
+            LOG.warn("[KAFKA SVC] Failed to parse message: " + e.getMessage());
         }
     }
     
@@ -242,7 +246,7 @@ public class FriendKafkaService {
     // ═══════════════════════════════════════════════════════════
     
     public void shutdown() {
-        System.out.println("[KAFKA SVC] Shutting down...");
+        LOG.info("[KAFKA SVC] Shutting down...");
         running = false;
         
         if (consumer != null) {
@@ -257,9 +261,9 @@ public class FriendKafkaService {
             try {
                 producer.flush();
                 producer.close();
-                System.out.println("[KAFKA SVC] Producer closed");
+                LOG.info("[KAFKA SVC] Producer closed");
             } catch (Exception e) {
-                System.err.println("[KAFKA SVC] Error closing producer: " + e.getMessage());
+                LOG.warn("[KAFKA SVC] Error closing producer: " + e.getMessage());
             }
             producer = null;
         }
@@ -270,9 +274,9 @@ public class FriendKafkaService {
         if (consumer != null) {
             try {
                 consumer.close(Duration.ofSeconds(5));
-                System.out.println("[KAFKA SVC] Consumer closed");
+                LOG.info("[KAFKA SVC] Consumer closed");
             } catch (Exception e) {
-                System.err.println("[KAFKA SVC] Error closing consumer: " + e.getMessage());
+                LOG.warn("[KAFKA SVC] Error closing consumer: " + e.getMessage());
             }
             consumer = null;
         }
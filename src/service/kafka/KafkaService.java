@@ -1,5 +1,7 @@
 package service.kafka;
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import model.friend.FriendRequest;
 
@@ -25,6 +27,8 @@ import model.friend.FriendRequest;
  *   kafkaService.shutdown();
  */
 public class KafkaService {
+
+    private static final Logger LOG = Log.get(KafkaService.class);
     
     private final String playerUsername;
     private FriendEventProducer producer;
@@ -38,7 +42,7 @@ public class KafkaService {
     
     public KafkaService(String playerUsername) {
         this.playerUsername = playerUsername;
-        System.out.println("[KAFKA SERVICE] Created for player: " + playerUsername);
+        LOG.info("[KAFKA SERVICE] Created for player: " + playerUsername);
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -63,11 +67,11 @@ public class KafkaService {
      */
     public void start() {
         if (started) {
-            System.out.println("[KAFKA SERVICE] Already started");
+            LOG.info("[KAFKA SERVICE] Already started");
             return;
         }
         
-        System.out.println("[KAFKA SERVICE] Starting...");
+        LOG.info("[KAFKA SERVICE] Starting...");
         
         // Initialize producer
         this.producer = new FriendEventProducer();
@@ -77,11 +81,11 @@ public class KafkaService {
             this.consumer = new FriendEventConsumer(friendController, playerUsername);
             this.consumer.start();
         } else {
-            System.err.println("[KAFKA SERVICE] Warning: No FriendController set, consumer not started");
+            LOG.warn("[KAFKA SERVICE] Warning: No FriendController set, consumer not started");
         }
         
         started = true;
-        System.out.println("[KAFKA SERVICE] Started successfully");
+        LOG.info("[KAFKA SERVICE] Started successfully");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -95,7 +99,7 @@ public class KafkaService {
         if (producer != null && producer.isConnected()) {
             producer.sendFriendRequest(request);
         } else {
-            System.err.println("[KAFKA SERVICE] Cannot send request - producer not connected");
+            LOG.warn("[KAFKA SERVICE] Cannot send request - producer not connected");
         }
     }
     
@@ -106,7 +110,7 @@ public class KafkaService {
         if (producer != null && producer.isConnected()) {
             producer.sendFriendResponse(response);
         } else {
-            System.err.println("[KAFKA SERVICE] Cannot send response - producer not connected");
+            LOG.warn("[KAFKA SERVICE] Cannot send response - producer not connected");
         }
     }
     
@@ -152,7 +156,7 @@ public class KafkaService {
      * Shutdown the Kafka service gracefully
      */
     public void shutdown() {
-        System.out.println("[KAFKA SERVICE] Shutting down...");
+        LOG.info("[KAFKA SERVICE] Shutting down...");
         
         // Send offline status
         if (producer != null && producer.isConnected()) {
@@ -176,6 +180,6 @@ public class KafkaService {
         }
         
         started = false;
-        System.out.println("[KAFKA SERVICE] Shutdown complete");
+        LOG.info("[KAFKA SERVICE] Shutdown complete");
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package service.websocket;
 
+import logging.Log;
+import logging.Logger;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import controller.room.RoomController;
@@ -15,6 +17,8 @@ import java.util.concurrent.*;
  */
 public class RoomWebSocketClient implements WebSocket.Listener {
 
+    private static final Logger LOG = Log.get(RoomWebSocketClient.class);
+
     private static final String WS_URL = "ws://localhost:9090/ws/websocket";
     
     private WebSocket webSocket;
@@ -31,7 +35,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
     public RoomWebSocketClient(RoomController roomController) {
         this.roomController = roomController;
         this.reconnectExecutor = Executors.newSingleThreadScheduledExecutor();
-        System.out.println("[WS CLIENT] Created");
+        LOG.info("[WS CLIENT] Created");
     }
 
     // ═══════════════════════════════════════════════════════════
@@ -40,12 +44,12 @@ public class RoomWebSocketClient implements WebSocket.Listener {
 
     public void connect() {
         if (connected) {
-            System.out.println("[WS CLIENT] Already connected");
+            LOG.info("[WS CLIENT] Already connected");
             return;
         }
 
         try {
-            System.out.println("[WS CLIENT] Connecting to " + WS_URL);
+            LOG.info("[WS CLIENT] Connecting to " + WS_URL);
             
             HttpClient client = HttpClient.newHttpClient();
             CompletableFuture<WebSocket> wsFuture = client.newWebSocketBuilder()
@@ -54,13 +58,13 @@ public class RoomWebSocketClient implements WebSocket.Listener {
             webSocket = wsFuture.get(10, TimeUnit.SECONDS);
             connected = true;
             
-            System.out.println("[WS CLIENT] ✅ Connected!");
+            LOG.info("[WS CLIENT] ✅ Connected!");
             
             // Subscribe to room events (STOMP protocol)
             subscribeToRooms();
             
         } catch (Exception e) {
-            System.err.println("[WS CLIENT] Connection failed: " + e.getMessage());
+            LOG.warn("[WS CLIENT] Connection failed: " + e.getMessage());
             connected = false;
             scheduleReconnect();
         }
@@ -75,7 +79,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
         
         if (webSocket != null) {
             webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "Client closing");
-            System.out.println("[WS CLIENT] Disconnected");
+            LOG.info("[WS CLIENT] Disconnected");
         }
         connected = false;
     }
@@ -83,7 +87,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
     private void scheduleReconnect() {
         if (!shouldReconnect) return;
         
-        System.out.println("[WS CLIENT] Scheduling reconnect in 5 seconds...");
+        LOG.info("[WS CLIENT] Scheduling reconnect in 5 seconds...");
         reconnectExecutor.schedule(this::connect, 5, TimeUnit.SECONDS);
     }
 
@@ -108,7 +112,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
                     "\n\0";
             
             webSocket.sendText(subscribeFrame, true);
-            System.out.println("[WS CLIENT] Subscribed to /topic/rooms");
+            LOG.info("[WS CLIENT] Subscribed to /topic/rooms");
         }, 500, TimeUnit.MILLISECONDS);
     }
 
@@ -118,7 +122,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
 
     @Override
     public void onOpen(WebSocket webSocket) {
-        System.out.println("[WS CLIENT] onOpen");
+        LOG.info("[WS CLIENT] onOpen");
         webSocket.request(1);
     }
 
@@ -140,7 +144,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
 
     @Override
     public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
-        System.out.println("[WS CLIENT] Connection closed: " + reason);
+        LOG.info("[WS CLIENT] Connection closed: " + reason);
         connected = false;
         scheduleReconnect();
         return null;
@@ -148,7 +152,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
 
     @Override
     public void onError(WebSocket webSocket, Throwable error) {
-        System.err.println("[WS CLIENT] Error: " + error.getMessage());
+        LOG.warn("[WS CLIENT] Error: " + error.getMessage());
         connected = false;
     }
 
@@ -175,7 +179,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
                 return;
             }
             
-            System.out.println("[WS CLIENT] 📩 Received: " + body);
+            LOG.info("[WS CLIENT] 📩 Received: " + body);
             handleRoomEvent(body);
             
         } catch (Exception e) {
@@ -192,11 +196,11 @@ public class RoomWebSocketClient implements WebSocket.Listener {
             }
             
             String type = event.get("type").getAsString();
-            System.out.println("[WS CLIENT] 🔔 Event: " + type);
+            LOG.info("[WS CLIENT] 🔔 Event: " + type);
             
             switch (type) {
                 case "ROOM_CREATED":
-                    System.out.println("[WS CLIENT] 🏠 New room created!");
+                    LOG.info("[WS CLIENT] 🏠 New room created!");
                     // Refresh the room list to show new room
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         roomController.refreshRoomCache();
@@ -205,14 +209,14 @@ public class RoomWebSocketClient implements WebSocket.Listener {
                     
                 case "ROOM_DELETED":
                     String deletedRoomId = event.get("roomId").getAsString();
-                    System.out.println("[WS CLIENT] 🗑️ Room deleted: " + deletedRoomId);
+                    LOG.info("[WS CLIENT] 🗑️ Room deleted: " + deletedRoomId);
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         roomController.refreshRoomCache();
                     });
                     break;
                     
                 case "ROOM_UPDATED":
-                    System.out.println("[WS CLIENT] 🔄 Room updated!");
+                    LOG.info("[WS CLIENT] 🔄 Room updated!");
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         roomController.refreshRoomCache();
                     });
@@ -222,7 +226,7 @@ public class RoomWebSocketClient implements WebSocket.Listener {
                     String joinedRoom = event.get("roomId").getAsString();
                     int joinedCount = event.get("playerCount").getAsInt();
                     String joinedUser = event.has("username") ? event.get("username").getAsString() : "unknown";
-                    System.out.println("[WS CLIENT] 👤 " + joinedUser + " joined " + joinedRoom + " (players: " + joinedCount + ")");
+                    LOG.info("[WS CLIENT] 👤 " + joinedUser + " joined " + joinedRoom + " (players: " + joinedCount + ")");
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         roomController.updatePlayerCount(joinedRoom, joinedCount);
                     });
@@ -232,17 +236,17 @@ public class RoomWebSocketClient implements WebSocket.Listener {
                     String leftRoom = event.get("roomId").getAsString();
                     int leftCount = event.get("playerCount").getAsInt();
                     String leftUser = event.has("username") ? event.get("username").getAsString() : "unknown";
-                    System.out.println("[WS CLIENT] 👤 " + leftUser + " left " + leftRoom + " (players: " + leftCount + ")");
+                    LOG.info("[WS CLIENT] 👤 " + leftUser + " left " + leftRoom + " (players: " + leftCount + ")");
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         roomController.updatePlayerCount(leftRoom, leftCount);
                     });
                     break;
                     
                 default:
-                    System.out.println("[WS CLIENT] Unknown event type: " + type);
+                    LOG.info("[WS CLIENT] Unknown event type: " + type);
             }
         } catch (Exception e) {
-            System.err.println("[WS CLIENT] Failed to handle event: " + e.getMessage());
+            LOG.warn("[WS CLIENT] Failed to handle event: " + e.getMessage());
         }
     }
 
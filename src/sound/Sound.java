@@ -4,10 +4,15 @@ import javax.sound.sampled.*;
 import java.io.File;
 import java.io.IOException;
 
+import logging.Log;
+import logging.Logger;
+
 /**
  * Sound - Handles audio playback with RELIABLE looping
  */
 public class Sound {
+
+    private static final Logger LOG = Log.get(Sound.class);
     
     private Clip clip;
     private FloatControl volumeControl;
@@ -38,7 +43,7 @@ public class Sound {
             clip.addLineListener(event -> {
                 if (event.getType() == LineEvent.Type.STOP && shouldLoop && !isPaused) {
                     // Clip stopped but we want looping - restart it
-                    System.out.println("Clip ended, restarting loop...");
+                    LOG.info("Clip ended, restarting loop...");
                     clip.setFramePosition(0);
                     clip.start();
                 }
@@ -49,17 +54,14 @@ public class Sound {
                 volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
             }
             
-            System.out.println("Loaded sound: " + filePath);
+            LOG.info("Loaded sound: " + filePath);
             
         } catch (UnsupportedAudioFileException e) {
-            System.err.println("Unsupported audio format: " + filePath);
-            e.printStackTrace();
+            LOG.error("Unsupported audio format: " + filePath, e);
         } catch (IOException e) {
-            System.err.println("Could not find sound file: " + filePath);
-            e.printStackTrace();
+            LOG.error("Could not find sound file: " + filePath, e);
         } catch (LineUnavailableException e) {
-            System.err.println("Audio line unavailable");
-            e.printStackTrace();
+            LOG.error("Audio line unavailable", e);
         }
     }
     
@@ -96,7 +98,7 @@ public class Sound {
         }
         
         isPlaying = true;
-        System.out.println("Playing sound");
+        LOG.info("Playing sound");
     }
     
     /**
@@ -119,7 +121,7 @@ public class Sound {
         isPlaying = true;
         isPaused = false;
         
-        System.out.println("Looping sound (LOOP_CONTINUOUSLY mode)");
+        LOG.info("Looping sound (LOOP_CONTINUOUSLY mode)");
     }
     
     /**
@@ -133,7 +135,7 @@ public class Sound {
         isPlaying = false;
         isPaused = true;
         
-        System.out.println("Paused sound at position: " + clipPosition);
+        LOG.info("Paused sound at position: " + clipPosition);
     }
     
     /**
@@ -153,7 +155,7 @@ public class Sound {
         isPlaying = true;
         isPaused = false;
         
-        System.out.println("Resumed sound");
+        LOG.info("Resumed sound");
     }
     
     /**
@@ -169,7 +171,7 @@ public class Sound {
         isPaused = false;
         clipPosition = 0;
         
-        System.out.println("Stopped sound");
+        LOG.info("Stopped sound");
     }
     
     /**
@@ -211,7 +213,7 @@ public class Sound {
         }
         
         volumeControl.setValue(dB);
-        System.out.println("Volume set to: " + (int)(volume * 100) + "% (" + dB + " dB)");
+        LOG.info("Volume set to: " + (int)(volume * 100) + "% (" + dB + " dB)");
     }
     
     /**
@@ -253,7 +255,7 @@ public class Sound {
     public void close() {
         if (clip != null) {
             clip.close();
-            System.out.println("Sound clip closed");
+            LOG.info("Sound clip closed");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package sprite;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * ImageCache - Process-wide cache of decoded resource images
+ *
+ * Each resource path is decoded once, converted to the screen's compatible
+ * translucent format (so Java2D can keep it in video memory and draw it
+ * without per-frame format conversion) and shared by reference.
+ *
+ * Thread-safe: entities are created on the network thread as well as the EDT.
+ */
+public final class ImageCache {
+
+    private static final Logger LOG = Log.get(ImageCache.class);
+
+    private static final Map<String, BufferedImage> IMAGES = new ConcurrentHashMap<>();
+    private static final Set<String> MISSING = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong decodes = new AtomicLong();
+    private static final AtomicLong bytes = new AtomicLong();
+
+    private ImageCache() {
+    }
+
+    /**
+     * Image for a classpath resource, or null if it can't be loaded
+     * (the failure is logged once, not on every lookup)
+     */
+    public static BufferedImage get(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        BufferedImage image = IMAGES.get(path);
+        if (image != null || MISSING.contains(path)) {
+            return image;
+        }
+        return IMAGES.computeIfAbsent(path, ImageCache::load);
+    }
+
+    private static BufferedImage load(String path) {
+        try (InputStream stream = ImageCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IOException("Image not found! Check the path: " + path);
+            }
+            BufferedImage decoded = ImageIO.read(stream);
+            if (decoded == null) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+
+            BufferedImage image = toCompatible(decoded);
+            decodes.incrementAndGet();
+            bytes.addAndGet(sizeOf(image));
+            return image;
+        } catch (IOException e) {
+            MISSING.add(path);
+            LOG.warn("[SPRITES] Failed to load " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage toCompatible(BufferedImage source) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return source;
+        }
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice().getDefaultConfiguration();
+        if (source.getColorModel().equals(config.getColorModel(Transparency.TRANSLUCENT))) {
+            return source;
+        }
+
+        BufferedImage image = config.createCompatibleImage(
+            source.getWidth(), source.getHeight(), Transparency.TRANSLUCENT);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer data = image.getRaster().getDataBuffer();
+        return (long) data.getSize() * data.getNumBanks() * DataBuffer.getDataTypeSize(data.getDataType()) / 8;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // STATS
+    // ═══════════════════════════════════════════════════════════
+
+    public static int getImageCount() {
+        return IMAGES.size();
+    }
+
+    public static long getDecodes() {
+        return decodes.get();
+    }
+
+    public static long getBytes() {
+        return bytes.get();
+    }
+
+    public static String summary() {
+        return IMAGES.size() + " images, " + (bytes.get() / 1024) + " KB decoded"
+            + (MISSING.isEmpty() ? "" : ", " + MISSING.size() + " missing");
+    }
+}
@@ -0,0 +1,87 @@
+package sprite;
+
+import java.awt.image.BufferedImage;
+
+import logging.Log;
+import logging.Logger;
+import Entity.Entity.Direction;
+import Entity.Entity.Gender;
+
+/**
+ * SpriteAtlas - Shared player sprites keyed by (gender, direction, frame)
+ *
+ * Frame 0 is the standing pose, frames 1 and 2 the walking animation
+ * (Entity.SpriteNum). The table is built once, when the class is first
+ * used (class initialization makes it safe to share across threads), and
+ * every Player and RemotePlayer draws from it - joining a room with 25
+ * players decodes nothing new.
+ *
+ * Both genders currently share one sprite set; the key keeps room for
+ * separate sets without touching the entities.
+ */
+public final class SpriteAtlas {
+
+    private static final Logger LOG = Log.get(SpriteAtlas.class);
+
+    public static final int STANDING = 0;
+    public static final int FRAMES = 3;
+
+    private static final String PLAYER_DIR = "/res/player/";
+
+    // [direction ordinal] → { standing, walk frame 1, walk frame 2 }
+    private static final String[][] PLAYER_FILES = new String[Direction.values().length][];
+
+    static {
+        PLAYER_FILES[Direction.DIAGONALE_UP.ordinal()] = new String[] {"sprite-back.png", "sprite-back-mov-1.png", "sprite-back-mov-2.png"};
+        PLAYER_FILES[Direction.DIAGONALE_DOWN.ordinal()] = new String[] {"sprite-front.png", "sprite-front-mov-1.png", "sprite-front-mov-2.png"};
+        PLAYER_FILES[Direction.LEFT.ordinal()] = new String[] {"sprite-left.png", "sprite-left-mov-1.png", "sprite-left-mov-2.png"};
+        PLAYER_FILES[Direction.RIGHT.ordinal()] = new String[] {"sprite-right.png", "sprite-right-mov-1.png", "sprite-right-mov-2.png"};
+        // The iso sheets number their walk frames the other way round
+        PLAYER_FILES[Direction.ISO_X_LEFT.ordinal()] = new String[] {"sprite-isoxleft.png", "sprite-isoxleft-mov-2.png", "sprite-isoxleft-mov-1.png"};
+        PLAYER_FILES[Direction.ISO_X_RIGHT.ordinal()] = new String[] {"sprite-isoxright.png", "sprite-isoxright-mov-2.png", "sprite-isoxright-mov-1.png"};
+        PLAYER_FILES[Direction.ISO_Y_UP.ordinal()] = new String[] {"sprite-isoyup.png", "sprite-isoyup-mov-2.png", "sprite-isoyup-mov-1.png"};
+        PLAYER_FILES[Direction.ISO_Y_DOWN.ordinal()] = new String[] {"sprite-isoydown.png", "sprite-isoydown-mov-1.png", "sprite-isoydown-mov-2.png"};
+    }
+
+    // [gender][direction][frame]
+    private static final BufferedImage[][][] PLAYER_SPRITES =
+        new BufferedImage[Gender.values().length][Direction.values().length][FRAMES];
+
+    static {
+        for (int g = 0; g < PLAYER_SPRITES.length; g++) {
+            for (int d = 0; d < PLAYER_FILES.length; d++) {
+                for (int f = 0; f < FRAMES; f++) {
+                    PLAYER_SPRITES[g][d][f] = ImageCache.get(PLAYER_DIR + PLAYER_FILES[d][f]);
+                }
+            }
+        }
+    }
+
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Player sprite; unknown direction falls back to facing down
+     */
+    public static BufferedImage player(Gender gender, Direction direction, int frame) {
+        int g = gender != null ? gender.ordinal() : 0;
+        int d = (direction != null ? direction : Direction.DIAGONALE_DOWN).ordinal();
+        int f = (frame >= 0 && frame < FRAMES) ? frame : STANDING;
+        return PLAYER_SPRITES[g][d][f];
+    }
+
+    /**
+     * Standing or walking sprite for an entity's current state
+     */
+    public static BufferedImage player(Gender gender, Direction direction, boolean moving, int spriteNum) {
+        return player(gender, direction, moving ? spriteNum : STANDING);
+    }
+
+    /**
+     * Build the atlas up front (game start) so nothing is decoded on the
+     * network thread when the first remote player joins
+     */
+    public static void preload() {
+        LOG.info("[SPRITES] Atlas ready: " + ImageCache.summary());
+    }
+}
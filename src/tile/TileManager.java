@@ -1,8 +1,11 @@
 package tile;
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
-import javax.imageio.ImageIO;
+import sprite.ImageCache;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -11,12 +14,24 @@ import java.io.InputStreamReader;
 
 public class TileManager {
 
+    private static final Logger LOG = Log.get(TileManager.class);
+
     GamePanel gp;
     public Tile [] tile;
     public int[][] mapTileNum;
     public int xOffset = 576; // 576
     public int yOffset = 144; // 144
 
+    // Pre-rendered floor: composed once, blitted at (xOffset, yOffset) every frame.
+    // Rebuilt when the tile map or tile size changes - call invalidateFloor()
+    // after editing mapTileNum directly.
+    private BufferedImage floorCache;
+    private int floorOriginX;           // Cache pixel (0,0) relative to xOffset
+    private int floorTileWidth = -1;
+    private int floorTileHeight = -1;
+    private boolean floorDirty = true;
+    private int floorBuilds = 0;
+
     public TileManager(GamePanel gp){
         this.gp = gp;
         tile = new Tile[10];
@@ -56,8 +71,9 @@ public class TileManager {
             bufferedReader.close();
         }
         catch (IOException e){
-            e.printStackTrace();
+            LOG.error("Loading map failed", e);
         }
+        invalidateFloor();
 
 
 
@@ -65,17 +81,11 @@ public class TileManager {
 
 
     public void getTileImage() {
-        try {
-            tile[0] = new Tile();
-            tile[0].image = ImageIO.read(getClass().getResourceAsStream("/res/tile/wooden_floor_tile.png"));
+        tile[0] = new Tile();
+        tile[0].image = ImageCache.get("/res/tile/wooden_floor_tile.png");
 
-            tile[1] = new Tile();
-            tile[1].image = ImageIO.read(getClass().getResourceAsStream("/res/tile/grass00.png"));
-            
-
-        } catch (IOException ea) {
-            ea.printStackTrace();
-        }
+        tile[1] = new Tile();
+        tile[1].image = ImageCache.get("/res/tile/grass00.png");
     }
 
     public void setMapTileNum(int[][] newMap) {
@@ -85,38 +95,90 @@ public class TileManager {
             mapTileNum[col][row] = newMap[col][row];
         }
     }
+    invalidateFloor();
 }
 
+    /**
+     * Floor changed - rebuild the cached floor image before the next draw
+     */
+    public void invalidateFloor() {
+        floorDirty = true;
+    }
+
+    public int getFloorBuilds() {
+        return floorBuilds;
+    }
+
 
 
 
+    /**
+     * Blit the pre-rendered floor at the current offsets. Dragging the map
+     * only moves the blit; the tiles are scaled and composed in buildFloor().
+     */
     public void draw(Graphics2D g2) {
-        int tileWidth = gp.tileSizeWidth ; // Horizontal width of the tile
+        if (floorDirty || floorCache == null
+                || floorTileWidth != gp.tileSizeWidth || floorTileHeight != gp.tileSizeHeight) {
+            buildFloor(g2.getDeviceConfiguration());
+        }
+        if (floorCache != null) {
+            g2.drawImage(floorCache, xOffset + floorOriginX, yOffset, null);
+        }
+    }
+
+    /**
+     * Compose every tile once into a compatible (accelerated, translucent)
+     * image. Tile (col,row) sits at ((col - row) * w/2, (col + row) * h/2)
+     * relative to the offsets - same layout the per-tile loop used.
+     */
+    private void buildFloor(GraphicsConfiguration config) {
+        int tileWidth = gp.tileSizeWidth;   // Horizontal width of the tile
         int tileHeight = gp.tileSizeHeight; // Vertical height of the tile
-//
-//         Offsets for centering the map
-//        xOffset = (gp.screenWidth / 2) - (gp.maxWorldCol * gp.tileSizeWidth / 4) + (tileWidth/4);
-//        yOffset = (gp.screenHeight / 2) - (gp.maxWorldRow * gp.tileSizeHeight / 1);
-//
-//        int xOffset = (gp.screenWidth - gp.worldWidth);
-//        int yOffset = (gp.screenHeight - gp.worldHeight)/2 ;
+        int cols = mapTileNum.length;
+        int rows = cols > 0 ? mapTileNum[0].length : 0;
+
+        floorDirty = false;
+        floorTileWidth = tileWidth;
+        floorTileHeight = tileHeight;
+        if (cols == 0 || rows == 0) {
+            floorCache = null;
+            return;
+        }
 
+        // Leftmost tile is (0, rows-1), rightmost (cols-1, 0), lowest (cols-1, rows-1)
+        floorOriginX = -(rows - 1) * tileWidth / 2;
+        int width = (cols - 1) * tileWidth / 2 - floorOriginX + tileWidth;
+        int height = (cols + rows - 2) * tileHeight / 2 + tileHeight;
 
+        BufferedImage image = config != null
+            ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
 
-        for (int row = 0; row < gp.maxWorldRow; row++) {
-            for (int col = 0; col < gp.maxWorldCol; col++) {
-                int tileNum = mapTileNum[col][row];
-
-                // Calculate isometric coordinates
-                int isoX = xOffset + (col - row) * tileWidth / 2;
-                int isoY = yOffset + (col + row) * tileHeight / 2;
-//                System.out.println("isoX = " + isoX + "   isoY = " + isoY);
-                g2.drawImage(tile[tileNum].image, isoX, isoY, tileWidth, tileHeight, null);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    Tile floorTile = tile[mapTileNum[col][row]];
+                    if (floorTile == null || floorTile.image == null) {
+                        continue;
+                    }
+
+                    // Calculate isometric coordinates
+                    int isoX = (col - row) * tileWidth / 2 - floorOriginX;
+                    int isoY = (col + row) * tileHeight / 2;
+                    g2.drawImage(floorTile.image, isoX, isoY, tileWidth, tileHeight, null);
+                }
             }
+        } finally {
+            g2.dispose();
+        }
+
+        if (floorCache != null) {
+            floorCache.flush();
         }
+        floorCache = image;
+        floorBuilds++;
     }
 
 
 }
-
-
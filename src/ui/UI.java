@@ -4,6 +4,8 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import ui.hud.MusicPlayer;
 import ui.hud.CreditsDisplay;
@@ -15,6 +17,8 @@ import ui.hud.CreditsDisplay;
  * Each component handles its own rendering and input.
  */
 public class UI {
+
+    private static final Logger LOG = Log.get(UI.class);
     
     private GamePanel gp;
     private List<UIComponent> components;
@@ -38,7 +42,7 @@ public class UI {
         // Credits below music player
         components.add(new CreditsDisplay(gp, musicPlayer.getHeight() + 20));
         
-        System.out.println("[UI] Initialized " + components.size() + " components");
+        LOG.info("[UI] Initialized " + components.size() + " components");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -57,6 +61,15 @@ public class UI {
         }
     }
     
+    public boolean containsPoint(int x, int y) {
+        for (UIComponent component : components) {
+            if (component.containsPoint(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     public boolean handleClick(int mouseX, int mouseY) {
         for (UIComponent component : components) {
             if (component.handleClick(mouseX, mouseY)) {
@@ -1,6 +1,8 @@
 package ui.hud;
 
 import java.awt.*;
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import ui.UIComponent;
 
@@ -13,6 +15,8 @@ import ui.UIComponent;
  * - Song info display
  */
 public class MusicPlayer implements UIComponent {
+
+    private static final Logger LOG = Log.get(MusicPlayer.class);
     
     private GamePanel gp;
     
@@ -141,13 +145,13 @@ public class MusicPlayer implements UIComponent {
     public void increaseVolume() {
         volume = Math.min(1.0f, volume + 0.1f);
         applyVolume();
-        System.out.println("[MUSIC] Volume: " + getVolumePercent() + "%");
+        LOG.info("[MUSIC] Volume: " + getVolumePercent() + "%");
     }
     
     public void decreaseVolume() {
         volume = Math.max(0.0f, volume - 0.1f);
         applyVolume();
-        System.out.println("[MUSIC] Volume: " + getVolumePercent() + "%");
+        LOG.info("[MUSIC] Volume: " + getVolumePercent() + "%");
     }
     
     public void setVolume(float vol) {
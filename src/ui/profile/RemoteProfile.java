@@ -1,5 +1,7 @@
 package ui.profile;
 
+import logging.Log;
+import logging.Logger;
 import Entity.RemotePlayer;
 import main.GamePanel;
 
@@ -10,6 +12,8 @@ import java.awt.*;
  * Now includes "Send Friend Request" button!
  */
 public class RemoteProfile {
+
+    private static final Logger LOG = Log.get(RemoteProfile.class);
     
     private GamePanel gp;
     private RemotePlayer remotePlayer;
@@ -94,7 +98,7 @@ public class RemoteProfile {
         
         // Check if already friends
         if (gp.friendController.isFriend(remotePlayer.name)) {
-            System.out.println("[REMOTE PROFILE] Already friends with: " + remotePlayer.name);
+            LOG.info("[REMOTE PROFILE] Already friends with: " + remotePlayer.name);
             showNotification("Already friends with " + remotePlayer.name, false);
             return;
         }
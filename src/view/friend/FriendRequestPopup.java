@@ -1,5 +1,7 @@
 package view.friend;
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import Entity.RemotePlayer;
 import main.GamePanel;
@@ -16,6 +18,8 @@ import java.awt.*;
  * Note: This is a special popup, not a toolbar panel.
  */
 public class FriendRequestPopup {
+
+    private static final Logger LOG = Log.get(FriendRequestPopup.class);
     
     // ═══════════════════════════════════════════════════════════
     // CONSTANTS
@@ -83,7 +87,7 @@ public class FriendRequestPopup {
         this.visible = true;
         this.alpha = 0f;
         this.showTime = System.currentTimeMillis();
-        System.out.println("[POPUP] Showing friend request from: " + request.getFromUsername());
+        LOG.info("[POPUP] Showing friend request from: " + request.getFromUsername());
     }
     
     public void hide() {
@@ -106,7 +110,7 @@ public class FriendRequestPopup {
     
     public void update() {
         if (visible && System.currentTimeMillis() - showTime > AUTO_HIDE_DELAY) {
-            System.out.println("[POPUP] Auto-hiding friend request popup (timeout)");
+            LOG.info("[POPUP] Auto-hiding friend request popup (timeout)");
             hide();
         }
     }
@@ -1,5 +1,7 @@
 package view.friend;
 
+import logging.Log;
+import logging.Logger;
 import controller.friend.FriendController;
 import main.GamePanel;
 import model.friend.Friend;
@@ -22,6 +24,8 @@ import java.util.List;
  * - Manage selection and hover states
  */
 public class FriendsPanel extends BaseToolbarPanel {
+
+    private static final Logger LOG = Log.get(FriendsPanel.class);
     
     // ═══════════════════════════════════════════════════════════
     // COMPONENTS
@@ -111,13 +115,13 @@ public class FriendsPanel extends BaseToolbarPanel {
         super.onOpen();
         hoveredFriend = null;
         selectedFriendIndex = -1;
-        System.out.println("[FRIENDS PANEL] Opened");
+        LOG.info("[FRIENDS PANEL] Opened");
     }
     
     @Override
     protected void onClose() {
         super.onClose();
-        System.out.println("[FRIENDS PANEL] Closed");
+        LOG.info("[FRIENDS PANEL] Closed");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -142,12 +146,12 @@ public class FriendsPanel extends BaseToolbarPanel {
     // ═══════════════════════════════════════════════════════════
     
     private void onFriendSelected(Friend friend) {
-        System.out.println("[FRIENDS PANEL] Selected: " + friend.getUsername());
+        LOG.info("[FRIENDS PANEL] Selected: " + friend.getUsername());
         // Could show options: View Profile, Send Message, Remove Friend
     }
     
     private void onFriendDoubleClick(Friend friend) {
-        System.out.println("[FRIENDS PANEL] Double-clicked: " + friend.getUsername());
+        LOG.info("[FRIENDS PANEL] Double-clicked: " + friend.getUsername());
         // Could open private chat or teleport to friend
     }
     
@@ -157,28 +161,28 @@ public class FriendsPanel extends BaseToolbarPanel {
     
     private void setupControllerListeners() {
         controller.setOnFriendAdded(friend -> {
-            System.out.println("[FRIENDS PANEL] Friend added: " + friend.getUsername());
+            LOG.info("[FRIENDS PANEL] Friend added: " + friend.getUsername());
             gp.showFriendNotification("You are now friends with " + friend.getUsername() + "!", true);
             refresh();
         });
         
         controller.setOnFriendRemoved(friend -> {
-            System.out.println("[FRIENDS PANEL] Friend removed: " + friend.getUsername());
+            LOG.info("[FRIENDS PANEL] Friend removed: " + friend.getUsername());
             refresh();
         });
         
         controller.setOnRequestReceived(request -> {
-            System.out.println("[FRIENDS PANEL] Request received from: " + request.getFromUsername());
+            LOG.info("[FRIENDS PANEL] Request received from: " + request.getFromUsername());
             // Show popup (handled by GamePanel)
             gp.showFriendRequestPopup(request);
         });
         
         controller.setOnRequestAccepted(request -> {
-            System.out.println("[FRIENDS PANEL] Request accepted from: " + request.getFromUsername());
+            LOG.info("[FRIENDS PANEL] Request accepted from: " + request.getFromUsername());
         });
         
         controller.setOnRequestRejected(request -> {
-            System.out.println("[FRIENDS PANEL] Request rejected from: " + request.getFromUsername());
+            LOG.info("[FRIENDS PANEL] Request rejected from: " + request.getFromUsername());
         });
         
         controller.setOnListChanged(() -> {
@@ -218,7 +222,7 @@ public class FriendsPanel extends BaseToolbarPanel {
     @Override
     public void refresh() {
         super.refresh();
-        System.out.println("[FRIENDS PANEL] Refreshed - showing " + controller.getFriendCount() + " friends");
+        LOG.info("[FRIENDS PANEL] Refreshed - showing " + controller.getFriendCount() + " friends");
     }
     
     // ═══════════════════════════════════════════════════════════
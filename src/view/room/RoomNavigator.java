@@ -1,5 +1,7 @@
 package view.room;
 
+import logging.Log;
+import logging.Logger;
 import main.GamePanel;
 import model.room.Room;
 import java.awt.*;
@@ -12,6 +14,8 @@ import controller.room.RoomController;
  * UI for navigating between rooms (like Habbo Hotel room navigator)
  */
 public class RoomNavigator {
+
+    private static final Logger LOG = Log.get(RoomNavigator.class);
     
     private GamePanel gp;
     private RoomController roomController;
@@ -238,7 +242,7 @@ public class RoomNavigator {
         if (roomName != null && !roomName.trim().isEmpty()) {
             Room newRoom = roomController.createRoom(roomName);
             currentTab = Tab.MY_ROOMS;
-            System.out.println("Created room: " + newRoom.getRoomName());
+            LOG.info("Created room: " + newRoom.getRoomName());
         }
     }
     
@@ -255,9 +259,9 @@ public class RoomNavigator {
         boolean success = roomController.enterRoom(room.getRoomId());
         if (success) {
             visible = false;
-            System.out.println("Entering room: " + room.getRoomName());
+            LOG.info("Entering room: " + room.getRoomName());
         } else {
-            System.out.println("Failed to enter room");
+            LOG.info("Failed to enter room");
         }
     }
     
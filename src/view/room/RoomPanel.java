@@ -1,5 +1,7 @@
 package view.room;
 
+import logging.Log;
+import logging.Logger;
 import view.shared.BaseToolbarPanel;
 import view.shared.BasePanelLayout;
 import view.shared.PanelRenderer;
@@ -26,6 +28,8 @@ import javax.swing.JOptionPane;
  * - Enter room on click
  */
 public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.RoomChangeListener {
+
+    private static final Logger LOG = Log.get(RoomPanel.class);
     
     private RoomController controller;
     private RoomPanelLayout roomLayout;  // Typed reference for room-specific methods
@@ -53,7 +57,7 @@ public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.R
         // Register for controller events
         controller.addListener(this);
         
-        System.out.println("[ROOM PANEL] Initialized");
+        LOG.info("[ROOM PANEL] Initialized");
     }
     
     // ═══════════════════════════════════════════════════════════
@@ -154,7 +158,7 @@ public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.R
                 currentTab = tab;
                 scrollOffset = 0;
                 hoveredRoom = null;
-                System.out.println("[ROOM PANEL] Switched to tab: " + tab);
+                LOG.info("[ROOM PANEL] Switched to tab: " + tab);
                 return true;
             }
         }
@@ -199,7 +203,7 @@ public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.R
             if (newRoom != null) {
                 currentTab = RoomPanelLayout.Tab.MY_ROOMS;
                 scrollOffset = 0;
-                System.out.println("[ROOM PANEL] Created room: " + newRoom.getRoomName());
+                LOG.info("[ROOM PANEL] Created room: " + newRoom.getRoomName());
             }
         }
     }
@@ -238,7 +242,7 @@ public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.R
             boolean success = controller.enterRoom(room.getRoomId());
             if (success) {
                 visible = false;
-                System.out.println("[ROOM PANEL] Entering room: " + room.getRoomName());
+                LOG.info("[ROOM PANEL] Entering room: " + room.getRoomName());
             } else {
                 JOptionPane.showMessageDialog(
                     null,
@@ -338,6 +342,6 @@ public class RoomPanel extends BaseToolbarPanel implements RoomListenerManager.R
     
     public void shutdown() {
         controller.removeListener(this);
-        System.out.println("[ROOM PANEL] Shutdown");
+        LOG.info("[ROOM PANEL] Shutdown");
     }
 }
\ No newline at end of file